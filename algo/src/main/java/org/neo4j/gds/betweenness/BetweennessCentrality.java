@@ -32,9 +32,11 @@ import org.neo4j.gds.core.utils.paged.HugeLongArrayStack;
 import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.paged.ParallelDoublePageCreator;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 public class BetweennessCentrality extends Algorithm<HugeAtomicDoubleArray> {
 
@@ -42,7 +44,7 @@ public class BetweennessCentrality extends Algorithm<HugeAtomicDoubleArray> {
     private final Graph graph;
     private final long nodeCount;
     private final double divisor;
-    private final ForwardTraverser.Factory traverserFactory;
+    private final Supplier<Runnable> taskSupplier;
 
     private HugeAtomicDoubleArray centrality;
     private SelectionStrategy selectionStrategy;
@@ -68,31 +70,84 @@ public class BetweennessCentrality extends Algorithm<HugeAtomicDoubleArray> {
         this.selectionStrategy = selectionStrategy;
         this.selectionStrategy.init(graph, executorService, concurrency);
         this.divisor = graph.schema().isUndirected() ? 2.0 : 1.0;
-        this.traverserFactory = traverserFactory;
+        this.taskSupplier = () -> new BCTask(traverserFactory);
+    }
 
+    /**
+     * Creates a Betweenness Centrality that does not keep predecessor lists.
+     * Shortest path distances are stored in primitive arrays and predecessors are rediscovered
+     * by re-scanning relationships during the backward pass.
+     * <p>
+     * For unweighted graphs and {@code sourcesPerBatch > 1}, every thread traverses
+     * up to {@code sourcesPerBatch} source nodes at once with a bit-parallel multi-source BFS.
+     */
+    public BetweennessCentrality(
+        Graph graph,
+        SelectionStrategy selectionStrategy,
+        DistanceTraverser.Factory traverserFactory,
+        boolean weighted,
+        int sourcesPerBatch,
+        ExecutorService executorService,
+        int concurrency,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.executorService = executorService;
+        this.concurrency = concurrency;
+        this.nodeCount = graph.nodeCount();
+        this.centrality = HugeAtomicDoubleArray.of(nodeCount, ParallelDoublePageCreator.passThrough(concurrency));
+        this.selectionStrategy = selectionStrategy;
+        this.selectionStrategy.init(graph, executorService, concurrency);
+        this.divisor = graph.schema().isUndirected() ? 2.0 : 1.0;
+        this.taskSupplier = !weighted && sourcesPerBatch > 1
+            ? () -> new BitParallelBCTask(sourcesPerBatch)
+            : () -> new DistanceBCTask(traverserFactory);
     }
 
     @Override
     public HugeAtomicDoubleArray compute() {
         progressTracker.beginSubTask();
-        ParallelUtil.run(ParallelUtil.tasks(concurrency, BCTask::new), executorService);
+        ParallelUtil.run(ParallelUtil.tasks(concurrency, taskSupplier), executorService);
         progressTracker.endSubTask();
         return centrality;
     }
 
+    // sigma and delta are the largest per-thread state of the traversals
+    private static HugeLongArray newLongArray(long size) {
+        return GdsFeatureToggles.USE_OFF_HEAP_ARRAYS.isEnabled()
+            ? HugeLongArray.newOffHeapArray(size)
+            : HugeLongArray.newArray(size);
+    }
+
+    private static HugeDoubleArray newDoubleArray(long size) {
+        return GdsFeatureToggles.USE_OFF_HEAP_ARRAYS.isEnabled()
+            ? HugeDoubleArray.newOffHeapArray(size)
+            : HugeDoubleArray.newArray(size);
+    }
+
+    private void addToCentrality(long node, double dependency) {
+        double current;
+        do {
+            current = centrality.get(node);
+        } while (!centrality.compareAndSet(node, current, current + dependency / divisor));
+    }
+
     final class BCTask implements Runnable {
         private final HugeObjectArray<LongArrayList> predecessors;
         private final HugeCursor<LongArrayList[]> predecessorsCursor;
         private final HugeLongArrayStack backwardNodes;
         private final HugeDoubleArray delta;
         private final HugeLongArray sigma;
+        private final ForwardTraverser.Factory traverserFactory;
 
-        private BCTask() {
+        private BCTask(ForwardTraverser.Factory traverserFactory) {
+            this.traverserFactory = traverserFactory;
             this.predecessors = HugeObjectArray.newArray(LongArrayList.class, nodeCount);
             this.predecessorsCursor = predecessors.newCursor();
             this.backwardNodes = HugeLongArrayStack.newStack(nodeCount);
-            this.sigma = HugeLongArray.newArray(nodeCount);
-            this.delta = HugeDoubleArray.newArray(nodeCount);
+            this.sigma = newLongArray(nodeCount);
+            this.delta = newDoubleArray(nodeCount);
         }
 
         @Override
@@ -105,44 +160,46 @@ public class BetweennessCentrality extends Algorithm<HugeAtomicDoubleArray> {
                 terminationFlag
             );
 
-            for (;;) {
-                long startNodeId = selectionStrategy.next();
-                if (startNodeId == SelectionStrategy.NONE_SELECTED || !terminationFlag.running()) {
-                    return;
-                }
+            try {
+                for (;;) {
+                    long startNodeId = selectionStrategy.next();
+                    if (startNodeId == SelectionStrategy.NONE_SELECTED || !terminationFlag.running()) {
+                        return;
+                    }
 
-                // reset
-                getProgressTracker().logProgress();
+                    // reset
+                    getProgressTracker().logProgress();
 
-                clear();
-                forwardTraversor.clear();
+                    clear();
+                    forwardTraversor.clear();
 
-                sigma.addTo(startNodeId, 1);
+                    sigma.addTo(startNodeId, 1);
 
 
-                forwardTraversor.traverse(startNodeId);
+                    forwardTraversor.traverse(startNodeId);
 
-                while (!backwardNodes.isEmpty()) {
-                    long node = backwardNodes.pop();
-                    LongArrayList predecessors = this.predecessors.get(node);
+                    while (!backwardNodes.isEmpty()) {
+                        long node = backwardNodes.pop();
+                        LongArrayList predecessors = this.predecessors.get(node);
 
-                    double dependencyNode = delta.get(node);
-                    double sigmaNode = sigma.get(node);
+                        double dependencyNode = delta.get(node);
+                        double sigmaNode = sigma.get(node);
 
-                    if (null != predecessors) {
-                        predecessors.forEach((Consumer<? super LongCursor>) predecessor -> {
-                            double sigmaPredecessor = sigma.get(predecessor.value);
-                            double dependency = sigmaPredecessor / sigmaNode * (dependencyNode + 1.0);
-                            delta.addTo(predecessor.value, dependency);
-                        });
-                    }
-                    if (node != startNodeId) {
-                        double current;
-                        do {
-                            current = centrality.get(node);
-                        } while (!centrality.compareAndSet(node, current, current + dependencyNode / divisor));
+                        if (null != predecessors) {
+                            predecessors.forEach((Consumer<? super LongCursor>) predecessor -> {
+                                double sigmaPredecessor = sigma.get(predecessor.value);
+                                double dependency = sigmaPredecessor / sigmaNode * (dependencyNode + 1.0);
+                                delta.addTo(predecessor.value, dependency);
+                            });
+                        }
+                        if (node != startNodeId) {
+                            addToCentrality(node, dependencyNode);
+                        }
                     }
                 }
+            } finally {
+                sigma.release();
+                delta.release();
             }
         }
 
@@ -164,4 +221,102 @@ public class BetweennessCentrality extends Algorithm<HugeAtomicDoubleArray> {
             }
         }
     }
+
+    /**
+     * Runs Brandes' algorithm for one source node at a time using a {@link DistanceTraverser}.
+     * Besides the traverser state, only {@code sigma}, {@code delta} and the backward stack are kept per thread.
+     */
+    final class DistanceBCTask implements Runnable {
+        private final HugeLongArrayStack backwardNodes;
+        private final HugeDoubleArray delta;
+        private final HugeLongArray sigma;
+        private final DistanceTraverser.Factory traverserFactory;
+
+        private DistanceBCTask(DistanceTraverser.Factory traverserFactory) {
+            this.traverserFactory = traverserFactory;
+            this.backwardNodes = HugeLongArrayStack.newStack(nodeCount);
+            this.sigma = newLongArray(nodeCount);
+            this.delta = newDoubleArray(nodeCount);
+        }
+
+        @Override
+        public void run() {
+            var traverser = traverserFactory.create(
+                graph.concurrentCopy(),
+                backwardNodes,
+                sigma,
+                delta,
+                terminationFlag
+            );
+
+            try {
+                for (;;) {
+                    long startNodeId = selectionStrategy.next();
+                    if (startNodeId == SelectionStrategy.NONE_SELECTED || !terminationFlag.running()) {
+                        return;
+                    }
+
+                    getProgressTracker().logProgress();
+
+                    sigma.fill(0);
+                    delta.fill(0);
+                    traverser.clear();
+
+                    sigma.set(startNodeId, 1);
+
+                    traverser.traverse(startNodeId);
+
+                    while (!backwardNodes.isEmpty()) {
+                        long node = backwardNodes.pop();
+                        traverser.accumulateDependencies(node);
+                        if (node != startNodeId) {
+                            addToCentrality(node, delta.get(node));
+                        }
+                    }
+                }
+            } finally {
+                sigma.release();
+                delta.release();
+            }
+        }
+    }
+
+    /**
+     * Runs Brandes' algorithm for a batch of source nodes at a time using a {@link BitParallelDependencyTraverser}.
+     */
+    final class BitParallelBCTask implements Runnable {
+        private final long[] sources;
+
+        private BitParallelBCTask(int sourcesPerBatch) {
+            this.sources = new long[sourcesPerBatch];
+        }
+
+        @Override
+        public void run() {
+            var traverser = BitParallelDependencyTraverser.create(
+                graph.concurrentCopy(),
+                sources.length,
+                terminationFlag
+            );
+            BitParallelDependencyTraverser.DependencyConsumer dependencyConsumer = BetweennessCentrality.this::addToCentrality;
+
+            for (;;) {
+                int sourceCount = 0;
+                while (sourceCount < sources.length) {
+                    long startNodeId = selectionStrategy.next();
+                    if (startNodeId == SelectionStrategy.NONE_SELECTED) {
+                        break;
+                    }
+                    sources[sourceCount++] = startNodeId;
+                }
+                if (sourceCount == 0 || !terminationFlag.running()) {
+                    return;
+                }
+
+                getProgressTracker().logProgress(sourceCount);
+
+                traverser.traverse(sources, sourceCount, dependencyConsumer);
+            }
+        }
+    }
 }
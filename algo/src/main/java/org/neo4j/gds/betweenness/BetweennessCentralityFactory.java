@@ -35,6 +35,8 @@ import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
 import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.msbfs.MSBFSConstants;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongArray;
 
@@ -58,7 +60,26 @@ public class BetweennessCentralityFactory<CONFIG extends BetweennessCentralityBa
             ? new RandomDegreeSelectionStrategy(samplingSize.get(), samplingSeed)
             : new FullSelectionStrategy();
 
-        ForwardTraverser.Factory traverserFactory = configuration.hasRelationshipWeightProperty()
+        var weighted = configuration.hasRelationshipWeightProperty();
+
+        if (GdsFeatureToggles.USE_PREDECESSOR_FREE_BETWEENNESS.isEnabled()) {
+            DistanceTraverser.Factory traverserFactory = weighted
+                ? DistanceTraverser.Factory.weighted()
+                : DistanceTraverser.Factory.unweighted();
+
+            return new BetweennessCentrality(
+                graph,
+                strategy,
+                traverserFactory,
+                weighted,
+                sourcesPerBatch(),
+                Pools.DEFAULT,
+                configuration.concurrency(),
+                progressTracker
+            );
+        }
+
+        ForwardTraverser.Factory traverserFactory = weighted
             ? ForwardTraverser.Factory.weighted()
             : ForwardTraverser.Factory.unweighted();
 
@@ -74,15 +95,79 @@ public class BetweennessCentralityFactory<CONFIG extends BetweennessCentralityBa
 
     @Override
     public MemoryEstimation memoryEstimation(CONFIG configuration) {
+        var weighted = configuration.hasRelationshipWeightProperty();
+        MemoryEstimation taskEstimation;
+        if (GdsFeatureToggles.USE_PREDECESSOR_FREE_BETWEENNESS.isEnabled()) {
+            var sourcesPerBatch = sourcesPerBatch();
+            taskEstimation = !weighted && sourcesPerBatch > 1
+                ? bitParallelTaskMemoryEstimation(sourcesPerBatch)
+                : distanceTaskMemoryEstimation(weighted);
+        } else {
+            taskEstimation = bcTaskMemoryEstimationBuilder(weighted).build();
+        }
+
         var builder = MemoryEstimations.builder(BetweennessCentrality.class)
             .perNode("centrality scores", HugeAtomicDoubleArray::memoryEstimation)
-            .perThread("compute task",
-                bcTaskMemoryEstimationBuilder(configuration.hasRelationshipWeightProperty()).build()
-            );
+            .perThread("compute task", taskEstimation);
         return builder
             .build();
     }
 
+    private static void addDependencyArrays(MemoryEstimations.Builder builder) {
+        if (GdsFeatureToggles.USE_OFF_HEAP_ARRAYS.isEnabled()) {
+            // the values are stored outside of the heap
+            builder
+                .fixed("deltas", HugeDoubleArray.offHeapArrayMemoryEstimation())
+                .fixed("sigmas", HugeLongArray.offHeapArrayMemoryEstimation());
+        } else {
+            builder
+                .perNode("deltas", HugeDoubleArray::memoryEstimation)
+                .perNode("sigmas", HugeLongArray::memoryEstimation);
+        }
+    }
+
+    private static int sourcesPerBatch() {
+        return Math.max(1, Math.min(MSBFSConstants.OMEGA, GdsFeatureToggles.BETWEENNESS_SOURCES_PER_BATCH.get()));
+    }
+
+    private static MemoryEstimation distanceTaskMemoryEstimation(boolean weighted) {
+        var builder = MemoryEstimations.builder(BetweennessCentrality.DistanceBCTask.class)
+            .perNode("backwardNodes", HugeLongArray::memoryEstimation);
+        addDependencyArrays(builder);
+
+        if (weighted) {
+            builder.add("DistanceTraverser", MemoryEstimations.builder(WeightedDistanceTraverser.class)
+                .add("nodeQueue", HugeLongPriorityQueue.memoryEstimation())
+                .perNode("distances", HugeDoubleArray::memoryEstimation)
+                .perNode("visited", MemoryUsage::sizeOfBitset)
+                .perNode("finished", MemoryUsage::sizeOfBitset)
+                .build()
+            );
+        } else {
+            builder.add("DistanceTraverser", MemoryEstimations.builder(UnweightedDistanceTraverser.class)
+                .perNode("distances", HugeIntArray::memoryEstimation)
+                .perNode("forwardNodes", HugeLongArray::memoryEstimation)
+                .build()
+            );
+        }
+        return builder.build();
+    }
+
+    private static MemoryEstimation bitParallelTaskMemoryEstimation(int sourcesPerBatch) {
+        return MemoryEstimations.builder(BetweennessCentrality.BitParallelBCTask.class)
+            .fixed("sources", sizeOfLongArray(sourcesPerBatch))
+            .add("BitParallelDependencyTraverser", MemoryEstimations.builder(BitParallelDependencyTraverser.class)
+                .perNode("distances", nodeCount -> HugeIntArray.memoryEstimation(nodeCount * sourcesPerBatch))
+                .perNode("sigmas", nodeCount -> HugeLongArray.memoryEstimation(nodeCount * sourcesPerBatch))
+                .perNode("deltas", nodeCount -> HugeDoubleArray.memoryEstimation(nodeCount * sourcesPerBatch))
+                .perNode("visitedNodes", nodeCount -> HugeLongArray.memoryEstimation(nodeCount * sourcesPerBatch))
+                .perNode("visitedSources", nodeCount -> HugeLongArray.memoryEstimation(nodeCount * sourcesPerBatch))
+                .perNode("msbfs", nodeCount -> 3 * HugeLongArray.memoryEstimation(nodeCount))
+                .build()
+            )
+            .build();
+    }
+
     @NotNull
     private static MemoryEstimations.Builder bcTaskMemoryEstimationBuilder(boolean weighted) {
         var builder = MemoryEstimations.builder(BetweennessCentrality.BCTask.class)
@@ -93,9 +178,8 @@ public class BetweennessCentralityFactory<CONFIG extends BetweennessCentralityBa
                     .perNode("array", nodeCount -> nodeCount * averagePredecessorSize)
                     .build();
             }))
-            .perNode("backwardNodes", HugeLongArray::memoryEstimation)
-            .perNode("deltas", HugeDoubleArray::memoryEstimation)
-            .perNode("sigmas", HugeLongArray::memoryEstimation);
+            .perNode("backwardNodes", HugeLongArray::memoryEstimation);
+        addDependencyArrays(builder);
 
         if (weighted) {
             builder.add("ForwardTraverser", MemoryEstimations.setup(
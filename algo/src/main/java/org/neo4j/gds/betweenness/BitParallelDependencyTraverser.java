@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.betweenness;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipConsumer;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.msbfs.ANPStrategy;
+import org.neo4j.gds.msbfs.BfsConsumer;
+import org.neo4j.gds.msbfs.BfsSources;
+import org.neo4j.gds.msbfs.MSBFSConstants;
+import org.neo4j.gds.msbfs.MultiSourceBFSRunnable;
+
+import java.util.Arrays;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Computes the dependencies of Brandes' algorithm for up to {@link MSBFSConstants#OMEGA} source nodes at once.
+ * Only supports unweighted graphs.
+ * <p>
+ * All sources are traversed by a single multi-source BFS using the {@link ANPStrategy},
+ * which reports every node once per depth together with all sources that reach it at that depth.
+ * These visits are recorded in traversal order and replayed twice, forwards to count the shortest paths
+ * and backwards to accumulate the dependencies. In both replays, the relationships of a visited node are
+ * scanned once for all sources that reached it.
+ * <p>
+ * Per-source state is held in primitive arrays that are strided by the batch size.
+ * A batch of {@code k} sources therefore needs {@code k} times the per-node state of a single source.
+ */
+final class BitParallelDependencyTraverser {
+
+    @FunctionalInterface
+    interface DependencyConsumer {
+        void accept(long nodeId, double dependency);
+    }
+
+    static BitParallelDependencyTraverser create(Graph graph, int batchSize, TerminationFlag terminationFlag) {
+        if (batchSize < 1 || batchSize > MSBFSConstants.OMEGA) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The batch size must be between 1 and %d, but got %d",
+                MSBFSConstants.OMEGA,
+                batchSize
+            ));
+        }
+        var size = graph.nodeCount() * batchSize;
+        return new BitParallelDependencyTraverser(
+            graph,
+            batchSize,
+            HugeIntArray.newArray(size),
+            HugeLongArray.newArray(size),
+            HugeDoubleArray.newArray(size),
+            HugeLongArray.newArray(size),
+            HugeLongArray.newArray(size),
+            terminationFlag
+        );
+    }
+
+    private final Graph graph;
+    private final int batchSize;
+    // per-source state, the value for source `i` and node `n` is stored at `n * batchSize + i`
+    private final HugeIntArray distances;
+    private final HugeLongArray sigma;
+    private final HugeDoubleArray delta;
+    // the visits reported by the multi-source BFS, each visit is a node and the bit set of sources that reached it
+    private final HugeLongArray visitedNodes;
+    private final HugeLongArray visitedSources;
+    private final TerminationFlag terminationFlag;
+
+    // the consumers are created once, so that no object is allocated per visited node
+    private final BfsConsumer visitRecorder;
+    private final RelationshipConsumer forwardConsumer;
+    private final RelationshipConsumer backwardConsumer;
+
+    private long[] sources;
+    private long visitCount;
+    // state of the visit whose relationships are currently scanned
+    private long sourceMask;
+    private int successorDistance;
+
+    private BitParallelDependencyTraverser(
+        Graph graph,
+        int batchSize,
+        HugeIntArray distances,
+        HugeLongArray sigma,
+        HugeDoubleArray delta,
+        HugeLongArray visitedNodes,
+        HugeLongArray visitedSources,
+        TerminationFlag terminationFlag
+    ) {
+        this.graph = graph;
+        this.batchSize = batchSize;
+        this.distances = distances;
+        this.sigma = sigma;
+        this.delta = delta;
+        this.visitedNodes = visitedNodes;
+        this.visitedSources = visitedSources;
+        this.terminationFlag = terminationFlag;
+        this.visitRecorder = this::recordVisit;
+        this.forwardConsumer = this::visitForward;
+        this.backwardConsumer = this::visitBackward;
+    }
+
+    /**
+     * Traverses from the first {@code sourceCount} nodes of {@code sourceNodes} and calls the consumer
+     * with the summed dependency of every reached node on these sources.
+     * Dependencies of the sources on themselves are not reported.
+     */
+    void traverse(long[] sourceNodes, int sourceCount, DependencyConsumer dependencyConsumer) {
+        // bit `i` of a visit refers to `sources[i]`, sorting allows to find that index by binary search
+        sources = Arrays.copyOf(sourceNodes, sourceCount);
+        Arrays.sort(sources);
+        clear();
+
+        for (int i = 0; i < sources.length; i++) {
+            var index = index(sources[i], i);
+            distances.set(index, 0);
+            sigma.set(index, 1);
+            addVisit(sources[i], 1L << i);
+        }
+
+        MultiSourceBFSRunnable.createWithoutSeensNext(
+            graph.nodeCount(),
+            graph,
+            new ANPStrategy(visitRecorder),
+            false,
+            sources
+        ).run();
+
+        for (long visit = 0; visit < visitCount; visit++) {
+            if (!terminationFlag.running()) {
+                return;
+            }
+            long node = prepareVisit(visit);
+            graph.forEachRelationship(node, forwardConsumer);
+        }
+
+        for (long visit = visitCount - 1; visit >= sources.length; visit--) {
+            if (!terminationFlag.running()) {
+                return;
+            }
+            long node = prepareVisit(visit);
+            graph.forEachRelationship(node, backwardConsumer);
+
+            double dependency = 0.0;
+            for (long mask = sourceMask; mask != 0L; mask &= mask - 1) {
+                dependency += delta.get(index(node, Long.numberOfTrailingZeros(mask)));
+            }
+            dependencyConsumer.accept(node, dependency);
+        }
+    }
+
+    private void clear() {
+        distances.fill(-1);
+        sigma.fill(0L);
+        delta.fill(0.0);
+        visitCount = 0;
+    }
+
+    private long index(long node, int sourceIndex) {
+        return node * batchSize + sourceIndex;
+    }
+
+    private void recordVisit(long node, int depth, BfsSources bfsSources) {
+        long mask = 0L;
+        while (bfsSources.hasNext()) {
+            int sourceIndex = Arrays.binarySearch(sources, bfsSources.nextLong());
+            mask |= 1L << sourceIndex;
+            distances.set(index(node, sourceIndex), depth);
+        }
+        addVisit(node, mask);
+    }
+
+    private void addVisit(long node, long mask) {
+        visitedNodes.set(visitCount, node);
+        visitedSources.set(visitCount, mask);
+        visitCount++;
+    }
+
+    private long prepareVisit(long visit) {
+        long node = visitedNodes.get(visit);
+        sourceMask = visitedSources.get(visit);
+        successorDistance = distances.get(index(node, Long.numberOfTrailingZeros(sourceMask))) + 1;
+        return node;
+    }
+
+    private boolean visitForward(long source, long target) {
+        for (long mask = sourceMask; mask != 0L; mask &= mask - 1) {
+            int sourceIndex = Long.numberOfTrailingZeros(mask);
+            var targetIndex = index(target, sourceIndex);
+            if (distances.get(targetIndex) == successorDistance) {
+                sigma.addTo(targetIndex, sigma.get(index(source, sourceIndex)));
+            }
+        }
+        return true;
+    }
+
+    private boolean visitBackward(long source, long target) {
+        for (long mask = sourceMask; mask != 0L; mask &= mask - 1) {
+            int sourceIndex = Long.numberOfTrailingZeros(mask);
+            var targetIndex = index(target, sourceIndex);
+            if (distances.get(targetIndex) == successorDistance) {
+                var sourceNodeIndex = index(source, sourceIndex);
+                double sigmaSource = sigma.get(sourceNodeIndex);
+                delta.addTo(sourceNodeIndex, sigmaSource / sigma.get(targetIndex) * (delta.get(targetIndex) + 1.0));
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.betweenness;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArrayStack;
+
+/**
+ * A {@link ForwardTraverser} that keeps the distance of each visited node instead of a list of its predecessors.
+ * <p>
+ * The edges of the shortest path DAG are rediscovered during the backward pass,
+ * by re-scanning the relationships of each node and comparing distances.
+ * All state is held in primitive arrays, which are allocated once and reused for every source node.
+ */
+interface DistanceTraverser extends ForwardTraverser {
+
+    /**
+     * Adds the dependencies of {@code node} on all of its successors in the shortest path DAG to {@code delta[node]}.
+     * Must be called for every node in the order in which the nodes are popped from the backward stack.
+     */
+    void accumulateDependencies(long node);
+
+    interface Factory {
+        DistanceTraverser create(
+            Graph graph,
+            HugeLongArrayStack backwardNodes,
+            HugeLongArray sigma,
+            HugeDoubleArray delta,
+            TerminationFlag terminationFlag
+        );
+
+        static Factory weighted() {
+            return WeightedDistanceTraverser::create;
+        }
+
+        static Factory unweighted() {
+            return UnweightedDistanceTraverser::create;
+        }
+    }
+}
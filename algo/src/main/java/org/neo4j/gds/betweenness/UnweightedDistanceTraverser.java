@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.betweenness;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipConsumer;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArrayQueue;
+import org.neo4j.gds.core.utils.paged.HugeLongArrayStack;
+
+final class UnweightedDistanceTraverser implements DistanceTraverser {
+
+    static UnweightedDistanceTraverser create(
+        Graph graph,
+        HugeLongArrayStack backwardNodes,
+        HugeLongArray sigma,
+        HugeDoubleArray delta,
+        TerminationFlag terminationFlag
+    ) {
+        var nodeCount = graph.nodeCount();
+        var distances = HugeIntArray.newArray(nodeCount);
+        distances.fill(-1);
+        var nodeQueue = HugeLongArrayQueue.newQueue(nodeCount);
+        return new UnweightedDistanceTraverser(
+            graph,
+            backwardNodes,
+            sigma,
+            delta,
+            nodeQueue,
+            distances,
+            terminationFlag
+        );
+    }
+
+    private final Graph graph;
+    private final HugeLongArrayStack backwardNodes;
+    private final HugeLongArray sigma;
+    private final HugeDoubleArray delta;
+    private final HugeLongArrayQueue nodeQueue;
+    private final HugeIntArray distances;
+    private final TerminationFlag terminationFlag;
+
+    // the consumers are created once, so that no object is allocated per visited node
+    private final RelationshipConsumer forwardConsumer;
+    private final RelationshipConsumer backwardConsumer;
+    // distance of the successors of the node whose relationships are currently scanned
+    private int successorDistance;
+
+    private UnweightedDistanceTraverser(
+        Graph graph,
+        HugeLongArrayStack backwardNodes,
+        HugeLongArray sigma,
+        HugeDoubleArray delta,
+        HugeLongArrayQueue nodeQueue,
+        HugeIntArray distances,
+        TerminationFlag terminationFlag
+    ) {
+        this.graph = graph;
+        this.backwardNodes = backwardNodes;
+        this.sigma = sigma;
+        this.delta = delta;
+        this.nodeQueue = nodeQueue;
+        this.distances = distances;
+        this.terminationFlag = terminationFlag;
+        this.forwardConsumer = this::visitForward;
+        this.backwardConsumer = this::visitBackward;
+    }
+
+    @Override
+    public void traverse(long startNodeId) {
+        nodeQueue.add(startNodeId);
+        distances.set(startNodeId, 0);
+
+        while (!nodeQueue.isEmpty() && terminationFlag.running()) {
+            long node = nodeQueue.remove();
+            backwardNodes.push(node);
+            successorDistance = distances.get(node) + 1;
+            graph.forEachRelationship(node, forwardConsumer);
+        }
+    }
+
+    @Override
+    public void accumulateDependencies(long node) {
+        successorDistance = distances.get(node) + 1;
+        graph.forEachRelationship(node, backwardConsumer);
+    }
+
+    @Override
+    public void clear() {
+        distances.fill(-1);
+    }
+
+    private boolean visitForward(long source, long target) {
+        if (distances.get(target) < 0) {
+            nodeQueue.add(target);
+            distances.set(target, successorDistance);
+        }
+        if (distances.get(target) == successorDistance) {
+            sigma.addTo(target, sigma.get(source));
+        }
+        return true;
+    }
+
+    private boolean visitBackward(long source, long target) {
+        if (distances.get(target) == successorDistance) {
+            double sigmaSource = sigma.get(source);
+            delta.addTo(source, sigmaSource / sigma.get(target) * (delta.get(target) + 1.0));
+        }
+        return true;
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.betweenness;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArrayStack;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+
+final class WeightedDistanceTraverser implements DistanceTraverser {
+
+    static WeightedDistanceTraverser create(
+        Graph graph,
+        HugeLongArrayStack backwardNodes,
+        HugeLongArray sigma,
+        HugeDoubleArray delta,
+        TerminationFlag terminationFlag
+    ) {
+        var nodeCount = graph.nodeCount();
+        return new WeightedDistanceTraverser(
+            graph,
+            backwardNodes,
+            sigma,
+            delta,
+            HugeLongPriorityQueue.min(nodeCount),
+            HugeDoubleArray.newArray(nodeCount),
+            new BitSet(nodeCount),
+            new BitSet(nodeCount),
+            terminationFlag
+        );
+    }
+
+    private final Graph graph;
+    private final HugeLongArrayStack backwardNodes;
+    private final HugeLongArray sigma;
+    private final HugeDoubleArray delta;
+    private final HugeLongPriorityQueue nodeQueue;
+    private final HugeDoubleArray distances;
+    // nodes that have been settled during the forward traversal
+    private final BitSet visited;
+    // nodes that have been popped from the backward stack, i.e. that were settled after the current node
+    private final BitSet finished;
+    private final TerminationFlag terminationFlag;
+
+    // the consumers are created once, so that no object is allocated per visited node
+    private final RelationshipWithPropertyConsumer forwardConsumer;
+    private final RelationshipWithPropertyConsumer backwardConsumer;
+    // distance of the node whose relationships are currently scanned
+    private double sourceDistance;
+
+    private WeightedDistanceTraverser(
+        Graph graph,
+        HugeLongArrayStack backwardNodes,
+        HugeLongArray sigma,
+        HugeDoubleArray delta,
+        HugeLongPriorityQueue nodeQueue,
+        HugeDoubleArray distances,
+        BitSet visited,
+        BitSet finished,
+        TerminationFlag terminationFlag
+    ) {
+        this.graph = graph;
+        this.backwardNodes = backwardNodes;
+        this.sigma = sigma;
+        this.delta = delta;
+        this.nodeQueue = nodeQueue;
+        this.distances = distances;
+        this.visited = visited;
+        this.finished = finished;
+        this.terminationFlag = terminationFlag;
+        this.forwardConsumer = this::visitForward;
+        this.backwardConsumer = this::visitBackward;
+    }
+
+    @Override
+    public void traverse(long startNodeId) {
+        nodeQueue.add(startNodeId, 0.0D);
+
+        while (!nodeQueue.isEmpty() && terminationFlag.running()) {
+            var node = nodeQueue.top();
+            backwardNodes.push(node);
+            sourceDistance = nodeQueue.cost(node);
+            nodeQueue.pop();
+            visited.set(node);
+            distances.set(node, sourceDistance);
+
+            graph.forEachRelationship(node, 1.0D, forwardConsumer);
+        }
+    }
+
+    @Override
+    public void accumulateDependencies(long node) {
+        sourceDistance = distances.get(node);
+        graph.forEachRelationship(node, 1.0D, backwardConsumer);
+        finished.set(node);
+    }
+
+    @Override
+    public void clear() {
+        visited.clear();
+        finished.clear();
+    }
+
+    private boolean visitForward(long source, long target, double weight) {
+        if (visited.get(target)) {
+            return true;
+        }
+        var targetCost = sourceDistance + weight;
+        if (!nodeQueue.containsElement(target)) {
+            nodeQueue.add(target, targetCost);
+        }
+
+        var storedTargetCost = nodeQueue.cost(target);
+        if (Double.compare(targetCost, storedTargetCost) == 0) {
+            sigma.addTo(target, sigma.get(source));
+        } else if (Double.compare(targetCost, storedTargetCost) < 0) {
+            nodeQueue.set(target, targetCost);
+            sigma.set(target, sigma.get(source));
+        }
+        return true;
+    }
+
+    /**
+     * A relationship is part of the shortest path DAG, if the target was settled after the source
+     * and the distance of the target is reached through it. The distance is computed exactly as
+     * during the forward traversal, so comparing for equality is safe.
+     */
+    private boolean visitBackward(long source, long target, double weight) {
+        if (finished.get(target) && Double.compare(sourceDistance + weight, distances.get(target)) == 0) {
+            double sigmaSource = sigma.get(source);
+            delta.addTo(source, sigmaSource / sigma.get(target) * (delta.get(target) + 1.0));
+        }
+        return true;
+    }
+}
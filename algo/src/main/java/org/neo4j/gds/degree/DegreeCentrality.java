@@ -25,7 +25,7 @@ import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.RelationshipIterator;
 import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
 import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
-import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
 import org.neo4j.gds.core.utils.paged.ParallelDoublePageCreator;
 import org.neo4j.gds.core.utils.partition.Partition;
@@ -34,6 +34,7 @@ import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
 import java.util.function.LongToIntFunction;
 
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
@@ -42,6 +43,7 @@ public class DegreeCentrality extends Algorithm<DegreeCentrality.DegreeFunction>
 
     static final String DEGREE_CENTRALITY_DESCRIPTION = "Degree centrality measures the number of incoming and outgoing relationships from a node.";
     private static final double DEFAULT_WEIGHT = 0D;
+    private static final int TARGET_BUFFER_SIZE = 64;
 
     private Graph graph;
     private final ExecutorService executor;
@@ -81,14 +83,11 @@ public class DegreeCentrality extends Algorithm<DegreeCentrality.DegreeFunction>
                 progressTracker.logProgress(graph.nodeCount());
                 return graph::degree;
             case REVERSE:
-                return computeDegreeAtomic((partition, degrees) -> new ReverseDegreeTask(
+                return computeDegreeAtomic((partition, degrees) -> new ReverseUnweightedDegreeTask(
                         graph.concurrentCopy(),
                         partition,
-                        progressTracker,
-                        (sourceNodeId, targetNodeId, weight) -> {
-                            degrees.getAndAdd(targetNodeId, 1);
-                            return true;
-                        }
+                        degrees,
+                        progressTracker
                     )
                 );
             case UNDIRECTED:
@@ -156,34 +155,25 @@ public class DegreeCentrality extends Algorithm<DegreeCentrality.DegreeFunction>
 
     private DegreeFunction computeDegree(TaskFunction taskFunction) {
         var degrees = HugeDoubleArray.newArray(graph.nodeCount());
-        var tasks = PartitionUtils.degreePartition(
-            graph,
-            config.concurrency(),
-            partition -> taskFunction.apply(partition, degrees),
-            Optional.of(config.minBatchSize())
-        );
-        RunWithConcurrency.builder()
-            .concurrency(config.concurrency())
-            .tasks(tasks)
-            .executor(executor)
-            .run();
+        runWithWorkStealing(partition -> taskFunction.apply(partition, degrees));
         return degrees::get;
     }
 
     private DegreeFunction computeDegreeAtomic(TaskFunctionAtomic taskFunction) {
         var degrees = HugeAtomicDoubleArray.of(graph.nodeCount(), ParallelDoublePageCreator.passThrough(config.concurrency()));
-        var tasks = PartitionUtils.degreePartition(
+        runWithWorkStealing(partition -> taskFunction.apply(partition, degrees));
+        return degrees::get;
+    }
+
+    private void runWithWorkStealing(Function<Partition, Runnable> taskCreator) {
+        // hub nodes make the per-partition cost uneven, idle workers steal the remaining partitions
+        var tasks = PartitionUtils.workStealingDegreePartition(
             graph,
             config.concurrency(),
-            partition -> taskFunction.apply(partition, degrees),
+            taskCreator::apply,
             Optional.of(config.minBatchSize())
         );
-        RunWithConcurrency.builder()
-            .concurrency(config.concurrency())
-            .tasks(tasks)
-            .executor(executor)
-            .run();
-        return degrees::get;
+        ParallelUtil.runWithWorkStealing(tasks, config.concurrency(), terminationFlag, executor);
     }
 
     private static class NaturalWeightedDegreeTask implements Runnable {
@@ -252,6 +242,40 @@ public class DegreeCentrality extends Algorithm<DegreeCentrality.DegreeFunction>
         }
     }
 
+    private static class ReverseUnweightedDegreeTask implements Runnable {
+
+        private final Graph graph;
+        private final Partition partition;
+        private final HugeAtomicDoubleArray degrees;
+        private final ProgressTracker progressTracker;
+
+        ReverseUnweightedDegreeTask(
+            Graph graph,
+            Partition partition,
+            HugeAtomicDoubleArray degrees,
+            ProgressTracker progressTracker
+        ) {
+            this.graph = graph;
+            this.partition = partition;
+            this.degrees = degrees;
+            this.progressTracker = progressTracker;
+        }
+
+        @Override
+        public void run() {
+            var targetBuffer = new long[TARGET_BUFFER_SIZE];
+            partition.consume(node -> graph.forEachRelationshipBlock(node, targetBuffer, this::countIncoming));
+            progressTracker.logProgress(partition.nodeCount());
+        }
+
+        private boolean countIncoming(long sourceNodeId, long[] targetNodeIds, int length) {
+            for (int i = 0; i < length; i++) {
+                degrees.getAndAdd(targetNodeIds[i], 1);
+            }
+            return true;
+        }
+    }
+
     private static class UndirectedDegreeTask implements Runnable {
 
         private final Graph graph;
@@ -274,13 +298,16 @@ public class DegreeCentrality extends Algorithm<DegreeCentrality.DegreeFunction>
         @Override
         public void run() {
             LongToIntFunction degreeFn = graph::degree;
+            var targetBuffer = new long[TARGET_BUFFER_SIZE];
 
             partition.consume(node -> {
                 // outgoing
                 degrees.getAndAdd(node, degreeFn.applyAsInt(node));
                 // incoming
-                graph.forEachRelationship(node, (sourceNodeId, targetNodeId) -> {
-                    degrees.getAndAdd(targetNodeId, 1);
+                graph.forEachRelationshipBlock(node, targetBuffer, (sourceNodeId, targetNodeIds, length) -> {
+                    for (int i = 0; i < length; i++) {
+                        degrees.getAndAdd(targetNodeIds[i], 1);
+                    }
                     return true;
                 });
             });
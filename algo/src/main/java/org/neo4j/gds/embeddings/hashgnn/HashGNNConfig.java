@@ -22,6 +22,7 @@ package org.neo4j.gds.embeddings.hashgnn;
 import org.immutables.value.Value;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.EmbeddingPrecisionConfig;
 import org.neo4j.gds.config.FeaturePropertiesConfig;
 import org.neo4j.gds.config.RandomSeedConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
@@ -29,7 +30,7 @@ import org.neo4j.gds.core.CypherMapWrapper;
 import java.util.Map;
 import java.util.Optional;
 
-interface HashGNNConfig extends AlgoBaseConfig, FeaturePropertiesConfig, RandomSeedConfig {
+interface HashGNNConfig extends AlgoBaseConfig, EmbeddingPrecisionConfig, FeaturePropertiesConfig, RandomSeedConfig {
 
     @Configuration.IntegerRange(min = 1)
     int iterations();
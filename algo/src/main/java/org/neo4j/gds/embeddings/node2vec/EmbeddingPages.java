@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.embeddings.node2vec;
+
+import org.neo4j.gds.collections.PageUtil;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.ml.core.tensor.FloatVector;
+
+/**
+ * Stores the embeddings of consecutive nodes back to back in {@code float[]} pages.
+ * The embedding of a node starts at {@link #offset(long)} in {@link #page(long)}.
+ *
+ * Writes are not synchronized. Concurrent training tasks update the embeddings Hogwild-style,
+ * which is fine for sparse updates such as the ones of skip-gram with negative sampling.
+ */
+final class EmbeddingPages {
+
+    private final float[][] pages;
+    private final int dimension;
+    private final int pageShift;
+    private final long pageMask;
+    private final long nodeCount;
+
+    static EmbeddingPages create(long nodeCount, int dimension) {
+        int nodesPerPage = nodesPerPage(dimension);
+        int pageShift = Integer.numberOfTrailingZeros(nodesPerPage);
+        int numPages = PageUtil.numPagesFor(nodeCount, nodesPerPage);
+
+        var pages = new float[numPages][];
+        for (int pageIndex = 0; pageIndex < numPages; pageIndex++) {
+            long nodesInPage = Math.min(nodesPerPage, nodeCount - ((long) pageIndex << pageShift));
+            pages[pageIndex] = new float[Math.toIntExact(nodesInPage * dimension)];
+        }
+
+        return new EmbeddingPages(pages, dimension, pageShift, nodeCount);
+    }
+
+    static long memoryEstimation(long nodeCount, int dimension) {
+        int nodesPerPage = nodesPerPage(dimension);
+        int numPages = PageUtil.numPagesFor(nodeCount, nodesPerPage);
+
+        long fullPages = nodeCount / nodesPerPage;
+        long lastPageNodes = nodeCount % nodesPerPage;
+        long pageBytes = fullPages * MemoryUsage.sizeOfFloatArray((long) nodesPerPage * dimension);
+        if (lastPageNodes > 0) {
+            pageBytes += MemoryUsage.sizeOfFloatArray(lastPageNodes * dimension);
+        }
+
+        return MemoryUsage.sizeOfInstance(EmbeddingPages.class) + MemoryUsage.sizeOfObjectArray(numPages) + pageBytes;
+    }
+
+    // As many nodes as fit into a 32 KB page, at least one.
+    private static int nodesPerPage(int dimension) {
+        int bytesPerNode = Math.multiplyExact(dimension, Float.BYTES);
+        return Math.max(1, Integer.highestOneBit(PageUtil.PAGE_SIZE_32KB / bytesPerNode));
+    }
+
+    private EmbeddingPages(float[][] pages, int dimension, int pageShift, long nodeCount) {
+        this.pages = pages;
+        this.dimension = dimension;
+        this.pageShift = pageShift;
+        this.pageMask = (1L << pageShift) - 1;
+        this.nodeCount = nodeCount;
+    }
+
+    float[] page(long nodeId) {
+        return pages[PageUtil.pageIndex(nodeId, pageShift)];
+    }
+
+    int offset(long nodeId) {
+        return PageUtil.indexInPage(nodeId, pageMask) * dimension;
+    }
+
+    int dimension() {
+        return dimension;
+    }
+
+    void set(long nodeId, float[] embedding) {
+        System.arraycopy(embedding, 0, page(nodeId), offset(nodeId), dimension);
+    }
+
+    float[] get(long nodeId) {
+        var embedding = new float[dimension];
+        System.arraycopy(page(nodeId), offset(nodeId), embedding, 0, dimension);
+        return embedding;
+    }
+
+    /**
+     * Copies the embeddings into one {@link FloatVector} per node.
+     * Each page is released once it has been copied, so this instance cannot be used afterwards.
+     */
+    HugeObjectArray<FloatVector> toFloatVectors() {
+        HugeObjectArray<FloatVector> vectors = HugeObjectArray.newArray(FloatVector.class, nodeCount);
+        for (int pageIndex = 0; pageIndex < pages.length; pageIndex++) {
+            long startNode = (long) pageIndex << pageShift;
+            long endNode = Math.min(nodeCount, startNode + (1L << pageShift));
+            for (long nodeId = startNode; nodeId < endNode; nodeId++) {
+                vectors.set(nodeId, new FloatVector(get(nodeId)));
+            }
+            pages[pageIndex] = null;
+        }
+        return vectors;
+    }
+
+    void release() {
+        for (int pageIndex = 0; pageIndex < pages.length; pageIndex++) {
+            pages[pageIndex] = null;
+        }
+    }
+}
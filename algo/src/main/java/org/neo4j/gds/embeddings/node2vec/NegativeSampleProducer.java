@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.embeddings.node2vec;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
 
 import java.util.concurrent.ThreadLocalRandom;
@@ -27,15 +28,40 @@ public class NegativeSampleProducer {
 
     private final HugeLongArray contextNodeDistribution;
     private final long cumulativeProbability;
+    private final @Nullable HugeLongArray sampleTable;
 
     public NegativeSampleProducer(
         HugeLongArray contextNodeDistribution
+    ) {
+        this(contextNodeDistribution, 0);
+    }
+
+    /**
+     * @param sampleTableSize if positive, the distribution is discretized into a table of this size.
+     *                        Drawing a sample then reads a single random slot of the table instead of
+     *                        binary searching the cumulative distribution. Nodes with a probability below
+     *                        {@code 1 / sampleTableSize} might not be sampled at all.
+     */
+    public NegativeSampleProducer(
+        HugeLongArray contextNodeDistribution,
+        long sampleTableSize
     ) {
         this.contextNodeDistribution = contextNodeDistribution;
         this.cumulativeProbability = contextNodeDistribution.get(contextNodeDistribution.size() - 1);
+        this.sampleTable = sampleTableSize > 0
+            ? sampleTable(contextNodeDistribution, cumulativeProbability, sampleTableSize)
+            : null;
+    }
+
+    public static long sampleTableMemoryEstimation(long sampleTableSize) {
+        return sampleTableSize > 0 ? HugeLongArray.memoryEstimation(sampleTableSize) : 0;
     }
 
     public long next() {
+        if (sampleTable != null) {
+            return sampleTable.get(ThreadLocalRandom.current().nextLong(sampleTable.size()));
+        }
+
         long index = contextNodeDistribution.binarySearch(ThreadLocalRandom.current().nextLong(cumulativeProbability));
 
         if (index < contextNodeDistribution.size() - 1) {
@@ -44,4 +70,19 @@ public class NegativeSampleProducer {
 
         return index;
     }
+
+    // Slot i holds the node that `next()` returns for the i-th of `size` evenly spaced points of the distribution.
+    private static HugeLongArray sampleTable(HugeLongArray distribution, long cumulativeProbability, long size) {
+        var table = HugeLongArray.newArray(size);
+        long lastNode = distribution.size() - 1;
+        long node = 0;
+        for (long slot = 0; slot < size; slot++) {
+            long point = (long) ((double) slot / size * cumulativeProbability);
+            while (node < lastNode && distribution.get(node) <= point) {
+                node++;
+            }
+            table.set(slot, node);
+        }
+        return table;
+    }
 }
@@ -22,6 +22,7 @@ package org.neo4j.gds.embeddings.node2vec;
 import org.immutables.value.Value;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.EmbeddingPrecisionConfig;
 import org.neo4j.gds.config.EmbeddingDimensionConfig;
 import org.neo4j.gds.traversal.RandomWalkBaseConfig;
 import org.neo4j.gds.utils.StringJoining;
@@ -33,7 +34,7 @@ import java.util.stream.Collectors;
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 import static org.neo4j.gds.utils.StringFormatting.toUpperCaseWithLocale;
 
-public interface Node2VecBaseConfig extends AlgoBaseConfig, EmbeddingDimensionConfig, RandomWalkBaseConfig {
+public interface Node2VecBaseConfig extends AlgoBaseConfig, EmbeddingDimensionConfig, EmbeddingPrecisionConfig, RandomWalkBaseConfig {
 
     enum EmbeddingInitializer {
         UNIFORM,
@@ -95,6 +96,15 @@ public interface Node2VecBaseConfig extends AlgoBaseConfig, EmbeddingDimensionCo
         return 0.75;
     }
 
+    /**
+     * Size of the lookup table for negative samples, or 0 to sample from the exact distribution.
+     */
+    @Value.Default
+    @Configuration.LongRange(min = 0)
+    default long negativeSamplingTableSize() {
+        return 0;
+    }
+
     @Override
     @Value.Default
     @Configuration.IntegerRange(min = 1)
@@ -38,16 +38,15 @@ import java.util.Random;
 import java.util.SplittableRandom;
 import java.util.function.LongUnaryOperator;
 
-import static org.neo4j.gds.ml.core.tensor.operations.FloatVectorOperations.addInPlace;
-import static org.neo4j.gds.ml.core.tensor.operations.FloatVectorOperations.scale;
+import static org.neo4j.gds.ml.core.tensor.operations.FloatVectorOperations.innerProduct;
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public class Node2VecModel {
 
     private final NegativeSampleProducer negativeSamples;
 
-    private final HugeObjectArray<FloatVector> centerEmbeddings;
-    private final HugeObjectArray<FloatVector> contextEmbeddings;
+    private final EmbeddingPages centerEmbeddings;
+    private final EmbeddingPages contextEmbeddings;
     private final Node2VecBaseConfig config;
     private final CompressedRandomWalks walks;
     private final RandomWalkProbabilities randomWalkProbabilities;
@@ -57,6 +56,8 @@ public class Node2VecModel {
     public static MemoryEstimation memoryEstimation(Node2VecBaseConfig config) {
         var vectorMemoryEstimation = MemoryUsage.sizeOfFloatArray(config.embeddingDimension());
 
+        // The center embeddings are trained in pages and then copied into the result page by page,
+        // the result is the larger of the two.
         return MemoryEstimations.builder(Node2Vec.class.getSimpleName())
             .perNode(
                 "center embeddings",
@@ -64,7 +65,11 @@ public class Node2VecModel {
             )
             .perNode(
                 "context embeddings",
-                (nodeCount) -> HugeObjectArray.memoryEstimation(nodeCount, vectorMemoryEstimation)
+                (nodeCount) -> EmbeddingPages.memoryEstimation(nodeCount, config.embeddingDimension())
+            )
+            .fixed(
+                "negative sampling table",
+                NegativeSampleProducer.sampleTableMemoryEstimation(config.negativeSamplingTableSize())
             )
             .build();
     }
@@ -81,7 +86,10 @@ public class Node2VecModel {
         this.walks = walks;
         this.randomWalkProbabilities = randomWalkProbabilities;
         this.progressTracker = progressTracker;
-        this.negativeSamples = new NegativeSampleProducer(randomWalkProbabilities.negativeSamplingDistribution());
+        this.negativeSamples = new NegativeSampleProducer(
+            randomWalkProbabilities.negativeSamplingDistribution(),
+            config.negativeSamplingTableSize()
+        );
         this.randomSeed = config.randomSeed().orElseGet(() -> new SplittableRandom().nextLong());
 
         var random = new Random();
@@ -141,14 +149,12 @@ public class Node2VecModel {
         }
         progressTracker.endSubTask();
 
-        return ImmutableResult.of(centerEmbeddings, lossPerIteration);
+        contextEmbeddings.release();
+        return ImmutableResult.of(centerEmbeddings.toFloatVectors(), lossPerIteration);
     }
 
-    private HugeObjectArray<FloatVector> initializeEmbeddings(LongUnaryOperator toOriginalNodeId, long nodeCount, int embeddingDimensions, Random random) {
-        HugeObjectArray<FloatVector> embeddings = HugeObjectArray.newArray(
-            FloatVector.class,
-            nodeCount
-        );
+    private EmbeddingPages initializeEmbeddings(LongUnaryOperator toOriginalNodeId, long nodeCount, int embeddingDimensions, Random random) {
+        var embeddings = EmbeddingPages.create(nodeCount, embeddingDimensions);
         double bound;
         switch (config.embeddingInitializer()) {
             case UNIFORM:
@@ -169,27 +175,26 @@ public class Node2VecModel {
                     FloatConsumer::add,
                     FloatConsumer::addAll
                 ).values;
-            embeddings.set(i, new FloatVector(data));
+            embeddings.set(i, data);
         }
         return embeddings;
     }
 
     private static final class TrainingTask implements Runnable {
-        private final HugeObjectArray<FloatVector> centerEmbeddings;
-        private final HugeObjectArray<FloatVector> contextEmbeddings;
+        private final EmbeddingPages centerEmbeddings;
+        private final EmbeddingPages contextEmbeddings;
 
         private final PositiveSampleProducer positiveSampleProducer;
         private final NegativeSampleProducer negativeSampleProducer;
-        private final FloatVector centerGradientBuffer;
-        private final FloatVector contextGradientBuffer;
         private final int negativeSamplingRate;
+        private final int embeddingDimensions;
         private final float learningRate;
 
         private double lossSum;
 
         private TrainingTask(
-            HugeObjectArray<FloatVector> centerEmbeddings,
-            HugeObjectArray<FloatVector> contextEmbeddings,
+            EmbeddingPages centerEmbeddings,
+            EmbeddingPages contextEmbeddings,
             PositiveSampleProducer positiveSampleProducer,
             NegativeSampleProducer negativeSampleProducer,
             float learningRate,
@@ -202,9 +207,7 @@ public class Node2VecModel {
             this.negativeSampleProducer = negativeSampleProducer;
             this.learningRate = learningRate;
             this.negativeSamplingRate = negativeSamplingRate;
-
-            this.centerGradientBuffer = new FloatVector(embeddingDimensions);
-            this.contextGradientBuffer = new FloatVector(embeddingDimensions);
+            this.embeddingDimensions = embeddingDimensions;
         }
 
         @Override
@@ -222,12 +225,14 @@ public class Node2VecModel {
         }
 
         private void trainSample(long center, long context, boolean positive) {
-            var centerEmbedding = centerEmbeddings.get(center);
-            var contextEmbedding = contextEmbeddings.get(context);
+            var centerPage = centerEmbeddings.page(center);
+            int centerOffset = centerEmbeddings.offset(center);
+            var contextPage = contextEmbeddings.page(context);
+            int contextOffset = contextEmbeddings.offset(context);
 
             // L_pos = -log sigmoid(center * context)  ; gradient: -sigmoid (-center * context)
             // L_neg = -log sigmoid(-center * context) ; gradient: sigmoid (center * context)
-            float affinity = centerEmbedding.innerProduct(contextEmbedding);
+            float affinity = innerProduct(centerPage, centerOffset, contextPage, contextOffset, embeddingDimensions);
 
             float positiveSigmoid = (float) Sigmoid.sigmoid(affinity);
             float negativeSigmoid = 1 - positiveSigmoid;
@@ -239,11 +244,14 @@ public class Node2VecModel {
             // we are doing gradient descent, so we go in the negative direction of the gradient here
             float scaledGradient = -gradient * learningRate;
 
-            scale(contextEmbedding.data(), scaledGradient, centerGradientBuffer.data());
-            scale(centerEmbedding.data(), scaledGradient, contextGradientBuffer.data());
-
-            addInPlace(centerEmbedding.data(), centerGradientBuffer.data());
-            addInPlace(contextEmbedding.data(), contextGradientBuffer.data());
+            // Both embeddings are updated from the values of the other one before this step.
+            // Other tasks might update the same embeddings concurrently, we accept these lost updates (Hogwild).
+            for (int i = 0; i < embeddingDimensions; i++) {
+                float centerValue = centerPage[centerOffset + i];
+                float contextValue = contextPage[contextOffset + i];
+                centerPage[centerOffset + i] = centerValue + contextValue * scaledGradient;
+                contextPage[contextOffset + i] = contextValue + centerValue * scaledGradient;
+            }
         }
 
         double lossSum() {
@@ -20,6 +20,7 @@
 package org.neo4j.gds.pagerank;
 
 import com.carrotsearch.hppc.LongSet;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.beta.pregel.Messages;
 import org.neo4j.gds.beta.pregel.PregelComputation;
@@ -38,6 +39,7 @@ public final class ArticleRankComputation implements PregelComputation<PageRankC
     private final boolean hasSourceNodes;
     private final LongSet sourceNodes;
     private final LongToDoubleFunction degreeFunction;
+    private final @Nullable String seedProperty;
 
     private final double dampingFactor;
     private final double tolerance;
@@ -57,6 +59,7 @@ public final class ArticleRankComputation implements PregelComputation<PageRankC
         this.sourceNodes = sourceNodes;
         this.hasSourceNodes = !sourceNodes.isEmpty();
         this.degreeFunction = degreeFunction;
+        this.seedProperty = config.seedProperty();
     }
 
     @Override
@@ -66,11 +69,18 @@ public final class ArticleRankComputation implements PregelComputation<PageRankC
 
     @Override
     public void init(InitContext<PageRankConfig> context) {
-        context.setNodeValue(PAGE_RANK, initialValue(context));
+        if (seedProperty != null) {
+            var seed = context.nodeProperties(seedProperty).doubleValue(context.nodeId());
+            if (!Double.isNaN(seed)) {
+                context.setNodeValue(PAGE_RANK, seed);
+                return;
+            }
+        }
+        context.setNodeValue(PAGE_RANK, initialValue(context.nodeId()));
     }
 
-    private double initialValue(InitContext<PageRankConfig> context) {
-        if (!hasSourceNodes || sourceNodes.contains(context.nodeId())) {
+    private double initialValue(long nodeId) {
+        if (!hasSourceNodes || sourceNodes.contains(nodeId)) {
             return alpha;
         }
         return 0;
@@ -86,11 +96,18 @@ public final class ArticleRankComputation implements PregelComputation<PageRankC
             for (var message : messages) {
                 sum += message;
             }
-            delta = dampingFactor * sum;
-            context.setNodeValue(PAGE_RANK, rank + delta);
+            if (seedProperty != null && context.superstep() == 1) {
+                // warm start: replace the seeded score with a full iteration and propagate the difference
+                var nextRank = initialValue(context.nodeId()) + dampingFactor * sum;
+                delta = nextRank - rank;
+                context.setNodeValue(PAGE_RANK, nextRank);
+            } else {
+                delta = dampingFactor * sum;
+                context.setNodeValue(PAGE_RANK, rank + delta);
+            }
         }
 
-        if (delta > tolerance || context.isInitialSuperstep()) {
+        if (Math.abs(delta) > tolerance || context.isInitialSuperstep()) {
             var degree = degreeFunction.applyAsDouble(context.nodeId());
             if (degree > 0) {
                 // different from the original ArticleRank paper as we use deltas instead of the whole rank
@@ -21,6 +21,7 @@ package org.neo4j.gds.pagerank;
 
 import com.carrotsearch.hppc.LongSet;
 import org.apache.commons.lang3.mutable.MutableBoolean;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.api.properties.nodes.DoubleNodePropertyValues;
 import org.neo4j.gds.beta.pregel.Messages;
@@ -47,6 +48,7 @@ public final class EigenvectorComputation implements PregelComputation<PageRankC
     private final boolean hasSourceNodes;
     private final LongSet sourceNodes;
     private final LongToDoubleFunction weightDenominator;
+    private final @Nullable String seedProperty;
 
     private final double tolerance;
     private final double initialValue;
@@ -69,6 +71,7 @@ public final class EigenvectorComputation implements PregelComputation<PageRankC
             : 1.0 / nodeCount;
 
         this.weightDenominator = weightDenominator;
+        this.seedProperty = config.seedProperty();
     }
 
     @Override
@@ -81,6 +84,15 @@ public final class EigenvectorComputation implements PregelComputation<PageRankC
 
     @Override
     public void init(InitContext<PageRankConfig> context) {
+        // Power iteration converges from any start vector,
+        // a previous result is usually much closer to the new one.
+        if (seedProperty != null) {
+            var seed = context.nodeProperties(seedProperty).doubleValue(context.nodeId());
+            if (!Double.isNaN(seed)) {
+                context.setNodeValue(RANK, seed);
+                return;
+            }
+        }
         context.setNodeValue(RANK, initialValue(context));
     }
 
@@ -20,6 +20,7 @@
 package org.neo4j.gds.pagerank;
 
 import com.carrotsearch.hppc.LongSet;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.beta.pregel.Messages;
 import org.neo4j.gds.beta.pregel.PregelComputation;
@@ -38,6 +39,7 @@ public final class PageRankComputation implements PregelComputation<PageRankConf
     private final boolean hasSourceNodes;
     private final LongSet sourceNodes;
     private final LongToDoubleFunction degreeFunction;
+    private final @Nullable String seedProperty;
 
     private final double dampingFactor;
     private final double tolerance;
@@ -54,6 +56,7 @@ public final class PageRankComputation implements PregelComputation<PageRankConf
         this.sourceNodes = sourceNodes;
         this.hasSourceNodes = !sourceNodes.isEmpty();
         this.degreeFunction = degreeFunction;
+        this.seedProperty = config.seedProperty();
     }
 
     @Override
@@ -63,11 +66,18 @@ public final class PageRankComputation implements PregelComputation<PageRankConf
 
     @Override
     public void init(InitContext<PageRankConfig> context) {
-        context.setNodeValue(PAGE_RANK, initialValue(context));
+        if (seedProperty != null) {
+            var seed = context.nodeProperties(seedProperty).doubleValue(context.nodeId());
+            if (!Double.isNaN(seed)) {
+                context.setNodeValue(PAGE_RANK, seed);
+                return;
+            }
+        }
+        context.setNodeValue(PAGE_RANK, initialValue(context.nodeId()));
     }
 
-    private double initialValue(InitContext<PageRankConfig> context) {
-        if (!hasSourceNodes || sourceNodes.contains(context.nodeId())) {
+    private double initialValue(long nodeId) {
+        if (!hasSourceNodes || sourceNodes.contains(nodeId)) {
             return alpha;
         }
         return 0;
@@ -83,11 +93,20 @@ public final class PageRankComputation implements PregelComputation<PageRankConf
             for (var message : messages) {
                 sum += message;
             }
-            delta = dampingFactor * sum;
-            context.setNodeValue(PAGE_RANK, rank + delta);
+            if (seedProperty != null && context.superstep() == 1) {
+                // The seeded scores were sent in full, so this is a regular iteration.
+                // From here on, only the (possibly negative) change is propagated,
+                // which quickly dies out for nodes whose neighbourhood did not change.
+                var nextRank = initialValue(context.nodeId()) + dampingFactor * sum;
+                delta = nextRank - rank;
+                context.setNodeValue(PAGE_RANK, nextRank);
+            } else {
+                delta = dampingFactor * sum;
+                context.setNodeValue(PAGE_RANK, rank + delta);
+            }
         }
 
-        if (delta > tolerance || context.isInitialSuperstep()) {
+        if (Math.abs(delta) > tolerance || context.isInitialSuperstep()) {
             var degree = degreeFunction.applyAsDouble(context.nodeId());
             if (degree > 0) {
                 context.sendToNeighbors(delta / degree);
@@ -24,6 +24,7 @@ import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.beta.pregel.Partitioning;
 import org.neo4j.gds.beta.pregel.PregelConfig;
+import org.neo4j.gds.config.SeedConfig;
 import org.neo4j.gds.config.SourceNodesConfig;
 import org.neo4j.gds.config.ToleranceConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
@@ -36,7 +37,8 @@ import org.neo4j.gds.scaling.ScalerFactory;
 public interface PageRankConfig extends
     PregelConfig,
     ToleranceConfig,
-    SourceNodesConfig
+    SourceNodesConfig,
+    SeedConfig
 {
     @Value.Default
     @Override
@@ -54,6 +54,17 @@ public interface FilteredKnnBaseConfig extends KnnBaseConfig {
         return false;
     }
 
+    /**
+     * The recall is estimated on the unfiltered neighbor lists of KNN,
+     * which do not correspond to the results that remain after applying the target node filter.
+     */
+    @Value.Check
+    default void validateRecallTarget() {
+        if (recallTarget() > 0) {
+            throw new IllegalArgumentException("Filtered KNN does not support the `recallTarget` parameter.");
+        }
+    }
+
     @Configuration.GraphStoreValidationCheck
     default void validateSourceNodeFilter(
         GraphStore graphStore,
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.immutables.value.Value;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.RandomSeedConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityMetric;
+
+@Configuration
+@SuppressWarnings("immutables:subtype")
+public interface HnswBaseConfig extends AlgoBaseConfig, RandomSeedConfig {
+
+    /**
+     * The float or double array node property to index.
+     * The index is registered in the graph catalog under this name.
+     */
+    String nodeProperty();
+
+    @Configuration.ConvertWith(method = "org.neo4j.gds.similarity.knn.metrics.SimilarityMetric#parse")
+    @Configuration.ToMapValue("org.neo4j.gds.similarity.hnsw.HnswBaseConfig#render")
+    default SimilarityMetric similarityMetric() {
+        return SimilarityMetric.COSINE;
+    }
+
+    /**
+     * The number of neighbors per node on the upper layers, the bottom layer keeps twice as many.
+     */
+    @Configuration.IntegerRange(min = 2)
+    default int maxConnections() {
+        return 16;
+    }
+
+    /**
+     * The size of the candidate list when searching for the neighbors of an inserted node.
+     */
+    @Configuration.IntegerRange(min = 1)
+    default int efConstruction() {
+        return 100;
+    }
+
+    @Value.Check
+    default void validateSimilarityMetric() {
+        switch (similarityMetric()) {
+            case COSINE:
+            case EUCLIDEAN:
+            case PEARSON:
+                return;
+            default:
+                throw new IllegalArgumentException(
+                    "The HNSW index supports only the `COSINE`, `EUCLIDEAN` and `PEARSON` similarity metrics."
+                );
+        }
+    }
+
+    static String render(SimilarityMetric similarityMetric) {
+        return similarityMetric.name();
+    }
+
+    static HnswBaseConfig of(CypherMapWrapper config) {
+        return new HnswBaseConfigImpl(config);
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import com.carrotsearch.hppc.LongHashSet;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.similarity.knn.metrics.FloatArraySimilarityMetric;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A hierarchical navigable small world (HNSW) graph over the vectors of a node property.
+ * <p>
+ * Every indexed node is linked to its most similar nodes on each layer up to its randomly drawn level.
+ * A query greedily descends from the entry point on the top layer and runs a best-first search on the bottom layer,
+ * which visits only a small fraction of the nodes.
+ */
+public final class HnswIndex {
+
+    static final long NO_NODE = -1L;
+    static final long[] NO_NEIGHBORS = new long[0];
+
+    private final IdMap idMap;
+    // the property the vectors were read from, only to detect that it has been dropped or overwritten
+    private final WeakReference<NodePropertyValues> propertyValues;
+    // vectors are converted to floats once, null for nodes without a vector
+    private final HugeObjectArray<float[]> vectors;
+    private final int dimension;
+    private final FloatArraySimilarityMetric metric;
+    // neighbors of every node per layer, null for nodes without a vector
+    private final HugeObjectArray<long[][]> layers;
+
+    private volatile EntryPoint entryPoint;
+    // Set once all nodes are inserted. From then on, links are no longer replaced and are read without locking.
+    // Queries only see the index after it has been registered in the catalog, which safely publishes this flag.
+    private boolean built;
+
+    HnswIndex(
+        IdMap idMap,
+        NodePropertyValues propertyValues,
+        HugeObjectArray<float[]> vectors,
+        int dimension,
+        FloatArraySimilarityMetric metric,
+        HugeObjectArray<long[][]> layers
+    ) {
+        this.idMap = idMap;
+        this.propertyValues = new WeakReference<>(propertyValues);
+        this.vectors = vectors;
+        this.dimension = dimension;
+        this.metric = metric;
+        this.layers = layers;
+        this.entryPoint = new EntryPoint(NO_NODE, -1);
+    }
+
+    public IdMap idMap() {
+        return idMap;
+    }
+
+    /**
+     * @return the length of the indexed vectors, or -1 if no node has a vector
+     */
+    public int dimension() {
+        return dimension;
+    }
+
+    /**
+     * The index does not observe the property it was built from.
+     * Callers check that the property has not been dropped or overwritten since, in which case the index is stale.
+     */
+    public boolean isBuiltFrom(NodePropertyValues propertyValues) {
+        return this.propertyValues.get() == propertyValues;
+    }
+
+    /**
+     * @return the {@code topK} most similar nodes to the given node, excluding the node itself.
+     */
+    public List<SimilarNode> query(long nodeId, int topK, int ef) {
+        var vector = vector(nodeId);
+        if (vector == null) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Node with id `%d` has no value for the indexed property.",
+                idMap.toOriginalNodeId(nodeId)
+            ));
+        }
+        return query(vector, topK, ef, nodeId);
+    }
+
+    /**
+     * @return the {@code topK} most similar nodes to the given vector.
+     */
+    public List<SimilarNode> query(float[] vector, int topK, int ef) {
+        return query(vector, topK, ef, NO_NODE);
+    }
+
+    private List<SimilarNode> query(float[] vector, int topK, int ef, long excludedNode) {
+        var currentEntryPoint = this.entryPoint;
+        if (currentEntryPoint.nodeId == NO_NODE) {
+            return List.of();
+        }
+
+        var nearest = greedySearch(vector, currentEntryPoint.nodeId, currentEntryPoint.level, 0);
+        var candidates = searchLayer(vector, nearest, Math.max(ef, topK + 1), 0, excludedNode);
+
+        var result = new ArrayList<SimilarNode>(Math.min(topK, candidates.size()));
+        for (int i = 0; i < candidates.size() && result.size() < topK; i++) {
+            var candidate = candidates.get(i);
+            result.add(SimilarNode.of(candidate.nodeId, candidate.similarity));
+        }
+        return result;
+    }
+
+    @Nullable float[] vector(long nodeId) {
+        return vectors.get(nodeId);
+    }
+
+    double similarity(float[] vector, long nodeId) {
+        return metric.compute(vector, vectors.get(nodeId));
+    }
+
+    /**
+     * @return the node with the highest similarity to the vector found by greedily following links
+     *     from the given node on all layers from {@code fromLevel} down to, but excluding, {@code toLevel}.
+     */
+    Candidate greedySearch(float[] vector, long startNode, int fromLevel, int toLevel) {
+        var current = new Candidate(startNode, similarity(vector, startNode));
+        for (int level = fromLevel; level > toLevel; level--) {
+            boolean improved = true;
+            while (improved) {
+                improved = false;
+                for (long neighbor : neighbors(current.nodeId, level)) {
+                    var similarity = similarity(vector, neighbor);
+                    if (similarity > current.similarity) {
+                        current = new Candidate(neighbor, similarity);
+                        improved = true;
+                    }
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Best-first search on a single layer.
+     *
+     * @return up to {@code ef} candidates, most similar first
+     */
+    List<Candidate> searchLayer(float[] vector, Candidate start, int ef, int level, long excludedNode) {
+        var visited = new LongHashSet();
+        visited.add(start.nodeId);
+
+        var candidates = new PriorityQueue<>(Candidate.MOST_SIMILAR_FIRST);
+        var results = new PriorityQueue<>(Candidate.LEAST_SIMILAR_FIRST);
+        candidates.add(start);
+        if (start.nodeId != excludedNode) {
+            results.add(start);
+        }
+
+        while (!candidates.isEmpty()) {
+            var candidate = candidates.poll();
+            if (results.size() >= ef && candidate.similarity < results.peek().similarity) {
+                break;
+            }
+            for (long neighbor : neighbors(candidate.nodeId, level)) {
+                if (!visited.add(neighbor)) {
+                    continue;
+                }
+                var similarity = similarity(vector, neighbor);
+                if (results.size() < ef || similarity > results.peek().similarity) {
+                    var next = new Candidate(neighbor, similarity);
+                    candidates.add(next);
+                    if (neighbor != excludedNode) {
+                        results.add(next);
+                        if (results.size() > ef) {
+                            results.poll();
+                        }
+                    }
+                }
+            }
+        }
+
+        var sorted = new ArrayList<>(results);
+        sorted.sort(Candidate.MOST_SIMILAR_FIRST);
+        return sorted;
+    }
+
+    long[] neighbors(long nodeId, int level) {
+        var nodeLayers = layers.get(nodeId);
+        if (built) {
+            return level < nodeLayers.length ? nodeLayers[level] : NO_NEIGHBORS;
+        }
+        // links are replaced while the index is built, the lock makes the latest links visible
+        synchronized (nodeLayers) {
+            return level < nodeLayers.length ? nodeLayers[level] : NO_NEIGHBORS;
+        }
+    }
+
+    /**
+     * Must only be called after all insertions have finished.
+     */
+    void markBuilt() {
+        this.built = true;
+    }
+
+    @Nullable long[][] layersOf(long nodeId) {
+        return layers.get(nodeId);
+    }
+
+    EntryPoint entryPoint() {
+        return entryPoint;
+    }
+
+    synchronized void offerEntryPoint(long nodeId, int level) {
+        if (level > entryPoint.level) {
+            entryPoint = new EntryPoint(nodeId, level);
+        }
+    }
+
+    static final class EntryPoint {
+        final long nodeId;
+        final int level;
+
+        EntryPoint(long nodeId, int level) {
+            this.nodeId = nodeId;
+            this.level = level;
+        }
+    }
+
+    static final class Candidate {
+        static final Comparator<Candidate> MOST_SIMILAR_FIRST = Comparator.comparingDouble(c -> -c.similarity);
+        static final Comparator<Candidate> LEAST_SIMILAR_FIRST = Comparator.comparingDouble(c -> c.similarity);
+
+        final long nodeId;
+        final double similarity;
+
+        Candidate(long nodeId, double similarity) {
+            this.nodeId = nodeId;
+            this.similarity = similarity;
+        }
+    }
+}
@@ -0,0 +1,348 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.similarity.knn.metrics.FloatArraySimilarityMetric;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfFloatArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongHashSet;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfObjectArray;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Builds an {@link HnswIndex} by inserting all nodes with a vector concurrently.
+ * Links of a node are copied on write under the lock of the node, so concurrent searches always see a consistent list.
+ */
+public final class HnswIndexBuilder extends Algorithm<HnswIndex> {
+
+    // a level is reached with probability maxConnections^-level, this is never exceeded in practice
+    private static final int MAX_LEVEL = 16;
+    private static final int ESTIMATED_VECTOR_LENGTH = 128;
+
+    private final Graph graph;
+    private final @Nullable NodePropertyValues propertyValues;
+    private final HnswBaseConfig config;
+    private final ExecutorService executorService;
+
+    /**
+     * @param propertyValues the values of the indexed property in the graph store, which are indexed by root node id.
+     *     The index is only valid as long as the graph store holds these values.
+     */
+    public HnswIndexBuilder(
+        Graph graph,
+        @Nullable NodePropertyValues propertyValues,
+        HnswBaseConfig config,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        super(progressTracker);
+        this.graph = graph;
+        this.propertyValues = propertyValues;
+        this.config = config;
+        this.executorService = executorService;
+    }
+
+    public static Task progressTask(long nodeCount) {
+        return Tasks.task(
+            "HNSW",
+            Tasks.leaf("Read vectors", nodeCount),
+            Tasks.leaf("Insert nodes", nodeCount)
+        );
+    }
+
+    /**
+     * The length of the vectors is not known before they are read, so the estimation assumes a fixed length.
+     * Float array properties are indexed as they are, double array properties are copied once as float arrays.
+     */
+    public static MemoryEstimation memoryEstimation(HnswBaseConfig config) {
+        var maxConnections = config.maxConnections();
+        // most nodes only exist on the bottom layer, which keeps twice as many links as the upper layers
+        var nodeLayers = MemoryRange.of(
+            sizeOfObjectArray(1) + sizeOfLongArray(0),
+            sizeOfObjectArray(2) + sizeOfLongArray(2L * maxConnections) + sizeOfLongArray(maxConnections)
+        );
+
+        return MemoryEstimations.builder(HnswIndex.class)
+            .add(
+                "vectors",
+                HugeObjectArray.memoryEstimation(
+                    MemoryEstimations.of("vector", MemoryRange.of(0, sizeOfFloatArray(ESTIMATED_VECTOR_LENGTH)))
+                )
+            )
+            .add("layers", HugeObjectArray.memoryEstimation(MemoryEstimations.of("node layers", nodeLayers)))
+            .perThread(
+                "visited nodes",
+                sizeOfLongHashSet((long) config.efConstruction() * 2 * maxConnections)
+            )
+            .build();
+    }
+
+    @Override
+    public HnswIndex compute() {
+        progressTracker.beginSubTask();
+
+        var propertyName = config.nodeProperty();
+        var vectors = this.propertyValues;
+        if (vectors == null) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The node property `%s` does not exist.",
+                propertyName
+            ));
+        }
+        if (vectors.valueType() != ValueType.FLOAT_ARRAY && vectors.valueType() != ValueType.DOUBLE_ARRAY) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The node property `%s` must be of type FLOAT_ARRAY or DOUBLE_ARRAY, but was %s.",
+                propertyName,
+                vectors.valueType()
+            ));
+        }
+        var metric = FloatArraySimilarityMetric.of(config.similarityMetric()).orElseThrow(() ->
+            new IllegalArgumentException(formatWithLocale(
+                "The similarity metric `%s` is not supported for the HNSW index.",
+                config.similarityMetric()
+            ))
+        );
+
+        var nodeCount = graph.nodeCount();
+        var floatVectors = HugeObjectArray.newArray(float[].class, nodeCount);
+        var layers = HugeObjectArray.newArray(long[][].class, nodeCount);
+        var random = config.randomSeed().map(SplittableRandom::new).orElseGet(SplittableRandom::new);
+        var levelMultiplier = 1.0 / Math.log(config.maxConnections());
+        var dimension = new AtomicInteger(-1);
+
+        progressTracker.beginSubTask();
+        var readTasks = PartitionUtils.rangePartition(
+            config.concurrency(),
+            nodeCount,
+            partition -> {
+                // split on the calling thread, so that levels only depend on the seed and the partitioning
+                var localRandom = random.split();
+                return (Runnable) () -> {
+                    partition.consume(nodeId -> {
+                        // converts double arrays once, instead of on every similarity computation
+                        var vector = vectors.floatArrayValue(graph.toRootNodeId(nodeId));
+                        if (vector == null) {
+                            return;
+                        }
+                        var expectedDimension = dimension.compareAndExchange(-1, vector.length);
+                        if (expectedDimension != -1 && expectedDimension != vector.length) {
+                            throw new IllegalArgumentException(formatWithLocale(
+                                "All vectors of the node property `%s` must have the same length, but found lengths %d and %d.",
+                                propertyName,
+                                expectedDimension,
+                                vector.length
+                            ));
+                        }
+                        floatVectors.set(nodeId, vector);
+                        var level = Math.min(
+                            MAX_LEVEL,
+                            (int) (-Math.log(1.0 - localRandom.nextDouble()) * levelMultiplier)
+                        );
+                        var nodeLayers = new long[level + 1][];
+                        Arrays.fill(nodeLayers, HnswIndex.NO_NEIGHBORS);
+                        layers.set(nodeId, nodeLayers);
+                    });
+                    progressTracker.logProgress(partition.nodeCount());
+                };
+            },
+            Optional.empty()
+        );
+        runConcurrently(readTasks);
+        progressTracker.endSubTask();
+
+        long firstNode = 0;
+        while (firstNode < nodeCount && layers.get(firstNode) == null) {
+            firstNode++;
+        }
+
+        var index = new HnswIndex(graph, vectors, floatVectors, dimension.get(), metric, layers);
+        progressTracker.beginSubTask();
+        if (firstNode < nodeCount) {
+            index.offerEntryPoint(firstNode, layers.get(firstNode).length - 1);
+
+            var entryNode = firstNode;
+            var insertTasks = PartitionUtils.rangePartition(
+                config.concurrency(),
+                nodeCount,
+                partition -> (Runnable) () -> {
+                    partition.consume(nodeId -> {
+                        if (nodeId != entryNode && layers.get(nodeId) != null) {
+                            insert(index, nodeId);
+                        }
+                    });
+                    progressTracker.logProgress(partition.nodeCount());
+                },
+                Optional.empty()
+            );
+            runConcurrently(insertTasks);
+        }
+        index.markBuilt();
+        progressTracker.endSubTask();
+
+        progressTracker.endSubTask();
+        return index;
+    }
+
+    private void runConcurrently(Collection<Runnable> tasks) {
+        RunWithConcurrency.builder()
+            .concurrency(config.concurrency())
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+    }
+
+    private void insert(HnswIndex index, long nodeId) {
+        var nodeLayers = index.layersOf(nodeId);
+        var level = nodeLayers.length - 1;
+        var vector = index.vector(nodeId);
+        var maxConnections = config.maxConnections();
+
+        var entryPoint = index.entryPoint();
+        var nearest = index.greedySearch(vector, entryPoint.nodeId, entryPoint.level, level);
+
+        for (int layer = Math.min(level, entryPoint.level); layer >= 0; layer--) {
+            var candidates = index.searchLayer(vector, nearest, config.efConstruction(), layer, nodeId);
+            if (candidates.isEmpty()) {
+                continue;
+            }
+
+            var neighbors = new long[Math.min(maxConnections, candidates.size())];
+            for (int i = 0; i < neighbors.length; i++) {
+                neighbors[i] = candidates.get(i).nodeId;
+            }
+            // the bottom layer holds all nodes and allows for more links
+            var maxLinks = layer == 0 ? 2 * maxConnections : maxConnections;
+            mergeLinks(index, nodeLayers, vector, layer, neighbors, maxLinks);
+
+            for (int i = 0; i < neighbors.length; i++) {
+                link(index, neighbors[i], nodeId, candidates.get(i).similarity, layer, maxLinks);
+            }
+
+            nearest = candidates.get(0);
+        }
+
+        index.offerEntryPoint(nodeId, level);
+    }
+
+    /**
+     * Sets the links of a node on a layer while keeping reverse links that concurrent insertions have added to it.
+     * If there are more links than allowed, the most similar ones are kept.
+     */
+    private static void mergeLinks(
+        HnswIndex index,
+        long[][] nodeLayers,
+        float[] vector,
+        int layer,
+        long[] neighbors,
+        int maxLinks
+    ) {
+        synchronized (nodeLayers) {
+            var links = nodeLayers[layer];
+            var merged = Arrays.copyOf(neighbors, neighbors.length + links.length);
+            var mergedCount = neighbors.length;
+            for (long link : links) {
+                if (!contains(neighbors, link)) {
+                    merged[mergedCount++] = link;
+                }
+            }
+            if (mergedCount <= maxLinks) {
+                nodeLayers[layer] = Arrays.copyOf(merged, mergedCount);
+                return;
+            }
+
+            var candidates = new ArrayList<HnswIndex.Candidate>(mergedCount);
+            for (int i = 0; i < mergedCount; i++) {
+                candidates.add(new HnswIndex.Candidate(merged[i], index.similarity(vector, merged[i])));
+            }
+            candidates.sort(HnswIndex.Candidate.MOST_SIMILAR_FIRST);
+            var kept = new long[maxLinks];
+            for (int i = 0; i < maxLinks; i++) {
+                kept[i] = candidates.get(i).nodeId;
+            }
+            nodeLayers[layer] = kept;
+        }
+    }
+
+    private static boolean contains(long[] values, long value) {
+        for (long v : values) {
+            if (v == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds the reverse link from {@code source} to {@code target}.
+     * If the source has no free link left, the new link replaces the least similar one if it is more similar.
+     */
+    private static void link(HnswIndex index, long source, long target, double similarity, int layer, int maxLinks) {
+        var sourceLayers = index.layersOf(source);
+        synchronized (sourceLayers) {
+            var links = sourceLayers[layer];
+            if (links.length < maxLinks) {
+                var extendedLinks = Arrays.copyOf(links, links.length + 1);
+                extendedLinks[links.length] = target;
+                sourceLayers[layer] = extendedLinks;
+                return;
+            }
+
+            var sourceVector = index.vector(source);
+            var weakestLink = -1;
+            var weakestSimilarity = similarity;
+            for (int i = 0; i < links.length; i++) {
+                var linkSimilarity = index.similarity(sourceVector, links[i]);
+                if (linkSimilarity < weakestSimilarity) {
+                    weakestLink = i;
+                    weakestSimilarity = linkSimilarity;
+                }
+            }
+            if (weakestLink != -1) {
+                var replacedLinks = links.clone();
+                replacedLinks[weakestLink] = target;
+                sourceLayers[layer] = replacedLinks;
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.knn;
+
+/**
+ * Receives the final neighbors of a node once KNN has finished iterating.
+ * Every node is offered exactly once, possibly from multiple threads concurrently.
+ */
+@FunctionalInterface
+public interface FinalizedNeighborsConsumer {
+    /**
+     * @param neighbors    the neighbor node ids, ordered by descending similarity
+     * @param similarities the similarities of the neighbors at the same index
+     *     Both arrays are copies that are owned by the consumer.
+     */
+    void accept(long nodeId, long[] neighbors, double[] similarities);
+}
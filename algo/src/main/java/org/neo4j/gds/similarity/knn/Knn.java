@@ -41,6 +41,7 @@ import java.util.Optional;
 import java.util.SplittableRandom;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
+import java.util.function.LongConsumer;
 import java.util.function.UnaryOperator;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
@@ -58,6 +59,7 @@ public class Knn extends Algorithm<Knn.Result> {
     private final NeighbourConsumers neighborConsumers;
 
     private long nodePairsConsidered;
+    private @Nullable FinalizedNeighborsConsumer finalizedNeighborsConsumer;
 
     public static Knn createWithDefaults(Graph graph, KnnBaseConfig config, KnnContext context) {
         return createWithDefaultsAndInstrumentation(graph, config, context, NeighbourConsumers.no_op, defaultSimilarityFunction(graph, config.nodeProperties()));
@@ -145,6 +147,14 @@ public class Knn extends Algorithm<Knn.Result> {
         return this.executorService;
     }
 
+    /**
+     * Hands the neighbor list of every node to the given consumer after the last iteration, in parallel.
+     * Callers can process the result while it is handed out, instead of streaming it from the result afterwards.
+     */
+    public void setFinalizedNeighborsConsumer(FinalizedNeighborsConsumer finalizedNeighborsConsumer) {
+        this.finalizedNeighborsConsumer = finalizedNeighborsConsumer;
+    }
+
     @Override
     public Result compute() {
         this.progressTracker.beginSubTask();
@@ -163,6 +173,20 @@ public class Knn extends Algorithm<Knn.Result> {
             var maxUpdates = (long) Math.ceil(this.config.sampleRate() * this.config.topK() * graph.nodeCount());
             var updateThreshold = (long) Math.floor(this.config.deltaThreshold() * maxUpdates);
 
+            var recallEstimator = this.config.recallTarget() > 0
+                ? RecallEstimator.create(
+                    graph.nodeCount(),
+                    this.config.boundedK(graph.nodeCount()),
+                    this.config.recallSampleSize(),
+                    this.similarityFunction,
+                    this.neighborFilterFactory,
+                    this.splittableRandom.split(),
+                    this.config.concurrency(),
+                    this.executorService,
+                    terminationFlag
+                )
+                : null;
+
             long updateCount;
             int iteration = 0;
             boolean didConverge = false;
@@ -178,23 +202,32 @@ public class Knn extends Algorithm<Knn.Result> {
                     didConverge = true;
                     break;
                 }
+                if (recallEstimator != null) {
+                    var recall = recallEstimator.estimate(neighbors);
+                    this.progressTracker.logInfo(formatWithLocale(
+                        "Estimated recall after iteration %d is %.4f",
+                        iteration + 1,
+                        recall
+                    ));
+                    if (recall >= this.config.recallTarget()) {
+                        iteration++;
+                        didConverge = true;
+                        break;
+                    }
+                }
             }
             if (config.similarityCutoff() > 0) {
                 var similarityCutoff = config.similarityCutoff();
-                var neighborFilterTasks = PartitionUtils.rangePartition(
-                    config.concurrency(),
+                runInParallel(
                     neighbors.size(),
-                    partition -> (Runnable) () -> partition.consume(
-                        nodeId -> neighbors.get(nodeId).filterHighSimilarityResults(similarityCutoff)
-                    ),
-                    Optional.of(config.minBatchSize())
+                    nodeId -> neighbors.get(nodeId).filterHighSimilarityResults(similarityCutoff)
                 );
-                RunWithConcurrency.builder()
-                    .concurrency(config.concurrency())
-                    .tasks(neighborFilterTasks)
-                    .terminationFlag(terminationFlag)
-                    .executor(this.executorService)
-                    .run();
+            }
+            if (this.finalizedNeighborsConsumer != null) {
+                // Nodes are only handed out once no iteration can change their neighbors anymore.
+                // Freezing nodes earlier would exclude them from later joins and lower the recall.
+                var consumer = this.finalizedNeighborsConsumer;
+                runInParallel(neighbors.size(), nodeId -> offer(consumer, nodeId, neighbors.get(nodeId)));
             }
             this.progressTracker.endSubTask();
 
@@ -203,6 +236,25 @@ public class Knn extends Algorithm<Knn.Result> {
         }
     }
 
+    private static void offer(FinalizedNeighborsConsumer consumer, long nodeId, NeighborList neighborList) {
+        consumer.accept(nodeId, neighborList.neighborsSnapshot(), neighborList.similaritiesSnapshot());
+    }
+
+    private void runInParallel(long nodeCount, LongConsumer action) {
+        var tasks = PartitionUtils.rangePartition(
+            config.concurrency(),
+            nodeCount,
+            partition -> (Runnable) () -> partition.consume(action),
+            Optional.of(config.minBatchSize())
+        );
+        RunWithConcurrency.builder()
+            .concurrency(config.concurrency())
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(this.executorService)
+            .run();
+    }
+
     private @Nullable HugeObjectArray<NeighborList> initializeRandomNeighbors() {
         var k = this.config.topK();
         // (int) is safe since it is at most k, which is an int
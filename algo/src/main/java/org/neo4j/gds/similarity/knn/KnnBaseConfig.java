@@ -67,6 +67,18 @@ public interface KnnBaseConfig extends AlgoBaseConfig, IterationsConfig, SingleT
         return 0;
     }
 
+    @Value.Default
+    @Configuration.DoubleRange(min = 0, max = 1)
+    default double recallTarget() {
+        return 0;
+    }
+
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int recallSampleSize() {
+        return 100;
+    }
+
     @Configuration.IntegerRange(min = 1)
     @Override
     @Value.Default
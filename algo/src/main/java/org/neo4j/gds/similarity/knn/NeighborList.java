@@ -210,6 +210,28 @@ public class NeighborList {
         return INSERTED;
     }
 
+    /**
+     * @return a copy of the neighbors without their checked flags
+     */
+    long[] neighborsSnapshot() {
+        var neighbors = new long[elementCount];
+        for (int i = 0; i < elementCount; i++) {
+            neighbors[i] = clearCheckedFlag(priorityElementPairs[i * 2 + 1]);
+        }
+        return neighbors;
+    }
+
+    /**
+     * @return a copy of the similarities of the neighbors
+     */
+    double[] similaritiesSnapshot() {
+        var similarities = new double[elementCount];
+        for (int i = 0; i < elementCount; i++) {
+            similarities[i] = Double.longBitsToDouble(priorityElementPairs[i * 2]);
+        }
+        return similarities;
+    }
+
     public Stream<SimilarityResult> similarityStream(long nodeId) {
         return IntStream.range(0, elementCount)
             .mapToObj(index -> {
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.knn;
+
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Estimates the recall of the approximate neighbor lists of KNN.
+ * <p>
+ * The exact top K neighbors are computed by brute force for a small sample of nodes.
+ * The recall is the fraction of these exact neighbors that are also contained in the approximate neighbor lists.
+ */
+final class RecallEstimator {
+
+    private final long[] sampledNodes;
+    // sorted exact neighbors for every sampled node
+    private final long[][] exactNeighbors;
+
+    private RecallEstimator(long[] sampledNodes, long[][] exactNeighbors) {
+        this.sampledNodes = sampledNodes;
+        this.exactNeighbors = exactNeighbors;
+    }
+
+    static RecallEstimator create(
+        long nodeCount,
+        int boundedK,
+        int sampleSize,
+        SimilarityFunction similarityFunction,
+        NeighborFilterFactory neighborFilterFactory,
+        SplittableRandom random,
+        int concurrency,
+        ExecutorService executorService,
+        TerminationFlag terminationFlag
+    ) {
+        var sampledNodes = sampleNodes(nodeCount, sampleSize, random);
+        var exactNeighbors = new long[sampledNodes.length][];
+
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            sampledNodes.length,
+            partition -> {
+                // split on the calling thread, SplittableRandom must not be shared between threads
+                var localRandom = random.split();
+                var neighborFilter = neighborFilterFactory.create();
+                return (Runnable) () -> partition.consume(sampleIndex -> {
+                    var nodeId = sampledNodes[(int) sampleIndex];
+                    var neighbors = new NeighborList(boundedK, NeighbourConsumer.devNull);
+                    for (long candidate = 0; candidate < nodeCount; candidate++) {
+                        if (candidate == nodeId || neighborFilter.excludeNodePair(nodeId, candidate)) {
+                            continue;
+                        }
+                        var similarity = similarityFunction.computeSimilarity(nodeId, candidate);
+                        neighbors.add(candidate, similarity, localRandom, 0.0);
+                    }
+                    var exact = neighbors.elements().toArray();
+                    Arrays.sort(exact);
+                    exactNeighbors[(int) sampleIndex] = exact;
+                });
+            },
+            Optional.empty()
+        );
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+
+        return new RecallEstimator(sampledNodes, exactNeighbors);
+    }
+
+    private static long[] sampleNodes(long nodeCount, int sampleSize, SplittableRandom random) {
+        if (nodeCount <= sampleSize) {
+            var allNodes = new long[(int) nodeCount];
+            Arrays.setAll(allNodes, i -> i);
+            return allNodes;
+        }
+
+        // Floyd's algorithm for sampling without replacement
+        var sampledNodes = new long[sampleSize];
+        var sampled = 0;
+        for (long candidateBound = nodeCount - sampleSize; candidateBound < nodeCount; candidateBound++) {
+            var candidate = random.nextLong(candidateBound + 1);
+            if (contains(sampledNodes, sampled, candidate)) {
+                candidate = candidateBound;
+            }
+            sampledNodes[sampled++] = candidate;
+        }
+        return sampledNodes;
+    }
+
+    private static boolean contains(long[] values, int length, long value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the fraction of the exact neighbors of the sampled nodes that are found in {@code neighbors},
+     *     or 1 if the sampled nodes have no neighbors at all.
+     */
+    double estimate(HugeObjectArray<NeighborList> neighbors) {
+        long found = 0;
+        long total = 0;
+        for (int i = 0; i < sampledNodes.length; i++) {
+            var exact = exactNeighbors[i];
+            total += exact.length;
+
+            var approximate = neighbors.get(sampledNodes[i]);
+            for (int j = 0; j < approximate.size(); j++) {
+                var neighbor = NeighborList.clearCheckedFlag(approximate.elementAt(j));
+                if (Arrays.binarySearch(exact, neighbor) >= 0) {
+                    found++;
+                }
+            }
+        }
+        return total == 0 ? 1.0 : (double) found / total;
+    }
+}
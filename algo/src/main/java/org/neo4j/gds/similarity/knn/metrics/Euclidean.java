@@ -19,6 +19,8 @@
  */
 package org.neo4j.gds.similarity.knn.metrics;
 
+import org.neo4j.gds.core.utils.Intersections;
+
 /**
  * Here we calculate Euclidean similarity metrics using Euclidean dictance as described in e.g.
  * https://en.wikipedia.org/wiki/Euclidean_distance
@@ -34,21 +36,11 @@ public final class Euclidean {
 
     public static double floatMetric(float[] left, float[] right) {
         var len = Math.min(left.length, right.length);
-        var result = 0D;
-        for (int i = 0; i < len; i++) {
-            double delta = left[i] - right[i];
-            result += delta * delta;
-        }
-        return 1.0 / (1.0 + result);
+        return 1.0 / (1.0 + Intersections.sumSquareDeltaAsDouble(left, right, len));
     }
 
     public static double doubleMetric(double[] left, double[] right) {
         var len = Math.min(left.length, right.length);
-        var result = 0D;
-        for (int i = 0; i < len; i++) {
-            double delta = left[i] - right[i];
-            result += delta * delta;
-        }
-        return 1.0 / (1.0 + result);
+        return 1.0 / (1.0 + Intersections.sumSquareDelta(left, right, len));
     }
 }
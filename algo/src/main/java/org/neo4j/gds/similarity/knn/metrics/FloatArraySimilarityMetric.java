@@ -19,9 +19,24 @@
  */
 package org.neo4j.gds.similarity.knn.metrics;
 
-interface FloatArraySimilarityMetric {
+import java.util.Optional;
+
+public interface FloatArraySimilarityMetric {
     double compute(float[] left, float[] right);
 
+    static Optional<FloatArraySimilarityMetric> of(SimilarityMetric similarityMetric) {
+        switch (similarityMetric) {
+            case COSINE:
+                return Optional.of(Cosine::floatMetric);
+            case EUCLIDEAN:
+                return Optional.of(Euclidean::floatMetric);
+            case PEARSON:
+                return Optional.of(Pearson::floatMetric);
+            default:
+                return Optional.empty();
+        }
+    }
+
     default boolean isSymmetric() {
         return true;
     }
@@ -114,16 +114,9 @@ public interface SimilarityComputer {
     }
 
     static SimilarityComputer ofFloatArrayProperty(String name, NodePropertyValues properties, SimilarityMetric metric) {
-        switch (metric) {
-            case COSINE:
-                return new FloatArrayPropertySimilarityComputer(properties, Cosine::floatMetric);
-            case EUCLIDEAN:
-                return new FloatArrayPropertySimilarityComputer(properties, Euclidean::floatMetric);
-            case PEARSON:
-                return new FloatArrayPropertySimilarityComputer(properties, Pearson::floatMetric);
-            default:
-                throw unsupportedSimilarityMetric(name, properties.valueType(), metric);
-        }
+        return FloatArraySimilarityMetric.of(metric)
+            .map(floatArrayMetric -> (SimilarityComputer) new FloatArrayPropertySimilarityComputer(properties, floatArrayMetric))
+            .orElseThrow(() -> unsupportedSimilarityMetric(name, properties.valueType(), metric));
     }
 
     static SimilarityComputer ofDoubleArrayProperty(
@@ -20,6 +20,7 @@
 package org.neo4j.gds.similarity.nodesim;
 
 import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongArrayList;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.RelationshipConsumer;
@@ -217,6 +218,9 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
                     weights.set(node, vectorComputer.getWeights());
                 }
                 if (sortVectors) {
+                    if (!weighted) {
+                        return sortedDistinctTargets(vectorComputer.targetIds);
+                    }
                     Arrays.sort(vectorComputer.targetIds.buffer);
                 }
                 return vectorComputer.targetIds.buffer;
@@ -226,6 +230,23 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
         progressTracker.endSubTask();
     }
 
+    /**
+     * With multiple relationship types, relationships to the same target are not adjacent,
+     * so the vector computer cannot skip the duplicates while consuming them.
+     * The set intersections require strictly increasing vectors, hence we remove them after sorting.
+     */
+    private static long[] sortedDistinctTargets(LongArrayList targetIds) {
+        long[] targets = targetIds.toArray();
+        Arrays.sort(targets);
+        int distinct = 0;
+        for (int i = 0; i < targets.length; i++) {
+            if (i == 0 || targets[i] != targets[distinct - 1]) {
+                targets[distinct++] = targets[i];
+            }
+        }
+        return distinct == targets.length ? targets : Arrays.copyOf(targets, distinct);
+    }
+
     private Stream<SimilarityResult> computeSimilarityResultStream() {
         return (config.hasTopK() && config.hasTopN())
             ? computeTopN(computeTopKMap())
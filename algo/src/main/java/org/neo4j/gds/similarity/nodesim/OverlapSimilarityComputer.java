@@ -30,7 +30,7 @@ class OverlapSimilarityComputer implements MetricSimilarityComputer {
 
     @Override
     public double computeSimilarity(long[] vector1, long[] vector2) {
-        return OverlapSimilarity.computeSimilarity(vector1, vector2, similarityCutoff);
+        return OverlapSimilarity.computeSimilarityOfSets(vector1, vector2, similarityCutoff);
     }
 
     @Override
@@ -24,7 +24,11 @@ import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.AdjacencyCursor;
 import org.neo4j.gds.api.IntersectionConsumer;
 import org.neo4j.gds.api.RelationshipIntersect;
+import org.neo4j.gds.collections.ArrayUtil;
+import org.neo4j.gds.core.utils.Intersections;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
+import java.util.Arrays;
 import java.util.function.IntPredicate;
 
 import static org.neo4j.gds.api.AdjacencyCursor.NOT_FOUND;
@@ -42,10 +46,19 @@ public abstract class GraphIntersect<CURSOR extends AdjacencyCursor> implements
     private CURSOR cacheB;
     private final IntPredicate degreeFilter;
 
+    private final boolean useBlockedIntersection;
+    private long[] neighboursBufferA;
+    private long[] neighboursBufferB;
+    private long[] intersectionBuffer;
+
     protected GraphIntersect(long maxDegree) {
         this.degreeFilter = maxDegree < Long.MAX_VALUE
             ? (degree) -> degree <= maxDegree
             : (ignore) -> true;
+        this.useBlockedIntersection = GdsFeatureToggles.USE_BLOCKED_INTERSECTION.isEnabled();
+        this.neighboursBufferA = new long[0];
+        this.neighboursBufferB = new long[0];
+        this.intersectionBuffer = new long[0];
     }
 
     @Override
@@ -56,6 +69,11 @@ public abstract class GraphIntersect<CURSOR extends AdjacencyCursor> implements
             return;
         }
 
+        if (useBlockedIntersection) {
+            intersectAllBlocked(nodeA, degreeA, consumer);
+            return;
+        }
+
         CURSOR neighboursAMain = cursorForNode(cache, nodeA, degreeA);
         cache = neighboursAMain;
 
@@ -151,6 +169,74 @@ public abstract class GraphIntersect<CURSOR extends AdjacencyCursor> implements
         cacheB = neighboursB;
     }
 
+    /**
+     * Decodes the neighbours of A and B into buffers and intersects them block-wise,
+     * instead of advancing two cursors in lock step.
+     */
+    private void intersectAllBlocked(long nodeA, int degreeA, IntersectionConsumer consumer) {
+        cache = cursorForNode(cache, nodeA, degreeA);
+        neighboursBufferA = ensureCapacity(neighboursBufferA, degreeA);
+        int lengthA = decodeNeighboursAbove(cache, nodeA, neighboursBufferA);
+
+        for (int offsetB = 0; offsetB < lengthA; offsetB++) {
+            long nodeB = neighboursBufferA[offsetB];
+            int degreeB = degree(nodeB);
+            if (!degreeFilter.test(degreeB)) {
+                continue;
+            }
+
+            cacheB = cursorForNode(cacheB, nodeB, degreeB);
+            neighboursBufferB = ensureCapacity(neighboursBufferB, degreeB);
+            int lengthB = decodeNeighboursAbove(cacheB, nodeB, neighboursBufferB);
+
+            // every C is larger than B, so we only consider neighbours of A after B
+            intersectionBuffer = ensureCapacity(intersectionBuffer, Math.min(lengthA - offsetB, lengthB));
+            int triangles = Intersections.blockedIntersection(
+                neighboursBufferA,
+                offsetB + 1,
+                lengthA,
+                neighboursBufferB,
+                0,
+                lengthB,
+                intersectionBuffer
+            );
+
+            for (int i = 0; i < triangles; i++) {
+                long nodeC = intersectionBuffer[i];
+                if (degreeFilter.test(degree(nodeC))) {
+                    consumer.accept(nodeA, nodeB, nodeC);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the distinct neighbours larger than {@code node} into {@code buffer}.
+     * Dropping parallel relationships here keeps the buffers strictly increasing.
+     */
+    private static int decodeNeighboursAbove(AdjacencyCursor cursor, long node, long[] buffer) {
+        long target = cursor.skipUntil(node);
+        if (target == NOT_FOUND) {
+            return 0;
+        }
+
+        int length = 0;
+        buffer[length++] = target;
+        while (cursor.hasNextVLong()) {
+            target = cursor.nextVLong();
+            if (target != buffer[length - 1]) {
+                buffer[length++] = target;
+            }
+        }
+        return length;
+    }
+
+    private static long[] ensureCapacity(long[] buffer, int capacity) {
+        return buffer.length >= capacity
+            ? buffer
+            : Arrays.copyOf(buffer, ArrayUtil.oversize(capacity, Long.BYTES));
+    }
+
     private long checkForAndEmitTriangle(
         IntersectionConsumer consumer,
         long nodeA,
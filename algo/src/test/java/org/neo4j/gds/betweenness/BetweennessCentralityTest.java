@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.betweenness;
 
+import org.assertj.core.data.Offset;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -34,6 +35,7 @@ import org.neo4j.gds.core.utils.mem.MemoryRange;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.Map;
 import java.util.Optional;
@@ -152,6 +154,75 @@ class BetweennessCentralityTest {
         );
     }
 
+    @ParameterizedTest(name = "graph={1}, concurrency={0}, samplingSize={2}")
+    @MethodSource("org.neo4j.gds.betweenness.BetweennessCentralityTest#testArguments")
+    void offHeap(int concurrency, TestGraph graph, int samplingSize, Map<String, Double> expectedResult) {
+        var actualResult = new HugeAtomicDoubleArray[2];
+        GdsFeatureToggles.USE_OFF_HEAP_ARRAYS.enableAndRun(() -> {
+            actualResult[0] = new BetweennessCentrality(
+                graph,
+                new RandomDegreeSelectionStrategy(samplingSize, Optional.of(42L)),
+                ForwardTraverser.Factory.unweighted(),
+                Pools.DEFAULT,
+                concurrency,
+                ProgressTracker.NULL_TRACKER
+            ).compute();
+            actualResult[1] = new BetweennessCentrality(
+                graph,
+                new RandomDegreeSelectionStrategy(samplingSize, Optional.of(42L)),
+                DistanceTraverser.Factory.unweighted(),
+                false,
+                1,
+                Pools.DEFAULT,
+                concurrency,
+                ProgressTracker.NULL_TRACKER
+            ).compute();
+        });
+
+        for (var result : actualResult) {
+            assertEquals(expectedResult.size(), result.size());
+            expectedResult.forEach((variable, expectedCentrality) ->
+                assertEquals(expectedCentrality, result.get(graph.toMappedNodeId(variable)), variable)
+            );
+        }
+    }
+
+    static Stream<Arguments> predecessorFreeArguments() {
+        return crossArguments(
+            () -> Stream.of(1, 4).map(Arguments::of),
+            () -> Stream.of(1, 3, 64).map(Arguments::of),
+            BetweennessCentralityTest::expectedResults
+        );
+    }
+
+    @ParameterizedTest(name = "graph={2}, concurrency={0}, sourcesPerBatch={1}, samplingSize={3}")
+    @MethodSource("org.neo4j.gds.betweenness.BetweennessCentralityTest#predecessorFreeArguments")
+    void predecessorFree(
+        int concurrency,
+        int sourcesPerBatch,
+        TestGraph graph,
+        int samplingSize,
+        Map<String, Double> expectedResult
+    ) {
+        HugeAtomicDoubleArray actualResult = new BetweennessCentrality(
+            graph,
+            new RandomDegreeSelectionStrategy(samplingSize, Optional.of(42L)),
+            DistanceTraverser.Factory.unweighted(),
+            false,
+            sourcesPerBatch,
+            Pools.DEFAULT,
+            concurrency,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        assertEquals(expectedResult.size(), actualResult.size());
+        expectedResult.forEach((variable, expectedCentrality) ->
+            assertThat(actualResult.get(graph.toMappedNodeId(variable)))
+                .as(variable)
+                .isCloseTo(expectedCentrality, Offset.offset(1e-9))
+        );
+    }
+
     @ParameterizedTest
     @ValueSource(ints = {1, 4})
     void noSampling(int concurrency) {
@@ -20,6 +20,7 @@
 package org.neo4j.gds.betweenness;
 
 import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.data.Offset;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -113,6 +114,37 @@ class WeightedBetweennessCentralityTest {
         softAssertions.assertAll();
     }
 
+    @Test
+    void shouldComputeWithWeightsWithoutPredecessors() {
+        var expected = new BetweennessCentrality(
+            weightedGraph,
+            new FullSelectionStrategy(),
+            ForwardTraverser.Factory.weighted(),
+            Pools.DEFAULT,
+            1,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+        var actual = new BetweennessCentrality(
+            weightedGraph,
+            new FullSelectionStrategy(),
+            DistanceTraverser.Factory.weighted(),
+            true,
+            1,
+            Pools.DEFAULT,
+            4,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        SoftAssertions softAssertions = new SoftAssertions();
+        weightedGraph.forEachNode(nodeId -> {
+                softAssertions.assertThat(actual.get(nodeId)).isCloseTo(expected.get(nodeId), Offset.offset(1e-9));
+                return true;
+            }
+        );
+
+        softAssertions.assertAll();
+    }
+
     @Test
     void shouldComputeWithWeights() {
          var bc = new BetweennessCentrality(
@@ -21,6 +21,7 @@ package org.neo4j.gds.embeddings.hashgnn;
 
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.utils.paged.EmbeddingPrecision;
 
 import java.util.List;
 import java.util.Map;
@@ -41,6 +42,30 @@ class HashGNNConfigTest {
         var map = config.toMap();
         assertThat(map.get("binarizeFeatures")).isInstanceOf(Map.class);
     }
+    @Test
+    void shouldParseEmbeddingPrecision() {
+        var config = new HashGNNStreamConfigImpl(CypherMapWrapper.create(Map.of(
+            "featureProperties", List.of("x"),
+            "embeddingDensity", 4,
+            "iterations", 10,
+            "embeddingPrecision", "Float16"
+        )));
+
+        assertThat(config.embeddingPrecision()).isEqualTo(EmbeddingPrecision.FLOAT16);
+        assertThat(config.toMap()).containsEntry("embeddingPrecision", "float16");
+    }
+
+    @Test
+    void shouldDefaultToFullEmbeddingPrecision() {
+        var config = new HashGNNStreamConfigImpl(CypherMapWrapper.create(Map.of(
+            "featureProperties", List.of("x"),
+            "embeddingDensity", 4,
+            "iterations", 10
+        )));
+
+        assertThat(config.embeddingPrecision()).isEqualTo(EmbeddingPrecision.FLOAT);
+    }
+
     @Test
     void shouldNotAllowGeneratedAndFeatureProperties() {
         assertThatThrownBy(() -> {
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.embeddings.node2vec;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmbeddingPagesTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 128, 10_000})
+    void shouldStoreEmbeddingsAcrossPages(int dimension) {
+        long nodeCount = 1_000;
+        var pages = EmbeddingPages.create(nodeCount, dimension);
+
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            pages.set(nodeId, embedding(nodeId, dimension));
+        }
+
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            assertThat(pages.get(nodeId)).containsExactly(embedding(nodeId, dimension));
+            assertThat(pages.page(nodeId)[pages.offset(nodeId)]).isEqualTo((float) nodeId);
+        }
+
+        var vectors = pages.toFloatVectors();
+        assertThat(vectors.size()).isEqualTo(nodeCount);
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            assertThat(vectors.get(nodeId).data()).containsExactly(embedding(nodeId, dimension));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 128, 10_000})
+    void shouldEstimateMemory(int dimension) {
+        long nodeCount = 1_000;
+
+        assertThat(EmbeddingPages.memoryEstimation(nodeCount, dimension))
+            .isGreaterThanOrEqualTo(MemoryUsage.sizeOfFloatArray(nodeCount * dimension))
+            .isLessThan(2 * MemoryUsage.sizeOfFloatArray(nodeCount * dimension) + 1_000 * 32);
+    }
+
+    private static float[] embedding(long nodeId, int dimension) {
+        var embedding = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            embedding[i] = nodeId + i / (float) dimension;
+        }
+        return embedding;
+    }
+}
@@ -20,8 +20,10 @@
 package org.neo4j.gds.embeddings.node2vec;
 
 import org.junit.jupiter.api.Test;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -59,4 +61,29 @@ class NegativeSampleProducerTest {
         // We samples nodes with a probability of their number of occurrences^0.75 (16^0.75=12, 1^0.75=1)
         assertEquals(1.0 / 12, distribution.get(1L).doubleValue() / distribution.get(0L), 0.1);
     }
+
+    @Test
+    void shouldProduceSamplesFromSampleTable() {
+        // cumulative distribution, node 0 has a weight of 12 and node 1 a weight of 1
+        var sampler = new NegativeSampleProducer(HugeLongArray.of(12, 13), 13);
+
+        Map<Long, Integer> distribution = IntStream
+            .range(0, 13000)
+            .mapToObj(ignore -> sampler.next())
+            .collect(Collectors.toMap(
+                Function.identity(),
+                ignore -> 1,
+                Integer::sum
+            ));
+
+        assertEquals(Set.of(0L, 1L), distribution.keySet());
+        assertEquals(1.0 / 12, distribution.get(1L).doubleValue() / distribution.get(0L), 0.03);
+    }
+
+    @Test
+    void shouldDropUnlikelyNodesFromSmallSampleTable() {
+        var sampler = new NegativeSampleProducer(HugeLongArray.of(12, 13), 1);
+
+        IntStream.range(0, 100).forEach(ignore -> assertEquals(0L, sampler.next()));
+    }
 }
@@ -19,14 +19,17 @@
  */
 package org.neo4j.gds.embeddings.node2vec;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.utils.paged.EmbeddingPrecision;
 
 import java.util.Map;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class Node2VecBaseConfigTest {
@@ -47,4 +50,20 @@ class Node2VecBaseConfigTest {
             .hasMessageContaining(errorMessage);
     }
 
+    @Test
+    void shouldParseEmbeddingPrecision() {
+        var config = Node2VecStreamConfig.of(CypherMapWrapper.create(Map.of("embeddingPrecision", "int8")));
+
+        assertThat(config.embeddingPrecision()).isEqualTo(EmbeddingPrecision.INT8);
+        assertThat(config.toMap()).containsEntry("embeddingPrecision", "int8");
+    }
+
+    @Test
+    void shouldFailOnUnknownEmbeddingPrecision() {
+        var mapWrapper = CypherMapWrapper.create(Map.of("embeddingPrecision", "bfloat16"));
+        assertThatThrownBy(() -> Node2VecStreamConfig.of(mapWrapper))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Embedding precision must be one of [FLOAT, FLOAT16, INT8], but got `bfloat16`.");
+    }
+
 }
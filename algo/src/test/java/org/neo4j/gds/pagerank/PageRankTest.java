@@ -169,6 +169,48 @@ class PageRankTest {
             }
         }
 
+        @Test
+        void withConvergedSeed() {
+            var config = ImmutablePageRankStreamConfig.builder()
+                .maxIterations(40)
+                .concurrency(1)
+                .tolerance(0.1)
+                .seedProperty("expectedRank")
+                .build();
+
+            var pregelResult = runOnPregel(graph, config);
+
+            // the initial iteration sends the seeded scores, the second one finds nothing left to propagate
+            assertThat(pregelResult.iterations()).isEqualTo(2);
+
+            var actual = pregelResult.scores().asNodeProperties();
+            var expected = graph.nodeProperties("expectedRank");
+
+            for (int nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+                assertThat(actual.doubleValue(nodeId)).isEqualTo(expected.doubleValue(nodeId), within(SCORE_PRECISION));
+            }
+        }
+
+        @Test
+        void withDifferentSeed() {
+            var config = ImmutablePageRankStreamConfig.builder()
+                .maxIterations(100)
+                .concurrency(1)
+                .tolerance(0)
+                .seedProperty("expectedPersonalizedRank1")
+                .build();
+
+            var actual = runOnPregel(graph, config)
+                .scores()
+                .asNodeProperties();
+
+            var expected = graph.nodeProperties("expectedRank");
+
+            for (int nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+                assertThat(actual.doubleValue(nodeId)).isEqualTo(expected.doubleValue(nodeId), within(SCORE_PRECISION));
+            }
+        }
+
         @Test
         void shouldLogProgress() {
             var maxIterations = 10;
@@ -50,6 +50,21 @@ class FilteredKnnBaseConfigTest {
     @Inject
     IdFunction idFunction;
 
+    @ParameterizedTest
+    @MethodSource("configs")
+    void shouldRejectRecallTarget(Function<CypherMapWrapper, FilteredKnnBaseConfig> configFunction) {
+        assertThatThrownBy(
+            () -> configFunction.apply(
+                CypherMapWrapper.create(
+                    Map.of(
+                        "nodeProperties", List.of("dummy"),
+                        "recallTarget", 0.9
+                    )
+                )
+            )
+        ).hasMessageContaining("Filtered KNN does not support the `recallTarget` parameter.");
+    }
+
     @ParameterizedTest
     @MethodSource("configs")
     void shouldAcceptValidSourceNodeFilter(Function<CypherMapWrapper, FilteredKnnBaseConfig> configFunction) {
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.GraphDimensions;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.gdl.GdlFactory;
+import org.neo4j.gds.similarity.knn.metrics.Cosine;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfFloatArray;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+@GdlExtension
+class HnswIndexTest {
+
+    @GdlGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a { vector: [1.0f, 0.0f] })" +
+        ", (b { vector: [0.9f, 0.1f] })" +
+        ", (c { vector: [0.0f, 1.0f] })" +
+        ", (d { vector: [0.1f, 0.9f] })" +
+        ", (e { vector: [-1.0f, 0.0f] })" +
+        ", (f { })";
+
+    @Inject
+    private Graph graph;
+
+    @Inject
+    private IdFunction idFunction;
+
+    @Test
+    void shouldFindMostSimilarNodes() {
+        var index = buildIndex(graph, 1);
+
+        assertThat(index.query(idFunction.of("a"), 1, 10))
+            .extracting(SimilarNode::nodeId)
+            .containsExactly(idFunction.of("b"));
+        assertThat(index.query(idFunction.of("c"), 2, 10))
+            .extracting(SimilarNode::nodeId)
+            .containsExactly(idFunction.of("d"), idFunction.of("b"));
+        assertThat(index.query(new float[]{-1.0f, 0.1f}, 1, 10))
+            .extracting(SimilarNode::nodeId)
+            .containsExactly(idFunction.of("e"));
+    }
+
+    @Test
+    void shouldNotIndexNodesWithoutVector() {
+        var index = buildIndex(graph, 1);
+
+        assertThat(index.query(new float[]{0.5f, 0.5f}, 10, 10))
+            .extracting(SimilarNode::nodeId)
+            .doesNotContain(idFunction.of("f"))
+            .hasSize(5);
+        assertThatThrownBy(() -> index.query(idFunction.of("f"), 1, 10))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("has no value for the indexed property");
+    }
+
+    @Test
+    void shouldIndexDoubleArrays() {
+        var doubleGraph = GdlFactory.of(
+            "  (a { vector: [1.0, 0.0] })" +
+            ", (b { vector: [0.9, 0.1] })" +
+            ", (c { vector: [0.0, 1.0] })"
+        ).build().getUnion();
+
+        var index = buildIndex(doubleGraph, 1);
+
+        assertThat(index.dimension()).isEqualTo(2);
+        assertThat(index.query(new float[]{0.1f, 0.9f}, 1, 10))
+            .extracting(SimilarNode::nodeId)
+            .containsExactly(2L);
+    }
+
+    @Test
+    void shouldRememberThePropertyItWasBuiltFrom() {
+        var index = buildIndex(graph, 1);
+
+        assertThat(index.dimension()).isEqualTo(2);
+        assertThat(index.isBuiltFrom(graph.nodeProperties("vector"))).isTrue();
+        assertThat(index.isBuiltFrom(GdlFactory.of("({ vector: [1.0f] })").build().getUnion().nodeProperties("vector")))
+            .isFalse();
+    }
+
+    @Test
+    void shouldFailOnVectorsOfDifferentLengths() {
+        var mixedGraph = GdlFactory.of("({ vector: [1.0f, 0.0f] }), ({ vector: [1.0f] })").build().getUnion();
+
+        assertThatThrownBy(() -> buildIndex(mixedGraph, 1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("All vectors of the node property `vector` must have the same length, but found lengths 2 and 1.");
+    }
+
+    @Test
+    void shouldFailOnNonArrayProperty() {
+        var scalarGraph = GdlFactory.of("({ vector: 1.0 })").build().getUnion();
+
+        assertThatThrownBy(() -> buildIndex(scalarGraph, 1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("The node property `vector` must be of type FLOAT_ARRAY or DOUBLE_ARRAY, but was DOUBLE.");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldHaveHighRecall(int concurrency) {
+        var random = new Random(42);
+        var nodeCount = 1000;
+        var dimension = 8;
+        var gdl = LongStream.range(0, nodeCount).mapToObj(nodeId -> {
+            var vector = random.doubles(dimension, -1, 1)
+                .mapToObj(value -> formatWithLocale("%.4ff", value))
+                .collect(Collectors.joining(", "));
+            return formatWithLocale("(n%d { vector: [%s] })", nodeId, vector);
+        }).collect(Collectors.joining(", "));
+        var randomGraph = GdlFactory.of(gdl).build().getUnion();
+        var vectors = randomGraph.nodeProperties("vector");
+
+        var index = buildIndex(randomGraph, concurrency);
+
+        var topK = 10;
+        var found = 0L;
+        for (long node = 0; node < 100; node++) {
+            var nodeId = node;
+            var vector = vectors.floatArrayValue(nodeId);
+            var exact = LongStream.range(0, nodeCount)
+                .filter(other -> other != nodeId)
+                .boxed()
+                .sorted(Comparator.comparingDouble(other -> -Cosine.floatMetric(vector, vectors.floatArrayValue(other))))
+                .limit(topK)
+                .collect(Collectors.toSet());
+
+            found += index.query(nodeId, topK, 64).stream().filter(match -> exact.contains(match.nodeId())).count();
+        }
+
+        assertThat(found / (100.0 * topK)).isGreaterThanOrEqualTo(0.9);
+    }
+
+    @Test
+    void shouldEstimateTheVectorCopies() {
+        var config = HnswBaseConfig.of(CypherMapWrapper.create(Map.of("nodeProperty", "vector")));
+
+        var memoryUsage = HnswIndexBuilder.memoryEstimation(config)
+            .estimate(GraphDimensions.of(10_000), 4)
+            .memoryUsage();
+
+        assertThat(memoryUsage.min).isLessThan(memoryUsage.max);
+        assertThat(memoryUsage.max).isGreaterThan(10_000 * sizeOfFloatArray(128));
+    }
+
+    private static HnswIndex buildIndex(Graph graph, int concurrency) {
+        var config = HnswBaseConfig.of(CypherMapWrapper.create(Map.of(
+            "nodeProperty", "vector",
+            "concurrency", concurrency,
+            "randomSeed", 42L
+        )));
+        return new HnswIndexBuilder(
+            graph,
+            graph.nodeProperties("vector"),
+            config,
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+    }
+}
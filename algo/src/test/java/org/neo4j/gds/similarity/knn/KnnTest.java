@@ -55,6 +55,8 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
@@ -66,6 +68,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.neo4j.gds.assertj.Extractors.removingThreadId;
 import static org.neo4j.gds.assertj.Extractors.replaceTimings;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 @GdlExtension
 @ExtendWith(SoftAssertionsExtension.class)
@@ -646,6 +649,135 @@ class KnnTest {
 
     }
 
+    @Nested
+    class EarlyTerminationTest {
+
+        @GdlGraph
+        private static final String DB_CYPHER =
+            "CREATE" +
+            "  (a { knn: 1.2 } )" +
+            ", (b { knn: 1.1 } )" +
+            ", (c { knn: 2.1 } )" +
+            ", (d { knn: 3.1 } )" +
+            ", (e { knn: 4.1 } )" +
+            ", (f { knn: 5.1 } )" +
+            ", (g { knn: 6.1 } )" +
+            ", (h { knn: 7.1 } )" +
+            ", (j { knn: 42.0 } )";
+
+        @Test
+        void shouldStopWhenRecallTargetIsReached() {
+            var random = new SplittableRandom(42L);
+            var gdl = LongStream.range(0, 1000)
+                .mapToObj(i -> formatWithLocale("(n%d { knn: %f })", i, random.nextDouble() * 100))
+                .collect(Collectors.joining(", "));
+            var largeGraph = GdlFactory.of(gdl).build().getUnion();
+            var configBuilder = ImmutableKnnBaseConfig.builder()
+                .nodeProperties(List.of(new KnnNodePropertySpec("knn")))
+                .deltaThreshold(0)
+                .topK(10)
+                .sampleRate(0.3)
+                .maxIterations(100)
+                .randomSeed(42L)
+                .concurrency(1);
+
+            var exhaustive = Knn.createWithDefaults(largeGraph, configBuilder.build(), KnnContext.empty()).compute();
+            var result = Knn
+                .createWithDefaults(largeGraph, configBuilder.recallTarget(0.9).build(), KnnContext.empty())
+                .compute();
+
+            assertTrue(result.didConverge());
+            assertThat(result.ranIterations()).isLessThan(exhaustive.ranIterations());
+            // the recall is estimated on a sample, allow some slack for the recall over all nodes
+            assertThat(exactRecall(largeGraph, result, 10)).isGreaterThanOrEqualTo(0.85);
+        }
+
+        private double exactRecall(Graph graph, Knn.Result result, int topK) {
+            var properties = graph.nodeProperties("knn");
+            long found = 0;
+            long total = 0;
+            for (long node = 0; node < graph.nodeCount(); node++) {
+                var nodeId = node;
+                var value = properties.doubleValue(nodeId);
+                var exact = LongStream.range(0, graph.nodeCount())
+                    .filter(candidate -> candidate != nodeId)
+                    .boxed()
+                    .sorted(Comparator.comparingDouble(candidate -> Math.abs(properties.doubleValue(candidate) - value)))
+                    .limit(topK)
+                    .collect(Collectors.toSet());
+                total += exact.size();
+                found += result.neighborsOf(nodeId).filter(exact::contains).count();
+            }
+            return (double) found / total;
+        }
+
+        @Test
+        void shouldFindExactNeighborsWithFullRecallTarget() {
+            var config = ImmutableKnnBaseConfig.builder()
+                .nodeProperties(List.of(new KnnNodePropertySpec("knn")))
+                .deltaThreshold(0)
+                .topK(1)
+                .maxIterations(100)
+                .recallTarget(1.0)
+                .randomSeed(42L)
+                .concurrency(1)
+                .build();
+            var knn = Knn.createWithDefaults(graph, config, KnnContext.empty());
+            var result = knn.compute();
+
+            assertTrue(result.didConverge());
+            assertThat(result.neighborsOf(idFunction.of("a"))).containsExactly(idFunction.of("b"));
+            assertThat(result.neighborsOf(idFunction.of("j"))).containsExactly(idFunction.of("h"));
+        }
+
+        @Test
+        void shouldStreamEveryNeighborListExactlyOnce() {
+            var config = ImmutableKnnBaseConfig.builder()
+                .nodeProperties(List.of(new KnnNodePropertySpec("knn")))
+                .deltaThreshold(0)
+                .topK(2)
+                .maxIterations(10)
+                .concurrency(4)
+                .minBatchSize(1)
+                .build();
+            var knn = Knn.createWithDefaults(graph, config, KnnContext.empty());
+            var streamed = new ConcurrentHashMap<Long, long[]>();
+            knn.setFinalizedNeighborsConsumer((nodeId, neighbors, similarities) -> {
+                assertThat(neighbors).allSatisfy(neighbor -> assertThat(neighbor).isNotNegative());
+                assertThat(similarities).hasSameSizeAs(neighbors);
+                assertThat(streamed.put(nodeId, neighbors)).isNull();
+            });
+
+            var result = knn.compute();
+
+            assertThat(streamed).hasSize((int) graph.nodeCount());
+            streamed.forEach((nodeId, neighbors) -> assertThat(result.neighborsOf(nodeId).toArray()).containsExactly(neighbors));
+        }
+
+        @Test
+        void shouldNotChangeTheResultWhenStreamingNeighbors() {
+            var config = ImmutableKnnBaseConfig.builder()
+                .nodeProperties(List.of(new KnnNodePropertySpec("knn")))
+                .deltaThreshold(0)
+                .topK(2)
+                .maxIterations(10)
+                .randomSeed(42L)
+                .concurrency(1)
+                .build();
+
+            var expected = Knn.createWithDefaults(graph, config, KnnContext.empty()).compute();
+
+            var knn = Knn.createWithDefaults(graph, config, KnnContext.empty());
+            knn.setFinalizedNeighborsConsumer((nodeId, neighbors, similarities) -> {});
+            var result = knn.compute();
+
+            assertEquals(expected.ranIterations(), result.ranIterations());
+            for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+                assertThat(result.neighborsOf(nodeId).toArray()).containsExactly(expected.neighborsOf(nodeId).toArray());
+            }
+        }
+    }
+
     @Nested
     @ExtendWith(SoftAssertionsExtension.class)
     class RandomWalkInitialSamplerTest {
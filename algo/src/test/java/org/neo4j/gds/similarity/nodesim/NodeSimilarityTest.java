@@ -44,6 +44,7 @@ import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.extension.TestGraph;
 import org.neo4j.gds.similarity.SimilarityGraphResult;
 import org.neo4j.gds.similarity.SimilarityResult;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -118,6 +119,34 @@ final class NodeSimilarityTest {
         ", (d)-[:LIKES3 {prop: 1.0}]->(i2)" +
         ", (d)-[:LIKES1 {prop: 1.0}]->(i3)";
 
+    // same neighbourhoods as DB_CYPHER, but some targets are reached through several relationship types
+    @GdlGraph(graphNamePrefix = "naturalDuplicates", orientation = NATURAL)
+    private static final String DB_CYPHER_DUPLICATES =
+        "CREATE" +
+        "  (a:Person)" +
+        ", (b:Person)" +
+        ", (c:Person)" +
+        ", (d:Person)" +
+        ", (i1:Item)" +
+        ", (i2:Item)" +
+        ", (i3:Item)" +
+        ", (i4:Item)" +
+        ", (a)-[:LIKES1]->(i1)" +
+        ", (a)-[:LIKES2]->(i1)" +
+        ", (a)-[:LIKES1]->(i2)" +
+        ", (a)-[:LIKES2]->(i3)" +
+        ", (a)-[:LIKES3]->(i3)" +
+        ", (b)-[:LIKES1]->(i1)" +
+        ", (b)-[:LIKES2]->(i2)" +
+        ", (b)-[:LIKES3]->(i2)" +
+        ", (c)-[:LIKES1]->(i3)" +
+        ", (c)-[:LIKES2]->(i3)" +
+        ", (c)-[:LIKES3]->(i3)" +
+        ", (d)-[:LIKES1]->(i1)" +
+        ", (d)-[:LIKES2]->(i2)" +
+        ", (d)-[:LIKES3]->(i1)" +
+        ", (d)-[:LIKES3]->(i3)";
+
     @Inject
     private TestGraph naturalGraph;
 
@@ -130,6 +159,9 @@ final class NodeSimilarityTest {
     @Inject
     private TestGraph naturalUnionGraph;
 
+    @Inject
+    private TestGraph naturalDuplicatesGraph;
+
     private static final Collection<String> EXPECTED_OUTGOING = new HashSet<>();
     private static final Collection<String> EXPECTED_INCOMING = new HashSet<>();
 
@@ -498,6 +530,35 @@ final class NodeSimilarityTest {
         assertEquals(result1, result2);
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"JACCARD", "OVERLAP"})
+    void shouldIgnoreDuplicateTargetsOfDifferentRelationshipTypes(String metric) {
+        var config = configBuilder()
+            .concurrency(1)
+            .similarityMetric(MetricSimilarityComputer.parse(metric))
+            .build();
+
+        var expected = NodeSimilarity.create(naturalGraph, config, Pools.DEFAULT, ProgressTracker.NULL_TRACKER)
+            .computeToStream()
+            .collect(Collectors.toSet());
+
+        var scalar = new HashSet<SimilarityResult>();
+        GdsFeatureToggles.USE_BLOCKED_INTERSECTION.disableAndRun(() -> scalar.addAll(
+            NodeSimilarity.create(naturalDuplicatesGraph, config, Pools.DEFAULT, ProgressTracker.NULL_TRACKER)
+                .computeToStream()
+                .collect(Collectors.toSet())
+        ));
+        var blocked = new HashSet<SimilarityResult>();
+        GdsFeatureToggles.USE_BLOCKED_INTERSECTION.enableAndRun(() -> blocked.addAll(
+            NodeSimilarity.create(naturalDuplicatesGraph, config, Pools.DEFAULT, ProgressTracker.NULL_TRACKER)
+                .computeToStream()
+                .collect(Collectors.toSet())
+        ));
+
+        assertThat(scalar).isEqualTo(expected);
+        assertThat(blocked).isEqualTo(expected);
+    }
+
     @ParameterizedTest(name = "orientation: {0}, concurrency: {1}")
     @MethodSource("supportedLoadAndComputeDirections")
     void shouldComputeSimilarityGraphInAllSupportedDirections(Orientation orientation, int concurrency) {
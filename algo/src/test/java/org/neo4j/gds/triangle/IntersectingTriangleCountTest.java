@@ -27,7 +27,11 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.Orientation;
 import org.neo4j.gds.TestSupport;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.stream.Stream;
 
@@ -432,6 +436,33 @@ class IntersectingTriangleCountTest {
         assertEquals(0, result.localTriangles().get(14)); // o
     }
 
+    @ParameterizedTest
+    @ValueSource(longs = {Long.MAX_VALUE, 20})
+    void blockedIntersectionMatchesCursorIntersection(long maxDegree) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(10)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .direction(Direction.UNDIRECTED)
+            .seed(42)
+            .build()
+            .generate();
+
+        TriangleCountBaseConfig config = ImmutableTriangleCountBaseConfig
+            .builder()
+            .maxDegree(maxDegree)
+            .build();
+
+        var expected = compute(graph, config);
+        var actual = new TriangleCountResult[1];
+        GdsFeatureToggles.USE_BLOCKED_INTERSECTION.enableAndRun(() -> actual[0] = compute(graph, config));
+
+        assertEquals(expected.globalTriangles(), actual[0].globalTriangles());
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertEquals(expected.localTriangles().get(nodeId), actual[0].localTriangles().get(nodeId));
+        }
+    }
+
     @Test
     void testTriangleCountingWithMaxDegree() {
         var graph = fromGdl(
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks.compression;
+
+import org.neo4j.gds.api.AdjacencyList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time it takes to compress all adjacency lists of a graph,
+ * starting from the intermediate representation produced during loading.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AdjacencyCompressionBenchmark {
+
+    @Param({"VAR_LONG", "PACKED", "UNCOMPRESSED"})
+    public AdjacencyListType adjacencyListType;
+
+    @Param({"POWER_LAW", "UNIFORM", "BIPARTITE"})
+    public DegreeDistribution degreeDistribution;
+
+    @Param({"100000"})
+    public int nodeCount;
+
+    @Param({"32"})
+    public int averageDegree;
+
+    private AdjacencyListFixture fixture;
+    private byte[] buffer;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.fixture = AdjacencyListFixture.generate(degreeDistribution, nodeCount, averageDegree, 42L);
+        this.buffer = fixture.newBuffer();
+    }
+
+    @Benchmark
+    public AdjacencyList compress() {
+        return fixture.compress(adjacencyListType, buffer);
+    }
+}
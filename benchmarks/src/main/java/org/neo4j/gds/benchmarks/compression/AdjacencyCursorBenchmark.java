@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks.compression;
+
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the decoding throughput of {@link AdjacencyCursor}s over all nodes of a graph.
+ * Every benchmark method visits every adjacency list exactly once.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AdjacencyCursorBenchmark {
+
+    @Param({"VAR_LONG", "PACKED", "UNCOMPRESSED"})
+    public AdjacencyListType adjacencyListType;
+
+    @Param({"POWER_LAW", "UNIFORM", "BIPARTITE"})
+    public DegreeDistribution degreeDistribution;
+
+    @Param({"100000"})
+    public int nodeCount;
+
+    @Param({"32"})
+    public int averageDegree;
+
+    private AdjacencyList adjacencyList;
+    private AdjacencyCursor cursor;
+    private long[] skipTargets;
+    private int[] advanceSteps;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var fixture = AdjacencyListFixture.generate(degreeDistribution, nodeCount, averageDegree, 42L);
+        this.adjacencyList = fixture.compress(adjacencyListType, fixture.newBuffer());
+        this.cursor = adjacencyList.rawAdjacencyCursor();
+
+        var random = new SplittableRandom(1337L);
+        this.skipTargets = new long[nodeCount];
+        this.advanceSteps = new int[nodeCount];
+        for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+            skipTargets[nodeId] = random.nextLong(nodeCount);
+            advanceSteps[nodeId] = fixture.degree(nodeId) / 2;
+        }
+    }
+
+    @Benchmark
+    public void nextVLong(Blackhole bh) {
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            var cursor = adjacencyList.adjacencyCursor(this.cursor, nodeId);
+            while (cursor.hasNextVLong()) {
+                bh.consume(cursor.nextVLong());
+            }
+        }
+    }
+
+    @Benchmark
+    public void skipUntil(Blackhole bh) {
+        for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+            var cursor = adjacencyList.adjacencyCursor(this.cursor, nodeId);
+            bh.consume(cursor.skipUntil(skipTargets[nodeId]));
+        }
+    }
+
+    @Benchmark
+    public void advanceBy(Blackhole bh) {
+        for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+            var cursor = adjacencyList.adjacencyCursor(this.cursor, nodeId);
+            bh.consume(cursor.advanceBy(advanceSteps[nodeId]));
+        }
+    }
+}
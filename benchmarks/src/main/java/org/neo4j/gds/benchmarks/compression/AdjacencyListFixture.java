@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks.compression;
+
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.core.compression.common.ZigZagLongDecoding;
+
+import java.util.SplittableRandom;
+
+import static org.neo4j.gds.core.compression.common.VarLongEncoding.encodeVLongs;
+import static org.neo4j.gds.core.compression.common.VarLongEncoding.encodedVLongSize;
+import static org.neo4j.gds.core.compression.common.VarLongEncoding.zigZag;
+
+/**
+ * Pre-generated adjacency lists in the format that the adjacency compressors
+ * receive during graph loading, i.e. zig-zag delta encoded var-longs.
+ */
+final class AdjacencyListFixture {
+
+    private final long nodeCount;
+    private final byte[][] targets;
+    private final int[] degrees;
+    private final int maxByteSize;
+
+    static AdjacencyListFixture generate(
+        DegreeDistribution distribution,
+        int nodeCount,
+        int averageDegree,
+        long seed
+    ) {
+        var random = new SplittableRandom(seed);
+        var targets = new byte[nodeCount][];
+        var degrees = new int[nodeCount];
+        int maxByteSize = 0;
+
+        for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+            var values = distribution.targets(nodeId, nodeCount, averageDegree, random);
+            targets[nodeId] = zigZagEncode(values);
+            degrees[nodeId] = values.length;
+            maxByteSize = Math.max(maxByteSize, targets[nodeId].length);
+        }
+
+        return new AdjacencyListFixture(nodeCount, targets, degrees, maxByteSize);
+    }
+
+    private AdjacencyListFixture(
+        long nodeCount,
+        byte[][] targets,
+        int[] degrees,
+        int maxByteSize
+    ) {
+        this.nodeCount = nodeCount;
+        this.targets = targets;
+        this.degrees = degrees;
+        this.maxByteSize = maxByteSize;
+    }
+
+    long nodeCount() {
+        return nodeCount;
+    }
+
+    int degree(long nodeId) {
+        return degrees[(int) nodeId];
+    }
+
+    /**
+     * A buffer that is large enough to hold the input of any single adjacency list.
+     * The compressors overwrite their input, so every invocation needs to work on a copy.
+     */
+    byte[] newBuffer() {
+        return new byte[maxByteSize];
+    }
+
+    /**
+     * Compresses all adjacency lists using the given implementation.
+     */
+    AdjacencyList compress(AdjacencyListType type, byte[] buffer) {
+        var factory = type.compressorFactory(this::nodeCount);
+        factory.init();
+
+        try (var compressor = factory.createCompressor()) {
+            for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+                int degree = degrees[nodeId];
+                if (degree == 0) {
+                    continue;
+                }
+                var input = targets[nodeId];
+                System.arraycopy(input, 0, buffer, 0, input.length);
+                compressor.compress(
+                    nodeId,
+                    buffer,
+                    null,
+                    degree,
+                    input.length,
+                    ZigZagLongDecoding.Identity.INSTANCE
+                );
+            }
+        }
+
+        return factory.build().adjacency();
+    }
+
+    private static byte[] zigZagEncode(long[] values) {
+        var encoded = new long[values.length];
+        long lastValue = 0L;
+        int requiredBytes = 0;
+        for (int i = 0; i < values.length; i++) {
+            encoded[i] = zigZag(values[i] - lastValue);
+            lastValue = values[i];
+            requiredBytes += encodedVLongSize(encoded[i]);
+        }
+        var out = new byte[requiredBytes];
+        encodeVLongs(encoded, 0, encoded.length, out, 0);
+        return out;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks.compression;
+
+import org.neo4j.gds.PropertyMappings;
+import org.neo4j.gds.api.compress.AdjacencyCompressorFactory;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.loading.AdjacencyListBehavior;
+
+import java.util.function.LongSupplier;
+
+/**
+ * The adjacency list implementations that are benchmarked.
+ */
+public enum AdjacencyListType {
+    VAR_LONG {
+        @Override
+        AdjacencyCompressorFactory compressorFactory(LongSupplier nodeCount) {
+            return AdjacencyListBehavior.compressed(nodeCount, PropertyMappings.of(), AGGREGATIONS, true);
+        }
+    },
+    PACKED {
+        @Override
+        AdjacencyCompressorFactory compressorFactory(LongSupplier nodeCount) {
+            return AdjacencyListBehavior.packed(nodeCount, PropertyMappings.of(), AGGREGATIONS, true);
+        }
+    },
+    UNCOMPRESSED {
+        @Override
+        AdjacencyCompressorFactory compressorFactory(LongSupplier nodeCount) {
+            return AdjacencyListBehavior.uncompressed(nodeCount, PropertyMappings.of(), AGGREGATIONS, true);
+        }
+    };
+
+    private static final Aggregation[] AGGREGATIONS = {Aggregation.NONE};
+
+    abstract AdjacencyCompressorFactory compressorFactory(LongSupplier nodeCount);
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks.compression;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Degree distributions used to generate the adjacency lists that are benchmarked.
+ */
+public enum DegreeDistribution {
+    /**
+     * Few hub nodes with very large degrees and a long tail of nodes with small degrees,
+     * as found in social and web graphs.
+     */
+    POWER_LAW {
+        @Override
+        long[] targets(long nodeId, long nodeCount, int averageDegree, SplittableRandom random) {
+            // Pareto distribution with alpha = 2 has a mean of 2 * minDegree
+            double minDegree = Math.max(1.0, averageDegree / 2.0);
+            double u = random.nextDouble();
+            int degree = (int) Math.min(MAX_DEGREE, minDegree / Math.sqrt(1.0 - u));
+            return sortedTargets(degree, 0, nodeCount, random);
+        }
+    },
+    /**
+     * Every node has roughly the same degree, targets are chosen uniformly at random.
+     */
+    UNIFORM {
+        @Override
+        long[] targets(long nodeId, long nodeCount, int averageDegree, SplittableRandom random) {
+            int degree = random.nextInt(averageDegree / 2, averageDegree + averageDegree / 2 + 1);
+            return sortedTargets(degree, 0, nodeCount, random);
+        }
+    },
+    /**
+     * The nodes are split into two halves and every node only connects to nodes of the other half.
+     * This leads to larger deltas between consecutive targets than the other distributions.
+     */
+    BIPARTITE {
+        @Override
+        long[] targets(long nodeId, long nodeCount, int averageDegree, SplittableRandom random) {
+            long half = nodeCount / 2;
+            int degree = random.nextInt(averageDegree / 2, averageDegree + averageDegree / 2 + 1);
+            return nodeId < half
+                ? sortedTargets(degree, half, nodeCount, random)
+                : sortedTargets(degree, 0, half, random);
+        }
+    };
+
+    private static final int MAX_DEGREE = 1 << 20;
+
+    abstract long[] targets(long nodeId, long nodeCount, int averageDegree, SplittableRandom random);
+
+    private static long[] sortedTargets(int degree, long lowerBound, long upperBound, SplittableRandom random) {
+        var targets = new long[(int) Math.min(degree, upperBound - lowerBound)];
+        for (int i = 0; i < targets.length; i++) {
+            targets[i] = random.nextLong(lowerBound, upperBound);
+        }
+        Arrays.sort(targets);
+        return targets;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks.ml;
+
+import org.neo4j.gds.ml.core.ComputationContext;
+import org.neo4j.gds.ml.core.Variable;
+import org.neo4j.gds.ml.core.functions.Constant;
+import org.neo4j.gds.ml.core.functions.CrossEntropyLoss;
+import org.neo4j.gds.ml.core.functions.MatrixMultiplyWithTransposedSecondOperand;
+import org.neo4j.gds.ml.core.functions.MatrixVectorSum;
+import org.neo4j.gds.ml.core.functions.Relu;
+import org.neo4j.gds.ml.core.functions.Softmax;
+import org.neo4j.gds.ml.core.functions.Weights;
+import org.neo4j.gds.ml.core.tensor.Matrix;
+import org.neo4j.gds.ml.core.tensor.Scalar;
+import org.neo4j.gds.ml.core.tensor.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs forward and backward propagation of a one hidden layer perceptron for a single training batch,
+ * either with a new computation context per batch or with one context that reuses its buffers.
+ * Run with the GC profiler to compare the allocation rate per batch ({@code gc.alloc.rate.norm}):
+ *
+ * <pre>
+ * ./gradlew :benchmarks:jmh -Pjmh.includes=ComputationContextBenchmark -Pjmh.profilers=gc
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ComputationContextBenchmark {
+
+    private static final int HIDDEN_LAYER_SIZE = 64;
+    private static final int CLASS_COUNT = 8;
+
+    @Param({"100", "1000"})
+    public int batchSize;
+
+    @Param({"32", "256"})
+    public int featureCount;
+
+    private Constant<Matrix> features;
+    private Constant<Vector> labels;
+    private Weights<Matrix> hiddenWeights;
+    private Weights<Vector> hiddenBias;
+    private Weights<Matrix> outputWeights;
+    private Weights<Vector> outputBias;
+    private double[] classWeights;
+
+    private ComputationContext reusingContext;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var random = new SplittableRandom(42L);
+
+        this.features = new Constant<>(randomMatrix(random, batchSize, featureCount));
+        var labelData = new double[batchSize];
+        Arrays.setAll(labelData, i -> random.nextInt(CLASS_COUNT));
+        this.labels = new Constant<>(new Vector(labelData));
+
+        this.hiddenWeights = new Weights<>(randomMatrix(random, HIDDEN_LAYER_SIZE, featureCount));
+        this.hiddenBias = new Weights<>(new Vector(HIDDEN_LAYER_SIZE));
+        this.outputWeights = new Weights<>(randomMatrix(random, CLASS_COUNT, HIDDEN_LAYER_SIZE));
+        this.outputBias = new Weights<>(new Vector(CLASS_COUNT));
+        this.classWeights = new double[CLASS_COUNT];
+        Arrays.fill(classWeights, 1D);
+
+        this.reusingContext = ComputationContext.reusingBuffers();
+    }
+
+    @Benchmark
+    public void newContextPerBatch(Blackhole bh) {
+        var ctx = new ComputationContext();
+        runBatch(ctx, bh);
+    }
+
+    @Benchmark
+    public void reusedContext(Blackhole bh) {
+        runBatch(reusingContext, bh);
+        reusingContext.reset();
+    }
+
+    private void runBatch(ComputationContext ctx, Blackhole bh) {
+        // the variables are created per batch, as done by the objectives used in training
+        var loss = loss();
+        bh.consume(ctx.forward(loss).value());
+        ctx.backward(loss);
+        bh.consume(ctx.gradient(hiddenWeights).dataAt(0));
+        bh.consume(ctx.gradient(outputWeights).dataAt(0));
+    }
+
+    private Variable<Scalar> loss() {
+        var hidden = new Relu<>(new MatrixVectorSum(
+            MatrixMultiplyWithTransposedSecondOperand.of(features, hiddenWeights),
+            hiddenBias
+        ));
+        var predictions = new Softmax(new MatrixVectorSum(
+            MatrixMultiplyWithTransposedSecondOperand.of(hidden, outputWeights),
+            outputBias
+        ));
+        return new CrossEntropyLoss(predictions, labels, classWeights);
+    }
+
+    private static Matrix randomMatrix(SplittableRandom random, int rows, int cols) {
+        var data = new double[rows * cols];
+        Arrays.setAll(data, i -> random.nextDouble(-1, 1));
+        return new Matrix(data, rows, cols);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks.ml;
+
+import org.ejml.dense.row.mult.MatrixMatrixMult_DDRM;
+import org.neo4j.gds.ml.core.tensor.Matrix;
+import org.neo4j.gds.ml.core.tensor.operations.DoubleMatrixOperations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the blocked matrix products of {@link DoubleMatrixOperations} against the EJML kernels
+ * for the shapes of a GraphSage layer: a batch of node representations times the transposed layer weights
+ * in the forward pass, and the two products of the backward pass.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MatrixMultiplicationBenchmark {
+
+    @Param({"100", "1000"})
+    public int batchSize;
+
+    @Param({"64", "256", "512"})
+    public int inputDimension;
+
+    @Param({"64", "256"})
+    public int embeddingDimension;
+
+    // batchSize x inputDimension
+    private Matrix input;
+    // embeddingDimension x inputDimension
+    private Matrix weights;
+    // batchSize x embeddingDimension
+    private Matrix outputGradient;
+
+    private Matrix forwardResult;
+    private Matrix inputGradientResult;
+    private Matrix weightsGradientResult;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var random = new SplittableRandom(42L);
+        this.input = randomMatrix(random, batchSize, inputDimension);
+        this.weights = randomMatrix(random, embeddingDimension, inputDimension);
+        this.outputGradient = randomMatrix(random, batchSize, embeddingDimension);
+
+        this.forwardResult = new Matrix(batchSize, embeddingDimension);
+        this.inputGradientResult = new Matrix(batchSize, inputDimension);
+        this.weightsGradientResult = new Matrix(embeddingDimension, inputDimension);
+    }
+
+    @Benchmark
+    public Matrix forwardBlocked() {
+        DoubleMatrixOperations.multTransB(input, weights, forwardResult);
+        return forwardResult;
+    }
+
+    @Benchmark
+    public Matrix forwardEjml() {
+        MatrixMatrixMult_DDRM.multTransB(input.toEjml(), weights.toEjml(), forwardResult.toEjml());
+        return forwardResult;
+    }
+
+    @Benchmark
+    public Matrix inputGradientBlocked() {
+        DoubleMatrixOperations.mult(outputGradient, weights, inputGradientResult);
+        return inputGradientResult;
+    }
+
+    @Benchmark
+    public Matrix inputGradientEjml() {
+        MatrixMatrixMult_DDRM.mult_reorder(outputGradient.toEjml(), weights.toEjml(), inputGradientResult.toEjml());
+        return inputGradientResult;
+    }
+
+    @Benchmark
+    public Matrix weightsGradientBlocked() {
+        DoubleMatrixOperations.multTransA(outputGradient, input, weightsGradientResult);
+        return weightsGradientResult;
+    }
+
+    @Benchmark
+    public Matrix weightsGradientEjml() {
+        MatrixMatrixMult_DDRM.multTransA_reorder(outputGradient.toEjml(), input.toEjml(), weightsGradientResult.toEjml());
+        return weightsGradientResult;
+    }
+
+    private static Matrix randomMatrix(SplittableRandom random, int rows, int cols) {
+        var data = new double[rows * cols];
+        Arrays.setAll(data, i -> random.nextDouble(-1, 1));
+        return new Matrix(data, rows, cols);
+    }
+}
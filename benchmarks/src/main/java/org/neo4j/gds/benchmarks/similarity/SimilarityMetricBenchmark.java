@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmarks.similarity;
+
+import org.neo4j.gds.similarity.knn.metrics.Cosine;
+import org.neo4j.gds.similarity.knn.metrics.Euclidean;
+import org.neo4j.gds.similarity.knn.metrics.Pearson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the float array similarity metrics used by KNN against straightforward sequential loops.
+ * Every invocation computes the similarity of {@link #PAIRS} pairs of vectors, reported per pair.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SimilarityMetricBenchmark {
+
+    private static final int PAIRS = 1024;
+
+    @Param({"64", "128", "256", "512", "1024"})
+    public int dimension;
+
+    private float[][] left;
+    private float[][] right;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var random = new SplittableRandom(42L);
+        this.left = new float[PAIRS][dimension];
+        this.right = new float[PAIRS][dimension];
+        for (int pair = 0; pair < PAIRS; pair++) {
+            for (int i = 0; i < dimension; i++) {
+                left[pair][i] = (float) random.nextDouble(-1, 1);
+                right[pair][i] = (float) random.nextDouble(-1, 1);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public void cosine(Blackhole bh) {
+        for (int pair = 0; pair < PAIRS; pair++) {
+            bh.consume(Cosine.floatMetric(left[pair], right[pair]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public void cosineSequential(Blackhole bh) {
+        for (int pair = 0; pair < PAIRS; pair++) {
+            bh.consume(sequentialCosine(left[pair], right[pair]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public void euclidean(Blackhole bh) {
+        for (int pair = 0; pair < PAIRS; pair++) {
+            bh.consume(Euclidean.floatMetric(left[pair], right[pair]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public void euclideanSequential(Blackhole bh) {
+        for (int pair = 0; pair < PAIRS; pair++) {
+            bh.consume(sequentialEuclidean(left[pair], right[pair]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public void pearson(Blackhole bh) {
+        for (int pair = 0; pair < PAIRS; pair++) {
+            bh.consume(Pearson.floatMetric(left[pair], right[pair]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public void pearsonSequential(Blackhole bh) {
+        for (int pair = 0; pair < PAIRS; pair++) {
+            bh.consume(sequentialPearson(left[pair], right[pair]));
+        }
+    }
+
+    // The sequential variants are the metrics as they were implemented before unrolling.
+
+    private static double sequentialCosine(float[] left, float[] right) {
+        float dotProduct = 0F;
+        float xLength = 0F;
+        float yLength = 0F;
+        for (int i = 0; i < left.length; i++) {
+            dotProduct += left[i] * right[i];
+            xLength += left[i] * left[i];
+            yLength += right[i] * right[i];
+        }
+        var cosine = (float) (dotProduct / Math.sqrt(xLength * yLength));
+        return (cosine + 1) / 2;
+    }
+
+    private static double sequentialEuclidean(float[] left, float[] right) {
+        var result = 0D;
+        for (int i = 0; i < left.length; i++) {
+            double delta = left[i] - right[i];
+            result += delta * delta;
+        }
+        return 1.0 / (1.0 + result);
+    }
+
+    private static double sequentialPearson(float[] a, float[] b) {
+        int n = a.length;
+        double sumA = 0d;
+        double sumB = 0d;
+        for (int i = 0; i < n; i++) {
+            sumA += a[i];
+            sumB += b[i];
+        }
+        double meanA = sumA / n;
+        double meanB = sumB / n;
+
+        double sumOfProductOfADeltaBDelta = 0d;
+        double sumOfADeltaSquared = 0d;
+        double sumOfBDeltaSquared = 0d;
+        for (int i = 0; i < n; i++) {
+            double aDelta = a[i] - meanA;
+            double bDelta = b[i] - meanB;
+            sumOfProductOfADeltaBDelta += aDelta * bDelta;
+            sumOfADeltaSquared += aDelta * aDelta;
+            sumOfBDeltaSquared += bDelta * bDelta;
+        }
+        double r = sumOfProductOfADeltaBDelta / Math.sqrt(sumOfADeltaSquared * sumOfBDeltaSquared);
+        return (r + 1) / 2;
+    }
+}
@@ -201,4 +201,93 @@ public abstract class HugeCursor<Array> implements AutoCloseable {
             pageIndex = -1;
         }
     }
+
+    /**
+     * A cursor over data that is not stored in Java arrays, for example in off-heap memory.
+     * The data is copied page-wise into a reusable buffer which is exposed as {@link #array}.
+     * When the cursor moves to the next page or is closed, the values that have been changed in the buffer
+     * are written back. Unchanged values are not written, so read-only traversals do not overwrite concurrent writes.
+     */
+    public static final class BufferedCursor<Array> extends HugeCursor<Array> {
+
+        public interface PageIO<Array> {
+            /**
+             * Copies {@code length} values, starting at the global index {@code base}, into {@code buffer[0, length)}.
+             */
+            void read(long base, Array buffer, int length);
+
+            /**
+             * Copies the values of {@code buffer[0, length)} that differ from {@code original[0, length)}
+             * back to their global indices, starting at {@code base}.
+             */
+            void write(long base, Array buffer, Array original, int length);
+        }
+
+        private PageIO<Array> io;
+        private Array original;
+        private long capacity;
+        private int bufferLength;
+        private long nextBase;
+        private long end;
+
+        @SuppressWarnings("unchecked")
+        public BufferedCursor(long capacity, Array buffer, PageIO<Array> io) {
+            super();
+            this.capacity = capacity;
+            this.array = buffer;
+            this.bufferLength = getLength(buffer);
+            this.original = (Array) java.lang.reflect.Array.newInstance(
+                buffer.getClass().getComponentType(),
+                bufferLength
+            );
+            this.io = io;
+        }
+
+        @Override
+        void setRange() {
+            setRange(0L, capacity);
+        }
+
+        @Override
+        public void setRange(long start, long end) {
+            flush();
+            this.nextBase = start;
+            this.end = end;
+        }
+
+        @Override
+        public boolean next() {
+            flush();
+            if (nextBase >= end) {
+                return false;
+            }
+            int length = (int) Math.min(bufferLength, end - nextBase);
+            io.read(nextBase, array, length);
+            System.arraycopy(array, 0, original, 0, length);
+            base = nextBase;
+            offset = 0;
+            limit = length;
+            nextBase += length;
+            return true;
+        }
+
+        @Override
+        public void close() {
+            flush();
+            array = null;
+            original = null;
+            io = null;
+            base = 0L;
+            end = 0L;
+            limit = 0;
+            capacity = 0L;
+        }
+
+        private void flush() {
+            if (limit > 0) {
+                io.write(base, array, original, limit);
+                limit = 0;
+            }
+        }
+    }
 }
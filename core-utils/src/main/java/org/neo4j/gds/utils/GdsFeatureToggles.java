@@ -24,6 +24,7 @@ import org.jetbrains.annotations.TestOnly;
 
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 public enum GdsFeatureToggles {
 
@@ -35,7 +36,11 @@ public enum GdsFeatureToggles {
     USE_SHARDED_ID_MAP(false),
     USE_UNCOMPRESSED_ADJACENCY_LIST(false),
     USE_PACKED_ADJACENCY_LIST(false),
+    USE_MAPPED_ADJACENCY_LIST(false),
     USE_REORDERED_ADJACENCY_LIST(false),
+    USE_BLOCKED_INTERSECTION(false),
+    USE_PREDECESSOR_FREE_BETWEENNESS(false),
+    USE_OFF_HEAP_ARRAYS(false),
     ENABLE_ARROW_DATABASE_IMPORT(true),
     THROW_WHEN_USING_PROGRESS_TRACKER_WITHOUT_TASKS(false);
 
@@ -101,6 +106,28 @@ public enum GdsFeatureToggles {
     );
     public static final AtomicInteger PAGES_PER_THREAD = new AtomicInteger(PAGES_PER_THREAD_FLAG);
 
+    // How many source nodes a thread traverses at once in predecessor-free Betweenness Centrality.
+    // Only used if USE_PREDECESSOR_FREE_BETWEENNESS is enabled and the graph is unweighted.
+    // Each additional source adds per-node state to every thread, so this trades memory for shared traversals.
+    public static final int BETWEENNESS_SOURCES_PER_BATCH_DEFAULT_SETTING = 1;
+    private static final int BETWEENNESS_SOURCES_PER_BATCH_FLAG = Integer.getInteger(
+        name(GdsFeatureToggles.class, "betweennessSourcesPerBatch"),
+        BETWEENNESS_SOURCES_PER_BATCH_DEFAULT_SETTING
+    );
+    public static final AtomicInteger BETWEENNESS_SOURCES_PER_BATCH = new AtomicInteger(
+        BETWEENNESS_SOURCES_PER_BATCH_FLAG
+    );
+
+    // The directory into which memory-mapped adjacency lists are spilled.
+    // Only used if USE_MAPPED_ADJACENCY_LIST is enabled.
+    private static final String MAPPED_ADJACENCY_LIST_DIRECTORY_FLAG = System.getProperty(
+        name(GdsFeatureToggles.class, "mappedAdjacencyListDirectory"),
+        System.getProperty("java.io.tmpdir")
+    );
+    public static final AtomicReference<String> MAPPED_ADJACENCY_LIST_DIRECTORY = new AtomicReference<>(
+        MAPPED_ADJACENCY_LIST_DIRECTORY_FLAG
+    );
+
     private static String name(Class<?> location, String name) {
         return location.getCanonicalName() + "." + name;
     }
@@ -21,27 +21,44 @@ package org.neo4j.gds.core.write;
 
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.api.nodeproperties.ValueType;
-import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.transaction.TransactionContext;
+import org.neo4j.gds.utils.ExceptionUtil;
 import org.neo4j.gds.utils.StatementApi;
+import org.neo4j.kernel.api.exceptions.Status;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.function.LongUnaryOperator;
 import java.util.stream.Stream;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 public final class NativeRelationshipStreamExporter extends StatementApi implements RelationshipStreamExporter {
 
-    private static final int QUEUE_CAPACITY = 2;
+    static final int DEFAULT_MAX_IN_FLIGHT_BATCHES = 1;
+
+    // Source nodes are split into blocks of this size, see `writerIndex`.
+    private static final int SOURCE_NODE_BLOCK_SHIFT = 12;
+    private static final int MAX_TRANSIENT_RETRIES = 3;
+    private static final long INITIAL_BACKOFF_MILLIS = 50;
+    private static final long POLL_TIMEOUT_MILLIS = 10;
+    private static final long THROUGHPUT_LOG_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
 
     private final LongUnaryOperator toOriginalId;
     private final Stream<ExportedRelationship> relationships;
     private final int batchSize;
+    private final int writeConcurrency;
+    private final int maxInFlightBatches;
+    private final ExecutorService executorService;
     private final TerminationFlag terminationFlag;
     private final ProgressTracker progressTracker;
 
@@ -62,6 +79,9 @@ public final class NativeRelationshipStreamExporter extends StatementApi impleme
         LongUnaryOperator toOriginalId,
         Stream<ExportedRelationship> relationships,
         int batchSize,
+        int writeConcurrency,
+        int maxInFlightBatches,
+        ExecutorService executorService,
         TerminationFlag terminationFlag,
         ProgressTracker progressTracker
     ) {
@@ -69,6 +89,9 @@ public final class NativeRelationshipStreamExporter extends StatementApi impleme
         this.toOriginalId = toOriginalId;
         this.relationships = relationships.sequential();
         this.batchSize = batchSize;
+        this.writeConcurrency = Math.max(1, writeConcurrency);
+        this.maxInFlightBatches = Math.max(1, maxInFlightBatches);
+        this.executorService = executorService;
         this.terminationFlag = terminationFlag;
         this.progressTracker = progressTracker;
     }
@@ -77,62 +100,137 @@ public final class NativeRelationshipStreamExporter extends StatementApi impleme
     public long write(String relationshipType, List<String> propertyKeys, List<ValueType> __) {
         progressTracker.beginSubTask();
 
+        var futures = new ArrayList<Future<?>>(writeConcurrency);
+        boolean completed = false;
         try {
             var relationshipToken = getOrCreateRelationshipToken(relationshipType);
             var propertyTokens = propertyKeys.stream().mapToInt(this::getOrCreatePropertyToken).toArray();
 
-            var writeQueue = new LinkedBlockingQueue<Buffer>(QUEUE_CAPACITY);
-            var bufferPool = new LinkedBlockingQueue<Buffer>(QUEUE_CAPACITY);
-            for (int i = 0; i < QUEUE_CAPACITY; i++) {
-                bufferPool.add(new Buffer(batchSize));
-            }
-
-            var writer = new Writer(
-                tx,
-                progressTracker,
-                toOriginalId,
-                writeQueue,
-                bufferPool,
-                relationshipToken,
-                propertyTokens,
-                terminationFlag
-            );
-            var consumer = Pools.DEFAULT.submit(writer);
+            // Each writer owns its queue and its buffers. The producer holds one buffer per writer
+            // while up to `maxInFlightBatches` full buffers are queued or being written.
+            // Once a writer runs out of buffers, the producer blocks until that writer catches up.
+            var writers = new Writer[writeConcurrency];
+            var currentBuffers = new Buffer[writeConcurrency];
+            for (int writerIndex = 0; writerIndex < writeConcurrency; writerIndex++) {
+                var writeQueue = new LinkedBlockingQueue<Buffer>(maxInFlightBatches + 1);
+                var bufferPool = new LinkedBlockingQueue<Buffer>(maxInFlightBatches + 1);
+                for (int i = 0; i <= maxInFlightBatches; i++) {
+                    bufferPool.add(new Buffer(batchSize));
+                }
 
-            var bufferRef = new AtomicReference<>(bufferPool.poll());
+                writers[writerIndex] = new Writer(
+                    tx,
+                    progressTracker,
+                    toOriginalId,
+                    writeQueue,
+                    bufferPool,
+                    relationshipToken,
+                    propertyTokens,
+                    terminationFlag,
+                    writerIndex,
+                    writeConcurrency > 1
+                );
+                futures.add(executorService.submit(writers[writerIndex]));
+                currentBuffers[writerIndex] = bufferPool.poll();
+            }
 
             relationships.forEach(relationship -> {
-                var buffer = bufferRef.get();
+                var writerIndex = writerIndex(relationship.sourceNode());
+                var buffer = currentBuffers[writerIndex];
                 buffer.add(relationship);
                 if (buffer.isFull()) {
-                    try {
-                        writeQueue.put(buffer);
-                        bufferRef.set(bufferPool.take());
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        throw new RuntimeException(e);
-                    }
+                    var writer = writers[writerIndex];
+                    var future = futures.get(writerIndex);
+                    put(writer.writeQueue, buffer, future);
+                    currentBuffers[writerIndex] = take(writer.bufferPool, future);
                 }
             });
 
-            try {
-                writeQueue.put(bufferRef.get());
+            for (int writerIndex = 0; writerIndex < writeConcurrency; writerIndex++) {
+                var writeQueue = writers[writerIndex].writeQueue;
+                var future = futures.get(writerIndex);
+                if (currentBuffers[writerIndex].size > 0) {
+                    put(writeQueue, currentBuffers[writerIndex], future);
+                }
                 // Add an empty buffer to signal end of writing
-                writeQueue.put(new Buffer(0));
-                consumer.get();
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                throw new RuntimeException(e);
-            } catch (ExecutionException e) {
-                throw new RuntimeException(e);
+                put(writeQueue, new Buffer(0), future);
+            }
+
+            long written = 0;
+            for (int writerIndex = 0; writerIndex < writeConcurrency; writerIndex++) {
+                await(futures.get(writerIndex));
+                written += writers[writerIndex].written;
             }
 
-            return writer.written;
+            completed = true;
+            return written;
         } finally {
+            // If the stream or one of the writers failed, the remaining writers never receive
+            // their end signal and would wait for further buffers forever.
+            if (!completed) {
+                futures.forEach(future -> future.cancel(true));
+            }
             progressTracker.endSubTask();
         }
     }
 
+    /**
+     * Blocks of consecutive source nodes are assigned to the writers round-robin.
+     * A single batch touches few blocks of source nodes, which keeps lock contention between writers low.
+     * Striping the blocks, instead of assigning one contiguous range of source nodes per writer,
+     * keeps all writers busy for streams that are ordered by source node, such as most algorithm results.
+     */
+    private int writerIndex(long sourceNode) {
+        return (int) ((sourceNode >>> SOURCE_NODE_BLOCK_SHIFT) % writeConcurrency);
+    }
+
+    private static void put(BlockingQueue<Buffer> queue, Buffer buffer, Future<?> writer) {
+        try {
+            while (!queue.offer(buffer, POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                failIfDone(writer);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static Buffer take(BlockingQueue<Buffer> queue, Future<?> writer) {
+        try {
+            Buffer buffer;
+            while ((buffer = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) == null) {
+                failIfDone(writer);
+            }
+            return buffer;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * A writer only stops before receiving the end signal if it failed.
+     * Rethrow its failure instead of waiting for it forever.
+     */
+    private static void failIfDone(Future<?> writer) {
+        if (writer.isDone()) {
+            await(writer);
+            throw new IllegalStateException("Relationship writer stopped before all relationships were written");
+        }
+    }
+
+    private static void await(Future<?> writer) {
+        try {
+            writer.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            ExceptionUtil.throwIfUnchecked(e.getCause());
+            throw new RuntimeException(e);
+        }
+    }
+
     static class Writer extends StatementApi implements Runnable {
 
         private final TerminationFlag terminationFlag;
@@ -144,6 +242,8 @@ public final class NativeRelationshipStreamExporter extends StatementApi impleme
 
         private final int relationshipToken;
         private final int[] propertyTokens;
+        private final int writerIndex;
+        private final boolean concurrentWriters;
         private long written;
 
         Writer(
@@ -154,7 +254,9 @@ public final class NativeRelationshipStreamExporter extends StatementApi impleme
             BlockingQueue<Buffer> bufferPool,
             int relationshipToken,
             int[] propertyTokens,
-            TerminationFlag terminationFlag
+            TerminationFlag terminationFlag,
+            int writerIndex,
+            boolean concurrentWriters
         ) {
             super(tx);
             this.progressTracker = progressTracker;
@@ -164,20 +266,39 @@ public final class NativeRelationshipStreamExporter extends StatementApi impleme
             this.relationshipToken = relationshipToken;
             this.propertyTokens = propertyTokens;
             this.terminationFlag = terminationFlag;
+            this.writerIndex = writerIndex;
+            this.concurrentWriters = concurrentWriters;
         }
 
         @Override
         public void run() {
+            long startNanos = System.nanoTime();
+            long lastLogNanos = startNanos;
             Buffer buffer;
             while (true) {
                 try {
                     buffer = writeQueue.take();
                     if (buffer.size == 0) {
+                        if (concurrentWriters) {
+                            logThroughput(startNanos);
+                        }
                         return;
                     }
-                    written += write(buffer, relationshipToken, propertyTokens);
-
-                    progressTracker.logProgress(written, "has written %d relationships");
+                    var bufferSize = concurrentWriters
+                        ? writeWithRetries(buffer)
+                        : write(buffer, relationshipToken, propertyTokens);
+                    written += bufferSize;
+
+                    if (concurrentWriters) {
+                        progressTracker.logProgress(bufferSize);
+                        var nowNanos = System.nanoTime();
+                        if (nowNanos - lastLogNanos >= THROUGHPUT_LOG_INTERVAL_NANOS) {
+                            logThroughput(startNanos);
+                            lastLogNanos = nowNanos;
+                        }
+                    } else {
+                        progressTracker.logProgress(written, "has written %d relationships");
+                    }
 
                     buffer.reset();
                     bufferPool.put(buffer);
@@ -188,6 +309,65 @@ public final class NativeRelationshipStreamExporter extends StatementApi impleme
             }
         }
 
+        private void logThroughput(long startNanos) {
+            var elapsedNanos = Math.max(1L, System.nanoTime() - startNanos);
+            var relationshipsPerSecond = (long) (written * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos);
+            progressTracker.logInfo(formatWithLocale(
+                "Writer %d has written %d relationships (%d relationships/s)",
+                writerIndex,
+                written,
+                relationshipsPerSecond
+            ));
+        }
+
+        /**
+         * Concurrent writers may deadlock on nodes that are shared between their batches.
+         * The kernel detects this and fails one of the transactions with a transient error,
+         * in which case nothing of the batch has been committed and it is safe to write it again.
+         * Before retrying, the writer waits for an exponentially growing, randomized time,
+         * so that the writers involved in the deadlock do not collide again right away.
+         */
+        private int writeWithRetries(Buffer buffer) {
+            for (int attempt = 0; ; attempt++) {
+                try {
+                    return write(buffer, relationshipToken, propertyTokens);
+                } catch (RuntimeException e) {
+                    if (!isTransient(e)) {
+                        throw e;
+                    }
+                    if (attempt >= MAX_TRANSIENT_RETRIES) {
+                        throw new IllegalStateException(formatWithLocale(
+                            "Writer %d failed to write a batch of %d relationships after %d retries",
+                            writerIndex,
+                            buffer.size,
+                            MAX_TRANSIENT_RETRIES
+                        ), e);
+                    }
+                    backOff(attempt);
+                }
+            }
+        }
+
+        private static void backOff(int attempt) {
+            var maxBackoffMillis = INITIAL_BACKOFF_MILLIS << attempt;
+            try {
+                Thread.sleep(maxBackoffMillis / 2 + ThreadLocalRandom.current().nextLong(maxBackoffMillis / 2 + 1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+        }
+
+        private static boolean isTransient(Throwable error) {
+            for (var cause = error; cause != null; cause = cause.getCause()) {
+                if (cause instanceof Status.HasStatus &&
+                    ((Status.HasStatus) cause).status().code().classification() == Status.Classification.TransientError) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
         private int write(Buffer buffer, int relationshipToken, int[] propertyTokens) {
             var bufferSize = buffer.size;
             var tokenCount = propertyTokens.length;
@@ -35,6 +35,9 @@ public final class NativeRelationshipStreamExporterBuilder extends RelationshipS
             toOriginalId,
             relationships,
             batchSize,
+            writeConcurrency,
+            maxInFlightBatches,
+            executorService,
             terminationFlag,
             progressTracker
         );
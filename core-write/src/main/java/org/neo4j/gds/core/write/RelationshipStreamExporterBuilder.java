@@ -21,10 +21,12 @@ package org.neo4j.gds.core.write;
 
 import org.jetbrains.annotations.TestOnly;
 import org.neo4j.gds.config.WriteConfig;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 import java.util.function.LongUnaryOperator;
 import java.util.stream.Stream;
 
@@ -35,6 +37,9 @@ public abstract class RelationshipStreamExporterBuilder<T extends RelationshipSt
     protected int batchSize = (int) NativeNodePropertyExporter.MIN_BATCH_SIZE;
     protected LongUnaryOperator toOriginalId;
     protected TerminationFlag terminationFlag;
+    protected ExecutorService executorService = Pools.DEFAULT;
+    protected int writeConcurrency = 1;
+    protected int maxInFlightBatches = NativeRelationshipStreamExporter.DEFAULT_MAX_IN_FLIGHT_BATCHES;
     protected ProgressTracker progressTracker = ProgressTracker.NULL_TRACKER;
     protected long relationshipCount = -1L;
     protected Optional<WriteConfig.ArrowConnectionInfo> arrowConnectionInfo;
@@ -81,6 +86,27 @@ public abstract class RelationshipStreamExporterBuilder<T extends RelationshipSt
         return this;
     }
 
+    /**
+     * Write relationships with {@code writeConcurrency} concurrent writers, each in its own transactions.
+     * Relationships are assigned to writers by ranges of their source node.
+     *
+     * By default, a single writer is used.
+     */
+    public RelationshipStreamExporterBuilder parallel(ExecutorService es, int writeConcurrency) {
+        this.executorService = es;
+        this.writeConcurrency = writeConcurrency;
+        return this;
+    }
+
+    /**
+     * Set how many full batches per writer may be waiting or being written before
+     * reading from the relationship stream blocks.
+     */
+    public RelationshipStreamExporterBuilder withMaxInFlightBatches(int maxInFlightBatches) {
+        this.maxInFlightBatches = maxInFlightBatches;
+        return this;
+    }
+
     public RelationshipStreamExporterBuilder withArrowConnectionInfo(Optional<WriteConfig.ArrowConnectionInfo> arrowConnectionInfo) {
         this.arrowConnectionInfo = arrowConnectionInfo;
         return this;
@@ -30,6 +30,7 @@ import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.TestLog;
 import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.gds.core.utils.progress.tasks.TaskProgressTracker;
@@ -42,6 +43,8 @@ import org.neo4j.values.storable.Values;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -211,6 +214,87 @@ class NativeRelationshipStreamExporterTest extends BaseTest {
         );
     }
 
+    @Test
+    void exportWithConcurrentWriters() {
+        // spans several blocks of source nodes, so that every writer receives relationships
+        runQuery("UNWIND range(1, 20000) AS i CREATE ()");
+        var largeGraph = new StoreLoaderBuilder().databaseService(db).build().graphStore().getUnion();
+        var nodeCount = largeGraph.nodeCount();
+        var batchSize = 100;
+        // enforce writing non-full buffers
+        var relationshipCount = 30_005;
+
+        var log = Neo4jProxy.testLog();
+        var progressTracker = new TaskProgressTracker(
+            RelationshipStreamExporter.baseTask("OpName"),
+            log,
+            1,
+            EmptyTaskRegistryFactory.INSTANCE
+        );
+
+        var rand = new Random(42);
+        var relationshipStream = IntStream
+            .range(0, relationshipCount)
+            .mapToObj(ignored -> (ExportedRelationship) ImmutableExportedRelationship.of(
+                rand.nextInt((int) nodeCount),
+                rand.nextInt((int) nodeCount),
+                new Value[0]
+            ));
+
+        var exporter = NativeRelationshipStreamExporter
+            .builder(TestSupport.fullAccessTransaction(db), largeGraph, relationshipStream, TerminationFlag.RUNNING_TRUE)
+            .withBatchSize(batchSize)
+            .withMaxInFlightBatches(3)
+            .withProgressTracker(progressTracker)
+            .parallel(Pools.DEFAULT, 4)
+            .build();
+
+        var relationshipsWritten = exporter.write("FOOBAR", List.of(), List.of());
+
+        assertEquals(relationshipCount, relationshipsWritten);
+        assertCypherResult(
+            "MATCH ()-[r:FOOBAR]->() RETURN count(r) AS count",
+            List.of(Map.of("count", (long) relationshipCount))
+        );
+        for (int writerIndex = 0; writerIndex < 4; writerIndex++) {
+            var prefix = "OpName :: WriteRelationshipStream :: Writer " + writerIndex + " has written ";
+            assertThat(log.getMessages(TestLog.INFO))
+                .extracting(removingThreadId())
+                .anySatisfy(message -> assertThat(message).startsWith(prefix));
+        }
+    }
+
+    @Test
+    void stopAllWritersWhenTheStreamFails() throws InterruptedException {
+        var executor = Executors.newFixedThreadPool(4);
+        var rand = new Random(42);
+        var relationshipStream = IntStream
+            .range(0, 1000)
+            .mapToObj(i -> {
+                if (i == 500) {
+                    throw new IllegalStateException("stream failed");
+                }
+                return relationship(randomVariable(rand, 4), randomVariable(rand, 4));
+            });
+
+        var exporter = NativeRelationshipStreamExporter
+            .builder(TestSupport.fullAccessTransaction(db), graph, relationshipStream, TerminationFlag.RUNNING_TRUE)
+            .withBatchSize(10)
+            .parallel(executor, 4)
+            .build();
+
+        try {
+            assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> exporter.write("FOOBAR", List.of(), List.of()))
+                .withMessage("stream failed");
+        } finally {
+            executor.shutdown();
+        }
+
+        // writers that are waiting for further relationships must not block their threads forever
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    }
+
     @Test
     void exportEmptyStream() {
         var exporter = NativeRelationshipStreamExporter
@@ -267,6 +351,54 @@ class NativeRelationshipStreamExporterTest extends BaseTest {
             );
     }
 
+    @Test
+    void logThroughputOfConcurrentWriters() {
+        int nodeCount = 4;
+        var batchSize = 25;
+        var relationshipCount = 50;
+
+        var rand = new Random();
+
+        var log = Neo4jProxy.testLog();
+        var progressTracker = new TaskProgressTracker(
+            RelationshipStreamExporter.baseTask("OpName"),
+            log,
+            1,
+            EmptyTaskRegistryFactory.INSTANCE
+        );
+
+        var relationshipStream = IntStream
+            .range(0, relationshipCount)
+            .mapToObj(ignored -> relationship(randomVariable(rand, nodeCount), randomVariable(rand, nodeCount)));
+
+        var exporter = NativeRelationshipStreamExporter
+            .builder(TestSupport.fullAccessTransaction(db), graph, relationshipStream, TerminationFlag.RUNNING_TRUE)
+            .withBatchSize(batchSize)
+            .withProgressTracker(progressTracker)
+            .parallel(Pools.DEFAULT, 2)
+            .build();
+
+        var relationshipsWritten = exporter.write("FOOBAR", List.of(), List.of());
+
+        assertEquals(relationshipCount, relationshipsWritten);
+
+        // all source nodes fall into the first block of source nodes and are written by the first writer,
+        // which logs its throughput once it has finished
+        assertThat(log.getMessages(TestLog.INFO))
+            .extracting(removingThreadId())
+            .noneSatisfy(message -> assertThat(message).startsWith(
+                "OpName :: WriteRelationshipStream :: Writer 0 has written 25 relationships ("))
+            .anySatisfy(message -> assertThat(message).startsWith(
+                "OpName :: WriteRelationshipStream :: Writer 1 has written 0 relationships ("))
+            .anySatisfy(message -> assertThat(message).startsWith(
+                "OpName :: WriteRelationshipStream :: Writer 0 has written 50 relationships ("))
+            .contains(
+                "OpName :: WriteRelationshipStream :: Start",
+                "OpName :: WriteRelationshipStream 100%",
+                "OpName :: WriteRelationshipStream :: Finished"
+            );
+    }
+
     ExportedRelationship relationship(String sourceVariable, String targetVariable, Value... values) {
         return ImmutableExportedRelationship.of(
             graph.toMappedNodeId(idFunction.of(sourceVariable)),
@@ -66,6 +66,21 @@ public interface AdjacencyCursor {
      */
     long peekVLong();
 
+    /**
+     * Read and decode up to {@code buffer.length} target ids into the given buffer, starting at index 0.
+     * Returns the number of target ids written, which is {@code 0} iff the cursor is exhausted.
+     *
+     * Implementations that decode blocks of targets can copy them directly instead of going through
+     * {@link #nextVLong()} for every single target.
+     */
+    default int nextBlock(long[] buffer) {
+        int length = 0;
+        while (length < buffer.length && hasNextVLong()) {
+            buffer[length++] = nextVLong();
+        }
+        return length;
+    }
+
     /**
      * Return how many targets are still left to be decoded.
      */
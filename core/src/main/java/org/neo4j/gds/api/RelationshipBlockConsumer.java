@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.api;
+
+/**
+ * Consumer interface for relationships of a single node that are handed over in blocks of target ids.
+ */
+@FunctionalInterface
+public interface RelationshipBlockConsumer {
+
+    /**
+     * Called for consecutive blocks of relationships of a given node.
+     * The buffer is reused between calls and must not be retained.
+     *
+     * @param sourceNodeId mapped source node id
+     * @param targetNodeIds buffer holding the mapped target node ids
+     * @param length number of valid target node ids at the start of the buffer
+     * @return {@code true} if the iteration shall continue, otherwise {@code false}.
+     */
+    boolean accept(long sourceNodeId, long[] targetNodeIds, int length);
+}
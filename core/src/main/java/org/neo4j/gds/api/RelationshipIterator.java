@@ -43,6 +43,32 @@ public interface RelationshipIterator extends RelationshipPredicate {
      */
     void forEachRelationship(long nodeId, double fallbackValue, RelationshipWithPropertyConsumer consumer);
 
+    /**
+     * Calls the given consumer function for consecutive blocks of relationships of a given node.
+     * Each block is written into the given buffer and holds at most {@code buffer.length} target ids.
+     * Implementations backed by an adjacency list decode the targets block-wise, which avoids
+     * one consumer call per relationship.
+     *
+     * @param nodeId id of the node for which to iterate relationships
+     * @param buffer buffer the target ids are written to, must not be empty
+     * @param consumer relationship block consumer function
+     */
+    default void forEachRelationshipBlock(long nodeId, long[] buffer, RelationshipBlockConsumer consumer) {
+        int[] length = {0};
+        boolean[] proceed = {true};
+        forEachRelationship(nodeId, (sourceNodeId, targetNodeId) -> {
+            buffer[length[0]++] = targetNodeId;
+            if (length[0] == buffer.length) {
+                proceed[0] = consumer.accept(sourceNodeId, buffer, length[0]);
+                length[0] = 0;
+            }
+            return proceed[0];
+        });
+        if (proceed[0] && length[0] > 0) {
+            consumer.accept(nodeId, buffer, length[0]);
+        }
+    }
+
     /**
      * Calls the given consumer for every inverse relationship of a given node.
      * Inverse relationships basically mirror the relationships in that graph.
@@ -62,6 +62,17 @@ public interface GraphProjectFromGraphConfig extends GraphProjectConfig {
         return Collections.emptyMap();
     }
 
+    /**
+     * If set, the subgraph is a view over the adjacency lists and node properties of the
+     * original graph instead of a copy. Only the compact node id mapping and bit masks
+     * for the retained relationships are allocated.
+     */
+    @Value.Default
+    @Value.Parameter(false)
+    default boolean view() {
+        return false;
+    }
+
     @Value.Check
     default void validateReadConcurrency() {
         ConcurrencyValidatorService.validator().validate(concurrency(), "concurrency", ConcurrencyConfig.CONCURRENCY_LIMITATION);
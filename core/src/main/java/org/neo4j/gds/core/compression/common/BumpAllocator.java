@@ -80,6 +80,19 @@ public final class BumpAllocator<PAGE> {
         return pages;
     }
 
+    /**
+     * Drops the reference to the page at the given index, e.g. once its content has been written elsewhere,
+     * so that it can be garbage collected. The page must not be allocated into afterwards.
+     */
+    public void releasePage(int pageIndex) {
+        growLock.lock();
+        try {
+            this.pages[pageIndex] = null;
+        } finally {
+            growLock.unlock();
+        }
+    }
+
     private long insertDefaultSizedPage() {
         int pageIndex = (int) ALLOCATED_PAGES.getAndAdd(this, 1);
         grow(pageIndex + 1, NO_SKIP);
@@ -21,6 +21,9 @@ package org.neo4j.gds.core.compression.common;
 
 import org.neo4j.internal.unsafe.UnsafeUtil;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
 public final class VarLongDecoding {
 
     public static int decodeDeltaVLongs(
@@ -48,6 +51,49 @@ public final class VarLongDecoding {
         return offset;
     }
 
+    /**
+     * Decodes from a little-endian buffer, reading a whole word at a time with absolute reads
+     * as long as there are at least eight bytes left in the buffer.
+     */
+    public static int decodeDeltaVLongs(
+        long startValue,
+        ByteBuffer adjacencyPage,
+        int offset,
+        int limit,
+        long[] out
+    ) {
+        assert adjacencyPage.order() == ByteOrder.LITTLE_ENDIAN;
+
+        int wordLimit = adjacencyPage.limit() - Long.BYTES;
+        long word, input, value = 0L;
+        int into = 0, shift = 0, bytesInWord;
+        while (into < limit) {
+            if (offset <= wordLimit) {
+                word = adjacencyPage.getLong(offset);
+                bytesInWord = Long.BYTES;
+            } else {
+                word = adjacencyPage.get(offset);
+                bytesInWord = 1;
+            }
+            for (int i = 0; i < bytesInWord && into < limit; i++) {
+                input = word & 255L;
+                word >>>= 8;
+                offset++;
+                value += (input & 127L) << shift;
+                if ((input & 128L) == 128L) {
+                    startValue += value;
+                    out[into++] = startValue;
+                    value = 0L;
+                    shift = 0;
+                } else {
+                    shift += 7;
+                }
+            }
+        }
+
+        return offset;
+    }
+
     public static long unsafeDecodeDeltaVLongs(
         int length,
         long previousValue,
@@ -0,0 +1,348 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.mapped;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.collections.PageUtil;
+import org.neo4j.gds.core.compression.common.BumpAllocator;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.io.IOException;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+import static org.neo4j.gds.collections.PageUtil.indexInPage;
+import static org.neo4j.gds.collections.PageUtil.pageIndex;
+import static org.neo4j.gds.core.compression.common.VarLongDecoding.decodeDeltaVLongs;
+import static org.neo4j.gds.core.compression.varlong.CompressedAdjacencyList.computeAdjacencyByteSize;
+import static org.neo4j.gds.mem.BitUtil.ceilDiv;
+
+/**
+ * A var-long encoded adjacency list whose pages live in a memory-mapped file instead of the Java heap.
+ * Only the degrees and offsets are kept on heap, the OS page cache serves the hot regions of the adjacency.
+ * <p>
+ * The backing file is deleted when this list is garbage collected.
+ */
+public final class MappedAdjacencyList implements AdjacencyList {
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    /**
+     * Pages are written into the mapped file as soon as they are complete, so the heap only holds
+     * the degrees and offsets, the page that every thread is currently filling, and a mapped view per page.
+     */
+    public static MemoryEstimation adjacencyListEstimation(RelationshipType relationshipType, boolean undirected) {
+        return MemoryEstimations.setup("", dimensions -> {
+            long nodeCount = dimensions.nodeCount();
+            long relCountForType = dimensions
+                .relationshipCounts()
+                .getOrDefault(relationshipType, dimensions.relCountUpperBound());
+            long relCount = undirected ? relCountForType * 2 : relCountForType;
+            long avgDegree = (nodeCount > 0) ? ceilDiv(relCount, nodeCount) : 0L;
+            return MappedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+        });
+    }
+
+    public static MemoryEstimation adjacencyListEstimation(long avgDegree, long nodeCount) {
+        // same bounds for the size of the adjacency as for the on-heap compressed list
+        long deltaWorstCase = (avgDegree > 0) ? ceilDiv(nodeCount, avgDegree) : 0L;
+        long bestCaseAdjacencySize = computeAdjacencyByteSize(avgDegree, nodeCount, 1);
+        long worstCaseAdjacencySize = computeAdjacencyByteSize(avgDegree, nodeCount, deltaWorstCase);
+
+        int minPages = PageUtil.numPagesFor(bestCaseAdjacencySize, BumpAllocator.PAGE_SHIFT, BumpAllocator.PAGE_MASK);
+        int maxPages = PageUtil.numPagesFor(worstCaseAdjacencySize, BumpAllocator.PAGE_SHIFT, BumpAllocator.PAGE_MASK);
+
+        return MemoryEstimations
+            .builder(MappedAdjacencyList.class)
+            .fixed("mapped page views", MemoryRange.of(mappedPagesMemory(minPages), mappedPagesMemory(maxPages)))
+            .perThread("page in construction", MemoryUsage.sizeOfByteArray(BumpAllocator.PAGE_SIZE))
+            .perNode("degrees", HugeIntArray::memoryEstimation)
+            .perNode("offsets", HugeLongArray::memoryEstimation)
+            .build();
+    }
+
+    private static long mappedPagesMemory(int pages) {
+        // a buffer per page, plus the page positions and lengths that are tracked while building
+        return MemoryUsage.sizeOfObjectArray(pages)
+               + pages * MemoryUsage.sizeOfInstance(ByteBuffer.class)
+               + MemoryUsage.sizeOfLongArray(pages)
+               + MemoryUsage.sizeOfIntArray(pages);
+    }
+
+    /**
+     * Maps the pages that have been written to {@code channel} at the given positions.
+     * The buffers are little-endian, so that the cursor can decode from whole words.
+     */
+    static MappedAdjacencyList map(
+        Path file,
+        FileChannel channel,
+        long[] positions,
+        int[] lengths,
+        HugeIntArray degrees,
+        HugeLongArray offsets
+    ) throws IOException {
+        var mappedPages = new ByteBuffer[positions.length];
+
+        // Pages are in the file in the order in which they have been completed.
+        // A single mapping is limited to Integer.MAX_VALUE bytes.
+        // We map consecutive pages of the file in as few regions as possible
+        // and hand out a slice of the region for each page.
+        var pagesInFileOrder = IntStream
+            .range(0, positions.length)
+            .boxed()
+            .sorted(Comparator.comparingLong(pageIndex -> positions[pageIndex]))
+            .mapToInt(Integer::intValue)
+            .toArray();
+
+        int i = 0;
+        while (i < pagesInFileOrder.length) {
+            long regionStart = positions[pagesInFileOrder[i]];
+            int firstPageInRegion = i;
+            long regionLength = 0L;
+            while (i < pagesInFileOrder.length && regionLength + lengths[pagesInFileOrder[i]] <= Integer.MAX_VALUE) {
+                regionLength += lengths[pagesInFileOrder[i++]];
+            }
+            var region = channel.map(FileChannel.MapMode.READ_ONLY, regionStart, regionLength);
+            for (int j = firstPageInRegion; j < i; j++) {
+                int pageIndex = pagesInFileOrder[j];
+                int offsetInRegion = (int) (positions[pageIndex] - regionStart);
+                mappedPages[pageIndex] = region
+                    .duplicate()
+                    .position(offsetInRegion)
+                    .limit(offsetInRegion + lengths[pageIndex])
+                    .slice()
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            }
+        }
+
+        return new MappedAdjacencyList(file, mappedPages, degrees, offsets);
+    }
+
+    private final ByteBuffer[] pages;
+    private final HugeIntArray degrees;
+    private final HugeLongArray offsets;
+
+    private MappedAdjacencyList(Path file, ByteBuffer[] pages, HugeIntArray degrees, HugeLongArray offsets) {
+        this.pages = pages;
+        this.degrees = degrees;
+        this.offsets = offsets;
+        CLEANER.register(this, new FileCleaner(file));
+    }
+
+    @Override
+    public int degree(long node) {
+        return degrees.get(node);
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return AdjacencyCursor.empty();
+        }
+        var cursor = new DecompressingCursor(pages);
+        cursor.init(offsets.get(node), degree);
+        return cursor;
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(@Nullable AdjacencyCursor reuse, long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return AdjacencyCursor.empty();
+        }
+        if (reuse instanceof DecompressingCursor) {
+            reuse.init(offsets.get(node), degree);
+            return reuse;
+        }
+        return adjacencyCursor(node, fallbackValue);
+    }
+
+    @Override
+    public AdjacencyCursor rawAdjacencyCursor() {
+        return new DecompressingCursor(pages);
+    }
+
+    public static final class DecompressingCursor implements AdjacencyCursor {
+
+        private static final int CHUNK_SIZE = 64;
+
+        private final ByteBuffer[] pages;
+        private final long[] block;
+
+        private ByteBuffer page;
+        private int offset;
+        private int idxInBlock;
+        private int blockLength;
+        private int decoded;
+
+        private int maxTargets;
+        private int currentPosition;
+
+        private DecompressingCursor(ByteBuffer[] pages) {
+            this.pages = pages;
+            this.block = new long[CHUNK_SIZE];
+        }
+
+        @Override
+        public void init(long fromIndex, int degree) {
+            this.page = pages[pageIndex(fromIndex, BumpAllocator.PAGE_SHIFT)];
+            this.offset = indexInPage(fromIndex, BumpAllocator.PAGE_MASK);
+            this.maxTargets = degree;
+            this.currentPosition = 0;
+            this.blockLength = 0;
+            this.decoded = 0;
+            decodeNextBlock();
+        }
+
+        @Override
+        public @NotNull AdjacencyCursor shallowCopy(@Nullable AdjacencyCursor destination) {
+            var dest = destination instanceof DecompressingCursor
+                ? (DecompressingCursor) destination
+                : new DecompressingCursor(pages);
+            System.arraycopy(this.block, 0, dest.block, 0, CHUNK_SIZE);
+            dest.page = this.page;
+            dest.offset = this.offset;
+            dest.idxInBlock = this.idxInBlock;
+            dest.blockLength = this.blockLength;
+            dest.decoded = this.decoded;
+            dest.maxTargets = this.maxTargets;
+            dest.currentPosition = this.currentPosition;
+            return dest;
+        }
+
+        @Override
+        public int size() {
+            return maxTargets;
+        }
+
+        @Override
+        public int remaining() {
+            return maxTargets - currentPosition;
+        }
+
+        @Override
+        public boolean hasNextVLong() {
+            return currentPosition < maxTargets;
+        }
+
+        @Override
+        public long nextVLong() {
+            if (idxInBlock == blockLength) {
+                decodeNextBlock();
+            }
+            currentPosition++;
+            return block[idxInBlock++];
+        }
+
+        @Override
+        public long peekVLong() {
+            if (idxInBlock == blockLength) {
+                decodeNextBlock();
+            }
+            return block[idxInBlock];
+        }
+
+        @Override
+        public long skipUntil(long target) {
+            long next;
+            while (hasNextVLong()) {
+                if ((next = nextVLong()) > target) {
+                    return next;
+                }
+            }
+            return AdjacencyCursor.NOT_FOUND;
+        }
+
+        @Override
+        public long advance(long target) {
+            long next;
+            while (hasNextVLong()) {
+                if ((next = nextVLong()) >= target) {
+                    return next;
+                }
+            }
+            return AdjacencyCursor.NOT_FOUND;
+        }
+
+        @Override
+        public long advanceBy(int n) {
+            assert n >= 0;
+
+            if (remaining() <= n) {
+                // we need to signal that the cursor is exhausted
+                this.currentPosition = maxTargets;
+                return AdjacencyCursor.NOT_FOUND;
+            }
+
+            // skip whole blocks, they still need to be decoded because of the delta encoding
+            while (n >= blockLength - idxInBlock) {
+                int skippedInThisBlock = blockLength - idxInBlock;
+                n -= skippedInThisBlock;
+                currentPosition += skippedInThisBlock;
+                decodeNextBlock();
+            }
+            idxInBlock += n;
+            currentPosition += n;
+            return nextVLong();
+        }
+
+        private void decodeNextBlock() {
+            long lastValue = blockLength == 0 ? 0L : block[blockLength - 1];
+            int length = Math.min(CHUNK_SIZE, maxTargets - decoded);
+            this.offset = decodeDeltaVLongs(lastValue, page, offset, length, block);
+            this.decoded += length;
+            this.blockLength = length;
+            this.idxInBlock = 0;
+        }
+    }
+
+    private static final class FileCleaner implements Runnable {
+        private final Path file;
+
+        FileCleaner(Path file) {
+            this.file = file;
+        }
+
+        @Override
+        public void run() {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                // the file lives in a temporary location, there is nothing more we can do
+            }
+        }
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.mapped;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.compress.AdjacencyListBuilder;
+import org.neo4j.gds.api.compress.ModifiableSlice;
+import org.neo4j.gds.core.compression.common.BumpAllocator;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import static org.neo4j.gds.collections.PageUtil.pageIndex;
+
+/**
+ * Builds var-long encoded adjacency lists like the
+ * {@link org.neo4j.gds.core.compression.varlong.CompressedAdjacencyListBuilder},
+ * but writes every page into a memory-mapped file as soon as it is complete.
+ * <p>
+ * Each allocator fills one page at a time. When it moves on to the next page or is closed,
+ * the previous page is appended to the file and released from the heap,
+ * so that only the pages that are currently being filled are kept on heap.
+ * Pages are not reordered, their position in the file is tracked per page instead.
+ */
+public final class MappedAdjacencyListBuilder implements AdjacencyListBuilder<byte[], MappedAdjacencyList> {
+
+    private final BumpAllocator<byte[]> builder;
+    private final PageFile pageFile;
+
+    MappedAdjacencyListBuilder(Path directory) {
+        this.builder = new BumpAllocator<>(Factory.INSTANCE);
+        this.pageFile = new PageFile(directory);
+    }
+
+    @Override
+    public Allocator newAllocator() {
+        return new Allocator(this.builder.newLocalAllocator(), this);
+    }
+
+    @Override
+    public PositionalAllocator<byte[]> newPositionalAllocator() {
+        throw new UnsupportedOperationException("Mapped adjacency lists do not support positional allocation.");
+    }
+
+    @Override
+    public MappedAdjacencyList build(HugeIntArray degrees, HugeLongArray offsets) {
+        // pages of allocators that have not been closed are still on heap
+        var pages = builder.intoPages();
+        for (int pageIndex = 0; pageIndex < pages.length; pageIndex++) {
+            var page = pages[pageIndex];
+            if (page != null) {
+                spill(pageIndex, page);
+            }
+        }
+        return pageFile.map(pages.length, degrees, offsets);
+    }
+
+    private void spill(int pageIndex, byte[] page) {
+        pageFile.write(pageIndex, page);
+        builder.releasePage(pageIndex);
+    }
+
+    private enum Factory implements BumpAllocator.Factory<byte[]> {
+        INSTANCE;
+
+        @Override
+        public byte[][] newEmptyPages() {
+            return new byte[0][];
+        }
+
+        @Override
+        public byte[] newPage(int length) {
+            return new byte[length];
+        }
+    }
+
+    static final class Allocator implements AdjacencyListBuilder.Allocator<byte[]> {
+
+        private static final int NO_PAGE = -1;
+
+        private final BumpAllocator.LocalAllocator<byte[]> allocator;
+        private final MappedAdjacencyListBuilder builder;
+
+        // the default sized page that is currently filled
+        private int pageIndex;
+        private byte @Nullable [] page;
+        // an oversized page is filled by the caller right after it has been allocated
+        private int oversizedPageIndex;
+        private byte @Nullable [] oversizedPage;
+
+        private Allocator(BumpAllocator.LocalAllocator<byte[]> allocator, MappedAdjacencyListBuilder builder) {
+            this.allocator = allocator;
+            this.builder = builder;
+            this.pageIndex = NO_PAGE;
+            this.oversizedPageIndex = NO_PAGE;
+        }
+
+        @Override
+        public long allocate(int length, Slice<byte[]> into) {
+            // the caller has written into the previous slice, so a pending oversized page is complete
+            spillOversizedPage();
+
+            long address = allocator.insertInto(length, (ModifiableSlice<byte[]>) into);
+            int addressPageIndex = pageIndex(address, BumpAllocator.PAGE_SHIFT);
+
+            if (length > BumpAllocator.PAGE_SIZE) {
+                this.oversizedPageIndex = addressPageIndex;
+                this.oversizedPage = into.slice();
+            } else if (addressPageIndex != pageIndex) {
+                spillPage();
+                this.pageIndex = addressPageIndex;
+                this.page = into.slice();
+            }
+            return address;
+        }
+
+        @Override
+        public void close() {
+            spillOversizedPage();
+            spillPage();
+        }
+
+        private void spillPage() {
+            if (page != null) {
+                builder.spill(pageIndex, page);
+                this.page = null;
+                this.pageIndex = NO_PAGE;
+            }
+        }
+
+        private void spillOversizedPage() {
+            if (oversizedPage != null) {
+                builder.spill(oversizedPageIndex, oversizedPage);
+                this.oversizedPage = null;
+                this.oversizedPageIndex = NO_PAGE;
+            }
+        }
+    }
+
+    /**
+     * Appends pages to a file in the order in which they are completed and remembers where each page starts.
+     */
+    static final class PageFile {
+
+        private final Path directory;
+
+        private @Nullable Path file;
+        private @Nullable FileChannel channel;
+        private long size;
+        private long[] positions;
+        private int[] lengths;
+
+        PageFile(Path directory) {
+            this.directory = directory;
+            this.positions = new long[0];
+            this.lengths = new int[0];
+        }
+
+        void write(int pageIndex, byte[] page) {
+            try {
+                long position = reserve(pageIndex, page.length);
+                var buffer = ByteBuffer.wrap(page);
+                while (buffer.hasRemaining()) {
+                    position += channel().write(buffer, position);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not write adjacency page to " + directory, e);
+            }
+        }
+
+        MappedAdjacencyList map(int pageCount, HugeIntArray degrees, HugeLongArray offsets) {
+            try {
+                open();
+                try (var fileChannel = channel()) {
+                    return MappedAdjacencyList.map(
+                        file,
+                        fileChannel,
+                        Arrays.copyOf(positions, pageCount),
+                        Arrays.copyOf(lengths, pageCount),
+                        degrees,
+                        offsets
+                    );
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not map adjacency list from " + directory, e);
+            }
+        }
+
+        private synchronized long reserve(int pageIndex, int length) throws IOException {
+            open();
+            if (pageIndex >= positions.length) {
+                int newLength = Math.max(pageIndex + 1, positions.length + (positions.length >> 1));
+                this.positions = Arrays.copyOf(positions, newLength);
+                this.lengths = Arrays.copyOf(lengths, newLength);
+            }
+            long position = size;
+            this.size += length;
+            positions[pageIndex] = position;
+            lengths[pageIndex] = length;
+            return position;
+        }
+
+        private synchronized void open() throws IOException {
+            if (channel == null) {
+                Files.createDirectories(directory);
+                this.file = Files.createTempFile(directory, "gds-adjacency-", ".bin");
+                this.channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            }
+        }
+
+        private synchronized FileChannel channel() {
+            assert channel != null;
+            return channel;
+        }
+    }
+}
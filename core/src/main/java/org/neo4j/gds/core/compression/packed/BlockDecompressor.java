@@ -87,6 +87,22 @@ final class BlockDecompressor {
         return block[this.idxInBlock];
     }
 
+    /**
+     * Copies up to {@code length} values of the current block into {@code buffer},
+     * decompressing the next block first if the current one has been consumed.
+     *
+     * @return the number of values copied, which is at least 1 if {@code length} is positive
+     */
+    int nextBlock(long[] buffer, int offset, int length) {
+        if (this.idxInBlock == BLOCK_SIZE) {
+            decompressBlock();
+        }
+        int count = Math.min(length, BLOCK_SIZE - this.idxInBlock);
+        System.arraycopy(this.block, this.idxInBlock, buffer, offset, count);
+        this.idxInBlock += count;
+        return count;
+    }
+
     long advanceBy(int steps) {
         // Due to delta encoded target ids, we can't yet skip blocks
         // as we need to decompress all the previous blocks to get
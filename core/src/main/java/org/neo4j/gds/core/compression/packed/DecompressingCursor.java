@@ -75,6 +75,17 @@ public final class DecompressingCursor implements AdjacencyCursor {
         return decompressingReader.next();
     }
 
+    @Override
+    public int nextBlock(long[] buffer) {
+        int length = Math.min(buffer.length, remaining());
+        int copied = 0;
+        while (copied < length) {
+            copied += decompressingReader.nextBlock(buffer, copied, length - copied);
+        }
+        this.currentPosition += length;
+        return length;
+    }
+
     @Override
     public long peekVLong() {
         return decompressingReader.peek();
@@ -119,6 +119,22 @@ public final class UncompressedAdjacencyList implements AdjacencyList, Adjacency
         this.offsets = offsets;
     }
 
+    /**
+     * The raw pages backing this adjacency list.
+     * Exposed for snapshotting; callers must not modify the returned pages.
+     */
+    public long[][] pages() {
+        return pages;
+    }
+
+    public HugeIntArray degrees() {
+        return degrees;
+    }
+
+    public HugeLongArray offsets() {
+        return offsets;
+    }
+
     @Override
     public int degree(long node) {
         return degrees.get(node);
@@ -240,6 +256,14 @@ public final class UncompressedAdjacencyList implements AdjacencyList, Adjacency
             return currentPage[offset];
         }
 
+        @Override
+        public int nextBlock(long[] buffer) {
+            int length = Math.min(buffer.length, limit - offset);
+            System.arraycopy(currentPage, offset, buffer, 0, length);
+            offset += length;
+            return length;
+        }
+
         @Override
         public @NotNull AdjacencyCursor shallowCopy(@Nullable AdjacencyCursor destination) {
             var dest = destination instanceof Cursor
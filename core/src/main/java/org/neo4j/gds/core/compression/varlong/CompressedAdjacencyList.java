@@ -108,6 +108,22 @@ public final class CompressedAdjacencyList implements AdjacencyList {
         this.offsets = offsets;
     }
 
+    /**
+     * The raw pages backing this adjacency list.
+     * Exposed for snapshotting; callers must not modify the returned pages.
+     */
+    public byte[][] pages() {
+        return pages;
+    }
+
+    public HugeIntArray degrees() {
+        return degrees;
+    }
+
+    public HugeLongArray offsets() {
+        return offsets;
+    }
+
     @Override
     public int degree(long node) {
         return degrees.get(node);
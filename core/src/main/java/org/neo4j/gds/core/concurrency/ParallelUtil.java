@@ -24,10 +24,12 @@ import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.mem.BitUtil;
 import org.neo4j.gds.utils.ExceptionUtil;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
@@ -41,6 +43,7 @@ import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RecursiveAction;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.LockSupport;
@@ -104,6 +107,40 @@ public final class ParallelUtil {
         parallelStreamConsume(data, concurrency, TerminationFlag.RUNNING_TRUE, consumer);
     }
 
+    /**
+     * Runs the given tasks on a work-stealing FJ pool of the requested size and waits until all of them are finished.
+     * <p>
+     * Workers split the remaining range of tasks in half as long as there are idle workers that could steal it,
+     * so a few expensive tasks, e.g. partitions containing high-degree nodes, do not leave the other workers idle.
+     * For a good balance, the tasks should be more fine-grained than one per thread,
+     * see {@link org.neo4j.gds.core.utils.partition.PartitionUtils#workStealingDegreePartition}.
+     * Stealing needs FJ worker threads, so the tasks do not run on the given executor.
+     * As with {@link RunWithConcurrency}, the tasks run sequentially in the calling thread
+     * if the executor cannot run tasks in parallel.
+     * The concurrency value is assumed to already be validated towards the edition limitation.
+     */
+    public static void runWithWorkStealing(
+        List<? extends Runnable> tasks,
+        int concurrency,
+        TerminationFlag terminationFlag,
+        @Nullable ExecutorService executor
+    ) {
+        if (concurrency == 1 || tasks.size() <= 1 || !canRunInParallel(executor)) {
+            for (Runnable task : tasks) {
+                terminationFlag.assertRunning();
+                task.run();
+            }
+            return;
+        }
+
+        ForkJoinPool pool = Pools.createForkJoinPool(concurrency);
+        try {
+            pool.invoke(new WorkStealingTask(tasks, 0, tasks.size(), terminationFlag));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
     public static void parallelForEachNode(long nodeCount, int concurrency, LongConsumer consumer) {
         parallelForEachNode(nodeCount, concurrency, TerminationFlag.RUNNING_TRUE, consumer);
     }
@@ -619,4 +656,44 @@ public final class ParallelUtil {
             pushedElement = element;
         }
     }
+
+    private static final class WorkStealingTask extends RecursiveAction {
+
+        // splitting stops once this many forked tasks are waiting to be stolen
+        private static final int SURPLUS_THRESHOLD = 2;
+
+        private final List<? extends Runnable> tasks;
+        private final int from;
+        private final int to;
+        private final TerminationFlag terminationFlag;
+
+        WorkStealingTask(List<? extends Runnable> tasks, int from, int to, TerminationFlag terminationFlag) {
+            this.tasks = tasks;
+            this.from = from;
+            this.to = to;
+            this.terminationFlag = terminationFlag;
+        }
+
+        @Override
+        protected void compute() {
+            var forked = new ArrayDeque<WorkStealingTask>();
+            int current = from;
+            int end = to;
+            while (current < end) {
+                if (end - current > 1 && getSurplusQueuedTaskCount() <= SURPLUS_THRESHOLD) {
+                    int mid = (current + end) >>> 1;
+                    var upperHalf = new WorkStealingTask(tasks, mid, end, terminationFlag);
+                    upperHalf.fork();
+                    forked.push(upperHalf);
+                    end = mid;
+                } else {
+                    terminationFlag.assertRunning();
+                    tasks.get(current++).run();
+                }
+            }
+            while (!forked.isEmpty()) {
+                forked.pop().join();
+            }
+        }
+    }
 }
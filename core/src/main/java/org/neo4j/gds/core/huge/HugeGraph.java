@@ -37,6 +37,7 @@ import org.neo4j.gds.api.ImmutableProperties;
 import org.neo4j.gds.api.ImmutableTopology;
 import org.neo4j.gds.api.Properties;
 import org.neo4j.gds.api.PropertyCursor;
+import org.neo4j.gds.api.RelationshipBlockConsumer;
 import org.neo4j.gds.api.RelationshipConsumer;
 import org.neo4j.gds.api.RelationshipCursor;
 import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
@@ -114,10 +115,14 @@ public class HugeGraph implements CSRGraph {
     protected @Nullable AdjacencyProperties properties;
     protected @Nullable AdjacencyProperties inverseProperties;
 
+    private static final int TARGET_BUFFER_SIZE = 64;
+
     private AdjacencyCursor adjacencyCursorCache;
     private @Nullable AdjacencyCursor inverseAdjacencyCursorCache;
     private @Nullable PropertyCursor propertyCursorCache;
     private @Nullable PropertyCursor inversePropertyCursorCache;
+    private final long[] targetBuffer;
+    private final long[] inverseTargetBuffer;
 
     protected final boolean hasRelationshipProperty;
     protected final boolean isMultiGraph;
@@ -180,6 +185,8 @@ public class HugeGraph implements CSRGraph {
         this.inverseAdjacencyCursorCache = inverseAdjacency != null ? inverseAdjacency.rawAdjacencyCursor() : null;
         this.propertyCursorCache = relationshipProperty != null ? relationshipProperty.rawPropertyCursor() : null;
         this.inversePropertyCursorCache = inverseRelationshipProperty != null ? inverseRelationshipProperty.rawPropertyCursor() : null;
+        this.targetBuffer = new long[TARGET_BUFFER_SIZE];
+        this.inverseTargetBuffer = new long[TARGET_BUFFER_SIZE];
     }
 
     @Override
@@ -313,6 +320,17 @@ public class HugeGraph implements CSRGraph {
         runForEach(nodeId, fallbackValue, consumer);
     }
 
+    @Override
+    public void forEachRelationshipBlock(long nodeId, long[] buffer, RelationshipBlockConsumer consumer) {
+        var adjacencyCursor = adjacencyCursorForIteration(nodeId);
+        int length;
+        while ((length = adjacencyCursor.nextBlock(buffer)) > 0) {
+            if (!consumer.accept(nodeId, buffer, length)) {
+                break;
+            }
+        }
+    }
+
     @Override
     public void forEachInverseRelationship(long nodeId, RelationshipConsumer consumer) {
         runForEachInverse(nodeId, consumer);
@@ -452,7 +470,7 @@ public class HugeGraph implements CSRGraph {
 
     private void runForEach(long sourceId, RelationshipConsumer consumer) {
         var adjacencyCursor = adjacencyCursorForIteration(sourceId);
-        consumeAdjacentNodes(sourceId, adjacencyCursor, consumer);
+        consumeAdjacentNodes(sourceId, adjacencyCursor, targetBuffer, consumer);
     }
 
     private void runForEach(long sourceId, double fallbackValue, RelationshipWithPropertyConsumer consumer) {
@@ -461,13 +479,13 @@ public class HugeGraph implements CSRGraph {
         } else {
             var adjacencyCursor = adjacencyCursorForIteration(sourceId);
             var propertyCursor = propertyCursorForIteration(sourceId);
-            consumeAdjacentNodesWithProperty(sourceId, adjacencyCursor, propertyCursor, consumer);
+            consumeAdjacentNodesWithProperty(sourceId, adjacencyCursor, propertyCursor, targetBuffer, consumer);
         }
     }
 
     private void runForEachInverse(long sourceId, RelationshipConsumer consumer) {
         var adjacencyCursor = inverseAdjacencyCursorForIteration(sourceId);
-        consumeAdjacentNodes(sourceId, adjacencyCursor, consumer);
+        consumeAdjacentNodes(sourceId, adjacencyCursor, inverseTargetBuffer, consumer);
     }
 
     private void runForEachInverse(long sourceId, double fallbackValue, RelationshipWithPropertyConsumer consumer) {
@@ -476,7 +494,7 @@ public class HugeGraph implements CSRGraph {
         } else {
             var adjacencyCursor = inverseAdjacencyCursorForIteration(sourceId);
             var propertyCursor = inversePropertyCursorForIteration(sourceId);
-            consumeAdjacentNodesWithProperty(sourceId, adjacencyCursor, propertyCursor, consumer);
+            consumeAdjacentNodesWithProperty(sourceId, adjacencyCursor, propertyCursor, inverseTargetBuffer, consumer);
         }
     }
 
@@ -556,11 +574,15 @@ public class HugeGraph implements CSRGraph {
     private void consumeAdjacentNodes(
         long sourceId,
         AdjacencyCursor adjacencyCursor,
+        long[] targets,
         RelationshipConsumer consumer
     ) {
-        while (adjacencyCursor.hasNextVLong()) {
-            if (!consumer.accept(sourceId, adjacencyCursor.nextVLong())) {
-                break;
+        int length;
+        while ((length = adjacencyCursor.nextBlock(targets)) > 0) {
+            for (int i = 0; i < length; i++) {
+                if (!consumer.accept(sourceId, targets[i])) {
+                    return;
+                }
             }
         }
     }
@@ -569,17 +591,18 @@ public class HugeGraph implements CSRGraph {
         long sourceId,
         AdjacencyCursor adjacencyCursor,
         PropertyCursor propertyCursor,
+        long[] targets,
         RelationshipWithPropertyConsumer consumer
     ) {
-
-        while (adjacencyCursor.hasNextVLong()) {
-            long targetId = adjacencyCursor.nextVLong();
-
-            long propertyBits = propertyCursor.nextLong();
-            double property = Double.longBitsToDouble(propertyBits);
-
-            if (!consumer.accept(sourceId, targetId, property)) {
-                break;
+        int length;
+        while ((length = adjacencyCursor.nextBlock(targets)) > 0) {
+            for (int i = 0; i < length; i++) {
+                long propertyBits = propertyCursor.nextLong();
+                double property = Double.longBitsToDouble(propertyBits);
+
+                if (!consumer.accept(sourceId, targets[i], property)) {
+                    return;
+                }
             }
         }
     }
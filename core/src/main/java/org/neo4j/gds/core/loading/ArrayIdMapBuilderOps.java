@@ -30,7 +30,7 @@ import org.neo4j.gds.core.utils.paged.HugeLongArray;
 
 public final class ArrayIdMapBuilderOps {
 
-    static ArrayIdMap build(
+    public static ArrayIdMap build(
         HugeLongArray internalToOriginalIds,
         long nodeCount,
         LabelInformation.Builder labelInformationBuilder,
@@ -49,14 +49,18 @@ import org.neo4j.gds.api.schema.MutableGraphSchema;
 import org.neo4j.gds.api.schema.MutableNodeSchema;
 import org.neo4j.gds.api.schema.MutableRelationshipSchema;
 import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.huge.CSRCompositeRelationshipIterator;
 import org.neo4j.gds.core.huge.HugeGraphBuilder;
 import org.neo4j.gds.core.huge.NodeFilteredGraph;
 import org.neo4j.gds.core.huge.UnionGraph;
+import org.neo4j.gds.core.loading.delta.DeltaRelationships;
+import org.neo4j.gds.core.loading.delta.RelationshipDelta;
 import org.neo4j.gds.core.utils.TimeUtil;
 import org.neo4j.gds.utils.StringJoining;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -65,6 +69,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -77,6 +82,12 @@ import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 @Value.Style(typeBuilder = "GraphStoreBuilder")
 public final class CSRGraphStore implements GraphStore {
 
+    /**
+     * Relationship deltas are compacted into new CSR pages once their overlays
+     * hold more than this fraction of the relationships of their type.
+     */
+    static final double DELTA_COMPACTION_THRESHOLD = 0.1;
+
     private final int concurrency;
 
     private final DatabaseId databaseId;
@@ -87,6 +98,8 @@ public final class CSRGraphStore implements GraphStore {
 
     private final Map<RelationshipType, SingleTypeRelationships> relationships;
 
+    private final Map<RelationshipType, PendingCompaction> pendingCompactions;
+
     private MutableGraphSchema schema;
 
     private GraphPropertyStore graphProperties;
@@ -139,6 +152,7 @@ public final class CSRGraphStore implements GraphStore {
 
         // We want mutable collections inside the GraphStore
         this.relationships = new HashMap<>(relationships);
+        this.pendingCompactions = new HashMap<>();
 
         this.concurrency = concurrency;
         this.modificationTime = TimeUtil.now();
@@ -394,6 +408,11 @@ public final class CSRGraphStore implements GraphStore {
             .orElseThrow(() -> new IllegalArgumentException("No relationship properties found for relationship type `" + relationshipType + "` and property key `" + propertyKey + "`."));
     }
 
+    public SingleTypeRelationships singleTypeRelationships(RelationshipType relationshipType) {
+        validateInput(List.of(relationshipType), Optional.empty());
+        return relationships.get(relationshipType);
+    }
+
     @Override
     public void addRelationshipType(SingleTypeRelationships relationships) {
         updateGraphStore(graphStore -> {
@@ -424,6 +443,7 @@ public final class CSRGraphStore implements GraphStore {
     @Override
     public DeletionResult deleteRelationships(RelationshipType relationshipType) {
         return DeletionResult.of(builder -> updateGraphStore(graphStore -> {
+            graphStore.pendingCompactions.remove(relationshipType);
             Optional.ofNullable(graphStore.relationships.remove(relationshipType)).ifPresentOrElse(relationship -> {
                 builder.deletedRelationships(relationship.topology().elementCount());
                 relationship.properties().ifPresent(properties -> {
@@ -438,6 +458,102 @@ public final class CSRGraphStore implements GraphStore {
         }));
     }
 
+    /**
+     * Adds and removes relationships of the given type without re-projecting the graph.
+     * Node ids in the delta are mapped node ids of this graph store.
+     *
+     * The changes are kept in per-node overlays on top of the existing adjacency list.
+     * Once the overlays grow beyond {@link #DELTA_COMPACTION_THRESHOLD} of the relationship count,
+     * they are compacted into new CSR pages in the background.
+     * Relationship types with properties are not supported.
+     */
+    public void applyRelationshipDelta(RelationshipType relationshipType, RelationshipDelta delta) {
+        validateInput(List.of(relationshipType), Optional.empty());
+        if (delta.isEmpty()) {
+            return;
+        }
+        if (delta.maxNodeId() >= nodeCount()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The relationship delta references node id %d, but the graph only contains %d nodes.",
+                delta.maxNodeId(),
+                nodeCount()
+            ));
+        }
+
+        updateGraphStore(graphStore -> {
+            var updated = DeltaRelationships.apply(graphStore.relationships.get(relationshipType), delta);
+            graphStore.relationships.put(relationshipType, updated);
+
+            var pendingCompaction = graphStore.pendingCompactions.get(relationshipType);
+            if (pendingCompaction != null) {
+                pendingCompaction.deltas.add(delta);
+            } else if (needsCompaction(updated)) {
+                graphStore.startCompaction(relationshipType);
+            }
+        });
+    }
+
+    /**
+     * Compacts the relationship deltas of the given type into new CSR pages.
+     * Returns the running compaction if there is one already.
+     */
+    public synchronized CompletableFuture<Void> compactRelationshipDeltas(RelationshipType relationshipType) {
+        validateInput(List.of(relationshipType), Optional.empty());
+        var pendingCompaction = pendingCompactions.get(relationshipType);
+        if (pendingCompaction != null) {
+            return pendingCompaction.future;
+        }
+        if (DeltaRelationships.overlaySize(relationships.get(relationshipType)) == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return startCompaction(relationshipType);
+    }
+
+    private static boolean needsCompaction(SingleTypeRelationships relationships) {
+        long overlaySize = DeltaRelationships.overlaySize(relationships);
+        return overlaySize > DELTA_COMPACTION_THRESHOLD * relationships.topology().elementCount();
+    }
+
+    private CompletableFuture<Void> startCompaction(RelationshipType relationshipType) {
+        var snapshot = relationships.get(relationshipType);
+        var pendingCompaction = new PendingCompaction();
+        pendingCompactions.put(relationshipType, pendingCompaction);
+
+        pendingCompaction.future = CompletableFuture
+            .supplyAsync(() -> DeltaRelationships.compact(snapshot, nodes, concurrency, Pools.DEFAULT), Pools.DEFAULT)
+            .thenAccept(compacted -> finishCompaction(relationshipType, pendingCompaction, compacted))
+            .whenComplete((ignore, error) -> {
+                if (error != null) {
+                    abortCompaction(relationshipType, pendingCompaction);
+                }
+            });
+
+        return pendingCompaction.future;
+    }
+
+    private synchronized void finishCompaction(
+        RelationshipType relationshipType,
+        PendingCompaction pendingCompaction,
+        SingleTypeRelationships compacted
+    ) {
+        // the relationship type might have been deleted while compacting
+        if (!pendingCompactions.remove(relationshipType, pendingCompaction)) {
+            return;
+        }
+
+        // replay the deltas that arrived while compacting
+        var rebased = compacted;
+        for (var delta : pendingCompaction.deltas) {
+            rebased = DeltaRelationships.apply(rebased, delta);
+        }
+        var compactedRelationships = rebased;
+        updateGraphStore(graphStore -> graphStore.relationships.put(relationshipType, compactedRelationships));
+    }
+
+    private synchronized void abortCompaction(RelationshipType relationshipType, PendingCompaction pendingCompaction) {
+        pendingCompactions.remove(relationshipType, pendingCompaction);
+    }
+
     @Override
     public CSRGraph getGraph(Collection<NodeLabel> nodeLabels) {
         return getGraph(nodeLabels, List.of(), Optional.empty());
@@ -688,4 +804,9 @@ public final class CSRGraphStore implements GraphStore {
             });
         });
     }
+
+    private static final class PendingCompaction {
+        private final List<RelationshipDelta> deltas = new ArrayList<>();
+        private CompletableFuture<Void> future;
+    }
 }
@@ -30,8 +30,11 @@ import org.neo4j.gds.utils.StringJoining;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -41,10 +44,24 @@ public final class GraphStoreCatalog {
 
     private static final ConcurrentHashMap<String, UserCatalog> userCatalogs = new ConcurrentHashMap<>();
 
+    private static volatile @Nullable GraphStoreCatalogPersistence persistence = null;
+
+    private static final ConcurrentHashMap<GraphStoreCatalogPersistence.PersistedGraph, CompletableFuture<Void>> pendingRestores =
+        new ConcurrentHashMap<>();
+
     private GraphStoreCatalog() { }
 
+    /**
+     * Enables persisting graphs when their database shuts down and restoring them on first access.
+     * Passing {@code null} disables persistence again.
+     */
+    public static void setPersistence(@Nullable GraphStoreCatalogPersistence catalogPersistence) {
+        persistence = catalogPersistence;
+    }
+
     public static GraphStoreWithConfig get(CatalogRequest request, String graphName) {
         var userCatalogKey = UserCatalog.UserCatalogKey.of(request.databaseName(), graphName);
+        restoreIfPersisted(request, userCatalogKey);
         var ownCatalog = getUserCatalog(request.username());
 
         var maybeGraph = ownCatalog.get(userCatalogKey, request.restrictSearchToUsernameCatalog());
@@ -89,10 +106,14 @@ public final class GraphStoreCatalog {
         boolean failOnMissing
     ) {
         var userCatalogKey = UserCatalog.UserCatalogKey.of(request.databaseName(), graphName);
+        restoreIfPersisted(request, userCatalogKey);
         var ownCatalog = getUserCatalog(request.username());
 
+        Consumer<GraphStoreWithConfig> removeAndDeletePersisted = removedGraphConsumer
+            .andThen(GraphStoreCatalog::deletePersisted);
+
         var didRemove = ownCatalog.remove(
-            userCatalogKey, removedGraphConsumer,
+            userCatalogKey, removeAndDeletePersisted,
             failOnMissing && request.restrictSearchToUsernameCatalog()
         );
         if (didRemove || request.restrictSearchToUsernameCatalog()) {
@@ -123,7 +144,7 @@ public final class GraphStoreCatalog {
             var username = usersWithMatchingGraphs.iterator().next();
             getUserCatalog(username).remove(
                 userCatalogKey,
-                removedGraphConsumer,
+                removeAndDeletePersisted,
                 failOnMissing
             );
         }
@@ -148,6 +169,10 @@ public final class GraphStoreCatalog {
     }
 
     private static void set(GraphProjectConfig config, GraphStore graphStore, boolean overwrite) {
+        var catalogPersistence = persistence;
+        if (catalogPersistence != null) {
+            catalogPersistence.validate(config, graphStore);
+        }
         userCatalogs.compute(config.username(), (user, userCatalog) -> {
             if (userCatalog == null) {
                 userCatalog = new UserCatalog();
@@ -163,11 +188,23 @@ public final class GraphStoreCatalog {
     }
 
     public static boolean exists(String username, String databaseName, String graphName) {
-        return getUserCatalog(username).exists(UserCatalog.UserCatalogKey.of(databaseName, graphName));
+        return exists(username, UserCatalog.UserCatalogKey.of(databaseName, graphName));
     }
 
     public static boolean exists(String username, DatabaseId databaseId, String graphName) {
-        return getUserCatalog(username).exists(UserCatalog.UserCatalogKey.of(databaseId, graphName));
+        return exists(username, UserCatalog.UserCatalogKey.of(databaseId, graphName));
+    }
+
+    private static boolean exists(String username, UserCatalog.UserCatalogKey userCatalogKey) {
+        if (getUserCatalog(username).exists(userCatalogKey)) {
+            return true;
+        }
+        var catalogPersistence = persistence;
+        return catalogPersistence != null && catalogPersistence.contains(
+            username,
+            userCatalogKey.databaseName(),
+            userCatalogKey.graphName()
+        );
     }
 
     public static int graphStoreCount() {
@@ -210,23 +247,94 @@ public final class GraphStoreCatalog {
         );
     }
 
+    /**
+     * Returns an index that has been registered for the given graph, e.g. a similarity index over a node property.
+     * Indexes are dropped together with their graph.
+     */
+    public static <INDEX> Optional<INDEX> getIndex(
+        String username,
+        DatabaseId databaseId,
+        String graphName,
+        String indexName,
+        Class<INDEX> indexType
+    ) {
+        return getUserCatalog(username)
+            .getIndex(UserCatalog.UserCatalogKey.of(databaseId, graphName), indexName)
+            .filter(indexType::isInstance)
+            .map(indexType::cast);
+    }
+
+    public static void setIndex(
+        String username,
+        DatabaseId databaseId,
+        String graphName,
+        String indexName,
+        Object index
+    ) {
+        getUserCatalog(username).setIndex(
+            UserCatalog.UserCatalogKey.of(databaseId, graphName),
+            indexName,
+            index
+        );
+    }
+
+    public static void removeIndex(
+        String username,
+        DatabaseId databaseId,
+        String graphName,
+        String indexName
+    ) {
+        getUserCatalog(username).removeIndex(UserCatalog.UserCatalogKey.of(databaseId, graphName), indexName);
+    }
+
     public static void removeAllLoadedGraphs() {
         userCatalogs.clear();
     }
 
+    /**
+     * Removes all graphs of the given database, e.g. when it shuts down.
+     * If persistence is enabled, the graphs are persisted before they are removed.
+     */
     public static void removeAllLoadedGraphs(DatabaseId databaseId) {
-        userCatalogs.forEach((user, userCatalog) -> userCatalog.remove(databaseId.databaseName()));
+        var catalogPersistence = persistence;
+        userCatalogs.forEach((user, userCatalog) -> {
+            try {
+                if (catalogPersistence != null) {
+                    userCatalog.getGraphStores(databaseId).forEach((config, graphStore) -> catalogPersistence.persist(
+                        user,
+                        GraphStoreWithConfig.of(graphStore, config)
+                    ));
+                }
+            } finally {
+                // the graphs are released even if persisting them failed unexpectedly
+                userCatalog.remove(databaseId.databaseName());
+            }
+        });
+    }
+
+    /**
+     * Deletes the persisted graphs of the given database, e.g. when it is dropped.
+     */
+    public static void removeAllPersistedGraphs(String databaseName) {
+        var catalogPersistence = persistence;
+        if (catalogPersistence != null) {
+            catalogPersistence.deleteDatabase(databaseName);
+        }
     }
 
     public static Map<GraphProjectConfig, GraphStore> getGraphStores(String username) {
+        restoreAllPersisted(persistedGraph -> persistedGraph.username().equals(username));
         return getUserCatalog(username).getGraphStores();
     }
 
     public static Map<GraphProjectConfig, GraphStore> getGraphStores(String username, DatabaseId databaseId) {
+        restoreAllPersisted(persistedGraph -> persistedGraph.username().equals(username)
+                                              && persistedGraph.databaseName().equals(databaseId.databaseName()));
         return getUserCatalog(username).getGraphStores(databaseId);
     }
 
     public static Stream<GraphStoreWithUserNameAndConfig> getAllGraphStores() {
+        restoreAllPersisted(persistedGraph -> true);
         return userCatalogs
             .entrySet()
             .stream()
@@ -237,6 +345,98 @@ public final class GraphStoreCatalog {
         return userCatalogs.getOrDefault(username, UserCatalog.EMPTY);
     }
 
+    /**
+     * Restores the requested graph of the requesting user.
+     * If the request is not restricted to the catalog of that user, matching graphs of other users are restored too,
+     * so that admins can access persisted graphs of other users just like loaded ones.
+     */
+    private static void restoreIfPersisted(CatalogRequest request, UserCatalog.UserCatalogKey userCatalogKey) {
+        var catalogPersistence = persistence;
+        if (catalogPersistence == null) {
+            return;
+        }
+        restoreIfPersisted(catalogPersistence, GraphStoreCatalogPersistence.PersistedGraph.of(
+            request.username(),
+            userCatalogKey.databaseName(),
+            userCatalogKey.graphName()
+        ));
+        if (!request.restrictSearchToUsernameCatalog()) {
+            catalogPersistence.persistedGraphs().stream()
+                .filter(persistedGraph -> persistedGraph.databaseName().equals(userCatalogKey.databaseName())
+                                          && persistedGraph.graphName().equals(userCatalogKey.graphName()))
+                .forEach(persistedGraph -> restoreIfPersisted(catalogPersistence, persistedGraph));
+        }
+    }
+
+    private static void restoreAllPersisted(Predicate<GraphStoreCatalogPersistence.PersistedGraph> filter) {
+        var catalogPersistence = persistence;
+        if (catalogPersistence == null) {
+            return;
+        }
+        for (var persistedGraph : catalogPersistence.persistedGraphs()) {
+            if (!filter.test(persistedGraph)) {
+                continue;
+            }
+            try {
+                restoreIfPersisted(catalogPersistence, persistedGraph);
+            } catch (RuntimeException e) {
+                // A broken snapshot must not hide all other graphs when listing them.
+                // It is reported by the persistence and again when the graph is accessed by name.
+            }
+        }
+    }
+
+    private static void restoreIfPersisted(
+        GraphStoreCatalogPersistence catalogPersistence,
+        GraphStoreCatalogPersistence.PersistedGraph persistedGraph
+    ) {
+        var userCatalogKey = UserCatalog.UserCatalogKey.of(persistedGraph.databaseName(), persistedGraph.graphName());
+        if (getUserCatalog(persistedGraph.username()).exists(userCatalogKey)) {
+            return;
+        }
+
+        // Restoring reads the whole snapshot, make sure that concurrent first accesses restore a graph only once.
+        // Only accesses to the same graph wait for each other, all other catalog operations proceed.
+        var restore = new CompletableFuture<Void>();
+        var pendingRestore = pendingRestores.putIfAbsent(persistedGraph, restore);
+        if (pendingRestore != null) {
+            try {
+                pendingRestore.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+            return;
+        }
+
+        try {
+            if (!getUserCatalog(persistedGraph.username()).exists(userCatalogKey)) {
+                catalogPersistence
+                    .restore(persistedGraph.username(), persistedGraph.databaseName(), persistedGraph.graphName())
+                    .ifPresent(restored -> set(restored.config(), restored.graphStore()));
+            }
+            restore.complete(null);
+        } catch (RuntimeException e) {
+            restore.completeExceptionally(e);
+            throw e;
+        } finally {
+            pendingRestores.remove(persistedGraph, restore);
+        }
+    }
+
+    private static void deletePersisted(GraphStoreWithConfig graphStoreWithConfig) {
+        var catalogPersistence = persistence;
+        if (catalogPersistence != null) {
+            catalogPersistence.delete(
+                graphStoreWithConfig.config().username(),
+                graphStoreWithConfig.graphStore().databaseId().databaseName(),
+                graphStoreWithConfig.config().graphName()
+            );
+        }
+    }
+
     @ValueClass
     public interface GraphStoreWithUserNameAndConfig {
 
@@ -271,6 +471,8 @@ public final class GraphStoreCatalog {
 
         private final Map<UserCatalogKey, Map<String, Object>> degreeDistributionByName = new ConcurrentHashMap<>();
 
+        private final Map<UserCatalogKey, Map<String, Object>> indexesByName = new ConcurrentHashMap<>();
+
         private void set(
             UserCatalogKey userCatalogKey,
             GraphProjectConfig config,
@@ -289,6 +491,8 @@ public final class GraphStoreCatalog {
                 ));
             }
             graphsByName.put(userCatalogKey, graphStoreWithConfig);
+            // indexes of an overwritten graph store are stale
+            indexesByName.remove(userCatalogKey);
         }
 
         private void setDegreeDistribution(UserCatalogKey userCatalogKey, Map<String, Object> degreeDistribution) {
@@ -309,6 +513,31 @@ public final class GraphStoreCatalog {
             degreeDistributionByName.remove(userCatalogKey);
         }
 
+        private void setIndex(UserCatalogKey userCatalogKey, String indexName, Object index) {
+            if (indexName == null || index == null) {
+                throw new IllegalArgumentException("Both index name and index must be not null");
+            }
+            if (!graphsByName.containsKey(userCatalogKey)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Cannot set index `%s` because graph %s does not exist",
+                    indexName,
+                    userCatalogKey.graphName()
+                ));
+            }
+            indexesByName.computeIfAbsent(userCatalogKey, ignore -> new ConcurrentHashMap<>()).put(indexName, index);
+        }
+
+        private Optional<Object> getIndex(UserCatalogKey userCatalogKey, String indexName) {
+            if (!graphsByName.containsKey(userCatalogKey)) {
+                return Optional.empty();
+            }
+            return Optional.ofNullable(indexesByName.getOrDefault(userCatalogKey, Map.of()).get(indexName));
+        }
+
+        private void removeIndex(UserCatalogKey userCatalogKey, String indexName) {
+            indexesByName.getOrDefault(userCatalogKey, Map.of()).remove(indexName);
+        }
+
         private @Nullable GraphStoreWithConfig get(UserCatalogKey userCatalogKey, boolean failOnMissing) {
             var graphStoreWithConfig = graphsByName.get(userCatalogKey);
 
@@ -351,6 +580,7 @@ public final class GraphStoreCatalog {
                 .map(graphStoreWithConfig -> {
                     removedGraphConsumer.accept(graphStoreWithConfig);
                     removeDegreeDistribution(userCatalogKey);
+                    indexesByName.remove(userCatalogKey);
                     graphsByName.remove(userCatalogKey);
                     return Boolean.TRUE;
                 })
@@ -358,6 +588,7 @@ public final class GraphStoreCatalog {
         }
 
         private void remove(String databaseName) {
+            indexesByName.keySet().removeIf(userCatalogKey -> userCatalogKey.databaseName().equals(databaseName));
             graphsByName.keySet().removeIf(userCatalogKey -> userCatalogKey.databaseName().equals(databaseName));
         }
 
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.config.GraphProjectConfig;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Keeps graphs of the {@link GraphStoreCatalog} across restarts.
+ * <p>
+ * Graphs are persisted when their database shuts down and are restored lazily,
+ * the first time a user accesses or lists them.
+ * Persisting must not throw, failures are logged, so that the remaining graphs are still persisted and released.
+ */
+public interface GraphStoreCatalogPersistence {
+
+    /**
+     * Called before a graph is added to the catalog, so that graphs that could not be persisted
+     * are rejected while there is still a caller to report the problem to.
+     *
+     * @throws IllegalArgumentException if the graph would be persisted but cannot be written
+     */
+    void validate(GraphProjectConfig config, GraphStore graphStore);
+
+    boolean contains(String username, String databaseName, String graphName);
+
+    /**
+     * All graphs that have been persisted, regardless of whether they have been restored since.
+     */
+    List<PersistedGraph> persistedGraphs();
+
+    void persist(String username, GraphStoreWithConfig graphStoreWithConfig);
+
+    Optional<GraphStoreWithConfig> restore(String username, String databaseName, String graphName);
+
+    void delete(String username, String databaseName, String graphName);
+
+    /**
+     * Deletes the persisted graphs of all users of the given database, e.g. when it is dropped,
+     * so that a database that is later created with the same name does not restore them.
+     */
+    void deleteDatabase(String databaseName);
+
+    @ValueClass
+    interface PersistedGraph {
+
+        String username();
+
+        String databaseName();
+
+        String graphName();
+
+        static PersistedGraph of(String username, String databaseName, String graphName) {
+            return ImmutablePersistedGraph.of(username, databaseName, graphName);
+        }
+    }
+}
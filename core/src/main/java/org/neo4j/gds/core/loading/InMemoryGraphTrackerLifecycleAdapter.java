@@ -67,7 +67,9 @@ class InMemoryGraphTrackerLifecycleAdapter extends LifecycleAdapter implements D
 
     // The @override is missing for compatibility reasons
     public void databaseDrop(DatabaseEventContext eventContext) {
-        databaseIdMapping.remove(eventContext.getDatabaseName());
+        var databaseName = eventContext.getDatabaseName();
+        databaseIdMapping.remove(databaseName);
+        GraphStoreCatalog.removeAllPersistedGraphs(databaseName);
     }
 
     private void databaseIsShuttingDown(String databaseName) {
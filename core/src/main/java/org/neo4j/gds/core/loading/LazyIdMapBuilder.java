@@ -28,6 +28,7 @@ import org.neo4j.gds.core.loading.construction.NodeLabelToken;
 import org.neo4j.gds.core.loading.construction.NodesBuilder;
 import org.neo4j.gds.core.loading.construction.PropertyValues;
 import org.neo4j.gds.core.utils.paged.ShardedLongLongMap;
+import org.neo4j.gds.utils.CloseableThreadLocal;
 
 import java.util.OptionalLong;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -35,11 +36,13 @@ import java.util.concurrent.atomic.AtomicBoolean;
 public final class LazyIdMapBuilder implements PartialIdMap {
     private final AtomicBoolean isEmpty = new AtomicBoolean(true);
     private final ShardedLongLongMap.Builder intermediateIdMapBuilder;
+    private final CloseableThreadLocal<ShardedLongLongMap.ThreadLocalBuilder> threadLocalIdMapBuilders;
 
     private final NodesBuilder nodesBuilder;
 
     public LazyIdMapBuilder(int concurrency, boolean hasLabelInformation, boolean hasProperties) {
         this.intermediateIdMapBuilder = ShardedLongLongMap.builder(concurrency);
+        this.threadLocalIdMapBuilders = CloseableThreadLocal.withInitial(this.intermediateIdMapBuilder::threadLocalBuilder);
         this.nodesBuilder = GraphFactory.initNodesBuilder()
             .concurrency(concurrency)
             .maxOriginalId(NodesBuilder.UNKNOWN_MAX_ID)
@@ -54,7 +57,7 @@ public final class LazyIdMapBuilder implements PartialIdMap {
     }
 
     public long addNode(long nodeId, NodeLabelToken nodeLabels) {
-        long intermediateId = this.intermediateIdMapBuilder.addNode(nodeId);
+        long intermediateId = this.threadLocalIdMapBuilders.get().addNode(nodeId);
 
         // deduplication
         if (intermediateId < 0) {
@@ -71,7 +74,7 @@ public final class LazyIdMapBuilder implements PartialIdMap {
         PropertyValues properties,
         NodeLabelToken nodeLabels
     ) {
-        long intermediateId = this.intermediateIdMapBuilder.addNode(nodeId);
+        long intermediateId = this.threadLocalIdMapBuilders.get().addNode(nodeId);
 
         // deduplication
         if (intermediateId < 0) {
@@ -111,6 +114,7 @@ public final class LazyIdMapBuilder implements PartialIdMap {
     }
 
     public HighLimitIdMapAndProperties build() {
+        this.threadLocalIdMapBuilders.close();
         var nodes = this.nodesBuilder.build();
         var intermediateIdMap = this.intermediateIdMapBuilder.build();
         // The implementation of this map depends on either CE/EE or a feature toggle.
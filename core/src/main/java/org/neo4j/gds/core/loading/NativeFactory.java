@@ -32,6 +32,7 @@ import org.neo4j.gds.config.GraphProjectFromStoreConfig;
 import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.GraphDimensionsStoreReader;
 import org.neo4j.gds.core.IdMapBehaviorServiceProvider;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.huge.HugeGraph;
 import org.neo4j.gds.core.loading.nodeproperties.NodePropertiesFromStoreBuilder;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
@@ -46,6 +47,7 @@ import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 import org.neo4j.gds.core.utils.warnings.EmptyUserLogRegistryFactory;
 import org.neo4j.internal.id.IdGeneratorFactory;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.neo4j.gds.core.GraphDimensionsValidation.validate;
@@ -83,7 +85,12 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
 
     @Override
     public MemoryEstimation estimateMemoryUsageDuringLoading() {
-        return getMemoryEstimation(storeConfig.nodeProjections(), storeConfig.relationshipProjections(), true);
+        return getMemoryEstimation(
+            storeConfig.nodeProjections(),
+            storeConfig.relationshipProjections(),
+            storeConfig.nodeOrdering(),
+            true
+        );
     }
 
     @Override
@@ -95,6 +102,37 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
         NodeProjections nodeProjections,
         RelationshipProjections relationshipProjections,
         boolean isLoading
+    ) {
+        return getMemoryEstimation(nodeProjections, relationshipProjections, NodeOrdering.NONE, isLoading);
+    }
+
+    public static MemoryEstimation getMemoryEstimation(
+        NodeProjections nodeProjections,
+        RelationshipProjections relationshipProjections,
+        NodeOrdering nodeOrdering,
+        boolean isLoading
+    ) {
+        var graphEstimation = graphEstimation(nodeProjections, relationshipProjections, isLoading);
+        if (!isLoading || nodeOrdering == NodeOrdering.NONE) {
+            return graphEstimation;
+        }
+
+        // The reordering runs after loading and builds a second copy of the loaded graph.
+        return MemoryEstimations.builder("graph projection")
+            .max(List.of(
+                graphEstimation,
+                MemoryEstimations.builder("size during reordering")
+                    .add("loaded graph", graphEstimation(nodeProjections, relationshipProjections, false))
+                    .add("reordered graph", NodeReordering.memoryEstimation(nodeProjections, relationshipProjections))
+                    .build()
+            ))
+            .build();
+    }
+
+    private static MemoryEstimation graphEstimation(
+        NodeProjections nodeProjections,
+        RelationshipProjections relationshipProjections,
+        boolean isLoading
     ) {
         MemoryEstimations.Builder builder = MemoryEstimations.builder("graph projection");
 
@@ -279,11 +317,14 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
                 Tasks.leaf("Property Index Scan", properties.indexedProperties().size() * dimensions.nodeCount())
             );
 
-        var task = Tasks.task(
-            "Loading",
-            Tasks.task("Nodes", nodeTasks),
-            Tasks.task("Relationships", Tasks.leaf("Store Scan", relationshipCount))
-        );
+        var loadingTasks = new ArrayList<Task>();
+        loadingTasks.add(Tasks.task("Nodes", nodeTasks));
+        loadingTasks.add(Tasks.task("Relationships", Tasks.leaf("Store Scan", relationshipCount)));
+        if (graphProjectConfig.nodeOrdering() != NodeOrdering.NONE) {
+            loadingTasks.add(Tasks.leaf("Node Reordering", dimensions.nodeCount()));
+        }
+
+        var task = Tasks.task("Loading", loadingTasks);
 
         if (graphProjectConfig.logProgress()) {
             return new TaskProgressTracker(
@@ -315,6 +356,15 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
             progressTracker.beginSubTask();
             Nodes nodes = loadNodes(concurrency);
             RelationshipImportResult relationships = loadRelationships(nodes.idMap(), concurrency);
+            if (graphProjectConfig.nodeOrdering() != NodeOrdering.NONE) {
+                var reordering = new NodeReordering(nodes, relationships, concurrency, Pools.DEFAULT);
+                progressTracker.beginSubTask();
+                var order = reordering.order(graphProjectConfig.nodeOrdering());
+                nodes = reordering.reorderNodes(order);
+                relationships = reordering.reorderRelationships(order, nodes.idMap());
+                progressTracker.logProgress(nodes.idMap().nodeCount());
+                progressTracker.endSubTask();
+            }
             CSRGraphStore graphStore = createGraphStore(nodes, relationships);
 
             logLoadingSummary(graphStore);
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+import static org.neo4j.gds.utils.StringFormatting.toUpperCaseWithLocale;
+
+/**
+ * Determines how internal node ids are assigned after a native projection.
+ * Any ordering other than {@link #NONE} relabels the nodes once all relationships are loaded,
+ * so that nodes which are accessed together end up close to each other in memory.
+ */
+public enum NodeOrdering {
+    /**
+     * Keep the order in which nodes were scanned from the store.
+     */
+    NONE,
+    /**
+     * Sort nodes by descending degree, so that hubs share the first pages of node property arrays.
+     */
+    DEGREE,
+    /**
+     * Reverse Cuthill-McKee: a breadth-first traversal that visits neighbours by ascending degree,
+     * which reduces the bandwidth of the adjacency matrix.
+     */
+    RCM;
+
+    private static final List<String> VALUES = Arrays
+        .stream(NodeOrdering.values())
+        .map(NodeOrdering::name)
+        .collect(Collectors.toList());
+
+    public static NodeOrdering parse(Object input) {
+        if (input instanceof String) {
+            var inputString = toUpperCaseWithLocale((String) input);
+            if (VALUES.contains(inputString)) {
+                return NodeOrdering.valueOf(inputString);
+            }
+
+            throw new IllegalArgumentException(formatWithLocale(
+                "Node ordering `%s` is not supported. Must be one of: %s.",
+                inputString,
+                VALUES
+            ));
+        } else if (input instanceof NodeOrdering) {
+            return (NodeOrdering) input;
+        }
+
+        throw new IllegalArgumentException(formatWithLocale(
+            "Expected NodeOrdering or String. Got %s.",
+            input.getClass().getSimpleName()
+        ));
+    }
+
+    public static String toString(NodeOrdering nodeOrdering) {
+        return nodeOrdering.toString();
+    }
+}
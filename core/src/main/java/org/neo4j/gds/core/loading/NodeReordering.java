@@ -0,0 +1,412 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.gds.NodeProjections;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipProjections;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.ImmutableRelationshipProperty;
+import org.neo4j.gds.api.ImmutableTopology;
+import org.neo4j.gds.api.PropertyCursor;
+import org.neo4j.gds.api.RelationshipPropertyStore;
+import org.neo4j.gds.api.Topology;
+import org.neo4j.gds.api.properties.nodes.ImmutableNodeProperty;
+import org.neo4j.gds.api.properties.nodes.NodePropertyStore;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.core.loading.construction.RelationshipsBuilder;
+import org.neo4j.gds.core.loading.nodeproperties.NodePropertiesFromStoreBuilder;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeSerialIndirectMergeSort;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * Relabels the nodes of a loaded graph according to a {@link NodeOrdering}.
+ * The id map, node properties and all relationship types are rebuilt in the new id space,
+ * which is only possible after loading, as the orderings depend on the adjacency.
+ */
+public final class NodeReordering {
+
+    /**
+     * Estimates the memory that is allocated on top of the loaded graph:
+     * the new order and its inverse as well as a full copy of the id map, node properties and relationships,
+     * which is built through the same builders as during loading.
+     */
+    public static MemoryEstimation memoryEstimation(
+        NodeProjections nodeProjections,
+        RelationshipProjections relationshipProjections
+    ) {
+        return MemoryEstimations.builder(NodeReordering.class)
+            .perNode("order", HugeLongArray::memoryEstimation)
+            .perNode("new ids", HugeLongArray::memoryEstimation)
+            .perNode("degrees", HugeIntArray::memoryEstimation)
+            .add("copy", NativeFactory.getMemoryEstimation(nodeProjections, relationshipProjections, true))
+            .build();
+    }
+
+    private final Nodes nodes;
+    private final RelationshipImportResult relationships;
+    private final int concurrency;
+    private final ExecutorService executorService;
+
+    public NodeReordering(
+        Nodes nodes,
+        RelationshipImportResult relationships,
+        int concurrency,
+        ExecutorService executorService
+    ) {
+        this.nodes = nodes;
+        this.relationships = relationships;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+    }
+
+    /**
+     * Computes the new order of the nodes.
+     *
+     * @return an array where the value at index {@code i} is the current id of the node that gets the new id {@code i}
+     */
+    public HugeLongArray order(NodeOrdering nodeOrdering) {
+        var nodeCount = nodes.idMap().nodeCount();
+        var adjacencyLists = adjacencyLists();
+        var degrees = degrees(adjacencyLists, nodeCount);
+
+        switch (nodeOrdering) {
+            case NONE:
+                var identity = HugeLongArray.newArray(nodeCount);
+                identity.setAll(nodeId -> nodeId);
+                return identity;
+            case DEGREE:
+                return sortedByDegree(nodeCount, nodeId -> -degrees.get(nodeId));
+            case RCM:
+                return reverseCuthillMcKee(adjacencyLists, degrees, nodeCount);
+            default:
+                throw new IllegalArgumentException("Unsupported node ordering " + nodeOrdering);
+        }
+    }
+
+    public Nodes reorderNodes(HugeLongArray order) {
+        var idMap = nodes.idMap();
+        var nodeCount = idMap.nodeCount();
+
+        var originalIds = HugeLongArray.newArray(nodeCount);
+        var labelInformationBuilder = LabelInformationBuilders.multiLabelWithCapacityAndLabelInformation(
+            idMap.highestOriginalId() + 1,
+            idMap.availableNodeLabels(),
+            List.of()
+        );
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, newId -> {
+            long oldId = order.get(newId);
+            long originalId = idMap.toOriginalNodeId(oldId);
+            originalIds.set(newId, originalId);
+            idMap.forEachNodeLabel(oldId, nodeLabel -> {
+                labelInformationBuilder.addNodeIdToLabel(nodeLabel, originalId);
+                return true;
+            });
+        });
+
+        var reorderedIdMap = ArrayIdMapBuilderOps.build(
+            originalIds,
+            nodeCount,
+            labelInformationBuilder,
+            idMap.highestOriginalId(),
+            concurrency
+        );
+
+        var propertyStoreBuilder = NodePropertyStore.builder();
+        nodes.properties().properties().values().forEach(nodeProperty -> {
+            var values = nodeProperty.values();
+            // property builders are keyed by original id, which does not change
+            var builder = NodePropertiesFromStoreBuilder.of(nodeProperty.defaultValue(), concurrency);
+            ParallelUtil.parallelForEachNode(
+                nodeCount,
+                concurrency,
+                oldId -> builder.set(idMap.toOriginalNodeId(oldId), values.value(oldId))
+            );
+            propertyStoreBuilder.putProperty(
+                nodeProperty.key(),
+                ImmutableNodeProperty.of(builder.build(reorderedIdMap), nodeProperty.propertySchema())
+            );
+        });
+
+        return ImmutableNodes.builder()
+            .from(nodes)
+            .idMap(reorderedIdMap)
+            .properties(propertyStoreBuilder.build())
+            .build();
+    }
+
+    public RelationshipImportResult reorderRelationships(HugeLongArray order, IdMap reorderedIdMap) {
+        var nodeCount = order.size();
+        var newIds = HugeLongArray.newArray(nodeCount);
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, newId -> newIds.set(order.get(newId), newId));
+
+        var builder = RelationshipImportResult.builder();
+        relationships.importResults().forEach((relationshipType, singleTypeRelationships) -> builder.putImportResult(
+            relationshipType,
+            reorder(singleTypeRelationships, order, newIds, reorderedIdMap)
+        ));
+        return builder.build();
+    }
+
+    private SingleTypeRelationships reorder(
+        SingleTypeRelationships relationships,
+        HugeLongArray order,
+        HugeLongArray newIds,
+        IdMap reorderedIdMap
+    ) {
+        var propertyStore = relationships.properties().orElseGet(() -> RelationshipPropertyStore.builder().build());
+        var propertyKeys = new ArrayList<>(propertyStore.keySet());
+
+        var relationshipsBuilderBuilder = GraphFactory.initRelationshipsBuilder()
+            .relationshipType(relationships.relationshipSchemaEntry().identifier())
+            .nodes(reorderedIdMap)
+            // undirected relationships are already stored in both directions
+            .orientation(Orientation.NATURAL)
+            .aggregation(Aggregation.NONE)
+            .indexInverse(relationships.inverseTopology().isPresent())
+            .validateRelationships(false)
+            .concurrency(concurrency)
+            .executorService(executorService);
+
+        propertyKeys.forEach(propertyKey -> {
+            var propertySchema = propertyStore.get(propertyKey).propertySchema();
+            relationshipsBuilderBuilder.addPropertyConfig(GraphFactory.PropertyConfig.builder()
+                .propertyKey(propertyKey)
+                .aggregation(Aggregation.NONE)
+                .defaultValue(propertySchema.defaultValue())
+                .propertyState(propertySchema.state())
+                .build());
+        });
+
+        var relationshipsBuilder = relationshipsBuilderBuilder.build();
+        var adjacencyList = relationships.topology().adjacencyList();
+        var propertyLists = propertyKeys
+            .stream()
+            .map(propertyKey -> propertyStore.get(propertyKey).values().propertiesList())
+            .toArray(AdjacencyProperties[]::new);
+
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            order.size(),
+            partition -> (Runnable) () -> {
+                AdjacencyCursor cursor = adjacencyList.rawAdjacencyCursor();
+                var propertyCursors = new PropertyCursor[propertyLists.length];
+                for (int i = 0; i < propertyLists.length; i++) {
+                    propertyCursors[i] = propertyLists[i].rawPropertyCursor();
+                }
+                var propertyValues = new double[propertyLists.length];
+
+                long endNode = partition.startNode() + partition.nodeCount();
+                for (long newId = partition.startNode(); newId < endNode; newId++) {
+                    long oldId = order.get(newId);
+                    cursor = adjacencyList.adjacencyCursor(cursor, oldId);
+                    for (int i = 0; i < propertyLists.length; i++) {
+                        propertyCursors[i] = propertyLists[i].propertyCursor(propertyCursors[i], oldId);
+                    }
+                    while (cursor.hasNextVLong()) {
+                        long newTarget = newIds.get(cursor.nextVLong());
+                        addRelationship(relationshipsBuilder, newId, newTarget, propertyCursors, propertyValues);
+                    }
+                }
+            },
+            Optional.empty()
+        );
+
+        RunWithConcurrency
+            .builder()
+            .tasks(tasks)
+            .concurrency(concurrency)
+            .executor(executorService)
+            .run();
+
+        var reordered = relationshipsBuilder.build();
+
+        var builder = SingleTypeRelationships
+            .builder()
+            .from(relationships)
+            .topology(withMultiGraph(reordered.topology(), relationships.topology().isMultiGraph()))
+            .properties(reordered.properties().map(properties -> withSchema(properties, propertyStore)));
+
+        relationships.inverseTopology().ifPresent(inverseTopology -> builder.inverseTopology(withMultiGraph(
+            reordered.inverseTopology().orElseThrow(),
+            inverseTopology.isMultiGraph()
+        )));
+        relationships.inverseProperties().ifPresent(inverseProperties -> builder.inverseProperties(withSchema(
+            reordered.inverseProperties().orElseThrow(),
+            inverseProperties
+        )));
+
+        return builder.build();
+    }
+
+    private static void addRelationship(
+        RelationshipsBuilder relationshipsBuilder,
+        long source,
+        long target,
+        PropertyCursor[] propertyCursors,
+        double[] propertyValues
+    ) {
+        switch (propertyCursors.length) {
+            case 0:
+                relationshipsBuilder.addFromInternal(source, target);
+                break;
+            case 1:
+                relationshipsBuilder.addFromInternal(
+                    source,
+                    target,
+                    Double.longBitsToDouble(propertyCursors[0].nextLong())
+                );
+                break;
+            default:
+                for (int i = 0; i < propertyCursors.length; i++) {
+                    propertyValues[i] = Double.longBitsToDouble(propertyCursors[i].nextLong());
+                }
+                relationshipsBuilder.addFromInternal(source, target, propertyValues);
+        }
+    }
+
+    private List<AdjacencyList> adjacencyLists() {
+        var adjacencyLists = new ArrayList<AdjacencyList>();
+        relationships.importResults().values().forEach(singleTypeRelationships -> {
+            adjacencyLists.add(singleTypeRelationships.topology().adjacencyList());
+            singleTypeRelationships
+                .inverseTopology()
+                .ifPresent(inverseTopology -> adjacencyLists.add(inverseTopology.adjacencyList()));
+        });
+        return adjacencyLists;
+    }
+
+    private HugeIntArray degrees(List<AdjacencyList> adjacencyLists, long nodeCount) {
+        var degrees = HugeIntArray.newArray(nodeCount);
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, nodeId -> {
+            int degree = 0;
+            for (var adjacencyList : adjacencyLists) {
+                degree += adjacencyList.degree(nodeId);
+            }
+            degrees.set(nodeId, degree);
+        });
+        return degrees;
+    }
+
+    private static HugeLongArray sortedByDegree(long nodeCount, LongToDoubleFunction sortValue) {
+        var nodeIds = HugeLongArray.newArray(nodeCount);
+        nodeIds.setAll(nodeId -> nodeId);
+        // the merge sort is stable, nodes of equal degree keep their scan order
+        HugeSerialIndirectMergeSort.sort(nodeIds, sortValue);
+        return nodeIds;
+    }
+
+    private static HugeLongArray reverseCuthillMcKee(
+        List<AdjacencyList> adjacencyLists,
+        HugeIntArray degrees,
+        long nodeCount
+    ) {
+        // every connected component starts its traversal at the unvisited node with the lowest degree
+        var startNodes = sortedByDegree(nodeCount, degrees::get);
+        var order = HugeLongArray.newArray(nodeCount);
+        var visited = new BitSet(nodeCount);
+
+        int maxDegree = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            maxDegree = Math.max(maxDegree, degrees.get(nodeId));
+        }
+        var neighbours = HugeLongArray.newArray(maxDegree);
+        var sortBuffer = HugeLongArray.newArray(maxDegree);
+
+        var cursors = new AdjacencyCursor[adjacencyLists.size()];
+        for (int i = 0; i < cursors.length; i++) {
+            cursors[i] = adjacencyLists.get(i).rawAdjacencyCursor();
+        }
+
+        long head = 0;
+        long tail = 0;
+        for (long i = 0; i < nodeCount; i++) {
+            long startNode = startNodes.get(i);
+            if (visited.getAndSet(startNode)) {
+                continue;
+            }
+            order.set(tail++, startNode);
+
+            // the order array doubles as the queue of the breadth-first traversal
+            while (head < tail) {
+                long nodeId = order.get(head++);
+                int neighbourCount = 0;
+                for (int j = 0; j < cursors.length; j++) {
+                    var cursor = adjacencyLists.get(j).adjacencyCursor(cursors[j], nodeId);
+                    cursors[j] = cursor;
+                    while (cursor.hasNextVLong()) {
+                        long target = cursor.nextVLong();
+                        if (!visited.getAndSet(target)) {
+                            neighbours.set(neighbourCount++, target);
+                        }
+                    }
+                }
+                HugeSerialIndirectMergeSort.sort(neighbours, neighbourCount, degrees::get, sortBuffer);
+                for (int j = 0; j < neighbourCount; j++) {
+                    order.set(tail++, neighbours.get(j));
+                }
+            }
+        }
+
+        for (long left = 0, right = nodeCount - 1; left < right; left++, right--) {
+            long tmp = order.get(left);
+            order.set(left, order.get(right));
+            order.set(right, tmp);
+        }
+
+        return order;
+    }
+
+    private static Topology withMultiGraph(Topology topology, boolean isMultiGraph) {
+        return ImmutableTopology.builder()
+            .from(topology)
+            .isMultiGraph(isMultiGraph)
+            .build();
+    }
+
+    private static RelationshipPropertyStore withSchema(
+        RelationshipPropertyStore reordered,
+        RelationshipPropertyStore original
+    ) {
+        var builder = RelationshipPropertyStore.builder();
+        original.relationshipProperties().forEach((propertyKey, property) -> builder.putIfAbsent(
+            propertyKey,
+            ImmutableRelationshipProperty.of(reordered.get(propertyKey).values(), property.propertySchema())
+        ));
+        return builder.build();
+    }
+}
@@ -0,0 +1,414 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.delta;
+
+import com.carrotsearch.hppc.LongIntHashMap;
+import com.carrotsearch.hppc.LongObjectHashMap;
+import com.carrotsearch.hppc.cursors.LongIntCursor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+
+import java.util.Arrays;
+
+/**
+ * An adjacency list that overlays added and removed relationships on top of an immutable base adjacency list.
+ *
+ * The overlay stores, per touched source node, the sorted targets that have been added and
+ * the sorted targets that have been removed from the base list. Cursors merge both into the
+ * base iteration, so targets are still returned in ascending order.
+ *
+ * Instances are immutable; {@link #withDelta(RelationshipDelta, boolean)} returns a new list
+ * and leaves cursors over this list untouched.
+ */
+public final class DeltaAdjacencyList implements AdjacencyList {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final AdjacencyList base;
+    private final LongObjectHashMap<NodeDelta> overlay;
+    // sum of added and removed targets over all nodes
+    private final long overlaySize;
+    // sum of added minus removed targets over all nodes
+    private final long elementCountDelta;
+
+    public static DeltaAdjacencyList of(AdjacencyList adjacencyList) {
+        if (adjacencyList instanceof DeltaAdjacencyList) {
+            return (DeltaAdjacencyList) adjacencyList;
+        }
+        return new DeltaAdjacencyList(adjacencyList, new LongObjectHashMap<>(), 0, 0);
+    }
+
+    private DeltaAdjacencyList(
+        AdjacencyList base,
+        LongObjectHashMap<NodeDelta> overlay,
+        long overlaySize,
+        long elementCountDelta
+    ) {
+        this.base = base;
+        this.overlay = overlay;
+        this.overlaySize = overlaySize;
+        this.elementCountDelta = elementCountDelta;
+    }
+
+    public AdjacencyList base() {
+        return base;
+    }
+
+    /**
+     * The number of added and removed targets held in the overlay.
+     */
+    public long overlaySize() {
+        return overlaySize;
+    }
+
+    /**
+     * The difference in relationship count between this list and the base list.
+     */
+    public long elementCountDelta() {
+        return elementCountDelta;
+    }
+
+    /**
+     * Returns a new adjacency list with the given delta applied on top of this one.
+     *
+     * Removing a relationship removes all of its occurrences; removing a relationship that does not exist is a no-op.
+     * Unless {@code multiGraph} is set, adding a relationship that already exists is a no-op as well.
+     */
+    public DeltaAdjacencyList withDelta(RelationshipDelta delta, boolean multiGraph) {
+        var newOverlay = overlay.clone();
+        long newOverlaySize = overlaySize;
+        long newElementCountDelta = elementCountDelta;
+
+        for (long source : delta.sources()) {
+            var current = overlay.get(source);
+            if (current != null) {
+                newOverlaySize -= current.size();
+                newElementCountDelta -= current.degreeDelta();
+            }
+
+            var updated = merge(source, current, delta.additions(source), delta.removals(source), multiGraph);
+
+            if (updated.size() == 0) {
+                newOverlay.remove(source);
+            } else {
+                newOverlay.put(source, updated);
+                newOverlaySize += updated.size();
+                newElementCountDelta += updated.degreeDelta();
+            }
+        }
+
+        return new DeltaAdjacencyList(base, newOverlay, newOverlaySize, newElementCountDelta);
+    }
+
+    @Override
+    public int degree(long node) {
+        var nodeDelta = overlay.get(node);
+        return nodeDelta == null
+            ? base.degree(node)
+            : base.degree(node) + nodeDelta.degreeDelta();
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(long node, double fallbackValue) {
+        var nodeDelta = overlay.get(node);
+        if (nodeDelta == null) {
+            return base.adjacencyCursor(node, fallbackValue);
+        }
+        var cursor = new Cursor(this);
+        initCursor(cursor, node, nodeDelta, fallbackValue);
+        return cursor;
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(@Nullable AdjacencyCursor reuse, long node, double fallbackValue) {
+        if (reuse instanceof Cursor) {
+            initCursor((Cursor) reuse, node, overlay.get(node), fallbackValue);
+            return reuse;
+        }
+        return adjacencyCursor(node, fallbackValue);
+    }
+
+    /**
+     * Creates an uninitialized cursor.
+     * The {@code index} passed to {@link AdjacencyCursor#init(long, int)} is the node id.
+     */
+    @Override
+    public AdjacencyCursor rawAdjacencyCursor() {
+        return new Cursor(this);
+    }
+
+    private void initCursor(Cursor cursor, long node, @Nullable NodeDelta nodeDelta, double fallbackValue) {
+        var baseCursor = base.adjacencyCursor(cursor.base, node, fallbackValue);
+        if (nodeDelta == null) {
+            cursor.init(baseCursor, EMPTY, EMPTY, base.degree(node));
+        } else {
+            cursor.init(baseCursor, nodeDelta.added, nodeDelta.removed, base.degree(node) + nodeDelta.degreeDelta());
+        }
+    }
+
+    private NodeDelta merge(
+        long node,
+        @Nullable NodeDelta current,
+        long[] additions,
+        long[] removals,
+        boolean multiGraph
+    ) {
+        var addedCounts = new LongIntHashMap();
+        var removedCounts = new LongIntHashMap();
+        if (current != null) {
+            for (long target : current.added) {
+                addedCounts.addTo(target, 1);
+            }
+            for (long target : current.removed) {
+                removedCounts.addTo(target, 1);
+            }
+        }
+
+        var queries = new long[additions.length + removals.length];
+        System.arraycopy(additions, 0, queries, 0, additions.length);
+        System.arraycopy(removals, 0, queries, additions.length, removals.length);
+        Arrays.sort(queries);
+        var baseCounts = baseCounts(node, queries);
+
+        for (long target : removals) {
+            addedCounts.remove(target);
+            removedCounts.put(target, baseCounts.get(target));
+        }
+
+        for (long target : additions) {
+            if (!multiGraph) {
+                boolean existsInOverlay = addedCounts.containsKey(target);
+                boolean existsInBase = baseCounts.get(target) > removedCounts.get(target);
+                if (existsInOverlay || existsInBase) {
+                    continue;
+                }
+            }
+            addedCounts.addTo(target, 1);
+        }
+
+        return new NodeDelta(expand(addedCounts), expand(removedCounts));
+    }
+
+    /**
+     * Counts how often each of the sorted {@code targets} occurs in the base adjacency of the given node.
+     */
+    private LongIntHashMap baseCounts(long node, long[] targets) {
+        var counts = new LongIntHashMap();
+        if (targets.length == 0 || base.degree(node) == 0) {
+            return counts;
+        }
+
+        var cursor = base.adjacencyCursor(node);
+        int index = 0;
+        while (cursor.hasNextVLong() && index < targets.length) {
+            long target = cursor.nextVLong();
+            while (index < targets.length && targets[index] < target) {
+                index++;
+            }
+            if (index < targets.length && targets[index] == target) {
+                counts.addTo(target, 1);
+            }
+        }
+        return counts;
+    }
+
+    private static long[] expand(LongIntHashMap counts) {
+        int size = 0;
+        for (LongIntCursor entry : counts) {
+            size += entry.value;
+        }
+        if (size == 0) {
+            return EMPTY;
+        }
+
+        var targets = new long[size];
+        int offset = 0;
+        for (LongIntCursor entry : counts) {
+            Arrays.fill(targets, offset, offset + entry.value, entry.key);
+            offset += entry.value;
+        }
+        Arrays.sort(targets);
+        return targets;
+    }
+
+    private static final class NodeDelta {
+        private final long[] added;
+        private final long[] removed;
+
+        NodeDelta(long[] added, long[] removed) {
+            this.added = added;
+            this.removed = removed;
+        }
+
+        int size() {
+            return added.length + removed.length;
+        }
+
+        int degreeDelta() {
+            return added.length - removed.length;
+        }
+    }
+
+    public static final class Cursor implements AdjacencyCursor {
+
+        private final DeltaAdjacencyList adjacencyList;
+
+        private AdjacencyCursor base;
+        private long[] added;
+        private long[] removed;
+        private int addedOffset;
+        private int removedOffset;
+
+        private int degree;
+        private int consumed;
+        private long next;
+
+        private Cursor(DeltaAdjacencyList adjacencyList) {
+            this.adjacencyList = adjacencyList;
+            this.base = AdjacencyCursor.empty();
+            this.added = EMPTY;
+            this.removed = EMPTY;
+        }
+
+        @Override
+        public void init(long node, int degree) {
+            adjacencyList.initCursor(this, node, adjacencyList.overlay.get(node), Double.NaN);
+        }
+
+        private void init(AdjacencyCursor base, long[] added, long[] removed, int degree) {
+            this.base = base;
+            this.added = added;
+            this.removed = removed;
+            this.addedOffset = 0;
+            this.removedOffset = 0;
+            this.degree = degree;
+            this.consumed = 0;
+            this.next = degree > 0 ? fetchNext() : NOT_FOUND;
+        }
+
+        @Override
+        public int size() {
+            return degree;
+        }
+
+        @Override
+        public boolean hasNextVLong() {
+            return consumed < degree;
+        }
+
+        @Override
+        public long nextVLong() {
+            long current = next;
+            consumed++;
+            next = consumed < degree ? fetchNext() : NOT_FOUND;
+            return current;
+        }
+
+        @Override
+        public long peekVLong() {
+            return next;
+        }
+
+        @Override
+        public int remaining() {
+            return degree - consumed;
+        }
+
+        @Override
+        public long skipUntil(long target) {
+            while (hasNextVLong()) {
+                long value = nextVLong();
+                if (value > target) {
+                    return value;
+                }
+            }
+            return NOT_FOUND;
+        }
+
+        @Override
+        public long advance(long target) {
+            while (hasNextVLong()) {
+                long value = nextVLong();
+                if (value >= target) {
+                    return value;
+                }
+            }
+            return NOT_FOUND;
+        }
+
+        @Override
+        public long advanceBy(int n) {
+            assert n >= 0;
+
+            while (n-- > 0 && hasNextVLong()) {
+                nextVLong();
+            }
+            return hasNextVLong() ? nextVLong() : NOT_FOUND;
+        }
+
+        @Override
+        public @NotNull AdjacencyCursor shallowCopy(@Nullable AdjacencyCursor destination) {
+            var dest = destination instanceof Cursor
+                ? (Cursor) destination
+                : new Cursor(adjacencyList);
+
+            dest.base = base.shallowCopy(dest.base);
+            dest.added = added;
+            dest.removed = removed;
+            dest.addedOffset = addedOffset;
+            dest.removedOffset = removedOffset;
+            dest.degree = degree;
+            dest.consumed = consumed;
+            dest.next = next;
+
+            return dest;
+        }
+
+        /**
+         * Merges the next base target with the next added target, skipping base targets that have been removed.
+         */
+        private long fetchNext() {
+            while (true) {
+                long baseTarget = base.hasNextVLong() ? base.peekVLong() : Long.MAX_VALUE;
+                long addedTarget = addedOffset < added.length ? added[addedOffset] : Long.MAX_VALUE;
+
+                if (addedTarget < baseTarget) {
+                    addedOffset++;
+                    return addedTarget;
+                }
+                if (baseTarget == Long.MAX_VALUE) {
+                    return NOT_FOUND;
+                }
+
+                base.nextVLong();
+                while (removedOffset < removed.length && removed[removedOffset] < baseTarget) {
+                    removedOffset++;
+                }
+                if (removedOffset < removed.length && removed[removedOffset] == baseTarget) {
+                    removedOffset++;
+                    continue;
+                }
+                return baseTarget;
+            }
+        }
+    }
+}
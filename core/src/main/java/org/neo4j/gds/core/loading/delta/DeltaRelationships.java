@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.delta;
+
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.ImmutableTopology;
+import org.neo4j.gds.api.Topology;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.loading.SingleTypeRelationships;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.core.loading.construction.RelationshipsBuilder;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Applies {@link RelationshipDelta}s to the relationships of a single type and compacts the
+ * resulting overlays back into a plain CSR adjacency list.
+ */
+public final class DeltaRelationships {
+
+    private DeltaRelationships() {}
+
+    /**
+     * Applies the delta on top of the given relationships.
+     * For undirected relationships, each change is applied in both directions.
+     * If the relationships are inverse indexed, the inverse topology is updated as well.
+     */
+    public static SingleTypeRelationships apply(SingleTypeRelationships relationships, RelationshipDelta delta) {
+        var schemaEntry = relationships.relationshipSchemaEntry();
+        if (relationships.properties().isPresent()) {
+            throw new UnsupportedOperationException(formatWithLocale(
+                "Relationship deltas are not supported for relationship type `%s` because it has properties.",
+                schemaEntry.identifier().name
+            ));
+        }
+
+        var forwardDelta = schemaEntry.direction() == Direction.UNDIRECTED
+            ? delta.symmetrize()
+            : delta;
+
+        var builder = SingleTypeRelationships
+            .builder()
+            .from(relationships)
+            .topology(apply(relationships.topology(), forwardDelta));
+
+        relationships
+            .inverseTopology()
+            .ifPresent(inverseTopology -> builder.inverseTopology(apply(inverseTopology, forwardDelta.reverse())));
+
+        return builder.build();
+    }
+
+    /**
+     * The number of added and removed relationships that are not yet compacted into the CSR.
+     */
+    public static long overlaySize(SingleTypeRelationships relationships) {
+        var adjacencyList = relationships.topology().adjacencyList();
+        return adjacencyList instanceof DeltaAdjacencyList
+            ? ((DeltaAdjacencyList) adjacencyList).overlaySize()
+            : 0L;
+    }
+
+    /**
+     * Rebuilds the topology, and the inverse topology if present, into new CSR adjacency lists without overlays.
+     */
+    public static SingleTypeRelationships compact(
+        SingleTypeRelationships relationships,
+        IdMap nodes,
+        int concurrency,
+        ExecutorService executorService
+    ) {
+        var topology = relationships.topology();
+        var adjacencyList = topology.adjacencyList();
+
+        // The merged adjacency already contains both directions for undirected relationships
+        // and is free of duplicates unless it is a multi graph, so we copy it as is.
+        RelationshipsBuilder relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
+            .relationshipType(relationships.relationshipSchemaEntry().identifier())
+            .nodes(nodes)
+            .orientation(Orientation.NATURAL)
+            .aggregation(Aggregation.NONE)
+            .indexInverse(relationships.inverseTopology().isPresent())
+            .validateRelationships(false)
+            .concurrency(concurrency)
+            .executorService(executorService)
+            .build();
+
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            nodes.nodeCount(),
+            partition -> (Runnable) () -> {
+                AdjacencyCursor cursor = null;
+                long endNode = partition.startNode() + partition.nodeCount();
+                for (long nodeId = partition.startNode(); nodeId < endNode; nodeId++) {
+                    cursor = adjacencyList.adjacencyCursor(cursor, nodeId);
+                    while (cursor.hasNextVLong()) {
+                        relationshipsBuilder.addFromInternal(nodeId, cursor.nextVLong());
+                    }
+                }
+            },
+            Optional.empty()
+        );
+
+        RunWithConcurrency
+            .builder()
+            .tasks(tasks)
+            .concurrency(concurrency)
+            .executor(executorService)
+            .build()
+            .run();
+
+        var compacted = relationshipsBuilder.build();
+
+        var builder = SingleTypeRelationships
+            .builder()
+            .from(relationships)
+            .topology(withMultiGraph(compacted.topology(), topology.isMultiGraph()));
+
+        relationships.inverseTopology().ifPresent(inverseTopology -> builder.inverseTopology(withMultiGraph(
+            compacted.inverseTopology().orElseThrow(),
+            inverseTopology.isMultiGraph()
+        )));
+
+        return builder.build();
+    }
+
+    private static Topology apply(Topology topology, RelationshipDelta delta) {
+        var adjacencyList = DeltaAdjacencyList.of(topology.adjacencyList());
+        var updated = adjacencyList.withDelta(delta, topology.isMultiGraph());
+
+        return ImmutableTopology.builder()
+            .from(topology)
+            .adjacencyList(updated)
+            .elementCount(topology.elementCount() + updated.elementCountDelta() - adjacencyList.elementCountDelta())
+            .build();
+    }
+
+    private static Topology withMultiGraph(Topology topology, boolean isMultiGraph) {
+        return ImmutableTopology.builder()
+            .from(topology)
+            .isMultiGraph(isMultiGraph)
+            .build();
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.delta;
+
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.LongHashSet;
+import com.carrotsearch.hppc.LongObjectHashMap;
+import com.carrotsearch.hppc.cursors.LongCursor;
+import com.carrotsearch.hppc.cursors.LongObjectCursor;
+
+import java.util.Arrays;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A batch of relationship additions and removals for a single relationship type.
+ * Source and target ids are mapped node ids of the graph store the delta is applied to.
+ *
+ * Within a batch, removals are applied before additions.
+ * This class is not thread-safe.
+ */
+public final class RelationshipDelta {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final LongObjectHashMap<LongArrayList> additions;
+    private final LongObjectHashMap<LongArrayList> removals;
+    private long size;
+    private long maxNodeId;
+
+    public RelationshipDelta() {
+        this.additions = new LongObjectHashMap<>();
+        this.removals = new LongObjectHashMap<>();
+        this.size = 0;
+        this.maxNodeId = -1;
+    }
+
+    public RelationshipDelta add(long source, long target) {
+        append(additions, source, target);
+        return this;
+    }
+
+    public RelationshipDelta remove(long source, long target) {
+        append(removals, source, target);
+        return this;
+    }
+
+    /**
+     * The number of additions and removals in this delta.
+     */
+    public long size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * The largest source or target id in this delta, or -1 if the delta is empty.
+     */
+    public long maxNodeId() {
+        return maxNodeId;
+    }
+
+    /**
+     * All source nodes that have at least one addition or removal, in ascending order.
+     */
+    long[] sources() {
+        var sources = new LongHashSet(additions.size() + removals.size());
+        sources.addAll(additions.keys());
+        sources.addAll(removals.keys());
+        var sorted = sources.toArray();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * The targets added for the given source, in ascending order.
+     */
+    long[] additions(long source) {
+        return sortedTargets(additions, source);
+    }
+
+    /**
+     * The targets removed for the given source, in ascending order.
+     */
+    long[] removals(long source) {
+        return sortedTargets(removals, source);
+    }
+
+    /**
+     * Returns a delta where every relationship points in the opposite direction.
+     */
+    RelationshipDelta reverse() {
+        var reversed = new RelationshipDelta();
+        forEach(removals, (source, target) -> reversed.remove(target, source));
+        forEach(additions, (source, target) -> reversed.add(target, source));
+        return reversed;
+    }
+
+    /**
+     * Returns a delta that contains every relationship in both directions.
+     * Self-loops are only contained once.
+     */
+    RelationshipDelta symmetrize() {
+        var undirected = new RelationshipDelta();
+        forEach(removals, (source, target) -> {
+            undirected.remove(source, target);
+            if (source != target) {
+                undirected.remove(target, source);
+            }
+        });
+        forEach(additions, (source, target) -> {
+            undirected.add(source, target);
+            if (source != target) {
+                undirected.add(target, source);
+            }
+        });
+        return undirected;
+    }
+
+    private void append(LongObjectHashMap<LongArrayList> targetsBySource, long source, long target) {
+        if (source < 0 || target < 0) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Node ids must not be negative, got (%d)-->(%d).",
+                source,
+                target
+            ));
+        }
+        maxNodeId = Math.max(maxNodeId, Math.max(source, target));
+        var targets = targetsBySource.get(source);
+        if (targets == null) {
+            targets = new LongArrayList();
+            targetsBySource.put(source, targets);
+        }
+        targets.add(target);
+        size++;
+    }
+
+    private static long[] sortedTargets(LongObjectHashMap<LongArrayList> targetsBySource, long source) {
+        var targets = targetsBySource.get(source);
+        if (targets == null) {
+            return EMPTY;
+        }
+        var sorted = targets.toArray();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    private static void forEach(LongObjectHashMap<LongArrayList> targetsBySource, RelationshipConsumer consumer) {
+        for (LongObjectCursor<LongArrayList> entry : targetsBySource) {
+            for (LongCursor target : entry.value) {
+                consumer.accept(entry.key, target.value);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface RelationshipConsumer {
+        void accept(long source, long target);
+    }
+}
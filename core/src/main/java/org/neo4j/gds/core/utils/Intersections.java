@@ -20,9 +20,27 @@
 package org.neo4j.gds.core.utils;
 
 import com.carrotsearch.hppc.LongHashSet;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
+/**
+ * Set intersections and the vector kernels behind the similarity metrics.
+ * <p>
+ * The kernels are plain Java loops, because the code base targets Java 11 and the Vector API
+ * ({@code jdk.incubator.vector}) is neither available there nor enabled in a default Neo4j deployment.
+ * Instead, reductions sum into several independent accumulators: the JIT keeps floating point additions
+ * in program order, so a single accumulator makes every addition wait for the previous one.
+ * This changes the order of the additions, and results can differ from a sequential sum in the last bits.
+ * <p>
+ * Other array kernels, such as the Node2Vec embedding updates and the matrix products of ml-core,
+ * are written in the same way.
+ */
 public final class Intersections {
 
+    public static final int BLOCK_SIZE = 4;
+
+    // number of independent accumulators of the vector kernels
+    private static final int UNROLL = 4;
+
     public static long intersection(LongHashSet targets1, LongHashSet targets2) {
         LongHashSet intersectionSet = new LongHashSet(targets1);
         intersectionSet.retainAll(targets2);
@@ -55,6 +73,108 @@ public final class Intersections {
         return intersection;
     }
 
+    /**
+     * Counts the common elements of two strictly increasing arrays.
+     * Uses the block-wise kernel if {@link GdsFeatureToggles#USE_BLOCKED_INTERSECTION} is enabled.
+     */
+    public static long intersectionOfSets(long[] targets1, long[] targets2) {
+        if (GdsFeatureToggles.USE_BLOCKED_INTERSECTION.isEnabled()) {
+            return blockedIntersection(targets1, 0, targets1.length, targets2, 0, targets2.length);
+        }
+        return intersection3(targets1, targets2);
+    }
+
+    /**
+     * Counts the common elements of {@code targets1[from1, to1)} and {@code targets2[from2, to2)},
+     * both of which must be strictly increasing.
+     *
+     * Blocks of {@link #BLOCK_SIZE} elements are compared all-to-all without branching.
+     * Afterwards, the block with the smaller maximum is skipped.
+     * Since the inputs are sets, every element of a block matches at most one element of the other block.
+     */
+    public static long blockedIntersection(long[] targets1, int from1, int to1, long[] targets2, int from2, int to2) {
+        int off1 = from1;
+        int off2 = from2;
+        long intersection = 0;
+
+        while (off1 + BLOCK_SIZE <= to1 && off2 + BLOCK_SIZE <= to2) {
+            long a0 = targets1[off1], a1 = targets1[off1 + 1], a2 = targets1[off1 + 2], a3 = targets1[off1 + 3];
+            long b0 = targets2[off2], b1 = targets2[off2 + 1], b2 = targets2[off2 + 2], b3 = targets2[off2 + 3];
+
+            intersection += matches(a0, b0, b1, b2, b3)
+                            + matches(a1, b0, b1, b2, b3)
+                            + matches(a2, b0, b1, b2, b3)
+                            + matches(a3, b0, b1, b2, b3);
+
+            off1 += a3 <= b3 ? BLOCK_SIZE : 0;
+            off2 += b3 <= a3 ? BLOCK_SIZE : 0;
+        }
+
+        while (off1 < to1 && off2 < to2) {
+            long value1 = targets1[off1];
+            long value2 = targets2[off2];
+            if (value1 == value2) {
+                intersection++;
+            }
+            off1 += value1 <= value2 ? 1 : 0;
+            off2 += value2 <= value1 ? 1 : 0;
+        }
+
+        return intersection;
+    }
+
+    /**
+     * Writes the common elements of {@code targets1[from1, to1)} and {@code targets2[from2, to2)},
+     * both of which must be strictly increasing, into {@code out} in ascending order.
+     * The output array must be able to hold the smaller of both ranges.
+     *
+     * @return the number of common elements written to {@code out}
+     */
+    public static int blockedIntersection(
+        long[] targets1,
+        int from1,
+        int to1,
+        long[] targets2,
+        int from2,
+        int to2,
+        long[] out
+    ) {
+        int off1 = from1;
+        int off2 = from2;
+        int count = 0;
+
+        while (off1 + BLOCK_SIZE <= to1 && off2 + BLOCK_SIZE <= to2) {
+            long b0 = targets2[off2], b1 = targets2[off2 + 1], b2 = targets2[off2 + 2], b3 = targets2[off2 + 3];
+
+            for (int i = off1; i < off1 + BLOCK_SIZE; i++) {
+                long value = targets1[i];
+                if (matches(value, b0, b1, b2, b3) != 0) {
+                    out[count++] = value;
+                }
+            }
+
+            long a3 = targets1[off1 + 3];
+            off1 += a3 <= b3 ? BLOCK_SIZE : 0;
+            off2 += b3 <= a3 ? BLOCK_SIZE : 0;
+        }
+
+        while (off1 < to1 && off2 < to2) {
+            long value1 = targets1[off1];
+            long value2 = targets2[off2];
+            if (value1 == value2) {
+                out[count++] = value1;
+            }
+            off1 += value1 <= value2 ? 1 : 0;
+            off2 += value2 <= value1 ? 1 : 0;
+        }
+
+        return count;
+    }
+
+    private static int matches(long value, long b0, long b1, long b2, long b3) {
+        return (value == b0 ? 1 : 0) | (value == b1 ? 1 : 0) | (value == b2 ? 1 : 0) | (value == b3 ? 1 : 0);
+    }
+
     // idea, compute differences, when 0 then equal?
     // assume both are sorted
     public static long intersection4(long[] targets1, long[] targets2) {
@@ -81,21 +201,75 @@ public final class Intersections {
     }
 
     public static double sumSquareDelta(double[] vector1, double[] vector2, int len) {
-        double result = 0;
-        for (int i = 0; i < len; i++) {
+        double result0 = 0;
+        double result1 = 0;
+        double result2 = 0;
+        double result3 = 0;
+        int unrolledLen = len - len % UNROLL;
+        for (int i = 0; i < unrolledLen; i += UNROLL) {
+            double delta0 = vector1[i] - vector2[i];
+            double delta1 = vector1[i + 1] - vector2[i + 1];
+            double delta2 = vector1[i + 2] - vector2[i + 2];
+            double delta3 = vector1[i + 3] - vector2[i + 3];
+            result0 += delta0 * delta0;
+            result1 += delta1 * delta1;
+            result2 += delta2 * delta2;
+            result3 += delta3 * delta3;
+        }
+        for (int i = unrolledLen; i < len; i++) {
             double delta = vector1[i] - vector2[i];
-            result += delta * delta;
+            result0 += delta * delta;
         }
-        return result;
+        return (result0 + result1) + (result2 + result3);
+    }
+
+    /**
+     * Like {@link #sumSquareDelta(float[], float[], int)}, but accumulates with double precision.
+     */
+    public static double sumSquareDeltaAsDouble(float[] vector1, float[] vector2, int len) {
+        double result0 = 0;
+        double result1 = 0;
+        double result2 = 0;
+        double result3 = 0;
+        int unrolledLen = len - len % UNROLL;
+        for (int i = 0; i < unrolledLen; i += UNROLL) {
+            double delta0 = vector1[i] - vector2[i];
+            double delta1 = vector1[i + 1] - vector2[i + 1];
+            double delta2 = vector1[i + 2] - vector2[i + 2];
+            double delta3 = vector1[i + 3] - vector2[i + 3];
+            result0 += delta0 * delta0;
+            result1 += delta1 * delta1;
+            result2 += delta2 * delta2;
+            result3 += delta3 * delta3;
+        }
+        for (int i = unrolledLen; i < len; i++) {
+            double delta = vector1[i] - vector2[i];
+            result0 += delta * delta;
+        }
+        return (result0 + result1) + (result2 + result3);
     }
 
     public static float sumSquareDelta(float[] vector1, float[] vector2, int len) {
-        float result = 0;
-        for (int i = 0; i < len; i++) {
+        float result0 = 0;
+        float result1 = 0;
+        float result2 = 0;
+        float result3 = 0;
+        int unrolledLen = len - len % UNROLL;
+        for (int i = 0; i < unrolledLen; i += UNROLL) {
+            float delta0 = vector1[i] - vector2[i];
+            float delta1 = vector1[i + 1] - vector2[i + 1];
+            float delta2 = vector1[i + 2] - vector2[i + 2];
+            float delta3 = vector1[i + 3] - vector2[i + 3];
+            result0 += delta0 * delta0;
+            result1 += delta1 * delta1;
+            result2 += delta2 * delta2;
+            result3 += delta3 * delta3;
+        }
+        for (int i = unrolledLen; i < len; i++) {
             float delta = vector1[i] - vector2[i];
-            result += delta * delta;
+            result0 += delta * delta;
         }
-        return result;
+        return (result0 + result1) + (result2 + result3);
     }
 
     public static double[] sumSquareDeltas(double[] vector1, double[][] vector2, int len) {
@@ -111,65 +285,263 @@ public final class Intersections {
     }
 
     public static double pearson(double[] vector1, double[] vector2, int len) {
-        double vector1Sum = 0.0;
-        double vector2Sum = 0.0;
-        for (int i = 0; i < len; i++) {
-            vector1Sum += vector1[i];
-            vector2Sum += vector2[i];
+        double result = pearsonCorrelation(vector1, vector2, len);
+        return Double.isNaN(result) ? 0 : result;
+    }
+
+    /**
+     * Like {@link #pearson(double[], double[], int)}, but returns NaN if one of the vectors has no variance.
+     */
+    public static double pearsonCorrelation(double[] vector1, double[] vector2, int len) {
+        double vector1Mean = sum(vector1, len) / len;
+        double vector2Mean = sum(vector2, len) / len;
+
+        double dotProductMinusMean0 = 0D;
+        double dotProductMinusMean1 = 0D;
+        double dotProductMinusMean2 = 0D;
+        double dotProductMinusMean3 = 0D;
+        double xLength0 = 0D;
+        double xLength1 = 0D;
+        double xLength2 = 0D;
+        double xLength3 = 0D;
+        double yLength0 = 0D;
+        double yLength1 = 0D;
+        double yLength2 = 0D;
+        double yLength3 = 0D;
+        int unrolledLen = len - len % UNROLL;
+        for (int i = 0; i < unrolledLen; i += UNROLL) {
+            double vector1Delta0 = vector1[i] - vector1Mean;
+            double vector2Delta0 = vector2[i] - vector2Mean;
+            double vector1Delta1 = vector1[i + 1] - vector1Mean;
+            double vector2Delta1 = vector2[i + 1] - vector2Mean;
+            double vector1Delta2 = vector1[i + 2] - vector1Mean;
+            double vector2Delta2 = vector2[i + 2] - vector2Mean;
+            double vector1Delta3 = vector1[i + 3] - vector1Mean;
+            double vector2Delta3 = vector2[i + 3] - vector2Mean;
+
+            dotProductMinusMean0 += vector1Delta0 * vector2Delta0;
+            dotProductMinusMean1 += vector1Delta1 * vector2Delta1;
+            dotProductMinusMean2 += vector1Delta2 * vector2Delta2;
+            dotProductMinusMean3 += vector1Delta3 * vector2Delta3;
+            xLength0 += vector1Delta0 * vector1Delta0;
+            xLength1 += vector1Delta1 * vector1Delta1;
+            xLength2 += vector1Delta2 * vector1Delta2;
+            xLength3 += vector1Delta3 * vector1Delta3;
+            yLength0 += vector2Delta0 * vector2Delta0;
+            yLength1 += vector2Delta1 * vector2Delta1;
+            yLength2 += vector2Delta2 * vector2Delta2;
+            yLength3 += vector2Delta3 * vector2Delta3;
         }
+        for (int i = unrolledLen; i < len; i++) {
+            double vector1Delta = vector1[i] - vector1Mean;
+            double vector2Delta = vector2[i] - vector2Mean;
 
-        double vector1Mean = vector1Sum / len;
-        double vector2Mean = vector2Sum / len;
+            dotProductMinusMean0 += vector1Delta * vector2Delta;
+            xLength0 += vector1Delta * vector1Delta;
+            yLength0 += vector2Delta * vector2Delta;
+        }
 
-        double dotProductMinusMean = 0D;
-        double xLength = 0D;
-        double yLength = 0D;
-        for (int i = 0; i < len; i++) {
+        double dotProductMinusMean = (dotProductMinusMean0 + dotProductMinusMean1) + (dotProductMinusMean2 + dotProductMinusMean3);
+        double xLength = (xLength0 + xLength1) + (xLength2 + xLength3);
+        double yLength = (yLength0 + yLength1) + (yLength2 + yLength3);
+        return dotProductMinusMean / Math.sqrt(xLength * yLength);
+    }
+
+    /**
+     * Like {@link #pearsonCorrelation(double[], double[], int)}, but accumulates float vectors with double precision.
+     */
+    public static double pearsonCorrelation(float[] vector1, float[] vector2, int len) {
+        double vector1Mean = sumAsDouble(vector1, len) / len;
+        double vector2Mean = sumAsDouble(vector2, len) / len;
+
+        double dotProductMinusMean0 = 0D;
+        double dotProductMinusMean1 = 0D;
+        double dotProductMinusMean2 = 0D;
+        double dotProductMinusMean3 = 0D;
+        double xLength0 = 0D;
+        double xLength1 = 0D;
+        double xLength2 = 0D;
+        double xLength3 = 0D;
+        double yLength0 = 0D;
+        double yLength1 = 0D;
+        double yLength2 = 0D;
+        double yLength3 = 0D;
+        int unrolledLen = len - len % UNROLL;
+        for (int i = 0; i < unrolledLen; i += UNROLL) {
+            double vector1Delta0 = vector1[i] - vector1Mean;
+            double vector2Delta0 = vector2[i] - vector2Mean;
+            double vector1Delta1 = vector1[i + 1] - vector1Mean;
+            double vector2Delta1 = vector2[i + 1] - vector2Mean;
+            double vector1Delta2 = vector1[i + 2] - vector1Mean;
+            double vector2Delta2 = vector2[i + 2] - vector2Mean;
+            double vector1Delta3 = vector1[i + 3] - vector1Mean;
+            double vector2Delta3 = vector2[i + 3] - vector2Mean;
+
+            dotProductMinusMean0 += vector1Delta0 * vector2Delta0;
+            dotProductMinusMean1 += vector1Delta1 * vector2Delta1;
+            dotProductMinusMean2 += vector1Delta2 * vector2Delta2;
+            dotProductMinusMean3 += vector1Delta3 * vector2Delta3;
+            xLength0 += vector1Delta0 * vector1Delta0;
+            xLength1 += vector1Delta1 * vector1Delta1;
+            xLength2 += vector1Delta2 * vector1Delta2;
+            xLength3 += vector1Delta3 * vector1Delta3;
+            yLength0 += vector2Delta0 * vector2Delta0;
+            yLength1 += vector2Delta1 * vector2Delta1;
+            yLength2 += vector2Delta2 * vector2Delta2;
+            yLength3 += vector2Delta3 * vector2Delta3;
+        }
+        for (int i = unrolledLen; i < len; i++) {
             double vector1Delta = vector1[i] - vector1Mean;
             double vector2Delta = vector2[i] - vector2Mean;
 
-            dotProductMinusMean += (vector1Delta * vector2Delta);
-            xLength += vector1Delta * vector1Delta;
-            yLength += vector2Delta * vector2Delta;
+            dotProductMinusMean0 += vector1Delta * vector2Delta;
+            xLength0 += vector1Delta * vector1Delta;
+            yLength0 += vector2Delta * vector2Delta;
         }
 
-        double result = dotProductMinusMean / Math.sqrt(xLength * yLength);
-        return Double.isNaN(result) ? 0 : result;
+        double dotProductMinusMean = (dotProductMinusMean0 + dotProductMinusMean1) + (dotProductMinusMean2 + dotProductMinusMean3);
+        double xLength = (xLength0 + xLength1) + (xLength2 + xLength3);
+        double yLength = (yLength0 + yLength1) + (yLength2 + yLength3);
+        return dotProductMinusMean / Math.sqrt(xLength * yLength);
     }
 
     public static double cosine(double[] vector1, double[] vector2, int len) {
-        double dotProduct = 0D;
-        double xLength = 0D;
-        double yLength = 0D;
-        for (int i = 0; i < len; i++) {
+        double dotProduct0 = 0D;
+        double dotProduct1 = 0D;
+        double dotProduct2 = 0D;
+        double dotProduct3 = 0D;
+        double xLength0 = 0D;
+        double xLength1 = 0D;
+        double xLength2 = 0D;
+        double xLength3 = 0D;
+        double yLength0 = 0D;
+        double yLength1 = 0D;
+        double yLength2 = 0D;
+        double yLength3 = 0D;
+        int unrolledLen = len - len % UNROLL;
+        for (int i = 0; i < unrolledLen; i += UNROLL) {
+            double weight10 = vector1[i];
+            double weight20 = vector2[i];
+            double weight11 = vector1[i + 1];
+            double weight21 = vector2[i + 1];
+            double weight12 = vector1[i + 2];
+            double weight22 = vector2[i + 2];
+            double weight13 = vector1[i + 3];
+            double weight23 = vector2[i + 3];
+
+            dotProduct0 += weight10 * weight20;
+            dotProduct1 += weight11 * weight21;
+            dotProduct2 += weight12 * weight22;
+            dotProduct3 += weight13 * weight23;
+            xLength0 += weight10 * weight10;
+            xLength1 += weight11 * weight11;
+            xLength2 += weight12 * weight12;
+            xLength3 += weight13 * weight13;
+            yLength0 += weight20 * weight20;
+            yLength1 += weight21 * weight21;
+            yLength2 += weight22 * weight22;
+            yLength3 += weight23 * weight23;
+        }
+        for (int i = unrolledLen; i < len; i++) {
             double weight1 = vector1[i];
-            // if (weight1 == 0d) continue;
             double weight2 = vector2[i];
-            // if (weight2 == 0d) continue;
 
-            dotProduct += weight1 * weight2;
-            xLength += weight1 * weight1;
-            yLength += weight2 * weight2;
+            dotProduct0 += weight1 * weight2;
+            xLength0 += weight1 * weight1;
+            yLength0 += weight2 * weight2;
         }
 
+        double dotProduct = (dotProduct0 + dotProduct1) + (dotProduct2 + dotProduct3);
+        double xLength = (xLength0 + xLength1) + (xLength2 + xLength3);
+        double yLength = (yLength0 + yLength1) + (yLength2 + yLength3);
         return dotProduct / Math.sqrt(xLength * yLength);
     }
 
     public static float cosine(float[] vector1, float[] vector2, int len) {
-        float dotProduct = 0F;
-        float xLength = 0F;
-        float yLength = 0F;
-        for (int i = 0; i < len; i++) {
+        float dotProduct0 = 0F;
+        float dotProduct1 = 0F;
+        float dotProduct2 = 0F;
+        float dotProduct3 = 0F;
+        float xLength0 = 0F;
+        float xLength1 = 0F;
+        float xLength2 = 0F;
+        float xLength3 = 0F;
+        float yLength0 = 0F;
+        float yLength1 = 0F;
+        float yLength2 = 0F;
+        float yLength3 = 0F;
+        int unrolledLen = len - len % UNROLL;
+        for (int i = 0; i < unrolledLen; i += UNROLL) {
+            float weight10 = vector1[i];
+            float weight20 = vector2[i];
+            float weight11 = vector1[i + 1];
+            float weight21 = vector2[i + 1];
+            float weight12 = vector1[i + 2];
+            float weight22 = vector2[i + 2];
+            float weight13 = vector1[i + 3];
+            float weight23 = vector2[i + 3];
+
+            dotProduct0 += weight10 * weight20;
+            dotProduct1 += weight11 * weight21;
+            dotProduct2 += weight12 * weight22;
+            dotProduct3 += weight13 * weight23;
+            xLength0 += weight10 * weight10;
+            xLength1 += weight11 * weight11;
+            xLength2 += weight12 * weight12;
+            xLength3 += weight13 * weight13;
+            yLength0 += weight20 * weight20;
+            yLength1 += weight21 * weight21;
+            yLength2 += weight22 * weight22;
+            yLength3 += weight23 * weight23;
+        }
+        for (int i = unrolledLen; i < len; i++) {
             float weight1 = vector1[i];
-            // if (weight1 == 0d) continue;
             float weight2 = vector2[i];
-            // if (weight2 == 0d) continue;
 
-            dotProduct += weight1 * weight2;
-            xLength += weight1 * weight1;
-            yLength += weight2 * weight2;
+            dotProduct0 += weight1 * weight2;
+            xLength0 += weight1 * weight1;
+            yLength0 += weight2 * weight2;
         }
 
+        float dotProduct = (dotProduct0 + dotProduct1) + (dotProduct2 + dotProduct3);
+        float xLength = (xLength0 + xLength1) + (xLength2 + xLength3);
+        float yLength = (yLength0 + yLength1) + (yLength2 + yLength3);
         return (float) (dotProduct / Math.sqrt(xLength * yLength));
     }
+
+    private static double sum(double[] vector, int len) {
+        double sum0 = 0D;
+        double sum1 = 0D;
+        double sum2 = 0D;
+        double sum3 = 0D;
+        int unrolledLen = len - len % UNROLL;
+        for (int i = 0; i < unrolledLen; i += UNROLL) {
+            sum0 += vector[i];
+            sum1 += vector[i + 1];
+            sum2 += vector[i + 2];
+            sum3 += vector[i + 3];
+        }
+        for (int i = unrolledLen; i < len; i++) {
+            sum0 += vector[i];
+        }
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+
+    private static double sumAsDouble(float[] vector, int len) {
+        double sum0 = 0D;
+        double sum1 = 0D;
+        double sum2 = 0D;
+        double sum3 = 0D;
+        int unrolledLen = len - len % UNROLL;
+        for (int i = 0; i < unrolledLen; i += UNROLL) {
+            sum0 += vector[i];
+            sum1 += vector[i + 1];
+            sum2 += vector[i + 2];
+            sum3 += vector[i + 3];
+        }
+        for (int i = unrolledLen; i < len; i++) {
+            sum0 += vector[i];
+        }
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.paged;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+import static org.neo4j.gds.utils.StringFormatting.toUpperCaseWithLocale;
+
+/**
+ * The precision in which embeddings are stored.
+ * Anything but {@link #FLOAT} stores them in a {@link QuantizedFloatArrayStore}.
+ */
+public enum EmbeddingPrecision {
+    FLOAT(Float.BYTES),
+    FLOAT16(Short.BYTES),
+    INT8(Byte.BYTES);
+
+    private final int bytesPerComponent;
+
+    EmbeddingPrecision(int bytesPerComponent) {
+        this.bytesPerComponent = bytesPerComponent;
+    }
+
+    public int bytesPerComponent() {
+        return bytesPerComponent;
+    }
+
+    public static EmbeddingPrecision parse(Object input) {
+        if (input instanceof EmbeddingPrecision) {
+            return (EmbeddingPrecision) input;
+        }
+        if (input instanceof String) {
+            var inputString = toUpperCaseWithLocale((String) input);
+            for (EmbeddingPrecision precision : values()) {
+                if (precision.name().equals(inputString)) {
+                    return precision;
+                }
+            }
+        }
+        throw new IllegalArgumentException(formatWithLocale(
+            "Embedding precision must be one of %s, but got `%s`.",
+            Arrays.toString(values()),
+            input
+        ));
+    }
+
+    public static String toString(EmbeddingPrecision precision) {
+        return precision.name().toLowerCase(Locale.ENGLISH);
+    }
+}
@@ -22,11 +22,13 @@ package org.neo4j.gds.core.utils.paged;
 import org.neo4j.gds.api.properties.nodes.DoubleNodePropertyValues;
 import org.neo4j.gds.collections.cursor.HugeCursor;
 import org.neo4j.gds.mem.HugeArrays;
+import org.neo4j.internal.unsafe.UnsafeUtil;
 
 import java.util.Arrays;
 import java.util.function.LongFunction;
 import java.util.function.LongToDoubleFunction;
 import java.util.stream.DoubleStream;
+import java.util.stream.LongStream;
 
 import static org.neo4j.gds.mem.HugeArrays.PAGE_SHIFT;
 import static org.neo4j.gds.mem.HugeArrays.PAGE_SIZE;
@@ -206,6 +208,30 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
         return PagedHugeDoubleArray.of(size);
     }
 
+    /**
+     * Creates a new array of the given size that is stored outside of the Java heap.
+     * The memory is not subject to garbage collection and should be freed with {@link #release()}
+     * as soon as the array is no longer needed, at the latest it is freed when the array is garbage collected.
+     */
+    public static HugeDoubleArray newOffHeapArray(long size) {
+        return OffHeapHugeDoubleArray.of(size);
+    }
+
+    /**
+     * Estimates the number of bytes that {@link #newOffHeapArray(long)} allocates outside of the Java heap.
+     */
+    public static long offHeapMemoryEstimation(long size) {
+        return size * Double.BYTES;
+    }
+
+    /**
+     * Estimates the heap memory of an array from {@link #newOffHeapArray(long)}, which does not depend on its size.
+     * The values are estimated separately with {@link #offHeapMemoryEstimation(long)}.
+     */
+    public static long offHeapArrayMemoryEstimation() {
+        return OffHeapHugeDoubleArray.INSTANCE_SIZE;
+    }
+
     public static long memoryEstimation(long size) {
         assert size >= 0;
 
@@ -238,6 +264,15 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
         return SingleHugeDoubleArray.of(size);
     }
 
+    private static void copyElementwise(HugeDoubleArray source, HugeDoubleArray dest, long length) {
+        for (long i = 0; i < length; i++) {
+            dest.set(i, source.get(i));
+        }
+        for (long i = length; i < dest.size(); i++) {
+            dest.set(i, 0D);
+        }
+    }
+
     private static final class SingleHugeDoubleArray extends HugeDoubleArray {
 
         private static HugeDoubleArray of(long size) {
@@ -292,7 +327,9 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
             if (length > dest.size()) {
                 length = dest.size();
             }
-            if (dest instanceof SingleHugeDoubleArray) {
+            if (dest instanceof OffHeapHugeDoubleArray) {
+                copyElementwise(this, dest, length);
+            } else if (dest instanceof SingleHugeDoubleArray) {
                 SingleHugeDoubleArray dst = (SingleHugeDoubleArray) dest;
                 System.arraycopy(page, 0, dst.page, 0, (int) length);
                 Arrays.fill(dst.page, (int) length, dst.size, 0D);
@@ -432,7 +469,9 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
             if (length > dest.size()) {
                 length = dest.size();
             }
-            if (dest instanceof SingleHugeDoubleArray) {
+            if (dest instanceof OffHeapHugeDoubleArray) {
+                copyElementwise(this, dest, length);
+            } else if (dest instanceof SingleHugeDoubleArray) {
                 SingleHugeDoubleArray dst = (SingleHugeDoubleArray) dest;
                 int start = 0;
                 int remaining = (int) length;
@@ -496,4 +535,141 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
             return Arrays.stream(pages).flatMapToDouble(Arrays::stream);
         }
     }
+
+    private static final class OffHeapHugeDoubleArray extends HugeDoubleArray {
+
+        private static final int SHIFT = 3;
+        private static final long ARRAY_BASE_OFFSET = UnsafeUtil.arrayBaseOffset(double[].class);
+        private static final long INSTANCE_SIZE = sizeOfInstance(OffHeapHugeDoubleArray.class) + OffHeapMemory.INSTANCE_SIZE;
+
+        private static HugeDoubleArray of(long size) {
+            return new OffHeapHugeDoubleArray(size);
+        }
+
+        private final long size;
+        private final OffHeapMemory memory;
+        // zero once released, volatile so that no thread keeps accessing the freed memory
+        private volatile long address;
+
+        private OffHeapHugeDoubleArray(long size) {
+            this.size = size;
+            this.memory = OffHeapMemory.allocate(this, size << SHIFT);
+            this.address = memory.address();
+        }
+
+        private long ptr(long index) {
+            return ptr(index, 1);
+        }
+
+        private long ptr(long index, int length) {
+            OffHeapMemory.checkAccess(address, index, length, size);
+            return address + (index << SHIFT);
+        }
+
+        @Override
+        public double get(long index) {
+            return Double.longBitsToDouble(UnsafeUtil.getLong(ptr(index)));
+        }
+
+        @Override
+        public void set(long index, double value) {
+            UnsafeUtil.putLong(ptr(index), Double.doubleToRawLongBits(value));
+        }
+
+        @Override
+        public void addTo(long index, double value) {
+            set(index, get(index) + value);
+        }
+
+        @Override
+        public void setAll(LongToDoubleFunction gen) {
+            for (long i = 0; i < size; i++) {
+                set(i, gen.applyAsDouble(i));
+            }
+        }
+
+        @Override
+        public void fill(double value) {
+            if (Double.doubleToRawLongBits(value) == 0L) {
+                long address = this.address;
+                OffHeapMemory.checkAccess(address, 0L, size, size);
+                UnsafeUtil.setMemory(address, size << SHIFT, (byte) 0);
+                return;
+            }
+            for (long i = 0; i < size; i++) {
+                set(i, value);
+            }
+        }
+
+        @Override
+        public void copyTo(HugeDoubleArray dest, long length) {
+            if (length > size) {
+                length = size;
+            }
+            if (length > dest.size()) {
+                length = dest.size();
+            }
+            copyElementwise(this, dest, length);
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public long sizeOf() {
+            return INSTANCE_SIZE;
+        }
+
+        @Override
+        public DoubleStream stream() {
+            return LongStream.range(0, size).mapToDouble(this::get);
+        }
+
+        @Override
+        public long release() {
+            address = 0L;
+            return memory.free();
+        }
+
+        @Override
+        public HugeCursor<double[]> newCursor() {
+            return new HugeCursor.BufferedCursor<>(
+                size,
+                new double[(int) Math.min(HugeArrays.PAGE_SIZE, size)],
+                new HugeCursor.BufferedCursor.PageIO<>() {
+                    @Override
+                    public void read(long base, double[] buffer, int length) {
+                        UnsafeUtil.copyMemory(null, ptr(base, length), buffer, ARRAY_BASE_OFFSET, (long) length << SHIFT);
+                    }
+
+                    @Override
+                    public void write(long base, double[] buffer, double[] original, int length) {
+                        int from = 0;
+                        while (from < length) {
+                            int mismatch = Arrays.mismatch(buffer, from, length, original, from, length);
+                            if (mismatch == -1) {
+                                return;
+                            }
+                            from += mismatch;
+                            int to = from + 1;
+                            while (to < length
+                                   && Double.doubleToRawLongBits(buffer[to]) != Double.doubleToRawLongBits(original[to])) {
+                                to++;
+                            }
+                            UnsafeUtil.copyMemory(
+                                buffer,
+                                ARRAY_BASE_OFFSET + ((long) from << SHIFT),
+                                null,
+                                ptr(base + from, to - from),
+                                (long) (to - from) << SHIFT
+                            );
+                            from = to;
+                        }
+                    }
+                }
+            );
+        }
+    }
 }
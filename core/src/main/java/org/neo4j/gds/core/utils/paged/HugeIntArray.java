@@ -22,6 +22,7 @@ package org.neo4j.gds.core.utils.paged;
 import org.neo4j.gds.api.properties.nodes.LongNodePropertyValues;
 import org.neo4j.gds.collections.cursor.HugeCursor;
 import org.neo4j.gds.mem.HugeArrays;
+import org.neo4j.internal.unsafe.UnsafeUtil;
 
 import java.util.Arrays;
 import java.util.function.LongFunction;
@@ -222,6 +223,30 @@ public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArra
         return PagedHugeIntArray.of(size);
     }
 
+    /**
+     * Creates a new array of the given size that is stored outside of the Java heap.
+     * The memory is not subject to garbage collection and should be freed with {@link #release()}
+     * as soon as the array is no longer needed, at the latest it is freed when the array is garbage collected.
+     */
+    public static HugeIntArray newOffHeapArray(long size) {
+        return OffHeapHugeIntArray.of(size);
+    }
+
+    /**
+     * Estimates the number of bytes that {@link #newOffHeapArray(long)} allocates outside of the Java heap.
+     */
+    public static long offHeapMemoryEstimation(long size) {
+        return size * Integer.BYTES;
+    }
+
+    /**
+     * Estimates the heap memory of an array from {@link #newOffHeapArray(long)}, which does not depend on its size.
+     * The values are estimated separately with {@link #offHeapMemoryEstimation(long)}.
+     */
+    public static long offHeapArrayMemoryEstimation() {
+        return OffHeapHugeIntArray.INSTANCE_SIZE;
+    }
+
     public static HugeIntArray of(final int... values) {
         return new HugeIntArray.SingleHugeIntArray(values.length, values);
     }
@@ -254,6 +279,15 @@ public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArra
         return SingleHugeIntArray.of(size);
     }
 
+    private static void copyElementwise(HugeIntArray source, HugeIntArray dest, long length) {
+        for (long i = 0; i < length; i++) {
+            dest.set(i, source.get(i));
+        }
+        for (long i = length; i < dest.size(); i++) {
+            dest.set(i, 0);
+        }
+    }
+
     private static final class SingleHugeIntArray extends HugeIntArray {
 
         private static HugeIntArray of(long size) {
@@ -329,7 +363,9 @@ public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArra
             if (length > dest.size()) {
                 length = dest.size();
             }
-            if (dest instanceof SingleHugeIntArray) {
+            if (dest instanceof OffHeapHugeIntArray) {
+                copyElementwise(this, dest, length);
+            } else if (dest instanceof SingleHugeIntArray) {
                 SingleHugeIntArray dst = (SingleHugeIntArray) dest;
                 System.arraycopy(page, 0, dst.page, 0, (int) length);
                 Arrays.fill(dst.page, (int) length, dst.size, 0);
@@ -490,7 +526,9 @@ public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArra
             if (length > dest.size()) {
                 length = dest.size();
             }
-            if (dest instanceof SingleHugeIntArray) {
+            if (dest instanceof OffHeapHugeIntArray) {
+                copyElementwise(this, dest, length);
+            } else if (dest instanceof SingleHugeIntArray) {
                 SingleHugeIntArray dst = (SingleHugeIntArray) dest;
                 int start = 0;
                 int remaining = (int) length;
@@ -549,4 +587,154 @@ public abstract class HugeIntArray extends HugeArray<int[], Integer, HugeIntArra
             return new HugeCursor.PagedCursor<>(size, pages);
         }
     }
+
+    private static final class OffHeapHugeIntArray extends HugeIntArray {
+
+        private static final int SHIFT = 2;
+        private static final long ARRAY_BASE_OFFSET = UnsafeUtil.arrayBaseOffset(int[].class);
+        private static final long INSTANCE_SIZE = sizeOfInstance(OffHeapHugeIntArray.class) + OffHeapMemory.INSTANCE_SIZE;
+
+        private static HugeIntArray of(long size) {
+            return new OffHeapHugeIntArray(size);
+        }
+
+        private final long size;
+        private final OffHeapMemory memory;
+        // zero once released, volatile so that no thread keeps accessing the freed memory
+        private volatile long address;
+
+        private OffHeapHugeIntArray(long size) {
+            this.size = size;
+            this.memory = OffHeapMemory.allocate(this, size << SHIFT);
+            this.address = memory.address();
+        }
+
+        private long ptr(long index) {
+            return ptr(index, 1);
+        }
+
+        private long ptr(long index, int length) {
+            OffHeapMemory.checkAccess(address, index, length, size);
+            return address + (index << SHIFT);
+        }
+
+        @Override
+        public int get(long index) {
+            return UnsafeUtil.getInt(ptr(index));
+        }
+
+        @Override
+        public void set(long index, int value) {
+            UnsafeUtil.putInt(ptr(index), value);
+        }
+
+        @Override
+        public int getAndAdd(long index, int delta) {
+            int value = get(index);
+            set(index, value + delta);
+            return value;
+        }
+
+        @Override
+        public void or(long index, int value) {
+            set(index, get(index) | value);
+        }
+
+        @Override
+        public int and(long index, int value) {
+            int result = get(index) & value;
+            set(index, result);
+            return result;
+        }
+
+        @Override
+        public void addTo(long index, int value) {
+            set(index, get(index) + value);
+        }
+
+        @Override
+        public void setAll(LongToIntFunction gen) {
+            for (long i = 0; i < size; i++) {
+                set(i, gen.applyAsInt(i));
+            }
+        }
+
+        @Override
+        public void fill(int value) {
+            if (value == 0) {
+                long address = this.address;
+                OffHeapMemory.checkAccess(address, 0L, size, size);
+                UnsafeUtil.setMemory(address, size << SHIFT, (byte) 0);
+                return;
+            }
+            for (long i = 0; i < size; i++) {
+                set(i, value);
+            }
+        }
+
+        @Override
+        public void copyTo(HugeIntArray dest, long length) {
+            if (length > size) {
+                length = size;
+            }
+            if (length > dest.size()) {
+                length = dest.size();
+            }
+            copyElementwise(this, dest, length);
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public long sizeOf() {
+            return INSTANCE_SIZE;
+        }
+
+        @Override
+        public long release() {
+            address = 0L;
+            return memory.free();
+        }
+
+        @Override
+        public HugeCursor<int[]> newCursor() {
+            return new HugeCursor.BufferedCursor<>(
+                size,
+                new int[(int) Math.min(HugeArrays.PAGE_SIZE, size)],
+                new HugeCursor.BufferedCursor.PageIO<>() {
+                    @Override
+                    public void read(long base, int[] buffer, int length) {
+                        UnsafeUtil.copyMemory(null, ptr(base, length), buffer, ARRAY_BASE_OFFSET, (long) length << SHIFT);
+                    }
+
+                    @Override
+                    public void write(long base, int[] buffer, int[] original, int length) {
+                        int from = 0;
+                        while (from < length) {
+                            int mismatch = Arrays.mismatch(buffer, from, length, original, from, length);
+                            if (mismatch == -1) {
+                                return;
+                            }
+                            from += mismatch;
+                            int to = from + 1;
+                            while (to < length && buffer[to] != original[to]) {
+                                to++;
+                            }
+                            UnsafeUtil.copyMemory(
+                                buffer,
+                                ARRAY_BASE_OFFSET + ((long) from << SHIFT),
+                                null,
+                                ptr(base + from, to - from),
+                                (long) (to - from) << SHIFT
+                            );
+                            from = to;
+                        }
+                    }
+                }
+            );
+        }
+    }
 }
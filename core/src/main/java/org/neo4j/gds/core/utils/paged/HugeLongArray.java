@@ -25,6 +25,7 @@ import org.neo4j.gds.collections.PageUtil;
 import org.neo4j.gds.collections.cursor.HugeCursor;
 import org.neo4j.gds.mem.HugeArrays;
 import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.internal.unsafe.UnsafeUtil;
 
 import java.util.Arrays;
 import java.util.function.LongFunction;
@@ -224,6 +225,30 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
         return PagedHugeLongArray.of(size);
     }
 
+    /**
+     * Creates a new array of the given size that is stored outside of the Java heap.
+     * The memory is not subject to garbage collection and should be freed with {@link #release()}
+     * as soon as the array is no longer needed, at the latest it is freed when the array is garbage collected.
+     */
+    public static HugeLongArray newOffHeapArray(long size) {
+        return OffHeapHugeLongArray.of(size);
+    }
+
+    /**
+     * Estimates the number of bytes that {@link #newOffHeapArray(long)} allocates outside of the Java heap.
+     */
+    public static long offHeapMemoryEstimation(long size) {
+        return size * Long.BYTES;
+    }
+
+    /**
+     * Estimates the heap memory of an array from {@link #newOffHeapArray(long)}, which does not depend on its size.
+     * The values are estimated separately with {@link #offHeapMemoryEstimation(long)}.
+     */
+    public static long offHeapArrayMemoryEstimation() {
+        return OffHeapHugeLongArray.INSTANCE_SIZE;
+    }
+
     public static long memoryEstimation(long size) {
         assert size >= 0;
 
@@ -264,6 +289,15 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
         return SingleHugeLongArray.of(size);
     }
 
+    private static void copyElementwise(HugeLongArray source, HugeLongArray dest, long length) {
+        for (long i = 0; i < length; i++) {
+            dest.set(i, source.get(i));
+        }
+        for (long i = length; i < dest.size(); i++) {
+            dest.set(i, 0L);
+        }
+    }
+
     private static final class SingleHugeLongArray extends HugeLongArray {
 
         private static HugeLongArray of(long size) {
@@ -330,7 +364,9 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
             if (length > dest.size()) {
                 length = dest.size();
             }
-            if (dest instanceof SingleHugeLongArray) {
+            if (dest instanceof OffHeapHugeLongArray) {
+                copyElementwise(this, dest, length);
+            } else if (dest instanceof SingleHugeLongArray) {
                 SingleHugeLongArray dst = (SingleHugeLongArray) dest;
                 System.arraycopy(page, 0, dst.page, 0, (int) length);
                 Arrays.fill(dst.page, (int) length, dst.size, 0L);
@@ -495,7 +531,9 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
             if (length > dest.size()) {
                 length = dest.size();
             }
-            if (dest instanceof SingleHugeLongArray) {
+            if (dest instanceof OffHeapHugeLongArray) {
+                copyElementwise(this, dest, length);
+            } else if (dest instanceof SingleHugeLongArray) {
                 SingleHugeLongArray dst = (SingleHugeLongArray) dest;
                 int start = 0;
                 int remaining = (int) length;
@@ -570,4 +608,167 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
         }
 
     }
+
+    private static final class OffHeapHugeLongArray extends HugeLongArray {
+
+        private static final int SHIFT = 3;
+        private static final long ARRAY_BASE_OFFSET = UnsafeUtil.arrayBaseOffset(long[].class);
+        private static final long INSTANCE_SIZE = MemoryUsage.sizeOfInstance(OffHeapHugeLongArray.class) + OffHeapMemory.INSTANCE_SIZE;
+
+        private static HugeLongArray of(long size) {
+            return new OffHeapHugeLongArray(size);
+        }
+
+        private final long size;
+        private final OffHeapMemory memory;
+        // zero once released, volatile so that no thread keeps accessing the freed memory
+        private volatile long address;
+
+        private OffHeapHugeLongArray(long size) {
+            this.size = size;
+            this.memory = OffHeapMemory.allocate(this, size << SHIFT);
+            this.address = memory.address();
+        }
+
+        private long ptr(long index) {
+            return ptr(index, 1);
+        }
+
+        private long ptr(long index, int length) {
+            OffHeapMemory.checkAccess(address, index, length, size);
+            return address + (index << SHIFT);
+        }
+
+        @Override
+        public long get(long index) {
+            return UnsafeUtil.getLong(ptr(index));
+        }
+
+        @Override
+        public void set(long index, long value) {
+            UnsafeUtil.putLong(ptr(index), value);
+        }
+
+        @Override
+        public void or(long index, final long value) {
+            set(index, get(index) | value);
+        }
+
+        @Override
+        public long and(long index, final long value) {
+            long result = get(index) & value;
+            set(index, result);
+            return result;
+        }
+
+        @Override
+        public void addTo(long index, long value) {
+            set(index, get(index) + value);
+        }
+
+        @Override
+        public void setAll(LongUnaryOperator gen) {
+            for (long i = 0; i < size; i++) {
+                set(i, gen.applyAsLong(i));
+            }
+        }
+
+        @Override
+        public void fill(long value) {
+            if (value == 0L) {
+                long address = this.address;
+                OffHeapMemory.checkAccess(address, 0L, size, size);
+                UnsafeUtil.setMemory(address, size << SHIFT, (byte) 0);
+                return;
+            }
+            for (long i = 0; i < size; i++) {
+                set(i, value);
+            }
+        }
+
+        @Override
+        public void copyTo(HugeLongArray dest, long length) {
+            if (length > size) {
+                length = size;
+            }
+            if (length > dest.size()) {
+                length = dest.size();
+            }
+            copyElementwise(this, dest, length);
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public long sizeOf() {
+            return INSTANCE_SIZE;
+        }
+
+        @Override
+        public long binarySearch(long searchValue) {
+            long low = 0;
+            long high = size - 1;
+
+            while (low <= high) {
+                long mid = (low + high) >>> 1;
+                long midVal = get(mid);
+
+                if (midVal < searchValue) {
+                    low = mid + 1;
+                } else if (midVal > searchValue) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return low - 1;
+        }
+
+        @Override
+        public long release() {
+            address = 0L;
+            return memory.free();
+        }
+
+        @Override
+        public HugeCursor<long[]> newCursor() {
+            return new HugeCursor.BufferedCursor<>(
+                size,
+                new long[(int) Math.min(HugeArrays.PAGE_SIZE, size)],
+                new HugeCursor.BufferedCursor.PageIO<>() {
+                    @Override
+                    public void read(long base, long[] buffer, int length) {
+                        UnsafeUtil.copyMemory(null, ptr(base, length), buffer, ARRAY_BASE_OFFSET, (long) length << SHIFT);
+                    }
+
+                    @Override
+                    public void write(long base, long[] buffer, long[] original, int length) {
+                        int from = 0;
+                        while (from < length) {
+                            int mismatch = Arrays.mismatch(buffer, from, length, original, from, length);
+                            if (mismatch == -1) {
+                                return;
+                            }
+                            from += mismatch;
+                            int to = from + 1;
+                            while (to < length && buffer[to] != original[to]) {
+                                to++;
+                            }
+                            UnsafeUtil.copyMemory(
+                                buffer,
+                                ARRAY_BASE_OFFSET + ((long) from << SHIFT),
+                                null,
+                                ptr(base + from, to - from),
+                                (long) (to - from) << SHIFT
+                            );
+                            from = to;
+                        }
+                    }
+                }
+            );
+        }
+    }
 }
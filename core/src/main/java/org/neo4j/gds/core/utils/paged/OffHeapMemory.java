@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.paged;
+
+import org.neo4j.internal.unsafe.UnsafeUtil;
+import org.neo4j.memory.EmptyMemoryTracker;
+
+import java.lang.ref.Cleaner;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfInstance;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A zero-initialized block of off-heap memory that backs the off-heap variants of the huge arrays.
+ * <p>
+ * The memory is freed by calling {@link #free()}, at the latest when the owning array is garbage collected.
+ */
+final class OffHeapMemory {
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    // the heap part of an off-heap array, without the internal state of the cleaner
+    static final long INSTANCE_SIZE = sizeOfInstance(OffHeapMemory.class)
+                                      + sizeOfInstance(Deallocator.class)
+                                      + sizeOfInstance(AtomicLong.class);
+
+    private final Deallocator deallocator;
+    private final Cleaner.Cleanable cleanable;
+    private final long bytes;
+
+    static OffHeapMemory allocate(Object owner, long bytes) {
+        // never allocate zero bytes, so that an empty array still has a valid address
+        long allocationSize = Math.max(Long.BYTES, bytes);
+        long address = UnsafeUtil.allocateMemory(allocationSize, EmptyMemoryTracker.INSTANCE);
+        UnsafeUtil.setMemory(address, allocationSize, (byte) 0);
+        return new OffHeapMemory(owner, address, allocationSize);
+    }
+
+    private OffHeapMemory(Object owner, long address, long bytes) {
+        this.bytes = bytes;
+        this.deallocator = new Deallocator(address, bytes);
+        this.cleanable = CLEANER.register(owner, deallocator);
+    }
+
+    /**
+     * @return a valid (non zero) address.
+     * @throws IllegalStateException if the memory has already been freed.
+     */
+    long address() {
+        long address = deallocator.address.get();
+        if (address == 0L) {
+            throw new IllegalStateException("This off-heap array has already been released.");
+        }
+        return address;
+    }
+
+    /**
+     * Accesses through Unsafe are not bounds checked, so the off-heap arrays check every access
+     * with this method to fail the same way as an access to a released or too small Java array would.
+     *
+     * @throws IllegalStateException if the array has already been released
+     * @throws ArrayIndexOutOfBoundsException if {@code [index, index + length)} is not within {@code [0, size)}
+     */
+    static void checkAccess(long address, long index, long length, long size) {
+        if (address == 0L) {
+            throw new IllegalStateException("This off-heap array has already been released.");
+        }
+        if (index < 0L || length < 0L || index > size - length) {
+            throw new ArrayIndexOutOfBoundsException(formatWithLocale(
+                "Range [%d, %d) out of bounds for length %d",
+                index,
+                index + length,
+                size
+            ));
+        }
+    }
+
+    /**
+     * Frees the underlying memory, it is safe to call this method multiple times.
+     *
+     * @return the number of bytes that have been freed by this call
+     */
+    long free() {
+        if (deallocator.address.get() == 0L) {
+            return 0L;
+        }
+        cleanable.clean();
+        return bytes;
+    }
+
+    private static final class Deallocator implements Runnable {
+        private final AtomicLong address;
+        private final long bytes;
+
+        Deallocator(long address, long bytes) {
+            this.address = new AtomicLong(address);
+            this.bytes = bytes;
+        }
+
+        @Override
+        public void run() {
+            long address = this.address.getAndSet(0L);
+            if (address != 0L) {
+                UnsafeUtil.free(address, bytes, EmptyMemoryTracker.INSTANCE);
+            }
+        }
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.paged;
+
+import org.neo4j.gds.api.properties.nodes.FloatArrayNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.mem.BitUtil;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.Optional;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Stores one fixed-length float vector per node in reduced precision.
+ * <p>
+ * Every record consists of a 4 byte scale factor (the maximum absolute component of the vector)
+ * followed by the components divided by that scale, either as signed bytes in {@code [-127, 127]}
+ * ({@link EmbeddingPrecision#INT8}) or as IEEE 754 half-precision floats ({@link EmbeddingPrecision#FLOAT16}).
+ * Records never cross page boundaries, so a single vector is always read from one {@code byte[]}.
+ * <p>
+ * A scale of zero marks a node without a vector.
+ * Writing distinct nodes from multiple threads is safe, writing the same node concurrently is not.
+ */
+public final class QuantizedFloatArrayStore implements FloatArrayNodePropertyValues {
+
+    private static final int PAGE_SIZE_IN_BYTES = 1 << 17;
+    private static final int SCALE_BYTES = Float.BYTES;
+    private static final float INT8_MAX = Byte.MAX_VALUE;
+
+    private final EmbeddingPrecision precision;
+    private final long nodeCount;
+    private final int dimension;
+    private final int recordSize;
+    private final int recordsPerPage;
+    private final byte[][] pages;
+
+    /**
+     * Returns the given embeddings unchanged for {@link EmbeddingPrecision#FLOAT},
+     * otherwise a quantized copy of them.
+     */
+    public static NodePropertyValues withPrecision(
+        NodePropertyValues embeddings,
+        EmbeddingPrecision precision,
+        int concurrency
+    ) {
+        if (precision == EmbeddingPrecision.FLOAT) {
+            return embeddings;
+        }
+        return of(embeddings, precision, concurrency);
+    }
+
+    public static QuantizedFloatArrayStore of(
+        NodePropertyValues source,
+        EmbeddingPrecision precision,
+        int concurrency
+    ) {
+        long nodeCount = source.nodeCount();
+        var store = new QuantizedFloatArrayStore(precision, nodeCount, dimensionOf(source));
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, nodeId -> {
+            var value = source.floatArrayValue(nodeId);
+            if (value != null) {
+                store.set(nodeId, value);
+            }
+        });
+        return store;
+    }
+
+    public static long memoryEstimation(long nodeCount, int dimension, EmbeddingPrecision precision) {
+        int recordSize = recordSize(dimension, precision);
+        int recordsPerPage = recordsPerPage(recordSize);
+        long numPages = BitUtil.ceilDiv(nodeCount, recordsPerPage);
+        long lastPageRecords = nodeCount - (numPages - 1) * recordsPerPage;
+
+        return MemoryUsage.sizeOfInstance(QuantizedFloatArrayStore.class)
+               + MemoryUsage.sizeOfObjectArray(numPages)
+               + Math.max(0, numPages - 1) * MemoryUsage.sizeOfByteArray((long) recordsPerPage * recordSize)
+               + (numPages > 0 ? MemoryUsage.sizeOfByteArray(lastPageRecords * recordSize) : 0);
+    }
+
+    public QuantizedFloatArrayStore(EmbeddingPrecision precision, long nodeCount, int dimension) {
+        if (precision == EmbeddingPrecision.FLOAT) {
+            throw new IllegalArgumentException("Full precision embeddings do not need to be quantized.");
+        }
+        this.precision = precision;
+        this.nodeCount = nodeCount;
+        this.dimension = dimension;
+        this.recordSize = recordSize(dimension, precision);
+        this.recordsPerPage = recordsPerPage(recordSize);
+
+        int numPages = Math.toIntExact(BitUtil.ceilDiv(nodeCount, recordsPerPage));
+        this.pages = new byte[numPages][];
+        for (int page = 0; page < numPages; page++) {
+            long recordsOnPage = Math.min(recordsPerPage, nodeCount - (long) page * recordsPerPage);
+            pages[page] = new byte[Math.toIntExact(recordsOnPage * recordSize)];
+        }
+    }
+
+    public EmbeddingPrecision precision() {
+        return precision;
+    }
+
+    public void set(long nodeId, float[] value) {
+        if (value.length != dimension) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Expected a vector of dimension %d for node %d, but got dimension %d.",
+                dimension,
+                nodeId,
+                value.length
+            ));
+        }
+
+        float scale = 0F;
+        for (float component : value) {
+            scale = Math.max(scale, Math.abs(component));
+        }
+        // a zero scale is reserved for missing vectors
+        if (scale == 0F) {
+            scale = 1F;
+        }
+
+        byte[] page = pages[pageIndex(nodeId)];
+        int offset = pageOffset(nodeId);
+        writeInt(page, offset, Float.floatToIntBits(scale));
+        offset += SCALE_BYTES;
+
+        if (precision == EmbeddingPrecision.INT8) {
+            float factor = INT8_MAX / scale;
+            for (float component : value) {
+                page[offset++] = (byte) Math.max(-INT8_MAX, Math.min(INT8_MAX, Math.round(component * factor)));
+            }
+        } else {
+            for (float component : value) {
+                short half = floatToHalf(component / scale);
+                page[offset++] = (byte) half;
+                page[offset++] = (byte) (half >>> 8);
+            }
+        }
+    }
+
+    @Override
+    public float[] floatArrayValue(long nodeId) {
+        byte[] page = pages[pageIndex(nodeId)];
+        int offset = pageOffset(nodeId);
+        float scale = Float.intBitsToFloat(readInt(page, offset));
+        if (scale == 0F) {
+            return null;
+        }
+        offset += SCALE_BYTES;
+
+        float[] value = new float[dimension];
+        if (precision == EmbeddingPrecision.INT8) {
+            float factor = scale / INT8_MAX;
+            for (int i = 0; i < dimension; i++) {
+                value[i] = page[offset + i] * factor;
+            }
+        } else {
+            for (int i = 0; i < dimension; i++, offset += 2) {
+                short half = (short) ((page[offset] & 0xFF) | (page[offset + 1] << 8));
+                value[i] = halfToFloat(half) * scale;
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public boolean hasValue(long nodeId) {
+        return readInt(pages[pageIndex(nodeId)], pageOffset(nodeId)) != 0;
+    }
+
+    @Override
+    public long nodeCount() {
+        return nodeCount;
+    }
+
+    @Override
+    public Optional<Integer> dimension() {
+        return Optional.of(dimension);
+    }
+
+    private int pageIndex(long nodeId) {
+        return (int) (nodeId / recordsPerPage);
+    }
+
+    private int pageOffset(long nodeId) {
+        return (int) (nodeId % recordsPerPage) * recordSize;
+    }
+
+    private static int recordSize(int dimension, EmbeddingPrecision precision) {
+        return SCALE_BYTES + dimension * precision.bytesPerComponent();
+    }
+
+    private static int recordsPerPage(int recordSize) {
+        return Math.max(1, PAGE_SIZE_IN_BYTES / recordSize);
+    }
+
+    private static int dimensionOf(NodePropertyValues source) {
+        var dimension = source.dimension();
+        if (dimension.isPresent()) {
+            return dimension.get();
+        }
+        for (long nodeId = 0; nodeId < source.nodeCount(); nodeId++) {
+            var value = source.floatArrayValue(nodeId);
+            if (value != null) {
+                return value.length;
+            }
+        }
+        return 0;
+    }
+
+    private static void writeInt(byte[] page, int offset, int value) {
+        page[offset] = (byte) value;
+        page[offset + 1] = (byte) (value >>> 8);
+        page[offset + 2] = (byte) (value >>> 16);
+        page[offset + 3] = (byte) (value >>> 24);
+    }
+
+    private static int readInt(byte[] page, int offset) {
+        return (page[offset] & 0xFF)
+               | (page[offset + 1] & 0xFF) << 8
+               | (page[offset + 2] & 0xFF) << 16
+               | (page[offset + 3] & 0xFF) << 24;
+    }
+
+    /**
+     * Converts to IEEE 754 binary16, rounding to nearest even.
+     */
+    static short floatToHalf(float value) {
+        int bits = Float.floatToRawIntBits(value);
+        int sign = (bits >>> 16) & 0x8000;
+        int exponent = ((bits >>> 23) & 0xFF) - 127 + 15;
+        int mantissa = bits & 0x7F_FFFF;
+
+        if (exponent >= 0x1F) {
+            boolean isNaN = (bits & 0x7FFF_FFFF) > 0x7F80_0000;
+            return (short) (sign | (isNaN ? 0x7E00 : 0x7C00));
+        }
+
+        int half;
+        int shift;
+        if (exponent <= 0) {
+            // subnormal or too small to be represented
+            if (exponent < -10) {
+                return (short) sign;
+            }
+            mantissa |= 0x80_0000;
+            shift = 14 - exponent;
+            half = mantissa >>> shift;
+        } else {
+            shift = 13;
+            half = (exponent << 10) | (mantissa >>> shift);
+        }
+
+        int remainder = mantissa & ((1 << shift) - 1);
+        int halfway = 1 << (shift - 1);
+        if (remainder > halfway || (remainder == halfway && (half & 1) != 0)) {
+            // may carry into the exponent, which is the correct rounding
+            half++;
+        }
+        return (short) (sign | half);
+    }
+
+    static float halfToFloat(short half) {
+        int bits = half & 0xFFFF;
+        int sign = (bits & 0x8000) << 16;
+        int exponent = (bits >>> 10) & 0x1F;
+        int mantissa = bits & 0x3FF;
+
+        if (exponent == 0) {
+            float subnormal = mantissa * 0x1p-24F;
+            return sign == 0 ? subnormal : -subnormal;
+        }
+        if (exponent == 0x1F) {
+            return Float.intBitsToFloat(sign | 0x7F80_0000 | (mantissa << 13));
+        }
+        return Float.intBitsToFloat(sign | ((exponent + 112) << 23) | (mantissa << 13));
+    }
+}
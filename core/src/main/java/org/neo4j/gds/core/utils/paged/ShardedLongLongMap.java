@@ -225,6 +225,15 @@ public final class ShardedLongLongMap {
             }
         }
 
+        /**
+         * Creates a builder that must only be used by a single thread.
+         * It adds nodes to this builder, but remembers the recently mapped nodes,
+         * so that adding them again does not acquire the lock of their shard.
+         */
+        public ThreadLocalBuilder threadLocalBuilder() {
+            return new ThreadLocalBuilder(this);
+        }
+
         public ShardedLongLongMap build() {
             return ShardedLongLongMap.build(
                 this.nodeCount.get(),
@@ -265,6 +274,46 @@ public final class ShardedLongLongMap {
         }
     }
 
+    /**
+     * A direct-mapped cache of original to mapped ids in front of a shared {@link Builder}.
+     * Nodes that are found in the cache are resolved without any synchronization.
+     * Only nodes that this thread has not seen recently are added to the shared builder.
+     */
+    public static final class ThreadLocalBuilder {
+
+        private static final int CACHE_SIZE = 1 << 12;
+        private static final int CACHE_MASK = CACHE_SIZE - 1;
+
+        private final Builder builder;
+        private final long[] originalIds;
+        private final long[] mappedIds;
+
+        private ThreadLocalBuilder(Builder builder) {
+            this.builder = builder;
+            this.originalIds = new long[CACHE_SIZE];
+            this.mappedIds = new long[CACHE_SIZE];
+            Arrays.fill(this.mappedIds, IdMap.NOT_FOUND);
+        }
+
+        /**
+         * Add a node to the mapping.
+         * @return {@code mappedId >= 0} if the node was added,
+         *      or {@code -(mappedId) - 1} if the node was already mapped.
+         */
+        public long addNode(long nodeId) {
+            int slot = (int) SpreadFunctions.longSpreadOne(nodeId) & CACHE_MASK;
+            long cachedMappedId = this.mappedIds[slot];
+            if (cachedMappedId != IdMap.NOT_FOUND && this.originalIds[slot] == nodeId) {
+                return -cachedMappedId - 1;
+            }
+
+            long mappedId = this.builder.addNode(nodeId);
+            this.originalIds[slot] = nodeId;
+            this.mappedIds[slot] = mappedId < 0 ? -mappedId - 1 : mappedId;
+            return mappedId;
+        }
+    }
+
     public static final class BatchedBuilder {
 
         private final AtomicLong nodeCount;
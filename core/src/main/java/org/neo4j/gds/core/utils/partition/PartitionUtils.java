@@ -39,6 +39,8 @@ import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public final class PartitionUtils {
 
+    public static final int WORK_STEALING_PARTITIONS_PER_THREAD = 16;
+
     private PartitionUtils() {}
 
     public static <TASK> List<TASK> rangePartition(
@@ -130,6 +132,25 @@ public final class PartitionUtils {
         return degreePartitionWithBatchSize(graph.nodeIterator(), graph::degree, batchSize, taskCreator);
     }
 
+    /**
+     * Like {@link #degreePartition(Graph, int, Function, Optional)}, but creates about
+     * {@link #WORK_STEALING_PARTITIONS_PER_THREAD} partitions per thread, which are meant to be run with
+     * {@link ParallelUtil#runWithWorkStealing}. A node with a degree above the batch size always ends a partition,
+     * so high-degree nodes do not drag their successors into an oversized partition.
+     */
+    public static <TASK> List<TASK> workStealingDegreePartition(
+        Graph graph,
+        int concurrency,
+        Function<DegreePartition, TASK> taskCreator,
+        Optional<Integer> minBatchSize
+    ) {
+        var batchSize = Math.max(
+            minBatchSize.orElse(ParallelUtil.DEFAULT_BATCH_SIZE),
+            BitUtil.ceilDiv(graph.relationshipCount(), (long) concurrency * WORK_STEALING_PARTITIONS_PER_THREAD)
+        );
+        return degreePartitionWithBatchSize(graph.nodeIterator(), graph::degree, batchSize, taskCreator);
+    }
+
     public static <TASK> List<TASK> customDegreePartitionWithBatchSize(
         Graph graph,
         int concurrency,
@@ -25,8 +25,24 @@ public final class OverlapSimilarity {
 
     private OverlapSimilarity() {}
 
+    /**
+     * Both vectors must be sorted, but may contain duplicates.
+     */
     public static double computeSimilarity(long[] vector1, long[] vector2, double similarityCutoff) {
         long intersection = Intersections.intersection3(vector1, vector2);
+        return similarity(intersection, vector1, vector2, similarityCutoff);
+    }
+
+    /**
+     * Same as {@link #computeSimilarity(long[], long[], double)}, but both vectors must be strictly increasing.
+     * This allows to count the common elements with {@link Intersections#intersectionOfSets(long[], long[])}.
+     */
+    public static double computeSimilarityOfSets(long[] vector1, long[] vector2, double similarityCutoff) {
+        long intersection = Intersections.intersectionOfSets(vector1, vector2);
+        return similarity(intersection, vector1, vector2, similarityCutoff);
+    }
+
+    private static double similarity(long intersection, long[] vector1, long[] vector2, double similarityCutoff) {
         double minimumCardinality = Math.min(vector1.length, vector2.length);
         double similarity = intersection / minimumCardinality;
         return similarity >= similarityCutoff ? similarity : Double.NaN;
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.mapped;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.gds.api.compress.ModifiableSlice;
+import org.neo4j.gds.core.compression.common.BumpAllocator;
+import org.neo4j.gds.core.compression.common.VarLongEncoding;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.nio.file.Path;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MappedAdjacencyListTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldSpillPagesWhileBuilding() {
+        int nodeCount = 2_000;
+        // node 42 does not fit into a regular page and gets an oversized page
+        int oversizedDegree = BumpAllocator.PAGE_SIZE / 2;
+        var builder = MappedAdjacencyListBuilderFactory.of(tempDir).newAdjacencyListBuilder();
+        var degrees = HugeIntArray.newArray(nodeCount);
+        var offsets = HugeLongArray.newArray(nodeCount);
+
+        // two allocators, as if two threads compressed interleaving nodes
+        var allocators = new MappedAdjacencyListBuilder.Allocator[]{builder.newAllocator(), builder.newAllocator()};
+        var slice = ModifiableSlice.<byte[]>create();
+        for (int node = 0; node < nodeCount; node++) {
+            var targets = targets(node, node == 42 ? oversizedDegree : 100 + node % 200);
+            var deltas = new long[targets.length];
+            for (int i = 0; i < targets.length; i++) {
+                deltas[i] = i == 0 ? targets[0] : targets[i] - targets[i - 1];
+            }
+            var encoded = new byte[VarLongEncoding.encodedVLongsSize(deltas, deltas.length)];
+            VarLongEncoding.encodeVLongs(deltas, deltas.length, encoded, 0);
+
+            long address = allocators[node % 2].allocate(encoded.length, slice);
+            System.arraycopy(encoded, 0, slice.slice(), slice.offset(), encoded.length);
+            degrees.set(node, targets.length);
+            offsets.set(node, address);
+        }
+        for (var allocator : allocators) {
+            allocator.close();
+        }
+
+        var adjacencyList = builder.build(degrees, offsets);
+
+        for (int node = 0; node < nodeCount; node++) {
+            var cursor = adjacencyList.adjacencyCursor(node);
+            var actual = new long[cursor.size()];
+            for (int i = 0; i < actual.length; i++) {
+                actual[i] = cursor.nextVLong();
+            }
+            assertThat(actual).as("targets of node %d", node).containsExactly(targets(node, degrees.get(node)));
+        }
+    }
+
+    private static long[] targets(int node, int degree) {
+        // large gaps need multiple bytes per target
+        return LongStream.range(0, degree).map(i -> node + i * 1_000_003L).toArray();
+    }
+}
@@ -26,8 +26,10 @@ import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.utils.paged.HugeIntArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
 
+import java.util.Arrays;
 import java.util.stream.LongStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -60,4 +62,48 @@ class PackedAdjacencyListTest {
             .isInstanceOf(IllegalStateException.class)
             .hasMessage("This page has already been freed.");
     }
+
+    @Test
+    void nextBlockDecodesAcrossBlocks() {
+        var data = LongStream.range(0, 3 * AdjacencyPacking.BLOCK_SIZE + 7).map(i -> i * 3).toArray();
+        var list = packedList(data);
+
+        var cursor = list.adjacencyCursor(0);
+        assertThat(cursor.nextVLong()).isEqualTo(data[0]);
+
+        var buffer = new long[50];
+        var decoded = LongStream.builder();
+        decoded.add(data[0]);
+        int length;
+        while ((length = cursor.nextBlock(buffer)) > 0) {
+            Arrays.stream(buffer, 0, length).forEach(decoded::add);
+        }
+
+        assertThat(decoded.build().toArray()).containsExactly(data);
+        assertThat(cursor.hasNextVLong()).isFalse();
+        assertThat(cursor.remaining()).isEqualTo(0);
+
+        list.free();
+    }
+
+    private static PackedAdjacencyList packedList(long[] data) {
+        var allocator = new TestAllocator();
+        var slice = ModifiableSlice.<Address>create();
+        var degree = new MutableInt(0);
+        var offset = AdjacencyPacker.compress(
+            allocator,
+            slice,
+            data,
+            data.length,
+            Aggregation.NONE,
+            degree
+        );
+
+        long ptr = slice.slice().address();
+        var pages = new long[]{ptr};
+        var allocationSizes = new int[]{Math.toIntExact(slice.slice().bytes())};
+        var degrees = HugeIntArray.of(degree.intValue());
+        var offsets = HugeLongArray.of(offset);
+        return new PackedAdjacencyList(pages, allocationSizes, degrees, offsets);
+    }
 }
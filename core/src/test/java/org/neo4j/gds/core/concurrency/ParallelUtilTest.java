@@ -34,6 +34,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -47,6 +48,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.LongAccumulator;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
@@ -138,6 +140,68 @@ final class ParallelUtilTest {
         assertEquals(1.0 + 2.5 + 3.14, sum);
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 4, 8})
+    void shouldRunEveryTaskOnceWithWorkStealing(int concurrency) {
+        int taskCount = 1_000;
+        var runs = new AtomicInteger[taskCount];
+        var tasks = IntStream.range(0, taskCount).mapToObj(i -> {
+            runs[i] = new AtomicInteger();
+            return (Runnable) () -> {
+                // a few expensive tasks, as if they contained hub nodes
+                if (i % 100 == 0) {
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(5));
+                }
+                runs[i].incrementAndGet();
+            };
+        }).collect(Collectors.toList());
+
+        ParallelUtil.runWithWorkStealing(tasks, concurrency, TerminationFlag.RUNNING_TRUE, Pools.DEFAULT);
+
+        assertThat(runs).allSatisfy(count -> assertThat(count.get()).isEqualTo(1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 4})
+    void shouldStealWorkOnAPoolOfTheGivenConcurrency(int concurrency) {
+        var threads = ConcurrentHashMap.<Thread>newKeySet();
+        var tasks = IntStream.range(0, 64).mapToObj(i -> (Runnable) () -> {
+            threads.add(Thread.currentThread());
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(5));
+        }).collect(Collectors.toList());
+
+        ParallelUtil.runWithWorkStealing(tasks, concurrency, TerminationFlag.RUNNING_TRUE, Pools.DEFAULT);
+
+        assertThat(threads)
+            .hasSizeGreaterThan(1)
+            .hasSizeLessThanOrEqualTo(concurrency)
+            .allMatch(thread -> thread instanceof ForkJoinWorkerThread);
+    }
+
+    @Test
+    void shouldRunWorkStealingTasksSequentiallyWithoutExecutor() {
+        var threads = ConcurrentHashMap.<Thread>newKeySet();
+        var tasks = IntStream.range(0, 64).mapToObj(i -> (Runnable) () -> threads.add(Thread.currentThread()))
+            .collect(Collectors.toList());
+
+        ParallelUtil.runWithWorkStealing(tasks, 4, TerminationFlag.RUNNING_TRUE, null);
+
+        assertThat(threads).containsExactly(Thread.currentThread());
+    }
+
+    @Test
+    void shouldPropagateExceptionsFromWorkStealingTasks() {
+        var tasks = IntStream.range(0, 100).mapToObj(i -> (Runnable) () -> {
+            if (i == 42) {
+                throw new IllegalStateException("task 42 failed");
+            }
+        }).collect(Collectors.toList());
+
+        assertThatThrownBy(() -> ParallelUtil.runWithWorkStealing(tasks, 4, TerminationFlag.RUNNING_TRUE, Pools.DEFAULT))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("task 42 failed");
+    }
+
     @Test
     void threadSizeShouldDivideByBatchsize() {
         Assertions.assertEquals(42, ParallelUtil.threadCount(1337, 1337 * 42));
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.core.huge;
 
+import com.carrotsearch.hppc.LongArrayList;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
@@ -83,6 +84,31 @@ final class HugeGraphNoPropertiesTest extends BaseTest {
         });
     }
 
+    @ParameterizedTest
+    @EnumSource(Orientation.class)
+    void relationshipBlocksShouldContainAllTargets(Orientation orientation) {
+        Graph graph = loadGraph(db, orientation);
+
+        var buffer = new long[2];
+        graph.forEachNode((nodeId) -> {
+            var expected = new LongArrayList();
+            graph.forEachRelationship(nodeId, (s, t) -> {
+                expected.add(t);
+                return true;
+            });
+
+            var actual = new LongArrayList();
+            graph.forEachRelationshipBlock(nodeId, buffer, (s, targets, length) -> {
+                assertEquals(nodeId, s);
+                actual.add(targets, 0, length);
+                return true;
+            });
+
+            assertEquals(expected, actual);
+            return true;
+        });
+    }
+
     private Graph loadGraph(final GraphDatabaseService db, Orientation orientation) {
         return new StoreLoaderBuilder()
             .databaseService(db)
@@ -23,14 +23,20 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.api.DatabaseId;
 import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.config.GraphProjectConfig;
 import org.neo4j.gds.config.GraphProjectFromStoreConfig;
 import org.neo4j.gds.extension.GdlExtension;
 import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.gdl.GdlFactory;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -375,6 +381,33 @@ class GraphStoreCatalogTest {
         assertEquals(2, GraphStoreCatalog.graphStoreCount());
     }
 
+    @Test
+    void indexesAreDroppedWithTheirGraph() {
+        GraphStoreCatalog.set(CONFIG, graphStore);
+        var index = new Object();
+        GraphStoreCatalog.setIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, "index", index);
+
+        assertThat(GraphStoreCatalog.getIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, "index", Object.class)).containsSame(index);
+        assertThat(GraphStoreCatalog.getIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, "index", String.class)).isEmpty();
+        assertThat(GraphStoreCatalog.getIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, "other", Object.class)).isEmpty();
+
+        GraphStoreCatalog.remove(
+            CatalogRequest.of(USER_NAME, DATABASE_ID),
+            GRAPH_NAME,
+            graphStoreWithConfig -> {},
+            true
+        );
+        GraphStoreCatalog.set(CONFIG, graphStore);
+        assertThat(GraphStoreCatalog.getIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, "index", Object.class)).isEmpty();
+    }
+
+    @Test
+    void shouldNotSetIndexForMissingGraph() {
+        assertThatThrownBy(() -> GraphStoreCatalog.setIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, "index", new Object()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Cannot set index `index` because graph graph does not exist");
+    }
+
     @Test
     void removeAllLoadedGraphs() {
         GraphStoreCatalog.set(CONFIG, graphStore);
@@ -436,4 +469,211 @@ class GraphStoreCatalogTest {
             ))
             .withMessage("Graph with name `myGraph` does not exist on database `mydatabase`. It might exist on another database.");
     }
+
+    @Test
+    void shouldPersistOnDatabaseShutdownAndRestoreOnFirstAccess() {
+        var persistence = new InMemoryPersistence();
+        GraphStoreCatalog.setPersistence(persistence);
+        try {
+            GraphStoreCatalog.set(CONFIG, graphStore);
+            GraphStoreCatalog.removeAllLoadedGraphs(DATABASE_ID);
+
+            assertTrue(persistence.contains(USER_NAME, DATABASE_ID.databaseName(), GRAPH_NAME));
+            assertThat(GraphStoreCatalog.graphStoreCount()).isZero();
+            assertTrue(GraphStoreCatalog.exists(USER_NAME, DATABASE_ID, GRAPH_NAME));
+            assertFalse(GraphStoreCatalog.exists("bob", DATABASE_ID, GRAPH_NAME));
+
+            var restored = GraphStoreCatalog.get(CatalogRequest.of(USER_NAME, DATABASE_ID), GRAPH_NAME);
+            assertThat(restored.graphStore()).isSameAs(graphStore);
+            assertThat(restored.config()).isEqualTo(CONFIG);
+            assertThat(GraphStoreCatalog.graphStoreCount()).isEqualTo(1);
+            assertThat(persistence.restoreCount).isEqualTo(1);
+
+            GraphStoreCatalog.get(CatalogRequest.of(USER_NAME, DATABASE_ID), GRAPH_NAME);
+            assertThat(persistence.restoreCount).isEqualTo(1);
+
+            GraphStoreCatalog.remove(
+                CatalogRequest.of(USER_NAME, DATABASE_ID),
+                GRAPH_NAME,
+                graphStoreWithConfig -> {},
+                true
+            );
+            assertThat(persistence.graphs).isEmpty();
+            assertFalse(GraphStoreCatalog.exists(USER_NAME, DATABASE_ID, GRAPH_NAME));
+        } finally {
+            GraphStoreCatalog.setPersistence(null);
+        }
+    }
+
+    @Test
+    void shouldDropPersistedGraphWithoutPriorAccess() {
+        var persistence = new InMemoryPersistence();
+        GraphStoreCatalog.setPersistence(persistence);
+        try {
+            GraphStoreCatalog.set(CONFIG, graphStore);
+            GraphStoreCatalog.removeAllLoadedGraphs(DATABASE_ID);
+
+            var dropped = new ArrayList<GraphStoreWithConfig>();
+            GraphStoreCatalog.remove(CatalogRequest.of(USER_NAME, DATABASE_ID), GRAPH_NAME, dropped::add, true);
+
+            assertThat(dropped).extracting(GraphStoreWithConfig::graphStore).containsExactly(graphStore);
+            assertThat(persistence.graphs).isEmpty();
+        } finally {
+            GraphStoreCatalog.setPersistence(null);
+        }
+    }
+
+    @Test
+    void shouldListPersistedGraphs() {
+        var persistence = new InMemoryPersistence();
+        GraphStoreCatalog.setPersistence(persistence);
+        try {
+            GraphStoreCatalog.set(CONFIG, graphStore);
+            GraphStoreCatalog.removeAllLoadedGraphs(DATABASE_ID);
+
+            assertThat(GraphStoreCatalog.getGraphStores("bob")).isEmpty();
+            assertThat(persistence.restoreCount).isZero();
+
+            assertThat(GraphStoreCatalog.getGraphStores(USER_NAME)).containsOnlyKeys(CONFIG);
+            assertThat(GraphStoreCatalog.getAllGraphStores().map(GraphStoreCatalog.GraphStoreWithUserNameAndConfig::config))
+                .containsExactly(CONFIG);
+            assertThat(persistence.restoreCount).isEqualTo(1);
+        } finally {
+            GraphStoreCatalog.setPersistence(null);
+        }
+    }
+
+    @Test
+    void shouldRestorePersistedGraphsOfOtherUsersForAdmins() {
+        var persistence = new InMemoryPersistence();
+        GraphStoreCatalog.setPersistence(persistence);
+        try {
+            GraphStoreCatalog.set(CONFIG, graphStore);
+            GraphStoreCatalog.removeAllLoadedGraphs(DATABASE_ID);
+
+            assertThatThrownBy(() -> GraphStoreCatalog.get(CatalogRequest.of("bob", DATABASE_ID), GRAPH_NAME))
+                .isInstanceOf(NoSuchElementException.class);
+
+            var restored = GraphStoreCatalog.get(CatalogRequest.ofAdmin("admin", DATABASE_ID), GRAPH_NAME);
+            assertThat(restored.config()).isEqualTo(CONFIG);
+            assertTrue(GraphStoreCatalog.exists(USER_NAME, DATABASE_ID, GRAPH_NAME));
+        } finally {
+            GraphStoreCatalog.setPersistence(null);
+        }
+    }
+
+    @Test
+    void shouldRejectGraphsThatCannotBePersisted() {
+        var persistence = new InMemoryPersistence();
+        persistence.rejectAll = true;
+        GraphStoreCatalog.setPersistence(persistence);
+        try {
+            assertThatThrownBy(() -> GraphStoreCatalog.set(CONFIG, graphStore))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("cannot be persisted");
+            assertThat(GraphStoreCatalog.isEmpty()).isTrue();
+        } finally {
+            GraphStoreCatalog.setPersistence(null);
+        }
+    }
+
+    @Test
+    void shouldReleaseGraphsIfPersistingFails() {
+        var persistence = new InMemoryPersistence();
+        GraphStoreCatalog.setPersistence(persistence);
+        try {
+            GraphStoreCatalog.set(CONFIG, graphStore);
+            persistence.failPersist = true;
+
+            assertThatThrownBy(() -> GraphStoreCatalog.removeAllLoadedGraphs(DATABASE_ID))
+                .isInstanceOf(IllegalStateException.class);
+            assertThat(GraphStoreCatalog.graphStoreCount()).isZero();
+        } finally {
+            GraphStoreCatalog.setPersistence(null);
+        }
+    }
+
+    @Test
+    void shouldDeletePersistedGraphsOfDroppedDatabase() {
+        var persistence = new InMemoryPersistence();
+        GraphStoreCatalog.setPersistence(persistence);
+        try {
+            GraphStoreCatalog.set(CONFIG, graphStore);
+            GraphStoreCatalog.removeAllLoadedGraphs(DATABASE_ID);
+            assertTrue(GraphStoreCatalog.exists(USER_NAME, DATABASE_ID, GRAPH_NAME));
+
+            GraphStoreCatalog.removeAllPersistedGraphs(DATABASE_ID.databaseName());
+
+            assertThat(persistence.graphs).isEmpty();
+            assertFalse(GraphStoreCatalog.exists(USER_NAME, DATABASE_ID, GRAPH_NAME));
+        } finally {
+            GraphStoreCatalog.setPersistence(null);
+        }
+    }
+
+    private static final class InMemoryPersistence implements GraphStoreCatalogPersistence {
+
+        private final Map<String, GraphStoreWithConfig> graphs = new HashMap<>();
+        private int restoreCount = 0;
+        private boolean rejectAll = false;
+        private boolean failPersist = false;
+
+        @Override
+        public void validate(GraphProjectConfig config, GraphStore graphStore) {
+            if (rejectAll) {
+                throw new IllegalArgumentException("cannot be persisted");
+            }
+        }
+
+        @Override
+        public List<PersistedGraph> persistedGraphs() {
+            return graphs.values().stream()
+                .map(graph -> PersistedGraph.of(
+                    graph.config().username(),
+                    graph.graphStore().databaseId().databaseName(),
+                    graph.config().graphName()
+                ))
+                .collect(Collectors.toList());
+        }
+
+        @Override
+        public boolean contains(String username, String databaseName, String graphName) {
+            return graphs.containsKey(key(username, databaseName, graphName));
+        }
+
+        @Override
+        public void persist(String username, GraphStoreWithConfig graphStoreWithConfig) {
+            if (failPersist) {
+                throw new IllegalStateException("persisting failed");
+            }
+            graphs.put(
+                key(
+                    username,
+                    graphStoreWithConfig.graphStore().databaseId().databaseName(),
+                    graphStoreWithConfig.config().graphName()
+                ),
+                graphStoreWithConfig
+            );
+        }
+
+        @Override
+        public Optional<GraphStoreWithConfig> restore(String username, String databaseName, String graphName) {
+            restoreCount++;
+            return Optional.ofNullable(graphs.get(key(username, databaseName, graphName)));
+        }
+
+        @Override
+        public void delete(String username, String databaseName, String graphName) {
+            graphs.remove(key(username, databaseName, graphName));
+        }
+
+        @Override
+        public void deleteDatabase(String databaseName) {
+            graphs.values().removeIf(graph -> graph.graphStore().databaseId().databaseName().equals(databaseName));
+        }
+
+        String key(String username, String databaseName, String graphName) {
+            return String.join("/", username, databaseName, graphName);
+        }
+    }
 }
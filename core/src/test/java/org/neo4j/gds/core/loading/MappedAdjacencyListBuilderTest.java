@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.core.GraphDimensions;
+import org.neo4j.gds.core.ImmutableGraphDimensions;
+import org.neo4j.gds.core.compression.common.BumpAllocator;
+import org.neo4j.gds.core.compression.mapped.MappedAdjacencyList;
+import org.neo4j.gds.core.compression.varlong.CompressedAdjacencyList;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MappedAdjacencyListBuilderTest extends AdjacencyListBuilderBaseTest {
+
+    @Test
+    void test() {
+        GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST.enableAndRun(this::testAdjacencyList);
+    }
+
+    @Test
+    void testWithProperties() {
+        GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST.enableAndRun(this::testAdjacencyListWithProperties);
+    }
+
+    @Test
+    void testMapper() {
+        GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST.enableAndRun(this::testValueMapper);
+    }
+
+    @Test
+    void testMapperWithProperties() {
+        GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST.enableAndRun(this::testValueMapperWithProperties);
+    }
+
+    @Test
+    void testWithAggregations() {
+        GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST.enableAndRun(this::testAdjacencyListWithAggregations);
+    }
+
+    @Test
+    void shouldEstimatePeakConstructionMemory() {
+        GraphDimensions dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(100_000)
+            .relCountUpperBound(1_000_000)
+            .build();
+
+        var mapped = MappedAdjacencyList.adjacencyListEstimation(10, dimensions.nodeCount()).estimate(dimensions, 4);
+        var compressed = CompressedAdjacencyList.adjacencyListEstimation(10, dimensions.nodeCount()).estimate(dimensions, 4);
+
+        // pages are written to the mapped file as soon as they are complete, only one page per thread is on heap
+        long degreesAndOffsets = HugeIntArray.memoryEstimation(dimensions.nodeCount())
+                                 + HugeLongArray.memoryEstimation(dimensions.nodeCount());
+        long pagesInConstruction = 4 * MemoryUsage.sizeOfByteArray(BumpAllocator.PAGE_SIZE);
+        assertThat(mapped.memoryUsage().min).isGreaterThanOrEqualTo(degreesAndOffsets + pagesInConstruction);
+        assertThat(mapped.memoryUsage().max).isLessThan(compressed.memoryUsage().max);
+    }
+}
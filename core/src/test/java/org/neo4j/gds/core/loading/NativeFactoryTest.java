@@ -33,6 +33,7 @@ import org.neo4j.gds.core.utils.mem.MemoryTree;
 
 import java.util.concurrent.atomic.AtomicReference;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class NativeFactoryTest {
@@ -138,4 +139,35 @@ class NativeFactoryTest {
         assertEquals(12_056_534_400L, estimate.memoryUsage().min);
         assertEquals(13_667_147_136L, estimate.memoryUsage().max);
     }
+
+    @Test
+    void memoryEstimationWithNodeReordering() {
+        GraphDimensions dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(100_000_000L)
+            .putRelationshipCount(RelationshipType.of("TYPE1"), 250_000_000L)
+            .build();
+
+        NodeProjections nodeProjections = NodeProjections.all();
+        RelationshipProjections relationshipProjections = ImmutableRelationshipProjections
+            .builder()
+            .putProjection(RelationshipType.of("TYPE1"), RelationshipProjection.of("TYPE1", Orientation.NATURAL))
+            .build();
+
+        MemoryTree withoutReordering = NativeFactory
+            .getMemoryEstimation(nodeProjections, relationshipProjections, NodeOrdering.NONE, true)
+            .estimate(dimensions, 1);
+        MemoryTree afterLoading = NativeFactory
+            .getMemoryEstimation(nodeProjections, relationshipProjections, false)
+            .estimate(dimensions, 1);
+        MemoryTree withReordering = NativeFactory
+            .getMemoryEstimation(nodeProjections, relationshipProjections, NodeOrdering.DEGREE, true)
+            .estimate(dimensions, 1);
+
+        // the reordered copy exists next to the loaded graph
+        assertThat(withReordering.memoryUsage().min)
+            .isGreaterThan(withoutReordering.memoryUsage().min)
+            .isGreaterThan(afterLoading.memoryUsage().min + withoutReordering.memoryUsage().min);
+        assertThat(withReordering.memoryUsage().max)
+            .isGreaterThan(afterLoading.memoryUsage().max + withoutReordering.memoryUsage().max);
+    }
 }
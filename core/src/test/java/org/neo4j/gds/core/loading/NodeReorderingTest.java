@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.properties.nodes.NodePropertyStore;
+import org.neo4j.gds.api.schema.MutableNodeSchema;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.gdl.GdlFactory;
+import org.neo4j.gds.gdl.ImmutableGraphProjectFromGdlConfig;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NodeReorderingTest {
+
+    private static final String GDL =
+        "  (a:A {p: 1})" +
+        ", (b:B {p: 2})" +
+        ", (c:A {p: 3})" +
+        ", (d:B {p: 4})" +
+        ", (e:A {p: 5})" +
+        ", (f:B {p: 6})" +
+        ", (a)-[:T {w: 1.0}]->(b)" +
+        ", (a)-[:T {w: 2.0}]->(c)" +
+        ", (a)-[:T {w: 3.0}]->(d)" +
+        ", (b)-[:T {w: 4.0}]->(c)" +
+        ", (d)-[:T {w: 5.0}]->(a)" +
+        ", (e)-[:T {w: 6.0}]->(d)" +
+        ", (c)-[:R]->(e)" +
+        ", (e)-[:R]->(c)";
+
+    @ParameterizedTest
+    @EnumSource(NodeOrdering.class)
+    void orderIsAPermutation(NodeOrdering nodeOrdering) {
+        var graphStore = GdlFactory.of(GDL).build();
+        var order = reordering(graphStore).order(nodeOrdering);
+
+        assertThat(order.toArray())
+            .containsExactlyInAnyOrder(LongStream.range(0, graphStore.nodeCount()).toArray());
+    }
+
+    @Test
+    void degreeOrderingSortsByDescendingDegree() {
+        var graphStore = GdlFactory.of(GDL).build();
+        var graph = graphStore.getUnion();
+        var order = reordering(graphStore).order(NodeOrdering.DEGREE);
+
+        for (int i = 1; i < order.size(); i++) {
+            assertThat(graph.degree(order.get(i - 1))).isGreaterThanOrEqualTo(graph.degree(order.get(i)));
+        }
+    }
+
+    @Test
+    void reverseCuthillMcKeeKeepsComponentsTogether() {
+        var graphStore = GdlFactory.builder().graphProjectConfig(
+            ImmutableGraphProjectFromGdlConfig.builder()
+                .gdlGraph("(a)-->(b), (b)-->(c), (x)-->(y)")
+                .graphName("test")
+                .orientation(Orientation.UNDIRECTED)
+                .build()
+        ).build().build();
+        var order = reordering(graphStore).order(NodeOrdering.RCM).toArray();
+
+        var firstComponent = Set.of(
+            graphStore.nodes().toMappedNodeId(0),
+            graphStore.nodes().toMappedNodeId(1),
+            graphStore.nodes().toMappedNodeId(2)
+        );
+        // each component occupies a contiguous range of the new ids
+        int changes = 0;
+        for (int i = 1; i < order.length; i++) {
+            if (firstComponent.contains(order[i - 1]) != firstComponent.contains(order[i])) {
+                changes++;
+            }
+        }
+        assertThat(changes).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = NodeOrdering.class, names = {"DEGREE", "RCM"})
+    void reorderingPreservesTheGraph(NodeOrdering nodeOrdering) {
+        var graphStore = GdlFactory.of(GDL).build();
+        var reordering = reordering(graphStore);
+
+        var order = reordering.order(nodeOrdering);
+        var nodes = reordering.reorderNodes(order);
+        var relationships = reordering.reorderRelationships(order, nodes.idMap());
+
+        var idMap = nodes.idMap();
+        assertThat(idMap.nodeCount()).isEqualTo(graphStore.nodeCount());
+        for (long newId = 0; newId < idMap.nodeCount(); newId++) {
+            long oldId = order.get(newId);
+            assertThat(idMap.toOriginalNodeId(newId)).isEqualTo(graphStore.nodes().toOriginalNodeId(oldId));
+            assertThat(idMap.nodeLabels(newId)).isEqualTo(graphStore.nodes().nodeLabels(oldId));
+            assertThat(nodes.properties().get("p").values().longValue(newId))
+                .isEqualTo(graphStore.nodeProperty("p").values().longValue(oldId));
+        }
+
+        for (var relationshipType : graphStore.relationshipTypes()) {
+            var reordered = relationships.importResults().get(relationshipType);
+            assertThat(reordered.relationshipSchemaEntry()).isEqualTo(
+                graphStore.singleTypeRelationships(relationshipType).relationshipSchemaEntry()
+            );
+            assertThat(relationshipsByOriginalId(GraphFactory.create(idMap, reordered)))
+                .isEqualTo(relationshipsByOriginalId(graphStore.getGraph(relationshipType, propertyKey(relationshipType))));
+        }
+    }
+
+    @Test
+    void shouldParseNodeOrdering() {
+        assertThat(NodeOrdering.parse("rcm")).isEqualTo(NodeOrdering.RCM);
+        assertThat(NodeOrdering.parse(NodeOrdering.DEGREE)).isEqualTo(NodeOrdering.DEGREE);
+        assertThatThrownBy(() -> NodeOrdering.parse("gorder"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Node ordering `GORDER` is not supported");
+    }
+
+    private static Optional<String> propertyKey(RelationshipType relationshipType) {
+        return relationshipType.name.equals("T") ? Optional.of("w") : Optional.empty();
+    }
+
+    private static Map<Long, Set<String>> relationshipsByOriginalId(Graph graph) {
+        var relationships = new HashMap<Long, Set<String>>();
+        graph.forEachNode(nodeId -> {
+            var targets = new HashSet<String>();
+            graph.forEachRelationship(nodeId, Double.NaN, (source, target, property) -> {
+                targets.add(graph.toOriginalNodeId(target) + ":" + property);
+                return true;
+            });
+            relationships.put(graph.toOriginalNodeId(nodeId), targets);
+            return true;
+        });
+        return relationships;
+    }
+
+    private static NodeReordering reordering(CSRGraphStore graphStore) {
+        var propertyStore = NodePropertyStore.builder();
+        graphStore.nodePropertyKeys().forEach(key -> propertyStore.putProperty(key, graphStore.nodeProperty(key)));
+
+        IdMap idMap = graphStore.nodes();
+        var nodes = ImmutableNodes.of(
+            MutableNodeSchema.from(graphStore.schema().nodeSchema()),
+            idMap,
+            propertyStore.build()
+        );
+
+        var relationships = RelationshipImportResult.builder();
+        graphStore.relationshipTypes().forEach(relationshipType -> relationships.putImportResult(
+            relationshipType,
+            graphStore.singleTypeRelationships(relationshipType)
+        ));
+
+        return new NodeReordering(nodes, relationships.build(), 4, Pools.DEFAULT);
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.delta;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.loading.CSRGraphStore;
+import org.neo4j.gds.gdl.GdlFactory;
+import org.neo4j.gds.gdl.ImmutableGraphProjectFromGdlConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeltaAdjacencyListTest {
+
+    private static final RelationshipType T = RelationshipType.of("T");
+
+    private static final String GDL =
+        "  (a), (b), (c), (d)" +
+        ", (a)-[:T]->(b)" +
+        ", (a)-[:T]->(c)" +
+        ", (b)-[:T]->(c)";
+
+    @Test
+    void shouldMergeAdditionsAndRemovals() {
+        var gdlFactory = gdlFactory(GDL, Orientation.NATURAL);
+        var graphStore = gdlFactory.build();
+        long a = mappedId(gdlFactory, graphStore, "a");
+        long b = mappedId(gdlFactory, graphStore, "b");
+        long c = mappedId(gdlFactory, graphStore, "c");
+        long d = mappedId(gdlFactory, graphStore, "d");
+
+        graphStore.applyRelationshipDelta(T, new RelationshipDelta()
+            .remove(a, b)
+            .add(a, d)
+            .add(c, a)
+        );
+
+        var graph = graphStore.getGraph(T);
+        assertThat(graph.relationshipCount()).isEqualTo(4);
+        assertThat(graph.degree(a)).isEqualTo(2);
+        assertThat(targets(graph, a)).containsExactly(c, d);
+        assertThat(targets(graph, b)).containsExactly(c);
+        assertThat(targets(graph, c)).containsExactly(a);
+        assertThat(targets(graph, d)).isEmpty();
+    }
+
+    @Test
+    void shouldIgnoreExistingAdditionsAndMissingRemovals() {
+        var gdlFactory = gdlFactory(GDL, Orientation.NATURAL);
+        var graphStore = gdlFactory.build();
+        long a = mappedId(gdlFactory, graphStore, "a");
+        long b = mappedId(gdlFactory, graphStore, "b");
+        long d = mappedId(gdlFactory, graphStore, "d");
+
+        graphStore.applyRelationshipDelta(T, new RelationshipDelta()
+            .add(a, b)
+            .remove(d, a)
+        );
+
+        var graph = graphStore.getGraph(T);
+        assertThat(graph.relationshipCount()).isEqualTo(3);
+        assertThat(graph.degree(a)).isEqualTo(2);
+        assertThat(targets(graph, d)).isEmpty();
+    }
+
+    @Test
+    void shouldApplyConsecutiveDeltas() {
+        var gdlFactory = gdlFactory(GDL, Orientation.NATURAL);
+        var graphStore = gdlFactory.build();
+        long a = mappedId(gdlFactory, graphStore, "a");
+        long b = mappedId(gdlFactory, graphStore, "b");
+        long c = mappedId(gdlFactory, graphStore, "c");
+        long d = mappedId(gdlFactory, graphStore, "d");
+
+        graphStore.applyRelationshipDelta(T, new RelationshipDelta().add(a, d).remove(a, c));
+        graphStore.applyRelationshipDelta(T, new RelationshipDelta().remove(a, d).add(a, c));
+
+        var graph = graphStore.getGraph(T);
+        assertThat(graph.relationshipCount()).isEqualTo(3);
+        assertThat(targets(graph, a)).containsExactly(b, c);
+    }
+
+    @Test
+    void shouldApplyUndirectedDeltasInBothDirections() {
+        var gdlFactory = gdlFactory(GDL, Orientation.UNDIRECTED);
+        var graphStore = gdlFactory.build();
+        long a = mappedId(gdlFactory, graphStore, "a");
+        long b = mappedId(gdlFactory, graphStore, "b");
+        long c = mappedId(gdlFactory, graphStore, "c");
+        long d = mappedId(gdlFactory, graphStore, "d");
+
+        graphStore.applyRelationshipDelta(T, new RelationshipDelta().add(a, d).remove(b, a));
+
+        var graph = graphStore.getGraph(T);
+        assertThat(graph.relationshipCount()).isEqualTo(6);
+        assertThat(targets(graph, a)).containsExactly(c, d);
+        assertThat(targets(graph, b)).containsExactly(c);
+        assertThat(targets(graph, d)).containsExactly(a);
+    }
+
+    @Test
+    void shouldSkipWithinMergedCursor() {
+        var gdlFactory = gdlFactory(GDL, Orientation.NATURAL);
+        var graphStore = gdlFactory.build();
+        long a = mappedId(gdlFactory, graphStore, "a");
+        long b = mappedId(gdlFactory, graphStore, "b");
+        long c = mappedId(gdlFactory, graphStore, "c");
+        long d = mappedId(gdlFactory, graphStore, "d");
+
+        graphStore.applyRelationshipDelta(T, new RelationshipDelta().add(a, d).add(a, a));
+
+        var adjacencyList = graphStore.singleTypeRelationships(T).topology().adjacencyList();
+        assertThat(adjacencyList).isInstanceOf(DeltaAdjacencyList.class);
+
+        var cursor = adjacencyList.adjacencyCursor(a);
+        assertThat(cursor.size()).isEqualTo(4);
+        assertThat(cursor.skipUntil(b)).isEqualTo(c);
+        assertThat(cursor.peekVLong()).isEqualTo(d);
+        assertThat(cursor.remaining()).isEqualTo(1);
+        assertThat(cursor.advance(d + 1)).isEqualTo(AdjacencyCursor.NOT_FOUND);
+    }
+
+    @Test
+    void shouldCompactDeltas() {
+        var gdlFactory = gdlFactory(GDL, Orientation.NATURAL);
+        var graphStore = gdlFactory.build();
+        long a = mappedId(gdlFactory, graphStore, "a");
+        long b = mappedId(gdlFactory, graphStore, "b");
+        long c = mappedId(gdlFactory, graphStore, "c");
+        long d = mappedId(gdlFactory, graphStore, "d");
+
+        graphStore.applyRelationshipDelta(T, new RelationshipDelta().remove(a, b).add(d, b));
+        var modifiedBeforeCompaction = graphStore.modificationTime();
+        graphStore.compactRelationshipDeltas(T).join();
+        assertThat(graphStore.modificationTime()).isNotSameAs(modifiedBeforeCompaction);
+
+        var relationships = graphStore.singleTypeRelationships(T);
+        assertThat(relationships.topology().adjacencyList()).isNotInstanceOf(DeltaAdjacencyList.class);
+        assertThat(relationships.topology().isMultiGraph()).isFalse();
+
+        var graph = graphStore.getGraph(T);
+        assertThat(graph.relationshipCount()).isEqualTo(3);
+        assertThat(targets(graph, a)).containsExactly(c);
+        assertThat(targets(graph, d)).containsExactly(b);
+    }
+
+    @Test
+    void shouldRejectRelationshipTypesWithProperties() {
+        var gdlFactory = gdlFactory("(a)-[:T {w: 1.0}]->(b)", Orientation.NATURAL);
+        var graphStore = gdlFactory.build();
+
+        assertThatThrownBy(() -> graphStore.applyRelationshipDelta(T, new RelationshipDelta().add(0, 1)))
+            .isInstanceOf(UnsupportedOperationException.class)
+            .hasMessageContaining("has properties");
+    }
+
+    @Test
+    void shouldRejectNodeIdsOutsideOfTheGraph() {
+        var gdlFactory = gdlFactory(GDL, Orientation.NATURAL);
+        var graphStore = gdlFactory.build();
+
+        assertThatThrownBy(() -> graphStore.applyRelationshipDelta(T, new RelationshipDelta().add(0, 4)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("node id 4")
+            .hasMessageContaining("4 nodes");
+        assertThatThrownBy(() -> new RelationshipDelta().add(-1, 0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("must not be negative");
+
+        assertThat(graphStore.getGraph(T).relationshipCount()).isEqualTo(3);
+    }
+
+    private static GdlFactory gdlFactory(String gdl, Orientation orientation) {
+        return GdlFactory.builder().graphProjectConfig(
+            ImmutableGraphProjectFromGdlConfig.builder()
+                .gdlGraph(gdl)
+                .graphName("test")
+                .orientation(orientation)
+                .build()
+        ).build();
+    }
+
+    private static long mappedId(GdlFactory gdlFactory, CSRGraphStore graphStore, String variable) {
+        return graphStore.nodes().toMappedNodeId(gdlFactory.nodeId(variable));
+    }
+
+    private static List<Long> targets(Graph graph, long nodeId) {
+        var targets = new ArrayList<Long>();
+        graph.forEachRelationship(nodeId, (source, target) -> {
+            targets.add(target);
+            return true;
+        });
+        return targets;
+    }
+}
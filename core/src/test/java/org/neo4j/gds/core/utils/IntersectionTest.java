@@ -24,6 +24,8 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -76,4 +78,109 @@ class IntersectionTest {
             assertEquals(row[2][0], Intersections.intersection4(row[0],row[1]), Arrays.toString(row));
         }
     }
+
+    @Test
+    void blockedIntersection() {
+        for (long[][] row : data) {
+            assertEquals(
+                row[2][0],
+                Intersections.blockedIntersection(row[0], 0, row[0].length, row[1], 0, row[1].length),
+                Arrays.toString(row)
+            );
+        }
+    }
+
+    @Test
+    void blockedIntersectionOfRandomSets() {
+        var random = new Random(42);
+        for (int i = 0; i < 100; i++) {
+            var targets1 = randomSet(random, random.nextInt(50));
+            var targets2 = randomSet(random, random.nextInt(50));
+
+            var expected = LongStream.of(targets1).filter(value -> Arrays.binarySearch(targets2, value) >= 0).toArray();
+
+            assertEquals(
+                expected.length,
+                Intersections.blockedIntersection(targets1, 0, targets1.length, targets2, 0, targets2.length)
+            );
+
+            var out = new long[Math.min(targets1.length, targets2.length)];
+            int count = Intersections.blockedIntersection(targets1, 0, targets1.length, targets2, 0, targets2.length, out);
+            assertEquals(expected.length, count);
+            Assertions.assertArrayEquals(expected, Arrays.copyOf(out, count));
+        }
+    }
+
+    @Test
+    void unrolledVectorFunctionsMatchSequentialSums() {
+        var random = new Random(42);
+        // cover every remainder of the unrolled loops
+        for (int len = 1; len <= 9; len++) {
+            var doubles1 = random.doubles(len, -1, 1).toArray();
+            var doubles2 = random.doubles(len, -1, 1).toArray();
+            var floats1 = toFloats(doubles1);
+            var floats2 = toFloats(doubles2);
+
+            double dotProduct = 0;
+            double xLength = 0;
+            double yLength = 0;
+            double sumSquareDelta = 0;
+            for (int i = 0; i < len; i++) {
+                dotProduct += doubles1[i] * doubles2[i];
+                xLength += doubles1[i] * doubles1[i];
+                yLength += doubles2[i] * doubles2[i];
+                sumSquareDelta += (doubles1[i] - doubles2[i]) * (doubles1[i] - doubles2[i]);
+            }
+            var cosine = dotProduct / Math.sqrt(xLength * yLength);
+
+            var mean1 = Arrays.stream(doubles1).sum() / len;
+            var mean2 = Arrays.stream(doubles2).sum() / len;
+            double dotProductMinusMean = 0;
+            double xLengthMinusMean = 0;
+            double yLengthMinusMean = 0;
+            for (int i = 0; i < len; i++) {
+                dotProductMinusMean += (doubles1[i] - mean1) * (doubles2[i] - mean2);
+                xLengthMinusMean += (doubles1[i] - mean1) * (doubles1[i] - mean1);
+                yLengthMinusMean += (doubles2[i] - mean2) * (doubles2[i] - mean2);
+            }
+            var pearson = dotProductMinusMean / Math.sqrt(xLengthMinusMean * yLengthMinusMean);
+
+            assertEquals(cosine, Intersections.cosine(doubles1, doubles2, len), 1e-12);
+            assertEquals(cosine, Intersections.cosine(floats1, floats2, len), 1e-5);
+            assertEquals(pearson, Intersections.pearsonCorrelation(doubles1, doubles2, len), 1e-12);
+            assertEquals(pearson, Intersections.pearsonCorrelation(floats1, floats2, len), 1e-5);
+            assertEquals(sumSquareDelta, Intersections.sumSquareDelta(doubles1, doubles2, len), 1e-12);
+            assertEquals(sumSquareDelta, Intersections.sumSquareDelta(floats1, floats2, len), 1e-5);
+            assertEquals(sumSquareDelta, Intersections.sumSquareDeltaAsDouble(floats1, floats2, len), 1e-5);
+            assertEquals(
+                Arrays.stream(Intersections.sumSquareDeltas(doubles1, new double[][]{doubles2}, len)).sum(),
+                Intersections.sumSquareDelta(doubles1, doubles2, len),
+                1e-12
+            );
+        }
+    }
+
+    @Test
+    void pearson() {
+        var vector1 = new double[]{1, 2, 3, 4, 5};
+        var vector2 = new double[]{2, 4, 6, 8, 10};
+        var vector3 = new double[]{5, 4, 3, 2, 1};
+
+        assertEquals(1.0, Intersections.pearson(vector1, vector2, 5), 1e-12);
+        assertEquals(-1.0, Intersections.pearson(vector1, vector3, 5), 1e-12);
+        assertEquals(0.0, Intersections.pearson(vector1, new double[]{1, 1, 1, 1, 1}, 5));
+        assertEquals(Double.NaN, Intersections.pearsonCorrelation(vector1, new double[]{1, 1, 1, 1, 1}, 5));
+    }
+
+    private static float[] toFloats(double[] values) {
+        var floats = new float[values.length];
+        for (int i = 0; i < values.length; i++) {
+            floats[i] = (float) values[i];
+        }
+        return floats;
+    }
+
+    private static long[] randomSet(Random random, int size) {
+        return random.longs(size, 0, 100).distinct().sorted().toArray();
+    }
 }
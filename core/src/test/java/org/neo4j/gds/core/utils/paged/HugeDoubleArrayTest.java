@@ -20,6 +20,7 @@
 package org.neo4j.gds.core.utils.paged;
 
 import org.junit.jupiter.api.Test;
+import org.neo4j.gds.mem.HugeArrays;
 import org.neo4j.gds.mem.MemoryUsage;
 
 import static io.qala.datagen.RandomShortApi.integer;
@@ -39,6 +40,35 @@ final class HugeDoubleArrayTest extends HugeArrayTestBase<double[], Double, Huge
         });
     }
 
+    @Test
+    void shouldStoreValuesOffHeap() {
+        var size = HugeArrays.PAGE_SIZE + 42;
+        var array = HugeDoubleArray.newOffHeapArray(size);
+        array.setAll(i -> (double) (i % 1337));
+
+        var copy = HugeDoubleArray.newArray(size);
+        array.copyTo(copy, size);
+        for (long i = 0; i < size; i++) {
+            assertEquals((double) (i % 1337), array.get(i));
+            assertEquals((double) (i % 1337), copy.get(i));
+        }
+
+        // writes through the cursor are visible in the array
+        try (var cursor = array.initCursor(array.newCursor())) {
+            while (cursor.next()) {
+                for (int i = cursor.offset; i < cursor.limit; i++) {
+                    cursor.array[i] = 42.0;
+                }
+            }
+        }
+        for (long i = 0; i < size; i++) {
+            assertEquals(42.0, array.get(i));
+        }
+
+        assertEquals(HugeDoubleArray.offHeapMemoryEstimation(size), array.release());
+        assertEquals(0L, array.release());
+    }
+
     @Override
     HugeDoubleArray singleArray(final int size) {
         return HugeDoubleArray.newSingleArray(size);
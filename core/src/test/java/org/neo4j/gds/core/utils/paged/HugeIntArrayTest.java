@@ -20,6 +20,7 @@
 package org.neo4j.gds.core.utils.paged;
 
 import org.junit.jupiter.api.Test;
+import org.neo4j.gds.mem.HugeArrays;
 import org.neo4j.gds.mem.MemoryUsage;
 
 import static io.qala.datagen.RandomShortApi.integer;
@@ -83,6 +84,35 @@ final class HugeIntArrayTest extends HugeArrayTestBase<int[], Integer, HugeIntAr
         assertEquals(400_122_070_368L, HugeIntArray.memoryEstimation(100_000_000_000L));
     }
 
+    @Test
+    void shouldStoreValuesOffHeap() {
+        var size = HugeArrays.PAGE_SIZE + 42;
+        var array = HugeIntArray.newOffHeapArray(size);
+        array.setAll(i -> (int) (i % 1337));
+
+        var copy = HugeIntArray.newArray(size);
+        array.copyTo(copy, size);
+        for (long i = 0; i < size; i++) {
+            assertEquals((int) (i % 1337), array.get(i));
+            assertEquals((int) (i % 1337), copy.get(i));
+        }
+
+        // writes through the cursor are visible in the array
+        try (var cursor = array.initCursor(array.newCursor())) {
+            while (cursor.next()) {
+                for (int i = cursor.offset; i < cursor.limit; i++) {
+                    cursor.array[i] = 42;
+                }
+            }
+        }
+        for (long i = 0; i < size; i++) {
+            assertEquals(42, array.get(i));
+        }
+
+        assertEquals(HugeIntArray.offHeapMemoryEstimation(size), array.release());
+        assertEquals(0L, array.release());
+    }
+
     @Override
     HugeIntArray singleArray(final int size) {
         return HugeIntArray.newSingleArray(size);
@@ -24,6 +24,7 @@ import org.neo4j.gds.mem.HugeArrays;
 import org.neo4j.gds.mem.MemoryUsage;
 
 import static io.qala.datagen.RandomShortApi.integer;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -105,6 +106,83 @@ final class HugeLongArrayTest extends HugeArrayTestBase<long[], Long, HugeLongAr
         assertEquals(-1, array.binarySearch(-10));
     }
 
+    @Test
+    void shouldStoreValuesOffHeap() {
+        var size = HugeArrays.PAGE_SIZE + 42;
+        var array = HugeLongArray.newOffHeapArray(size);
+        array.setAll(i -> (long) (i % 1337));
+
+        var copy = HugeLongArray.newArray(size);
+        array.copyTo(copy, size);
+        for (long i = 0; i < size; i++) {
+            assertEquals((long) (i % 1337), array.get(i));
+            assertEquals((long) (i % 1337), copy.get(i));
+        }
+
+        // writes through the cursor are visible in the array
+        try (var cursor = array.initCursor(array.newCursor())) {
+            while (cursor.next()) {
+                for (int i = cursor.offset; i < cursor.limit; i++) {
+                    cursor.array[i] = 42L;
+                }
+            }
+        }
+        for (long i = 0; i < size; i++) {
+            assertEquals(42L, array.get(i));
+        }
+
+        // only the values are stored off-heap
+        assertEquals(HugeLongArray.offHeapArrayMemoryEstimation(), array.sizeOf());
+        assertEquals(HugeLongArray.offHeapMemoryEstimation(size), array.release());
+        assertEquals(0L, array.release());
+    }
+
+    @Test
+    void shouldCheckOffHeapAccesses() {
+        var array = HugeLongArray.newOffHeapArray(10);
+
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> array.get(-1));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> array.get(10));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> array.set(10, 42L));
+
+        array.release();
+
+        assertThrows(IllegalStateException.class, () -> array.get(0));
+        assertThrows(IllegalStateException.class, () -> array.set(0, 42L));
+    }
+
+    @Test
+    void shouldNotWriteBackUnmodifiedOffHeapPages() {
+        var array = HugeLongArray.newOffHeapArray(10);
+
+        try (var cursor = array.initCursor(array.newCursor())) {
+            while (cursor.next()) {
+                // a concurrent write while the page is buffered by a read-only traversal
+                array.set(5, 42L);
+            }
+        }
+
+        assertEquals(42L, array.get(5));
+        array.release();
+    }
+
+    @Test
+    void shouldOnlyWriteBackModifiedOffHeapValues() {
+        var array = HugeLongArray.newOffHeapArray(10);
+
+        try (var cursor = array.initCursor(array.newCursor())) {
+            while (cursor.next()) {
+                cursor.array[cursor.offset + 2] = 1L;
+                cursor.array[cursor.offset + 3] = 2L;
+                cursor.array[cursor.offset + 7] = 3L;
+                array.set(5, 42L);
+            }
+        }
+
+        assertArrayEquals(new long[]{0L, 0L, 1L, 2L, 0L, 42L, 0L, 3L, 0L, 0L}, array.toArray());
+        array.release();
+    }
+
     @Override
     HugeLongArray singleArray(final int size) {
         return HugeLongArray.newSingleArray(size);
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.paged;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.api.properties.nodes.FloatArrayNodePropertyValues;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class QuantizedFloatArrayStoreTest {
+
+    @ParameterizedTest
+    @EnumSource(value = EmbeddingPrecision.class, names = {"FLOAT16", "INT8"})
+    void shouldRoundTripWithinPrecision(EmbeddingPrecision precision) {
+        int nodeCount = 10_000;
+        int dimension = 64;
+        var random = new Random(42);
+        var embeddings = new float[nodeCount][dimension];
+        for (float[] embedding : embeddings) {
+            for (int i = 0; i < dimension; i++) {
+                embedding[i] = (float) random.nextGaussian() * 10;
+            }
+        }
+
+        var store = QuantizedFloatArrayStore.of(values(embeddings), precision, 4);
+
+        // int8 has a step of scale / 127, float16 has 11 significant bits relative to the scale
+        float relativeError = precision == EmbeddingPrecision.INT8 ? 0.5F / 127 : 1F / 2048;
+        for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+            var expected = embeddings[nodeId];
+            float scale = 0F;
+            for (float v : expected) {
+                scale = Math.max(scale, Math.abs(v));
+            }
+            var actual = store.floatArrayValue(nodeId);
+            assertThat(actual).hasSize(dimension);
+            for (int i = 0; i < dimension; i++) {
+                assertThat(actual[i]).isCloseTo(expected[i], within(scale * relativeError * 1.01F));
+            }
+        }
+        assertThat(store.dimension()).contains(dimension);
+        assertThat(store.nodeCount()).isEqualTo(nodeCount);
+    }
+
+    @Test
+    void shouldKeepMissingAndZeroVectorsApart() {
+        var embeddings = new float[][]{new float[]{0F, 0F}, null, new float[]{-2F, 1F}};
+
+        var store = QuantizedFloatArrayStore.of(values(embeddings), EmbeddingPrecision.INT8, 1);
+
+        assertThat(store.floatArrayValue(0)).containsExactly(0F, 0F);
+        assertThat(store.hasValue(1)).isFalse();
+        assertThat(store.floatArrayValue(1)).isNull();
+        assertThat(store.floatArrayValue(2)).containsExactly(new float[]{-2F, 1F}, within(2F / 127));
+    }
+
+    @Test
+    void shouldReturnSourceForFullPrecision() {
+        var source = values(new float[][]{new float[]{1F}});
+        assertThat(QuantizedFloatArrayStore.withPrecision(source, EmbeddingPrecision.FLOAT, 1)).isSameAs(source);
+        assertThatThrownBy(() -> new QuantizedFloatArrayStore(EmbeddingPrecision.FLOAT, 1, 1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRejectWrongDimension() {
+        var store = new QuantizedFloatArrayStore(EmbeddingPrecision.FLOAT16, 2, 3);
+        assertThatThrownBy(() -> store.set(0, new float[]{1F}))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Expected a vector of dimension 3 for node 0, but got dimension 1.");
+    }
+
+    @ParameterizedTest
+    @ValueSource(floats = {0F, -0F, 1F, -1F, 0.5F, 0.333333F, 6.1035156E-5F, 5.9604645E-8F, 65504F})
+    void shouldConvertRepresentableHalfValues(float value) {
+        float roundTripped = QuantizedFloatArrayStore.halfToFloat(QuantizedFloatArrayStore.floatToHalf(value));
+        assertThat(roundTripped).isCloseTo(value, within(Math.abs(value) / 2048));
+        assertThat(Math.copySign(1F, roundTripped)).isEqualTo(Math.copySign(1F, value));
+    }
+
+    @Test
+    void shouldConvertSpecialHalfValues() {
+        assertThat(QuantizedFloatArrayStore.halfToFloat(QuantizedFloatArrayStore.floatToHalf(Float.NaN))).isNaN();
+        assertThat(QuantizedFloatArrayStore.halfToFloat(QuantizedFloatArrayStore.floatToHalf(1e10F)))
+            .isEqualTo(Float.POSITIVE_INFINITY);
+        assertThat(QuantizedFloatArrayStore.halfToFloat(QuantizedFloatArrayStore.floatToHalf(1e-10F))).isEqualTo(0F);
+    }
+
+    @Test
+    void shouldEstimateLessThanFullPrecision() {
+        long nodeCount = 1_000_000;
+        int dimension = 128;
+        long fullPrecision = nodeCount * (Float.BYTES * (long) dimension);
+
+        assertThat(QuantizedFloatArrayStore.memoryEstimation(nodeCount, dimension, EmbeddingPrecision.FLOAT16))
+            .isBetween(fullPrecision / 2, fullPrecision / 2 + nodeCount * 8);
+        assertThat(QuantizedFloatArrayStore.memoryEstimation(nodeCount, dimension, EmbeddingPrecision.INT8))
+            .isBetween(fullPrecision / 4, fullPrecision / 4 + nodeCount * 8);
+    }
+
+    private static FloatArrayNodePropertyValues values(float[][] embeddings) {
+        return new FloatArrayNodePropertyValues() {
+            @Override
+            public float[] floatArrayValue(long nodeId) {
+                return embeddings[(int) nodeId];
+            }
+
+            @Override
+            public long nodeCount() {
+                return embeddings.length;
+            }
+        };
+    }
+}
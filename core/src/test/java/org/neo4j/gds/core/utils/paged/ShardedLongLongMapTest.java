@@ -249,6 +249,65 @@ abstract class ShardedLongLongMapTest {
         }
     }
 
+    static final class ThreadLocalBuilderTest extends ShardedLongLongMapTest {
+
+        @Property
+        void testAddNodeWithDuplicates(@ForAll("ids") long[] originalIds) {
+            var builder = builder(1);
+            for (long originalId : originalIds) {
+                long mappedId = builder.addNode(originalId);
+                long duplicateMappedId = builder.addNode(originalId);
+                assertThat(duplicateMappedId).isEqualTo(-mappedId - 1);
+            }
+        }
+
+        @Test
+        void testAddNodeWithDuplicatesFromDifferentThreadLocalBuilders() {
+            var inner = ShardedLongLongMap.builder(1);
+            var first = inner.threadLocalBuilder();
+            var second = inner.threadLocalBuilder();
+
+            assertThat(first.addNode(42)).isEqualTo(0L);
+            assertThat(second.addNode(42)).isEqualTo(-1L);
+            assertThat(second.addNode(1337)).isEqualTo(1L);
+            assertThat(first.addNode(1337)).isEqualTo(-2L);
+            assertThat(first.addNode(42)).isEqualTo(-1L);
+        }
+
+        @Override
+        TestBuilder builder(int concurrency) {
+            return new CachingBuilder(concurrency);
+        }
+
+        private static final class CachingBuilder implements TestBuilder {
+            private final ShardedLongLongMap.Builder inner;
+            private final ThreadLocal<ShardedLongLongMap.ThreadLocalBuilder> threadLocalBuilders;
+
+            CachingBuilder(int concurrency) {
+                this.inner = ShardedLongLongMap.builder(concurrency);
+                this.threadLocalBuilders = ThreadLocal.withInitial(inner::threadLocalBuilder);
+            }
+
+            @Override
+            public long addNode(long nodeId) {
+                return threadLocalBuilders.get().addNode(nodeId);
+            }
+
+            @Override
+            public void addNodes(long... nodeIds) {
+                var builder = threadLocalBuilders.get();
+                for (long nodeId : nodeIds) {
+                    builder.addNode(nodeId);
+                }
+            }
+
+            @Override
+            public ShardedLongLongMap build() {
+                return inner.build();
+            }
+        }
+    }
+
     static final class BatchedBuilderTest extends ShardedLongLongMapTest {
 
         @Property
@@ -135,10 +135,11 @@ public final class GraphImporter {
         var intermediateSourceId = loadNode(sourceNode, sourceNodeLabels, sourceNodePropertyValues);
 
         if (targetNode != NO_TARGET_NODE) {
+            // we do the lookup before to avoid having to create a new lambda instance on every call
+            var existingRelImporter = this.relImporters.get(relationshipType);
             RelationshipsBuilder relImporter;
-            // we do the check before to avoid having to create a new lambda instance on every call
-            if (this.relImporters.containsKey(relationshipType)) {
-                relImporter = this.relImporters.get(relationshipType);
+            if (existingRelImporter != null) {
+                relImporter = existingRelImporter;
             } else {
                 var finalRelationshipProperties = relationshipProperties;
                 relImporter = this.relImporters.computeIfAbsent(
@@ -0,0 +1,427 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.binary;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.neo4j.gds.NodeProjections;
+import org.neo4j.gds.PropertyMappings;
+import org.neo4j.gds.RelationshipProjections;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.config.GraphProjectConfig;
+import org.neo4j.gds.config.GraphProjectFromCypherConfig;
+import org.neo4j.gds.config.GraphProjectFromGraphConfig;
+import org.neo4j.gds.config.GraphProjectFromStoreConfig;
+import org.neo4j.gds.config.GraphSampleProcConfig;
+import org.neo4j.gds.config.RandomGraphGeneratorConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.loading.CSRGraphStore;
+import org.neo4j.gds.core.loading.GraphStoreCatalogPersistence;
+import org.neo4j.gds.core.loading.GraphStoreWithConfig;
+import org.neo4j.gds.core.loading.NodeOrdering;
+import org.neo4j.gds.core.utils.progress.JobId;
+import org.neo4j.logging.Log;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.config.GraphProjectFromCypherConfig.NODE_QUERY_KEY;
+import static org.neo4j.gds.config.GraphProjectFromCypherConfig.RELATIONSHIP_QUERY_KEY;
+import static org.neo4j.gds.config.GraphProjectFromStoreConfig.NODE_PROJECTION_KEY;
+import static org.neo4j.gds.config.GraphProjectFromStoreConfig.NODE_PROPERTIES_KEY;
+import static org.neo4j.gds.config.GraphProjectFromStoreConfig.RELATIONSHIP_PROJECTION_KEY;
+import static org.neo4j.gds.config.GraphProjectFromStoreConfig.RELATIONSHIP_PROPERTIES_KEY;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Persists catalog graphs as binary snapshots below a root directory,
+ * one directory per user, database and graph.
+ * <p>
+ * Next to the snapshot, a {@code graph.config} file holds the projection config as JSON.
+ * Only configs of native and Cypher projections can be restored, other graphs are not persisted.
+ * Graphs that would be persisted must use the storage that binary snapshots support,
+ * which is checked when they are added to the catalog and again before they are written.
+ * A snapshot is first written into a staging directory. Once it is complete, the previous snapshot
+ * is moved aside, the new one is moved into its place and only then the previous one is deleted,
+ * so that there is always one complete snapshot. An interrupted replacement is rolled back
+ * the next time the persisted graphs are listed.
+ */
+public final class BinaryGraphStoreCatalogPersistence implements GraphStoreCatalogPersistence {
+
+    static final String CONFIG_FILE = "graph.config";
+
+    private static final String CONFIG_TYPE_KEY = "configType";
+    private static final String STORE_CONFIG_TYPE = "store";
+    private static final String CYPHER_CONFIG_TYPE = "cypher";
+
+    private static final String DIRECTORY_PREFIX = "_";
+    private static final String STAGING_PREFIX = ".staging";
+    private static final String PREVIOUS_PREFIX = ".previous";
+
+    private final Path root;
+    private final int concurrency;
+    private final Log log;
+    private final ObjectMapper objectMapper;
+
+    public BinaryGraphStoreCatalogPersistence(Path root, int concurrency, Log log) {
+        this.root = root;
+        this.concurrency = concurrency;
+        this.log = log;
+        this.objectMapper = new ObjectMapper()
+            .disable(JsonGenerator.Feature.WRITE_NAN_AS_STRINGS)
+            .enable(JsonParser.Feature.ALLOW_NON_NUMERIC_NUMBERS);
+    }
+
+    @Override
+    public void validate(GraphProjectConfig config, GraphStore graphStore) {
+        if (configMap(config).isEmpty()) {
+            return;
+        }
+        try {
+            validateSnapshot(graphStore);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Graph `%s` cannot be added to the catalog, because catalog persistence is enabled and the graph cannot be persisted: %s",
+                config.graphName(),
+                e.getMessage()
+            ), e);
+        }
+    }
+
+    @Override
+    public boolean contains(String username, String databaseName, String graphName) {
+        var directory = graphDirectory(username, databaseName, graphName);
+        return Files.exists(directory.resolve(CONFIG_FILE))
+               && Files.exists(directory.resolve(BinarySnapshotFormat.META_FILE));
+    }
+
+    @Override
+    public List<PersistedGraph> persistedGraphs() {
+        var persistedGraphs = new ArrayList<PersistedGraph>();
+        try {
+            for (var userDirectory : subDirectories(root)) {
+                for (var databaseDirectory : subDirectories(userDirectory)) {
+                    rollBackInterruptedReplacements(databaseDirectory);
+                    for (var graphDirectory : subDirectories(databaseDirectory)) {
+                        var username = nameOf(userDirectory);
+                        var databaseName = nameOf(databaseDirectory);
+                        var graphName = nameOf(graphDirectory);
+                        if (contains(username, databaseName, graphName)) {
+                            persistedGraphs.add(PersistedGraph.of(username, databaseName, graphName));
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return persistedGraphs;
+    }
+
+    @Override
+    public void persist(String username, GraphStoreWithConfig graphStoreWithConfig) {
+        var config = graphStoreWithConfig.config();
+        var graphStore = graphStoreWithConfig.graphStore();
+
+        var configMap = configMap(config);
+        if (configMap.isEmpty()) {
+            log.info(
+                "Graph `%s` of user `%s` is not persisted, only graphs from native and Cypher projections can be restored.",
+                config.graphName(),
+                username
+            );
+            return;
+        }
+
+        // the graph may have been mutated into a shape that snapshots do not support since it was added
+        try {
+            validateSnapshot(graphStore);
+        } catch (IllegalArgumentException e) {
+            log.warn(
+                "Graph `%s` of user `%s` is not persisted, because it has been modified into a graph that cannot be persisted: %s",
+                config.graphName(),
+                username,
+                e.getMessage()
+            );
+            return;
+        }
+
+        var directory = graphDirectory(username, graphStore.databaseId().databaseName(), config.graphName());
+        var stagingDirectory = directory.resolveSibling(STAGING_PREFIX + directory.getFileName());
+        var previousDirectory = directory.resolveSibling(PREVIOUS_PREFIX + directory.getFileName());
+        try {
+            compactRelationshipDeltas(graphStore);
+            deleteRecursively(stagingDirectory);
+            new GraphStoreToBinaryExporter(graphStore, stagingDirectory, concurrency).run();
+            objectMapper.writeValue(stagingDirectory.resolve(CONFIG_FILE).toFile(), configMap.get());
+
+            deleteRecursively(previousDirectory);
+            if (Files.exists(directory)) {
+                Files.move(directory, previousDirectory, StandardCopyOption.ATOMIC_MOVE);
+            }
+            Files.move(stagingDirectory, directory, StandardCopyOption.ATOMIC_MOVE);
+            deleteRecursively(previousDirectory);
+            log.info("Persisted graph `%s` of user `%s` to `%s`.", config.graphName(), username, directory);
+        } catch (IOException | RuntimeException e) {
+            log.warn(
+                formatWithLocale("Failed to persist graph `%s` of user `%s`.", config.graphName(), username),
+                e
+            );
+            try {
+                deleteRecursively(stagingDirectory);
+            } catch (IOException cleanupException) {
+                e.addSuppressed(cleanupException);
+            }
+        }
+    }
+
+    @Override
+    public Optional<GraphStoreWithConfig> restore(String username, String databaseName, String graphName) {
+        if (!contains(username, databaseName, graphName)) {
+            return Optional.empty();
+        }
+
+        var directory = graphDirectory(username, databaseName, graphName);
+        Map<String, Object> configMap;
+        try {
+            configMap = objectMapper.readValue(
+                directory.resolve(CONFIG_FILE).toFile(),
+                new TypeReference<HashMap<String, Object>>() {}
+            );
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        var config = configFromMap(username, graphName, configMap);
+        GraphStore graphStore;
+        try {
+            graphStore = new BinaryToGraphStoreImporter(directory, concurrency).run();
+        } catch (RuntimeException e) {
+            log.warn(formatWithLocale("Failed to restore graph `%s` of user `%s`.", graphName, username), e);
+            throw e;
+        }
+        log.info("Restored graph `%s` of user `%s` from `%s`.", graphName, username, directory);
+
+        return Optional.of(GraphStoreWithConfig.of(graphStore, config));
+    }
+
+    @Override
+    public void delete(String username, String databaseName, String graphName) {
+        try {
+            deleteRecursively(graphDirectory(username, databaseName, graphName));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void deleteDatabase(String databaseName) {
+        try {
+            for (var userDirectory : subDirectories(root)) {
+                deleteRecursively(userDirectory.resolve(directoryName(databaseName)));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("Deleted the persisted graphs of database `%s`.", databaseName);
+    }
+
+    private Path graphDirectory(String username, String databaseName, String graphName) {
+        return root
+            .resolve(directoryName(username))
+            .resolve(directoryName(databaseName))
+            .resolve(directoryName(graphName));
+    }
+
+    /**
+     * Configs of projections that cannot be restored are not mapped, including the ones of
+     * projections that do not implement {@link GraphProjectConfig.Cases} for this visitor and return {@code null}.
+     */
+    private static Optional<Map<String, Object>> configMap(GraphProjectConfig config) {
+        Optional<Map<String, Object>> configMap = config.accept(new ConfigToMap());
+        //noinspection OptionalAssignedToNull
+        return configMap == null ? Optional.empty() : configMap;
+    }
+
+    private void validateSnapshot(GraphStore graphStore) {
+        new GraphStoreToBinaryExporter(graphStore, root, concurrency).validate();
+    }
+
+    /**
+     * A graph directory that is missing next to its previous snapshot has been moved aside
+     * by a replacement that did not complete, the previous snapshot is moved back.
+     * Previous snapshots of completed replacements are deleted.
+     */
+    private static void rollBackInterruptedReplacements(Path databaseDirectory) throws IOException {
+        List<Path> previousDirectories;
+        try (Stream<Path> paths = Files.list(databaseDirectory)) {
+            previousDirectories = paths
+                .filter(path -> path.getFileName().toString().startsWith(PREVIOUS_PREFIX))
+                .collect(Collectors.toList());
+        }
+        for (var previousDirectory : previousDirectories) {
+            var directory = previousDirectory.resolveSibling(
+                previousDirectory.getFileName().toString().substring(PREVIOUS_PREFIX.length())
+            );
+            if (Files.exists(directory)) {
+                deleteRecursively(previousDirectory);
+            } else {
+                Files.move(previousDirectory, directory, StandardCopyOption.ATOMIC_MOVE);
+            }
+        }
+    }
+
+    /**
+     * Relationship deltas are kept in overlays on top of the adjacency pages that snapshots contain,
+     * they are compacted into new pages before the graph is written.
+     */
+    private static void compactRelationshipDeltas(GraphStore graphStore) {
+        if (graphStore instanceof CSRGraphStore) {
+            var csrGraphStore = (CSRGraphStore) graphStore;
+            for (var relationshipType : csrGraphStore.relationshipTypes()) {
+                // A compaction that is already running replays the deltas that arrived in the meantime
+                // on top of its result, the second call compacts those as well.
+                csrGraphStore.compactRelationshipDeltas(relationshipType).join();
+                csrGraphStore.compactRelationshipDeltas(relationshipType).join();
+            }
+        }
+    }
+
+    /**
+     * Names are encoded, so that any user, database or graph name is a valid and distinct file name.
+     * The prefix keeps empty names, like the one of the anonymous user, from resolving to the parent directory.
+     */
+    static String directoryName(String name) {
+        return DIRECTORY_PREFIX + URLEncoder.encode(name, StandardCharsets.UTF_8);
+    }
+
+    private static String nameOf(Path directory) {
+        return URLDecoder.decode(
+            directory.getFileName().toString().substring(DIRECTORY_PREFIX.length()),
+            StandardCharsets.UTF_8
+        );
+    }
+
+    private static List<Path> subDirectories(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths
+                .filter(Files::isDirectory)
+                .filter(path -> path.getFileName().toString().startsWith(DIRECTORY_PREFIX))
+                .collect(Collectors.toList());
+        }
+    }
+
+    private static GraphProjectConfig configFromMap(String username, String graphName, Map<String, Object> configMap) {
+        var configType = String.valueOf(configMap.remove(CONFIG_TYPE_KEY));
+        var config = CypherMapWrapper.create(configMap);
+        switch (configType) {
+            case STORE_CONFIG_TYPE:
+                return GraphProjectFromStoreConfig.of(username, graphName, null, null, config);
+            case CYPHER_CONFIG_TYPE:
+                return GraphProjectFromCypherConfig.of(username, graphName, null, null, config);
+            default:
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Cannot restore graph `%s` with unknown config type `%s`",
+                    graphName,
+                    configType
+                ));
+        }
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (var path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * Collects the keys that are needed to recreate a config. The projections are kept so that
+     * the restored graph is listed with the same configuration it was originally projected with.
+     */
+    private static final class ConfigToMap implements GraphProjectConfig.Cases<Optional<Map<String, Object>>> {
+
+        @Override
+        public Optional<Map<String, Object>> store(GraphProjectFromStoreConfig storeConfig) {
+            var map = commonEntries(storeConfig, STORE_CONFIG_TYPE);
+            map.put(NODE_PROJECTION_KEY, NodeProjections.toObject(storeConfig.nodeProjections()));
+            map.put(RELATIONSHIP_PROJECTION_KEY, RelationshipProjections.toObject(storeConfig.relationshipProjections()));
+            map.put(NODE_PROPERTIES_KEY, PropertyMappings.toObject(storeConfig.nodeProperties()));
+            map.put(RELATIONSHIP_PROPERTIES_KEY, PropertyMappings.toObject(storeConfig.relationshipProperties()));
+            map.put("nodeOrdering", NodeOrdering.toString(storeConfig.nodeOrdering()));
+            return Optional.of(map);
+        }
+
+        @Override
+        public Optional<Map<String, Object>> cypher(GraphProjectFromCypherConfig cypherConfig) {
+            var map = commonEntries(cypherConfig, CYPHER_CONFIG_TYPE);
+            map.put(NODE_QUERY_KEY, cypherConfig.nodeQuery());
+            map.put(RELATIONSHIP_QUERY_KEY, cypherConfig.relationshipQuery());
+            return Optional.of(map);
+        }
+
+        @Override
+        public Optional<Map<String, Object>> graph(GraphProjectFromGraphConfig graphConfig) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Map<String, Object>> random(RandomGraphGeneratorConfig randomGraphConfig) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Map<String, Object>> sample(GraphSampleProcConfig graphSampleProcConfig) {
+            return Optional.empty();
+        }
+
+        private static Map<String, Object> commonEntries(GraphProjectConfig config, String configType) {
+            var map = new HashMap<String, Object>();
+            map.put(CONFIG_TYPE_KEY, configType);
+            map.put(GraphProjectConfig.READ_CONCURRENCY_KEY, config.readConcurrency());
+            map.put(GraphProjectConfig.VALIDATE_RELATIONSHIPS_KEY, config.validateRelationships());
+            map.put("jobId", JobId.asString(config.jobId()));
+            return map;
+        }
+    }
+}
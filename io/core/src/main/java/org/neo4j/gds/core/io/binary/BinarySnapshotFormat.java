@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.binary;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Layout of a binary graph store snapshot.
+ * <p>
+ * A snapshot is a directory with one file per independently readable component,
+ * so that an import can read all files in parallel:
+ * <ul>
+ *     <li>{@code graph.meta}: database, schema and the layout of all other files</li>
+ *     <li>{@code nodes.ids}: original node ids in mapped id order</li>
+ *     <li>{@code nodes.labels}: one bit set per node label</li>
+ *     <li>{@code nodes.<i>.properties}: values of the i-th node property</li>
+ *     <li>{@code relationships.<i>.topology} and {@code relationships.<i>.inverse_topology}:
+ *     the compressed adjacency list of the i-th relationship type, pages are written as they are held in memory</li>
+ *     <li>{@code relationships.<i>.<j>.properties} and {@code relationships.<i>.<j>.inverse_properties}:
+ *     the j-th property of the i-th relationship type</li>
+ * </ul>
+ * Every file starts with {@link #MAGIC} and {@link #VERSION}, followed by CRC32 checksummed chunks.
+ */
+final class BinarySnapshotFormat {
+
+    static final int MAGIC = 0x47445342;
+    static final int VERSION = 1;
+
+    /**
+     * Number of nodes that are written into a single chunk, when values are not backed by a paged array.
+     */
+    static final int NODES_PER_CHUNK = 1 << 14;
+
+    static final String META_FILE = "graph.meta";
+    static final String NODE_IDS_FILE = "nodes.ids";
+    static final String NODE_LABELS_FILE = "nodes.labels";
+
+    private BinarySnapshotFormat() {}
+
+    static Path nodePropertyFile(Path directory, int propertyIndex) {
+        return directory.resolve(formatWithLocale("nodes.%d.properties", propertyIndex));
+    }
+
+    static Path topologyFile(Path directory, int typeIndex, boolean inverse) {
+        return directory.resolve(formatWithLocale(
+            "relationships.%d.%s",
+            typeIndex,
+            inverse ? "inverse_topology" : "topology"
+        ));
+    }
+
+    static Path relationshipPropertyFile(Path directory, int typeIndex, int propertyIndex, boolean inverse) {
+        return directory.resolve(formatWithLocale(
+            "relationships.%d.%d.%s",
+            typeIndex,
+            propertyIndex,
+            inverse ? "inverse_properties" : "properties"
+        ));
+    }
+
+    static long wordsFor(long bits) {
+        return (bits + Long.SIZE - 1) >>> 6;
+    }
+
+    static void putLongs(long[] page, int offset, int length, ByteBuffer target) {
+        target.asLongBuffer().put(page, offset, length);
+    }
+
+    static void putInts(int[] page, int offset, int length, ByteBuffer target) {
+        target.asIntBuffer().put(page, offset, length);
+    }
+
+    static void copyLongs(ByteBuffer source, long[] page, int offset, int length) {
+        source.asLongBuffer().get(page, offset, length);
+    }
+
+    static void copyInts(ByteBuffer source, int[] page, int offset, int length) {
+        source.asIntBuffer().get(page, offset, length);
+    }
+
+    static void copyDoubles(ByteBuffer source, double[] page, int offset, int length) {
+        source.asDoubleBuffer().get(page, offset, length);
+    }
+}
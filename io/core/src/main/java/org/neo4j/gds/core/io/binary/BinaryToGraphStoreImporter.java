@@ -0,0 +1,354 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.binary;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.ImmutableProperties;
+import org.neo4j.gds.api.ImmutableRelationshipProperty;
+import org.neo4j.gds.api.ImmutableTopology;
+import org.neo4j.gds.api.RelationshipPropertyStore;
+import org.neo4j.gds.api.properties.nodes.ImmutableNodeProperty;
+import org.neo4j.gds.api.properties.nodes.NodePropertyStore;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.api.schema.MutableGraphSchema;
+import org.neo4j.gds.api.schema.MutableNodeSchema;
+import org.neo4j.gds.core.compression.uncompressed.UncompressedAdjacencyList;
+import org.neo4j.gds.core.compression.varlong.CompressedAdjacencyList;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.loading.ArrayIdMapBuilderOps;
+import org.neo4j.gds.core.loading.GraphStoreBuilder;
+import org.neo4j.gds.core.loading.ImmutableNodes;
+import org.neo4j.gds.core.loading.ImmutableStaticCapabilities;
+import org.neo4j.gds.core.loading.LabelInformation;
+import org.neo4j.gds.core.loading.LabelInformationBuilders;
+import org.neo4j.gds.core.loading.RelationshipImportResult;
+import org.neo4j.gds.core.loading.SingleTypeRelationships;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Restores a {@link GraphStore} written by {@link GraphStoreToBinaryExporter}.
+ * <p>
+ * All files of the snapshot are read in parallel. Adjacency and relationship property pages
+ * are used as they are read, only the id map is rebuilt from the stored original ids.
+ */
+public final class BinaryToGraphStoreImporter {
+
+    private final Path directory;
+    private final int concurrency;
+
+    public BinaryToGraphStoreImporter(Path directory, int concurrency) {
+        this.directory = directory;
+        this.concurrency = concurrency;
+    }
+
+    public GraphStore run() {
+        var metaData = readMetaData();
+        long nodeCount = metaData.nodeCount();
+
+        var tasks = new ArrayList<Runnable>();
+
+        ReadTask<HugeLongArray> originalIdsTask = new ReadTask<>(
+            directory.resolve(BinarySnapshotFormat.NODE_IDS_FILE),
+            reader -> readLongs(reader, nodeCount)
+        );
+        tasks.add(originalIdsTask);
+
+        ReadTask<List<HugeLongArray>> nodeLabelsTask = new ReadTask<>(
+            directory.resolve(BinarySnapshotFormat.NODE_LABELS_FILE),
+            reader -> {
+                var bitSets = new ArrayList<HugeLongArray>();
+                for (int i = 0; i < metaData.nodeLabels().size(); i++) {
+                    bitSets.add(readLongs(reader, BinarySnapshotFormat.wordsFor(nodeCount)));
+                }
+                return bitSets;
+            }
+        );
+        tasks.add(nodeLabelsTask);
+
+        var nodePropertyTasks = new ArrayList<ReadTask<NodePropertyValues>>();
+        var nodeProperties = metaData.nodeProperties();
+        for (int i = 0; i < nodeProperties.size(); i++) {
+            var nodeProperty = nodeProperties.get(i);
+            ReadTask<NodePropertyValues> task = new ReadTask<>(
+                BinarySnapshotFormat.nodePropertyFile(directory, i),
+                reader -> NodePropertyCodec.decode(reader, nodeProperty.schema().valueType(), nodeProperty.nodeCount())
+            );
+            nodePropertyTasks.add(task);
+            tasks.add(task);
+        }
+
+        var relationshipTasks = new ArrayList<RelationshipReadTasks>();
+        var relationshipTypes = metaData.relationshipTypes();
+        for (int i = 0; i < relationshipTypes.size(); i++) {
+            var relationshipReadTasks = new RelationshipReadTasks(directory, i, relationshipTypes.get(i));
+            relationshipReadTasks.addTo(tasks);
+            relationshipTasks.add(relationshipReadTasks);
+        }
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(Pools.DEFAULT)
+            .run();
+
+        var originalIds = originalIdsTask.result();
+        var labelInformationBuilder = labelInformationBuilder(
+            metaData,
+            originalIds,
+            nodeLabelsTask.result()
+        );
+        var idMap = ArrayIdMapBuilderOps.build(
+            originalIds,
+            nodeCount,
+            labelInformationBuilder,
+            metaData.highestOriginalId(),
+            concurrency
+        );
+
+        var nodePropertyStoreBuilder = NodePropertyStore.builder();
+        for (int i = 0; i < nodeProperties.size(); i++) {
+            var propertySchema = nodeProperties.get(i).schema();
+            nodePropertyStoreBuilder.putProperty(
+                propertySchema.key(),
+                ImmutableNodeProperty.of(nodePropertyTasks.get(i).result(), propertySchema)
+            );
+        }
+
+        var nodeSchema = MutableNodeSchema.from(metaData.nodeSchema());
+        var nodes = ImmutableNodes.of(nodeSchema, idMap, nodePropertyStoreBuilder.build());
+
+        var relationshipImportResultBuilder = RelationshipImportResult.builder();
+        for (var relationshipReadTasks : relationshipTasks) {
+            var relationships = relationshipReadTasks.build();
+            relationshipImportResultBuilder.putImportResult(
+                relationships.relationshipSchemaEntry().identifier(),
+                relationships
+            );
+        }
+        var relationshipImportResult = relationshipImportResultBuilder.build();
+
+        return new GraphStoreBuilder()
+            .databaseId(metaData.databaseId())
+            .capabilities(ImmutableStaticCapabilities.of(metaData.canWriteToDatabase()))
+            .schema(MutableGraphSchema.of(nodeSchema, relationshipImportResult.relationshipSchema(), Map.of()))
+            .nodes(nodes)
+            .relationshipImportResult(relationshipImportResult)
+            .concurrency(concurrency)
+            .build();
+    }
+
+    private SnapshotMetaData readMetaData() {
+        try (var reader = ChunkedFileReader.open(directory.resolve(BinarySnapshotFormat.META_FILE))) {
+            // mapped chunks are read-only views without an accessible backing array
+            var chunk = reader.readChunk();
+            var bytes = new byte[chunk.remaining()];
+            chunk.get(bytes);
+            var in = new DataInputStream(new ByteArrayInputStream(bytes));
+            return SnapshotMetaDataIO.read(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static LabelInformation.Builder labelInformationBuilder(
+        SnapshotMetaData metaData,
+        HugeLongArray originalIds,
+        List<HugeLongArray> bitSets
+    ) {
+        if (metaData.nodeLabels().isEmpty()) {
+            return LabelInformationBuilders.allNodes();
+        }
+
+        var builder = LabelInformationBuilders.multiLabelWithCapacity(metaData.highestOriginalId() + 1);
+        for (int i = 0; i < bitSets.size(); i++) {
+            var nodeLabel = metaData.nodeLabels().get(i);
+            var words = bitSets.get(i);
+            for (long wordIndex = 0; wordIndex < words.size(); wordIndex++) {
+                long word = words.get(wordIndex);
+                while (word != 0) {
+                    long nodeId = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+                    builder.addNodeIdToLabel(nodeLabel, originalIds.get(nodeId));
+                    word &= word - 1;
+                }
+            }
+        }
+        return builder;
+    }
+
+    private static HugeLongArray readLongs(ChunkedFileReader reader, long size) throws IOException {
+        var array = HugeLongArray.newArray(size);
+        reader.readHugeArray(array, Long.BYTES, BinarySnapshotFormat::copyLongs);
+        return array;
+    }
+
+    private static HugeIntArray readInts(ChunkedFileReader reader, long size) throws IOException {
+        var array = HugeIntArray.newArray(size);
+        reader.readHugeArray(array, Integer.BYTES, BinarySnapshotFormat::copyInts);
+        return array;
+    }
+
+    private static CompressedAdjacencyList readTopology(ChunkedFileReader reader) throws IOException {
+        var sizes = reader.readChunk();
+        var degrees = readInts(reader, sizes.getLong());
+        var offsets = readLongs(reader, sizes.getLong());
+        return new CompressedAdjacencyList(reader.readBytePages(), degrees, offsets);
+    }
+
+    private static UncompressedAdjacencyList readProperties(ChunkedFileReader reader) throws IOException {
+        var sizes = reader.readChunk();
+        var degrees = readInts(reader, sizes.getLong());
+        var offsets = readLongs(reader, sizes.getLong());
+        return new UncompressedAdjacencyList(reader.readLongPages(), degrees, offsets);
+    }
+
+    private static final class RelationshipReadTasks {
+
+        private final SnapshotMetaData.RelationshipTypeMetaData metaData;
+        private final ReadTask<CompressedAdjacencyList> topology;
+        private final @Nullable ReadTask<CompressedAdjacencyList> inverseTopology;
+        private final List<ReadTask<UncompressedAdjacencyList>> properties;
+        private final List<ReadTask<UncompressedAdjacencyList>> inverseProperties;
+
+        RelationshipReadTasks(Path directory, int typeIndex, SnapshotMetaData.RelationshipTypeMetaData metaData) {
+            this.metaData = metaData;
+            this.topology = new ReadTask<>(
+                BinarySnapshotFormat.topologyFile(directory, typeIndex, false),
+                BinaryToGraphStoreImporter::readTopology
+            );
+            this.inverseTopology = metaData.hasInverseIndex()
+                ? new ReadTask<>(
+                    BinarySnapshotFormat.topologyFile(directory, typeIndex, true),
+                    BinaryToGraphStoreImporter::readTopology
+                )
+                : null;
+            this.properties = new ArrayList<>();
+            this.inverseProperties = new ArrayList<>();
+            for (int j = 0; j < metaData.properties().size(); j++) {
+                properties.add(new ReadTask<>(
+                    BinarySnapshotFormat.relationshipPropertyFile(directory, typeIndex, j, false),
+                    BinaryToGraphStoreImporter::readProperties
+                ));
+                if (metaData.hasInverseIndex()) {
+                    inverseProperties.add(new ReadTask<>(
+                        BinarySnapshotFormat.relationshipPropertyFile(directory, typeIndex, j, true),
+                        BinaryToGraphStoreImporter::readProperties
+                    ));
+                }
+            }
+        }
+
+        void addTo(Collection<Runnable> tasks) {
+            tasks.add(topology);
+            if (inverseTopology != null) {
+                tasks.add(inverseTopology);
+            }
+            tasks.addAll(properties);
+            tasks.addAll(inverseProperties);
+        }
+
+        SingleTypeRelationships build() {
+            var builder = SingleTypeRelationships.builder()
+                .relationshipSchemaEntry(metaData.schemaEntry())
+                .topology(ImmutableTopology.of(topology.result(), metaData.elementCount(), metaData.isMultiGraph()))
+                .properties(propertyStore(properties, false));
+
+            if (inverseTopology != null) {
+                builder
+                    .inverseTopology(ImmutableTopology.of(
+                        inverseTopology.result(),
+                        metaData.inverseElementCount(),
+                        metaData.inverseIsMultiGraph()
+                    ))
+                    .inverseProperties(propertyStore(inverseProperties, true));
+            }
+
+            return builder.build();
+        }
+
+        private Optional<RelationshipPropertyStore> propertyStore(
+            List<ReadTask<UncompressedAdjacencyList>> propertyTasks,
+            boolean inverse
+        ) {
+            if (propertyTasks.isEmpty()) {
+                return Optional.empty();
+            }
+            var propertyStoreBuilder = RelationshipPropertyStore.builder();
+            for (int j = 0; j < propertyTasks.size(); j++) {
+                var propertyMetaData = metaData.properties().get(j);
+                propertyStoreBuilder.putRelationshipProperty(
+                    propertyMetaData.schema().key(),
+                    ImmutableRelationshipProperty.builder()
+                        .values(ImmutableProperties.of(
+                            propertyTasks.get(j).result(),
+                            inverse ? metaData.inverseElementCount() : propertyMetaData.elementCount(),
+                            propertyMetaData.defaultPropertyValue()
+                        ))
+                        .propertySchema(propertyMetaData.schema())
+                        .build()
+                );
+            }
+            return Optional.of(propertyStoreBuilder.build());
+        }
+    }
+
+    private static final class ReadTask<T> implements Runnable {
+
+        private final Path file;
+        private final ReadFunction<T> readFunction;
+        private T result;
+
+        ReadTask(Path file, ReadFunction<T> readFunction) {
+            this.file = file;
+            this.readFunction = readFunction;
+        }
+
+        @Override
+        public void run() {
+            try (var reader = ChunkedFileReader.open(file)) {
+                result = readFunction.read(reader);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        T result() {
+            return result;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ReadFunction<T> {
+        T read(ChunkedFileReader reader) throws IOException;
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.binary;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.collections.cursor.HugeCursor;
+import org.neo4j.gds.collections.cursor.HugeCursorSupport;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Reads the chunks written by {@link ChunkedFileWriter} and verifies their checksums.
+ * <p>
+ * Files that fit into a single {@link MappedByteBuffer} are memory-mapped and chunks are
+ * returned as read-only views into the mapping, larger files are read through the channel.
+ */
+final class ChunkedFileReader implements AutoCloseable {
+
+    private final Path file;
+    private final FileChannel channel;
+    private final @Nullable MappedByteBuffer mapped;
+    private final ByteBuffer header;
+    private final ByteBuffer trailer;
+    private final CRC32 checksum;
+
+    private long chunkIndex;
+
+    static ChunkedFileReader open(Path file) throws IOException {
+        var channel = FileChannel.open(file, StandardOpenOption.READ);
+        MappedByteBuffer mapped = null;
+        try {
+            if (channel.size() <= Integer.MAX_VALUE) {
+                mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        var reader = new ChunkedFileReader(file, channel, mapped);
+        try {
+            reader.readFileHeader();
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+        return reader;
+    }
+
+    private ChunkedFileReader(Path file, FileChannel channel, @Nullable MappedByteBuffer mapped) {
+        this.file = file;
+        this.channel = channel;
+        this.mapped = mapped;
+        this.header = ByteBuffer.allocate(Integer.BYTES);
+        this.trailer = ByteBuffer.allocate(Long.BYTES);
+        this.checksum = new CRC32();
+    }
+
+    ByteBuffer readChunk() throws IOException {
+        header.clear();
+        readFully(header);
+        int length = header.flip().getInt();
+
+        var payload = readPayload(length);
+
+        trailer.clear();
+        readFully(trailer);
+        long expectedChecksum = trailer.flip().getLong();
+
+        checksum.reset();
+        checksum.update(payload.duplicate());
+        if (checksum.getValue() != expectedChecksum) {
+            throw new IOException(formatWithLocale(
+                "Checksum mismatch in chunk %d of snapshot file `%s`",
+                chunkIndex,
+                file
+            ));
+        }
+
+        chunkIndex++;
+        return payload;
+    }
+
+    byte[][] readBytePages() throws IOException {
+        var pages = new byte[readChunk().getInt()][];
+        for (int i = 0; i < pages.length; i++) {
+            var chunk = readChunk();
+            pages[i] = new byte[chunk.remaining()];
+            chunk.get(pages[i]);
+        }
+        return pages;
+    }
+
+    long[][] readLongPages() throws IOException {
+        var pages = new long[readChunk().getInt()][];
+        for (int i = 0; i < pages.length; i++) {
+            var chunk = readChunk().asLongBuffer();
+            pages[i] = new long[chunk.remaining()];
+            chunk.get(pages[i]);
+        }
+        return pages;
+    }
+
+    /**
+     * Fills the given array from consecutive chunks.
+     * Chunk boundaries do not need to line up with the pages of the array.
+     */
+    <ARRAY> void readHugeArray(
+        HugeCursorSupport<ARRAY> array,
+        int elementBytes,
+        PageFiller<ARRAY> pageFiller
+    ) throws IOException {
+        if (array.size() == 0) {
+            return;
+        }
+        var chunk = ByteBuffer.allocate(0);
+        try (HugeCursor<ARRAY> cursor = array.initCursor(array.newCursor())) {
+            while (cursor.next()) {
+                int offset = cursor.offset;
+                while (offset < cursor.limit) {
+                    if (!chunk.hasRemaining()) {
+                        chunk = readChunk();
+                    }
+                    int length = Math.min(chunk.remaining() / elementBytes, cursor.limit - offset);
+                    if (length == 0) {
+                        throw new IOException(formatWithLocale("Truncated chunk in snapshot file `%s`", file));
+                    }
+                    pageFiller.fill(chunk, cursor.array, offset, length);
+                    chunk.position(chunk.position() + length * elementBytes);
+                    offset += length;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void readFileHeader() throws IOException {
+        var fileHeader = ByteBuffer.allocate(2 * Integer.BYTES);
+        readFully(fileHeader);
+        fileHeader.flip();
+        int magic = fileHeader.getInt();
+        int version = fileHeader.getInt();
+        if (magic != BinarySnapshotFormat.MAGIC) {
+            throw new IOException(formatWithLocale("`%s` is not a binary graph snapshot file", file));
+        }
+        if (version != BinarySnapshotFormat.VERSION) {
+            throw new IOException(formatWithLocale(
+                "Unsupported binary snapshot version %d in `%s`, expected %d",
+                version,
+                file,
+                BinarySnapshotFormat.VERSION
+            ));
+        }
+    }
+
+    private ByteBuffer readPayload(int length) throws IOException {
+        if (mapped != null) {
+            if (mapped.remaining() < length) {
+                throw unexpectedEndOfFile();
+            }
+            var payload = mapped.slice().limit(length);
+            mapped.position(mapped.position() + length);
+            return payload;
+        }
+        var payload = ByteBuffer.allocate(length);
+        readFully(payload);
+        return payload.flip();
+    }
+
+    private void readFully(ByteBuffer buffer) throws IOException {
+        if (mapped != null) {
+            int length = buffer.remaining();
+            if (mapped.remaining() < length) {
+                throw unexpectedEndOfFile();
+            }
+            buffer.put(mapped.slice().limit(length));
+            mapped.position(mapped.position() + length);
+            return;
+        }
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw unexpectedEndOfFile();
+            }
+        }
+    }
+
+    private EOFException unexpectedEndOfFile() {
+        return new EOFException(formatWithLocale("Unexpected end of snapshot file `%s`", file));
+    }
+
+    /**
+     * Copies {@code length} elements from the current position of {@code source} into {@code page}.
+     * Implementations must not move the position of {@code source}.
+     */
+    @FunctionalInterface
+    interface PageFiller<ARRAY> {
+        void fill(ByteBuffer source, ARRAY page, int offset, int length);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.binary;
+
+import org.neo4j.gds.collections.cursor.HugeCursor;
+import org.neo4j.gds.collections.cursor.HugeCursorSupport;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Writes a snapshot file as a sequence of checksummed chunks.
+ * Every chunk is laid out as {@code [int length][payload][long crc32(payload)]}.
+ */
+final class ChunkedFileWriter implements AutoCloseable {
+
+    private final FileChannel channel;
+    private final ByteBuffer header;
+    private final ByteBuffer trailer;
+    private final CRC32 checksum;
+
+    static ChunkedFileWriter open(Path file) throws IOException {
+        var channel = FileChannel.open(
+            file,
+            StandardOpenOption.CREATE_NEW,
+            StandardOpenOption.WRITE
+        );
+        var writer = new ChunkedFileWriter(channel);
+        writer.writeFileHeader();
+        return writer;
+    }
+
+    private ChunkedFileWriter(FileChannel channel) {
+        this.channel = channel;
+        this.header = ByteBuffer.allocate(Integer.BYTES);
+        this.trailer = ByteBuffer.allocate(Long.BYTES);
+        this.checksum = new CRC32();
+    }
+
+    void writeChunk(ByteBuffer payload) throws IOException {
+        checksum.reset();
+        checksum.update(payload.duplicate());
+
+        header.clear();
+        header.putInt(payload.remaining()).flip();
+        writeFully(header);
+        writeFully(payload);
+        trailer.clear();
+        trailer.putLong(checksum.getValue()).flip();
+        writeFully(trailer);
+    }
+
+    void writeBytePages(byte[][] pages) throws IOException {
+        writeChunk(ByteBuffer.allocate(Integer.BYTES).putInt(pages.length).flip());
+        for (byte[] page : pages) {
+            writeChunk(ByteBuffer.wrap(page));
+        }
+    }
+
+    void writeLongPages(long[][] pages) throws IOException {
+        writeChunk(ByteBuffer.allocate(Integer.BYTES).putInt(pages.length).flip());
+        for (long[] page : pages) {
+            var buffer = ByteBuffer.allocate(page.length * Long.BYTES);
+            buffer.asLongBuffer().put(page);
+            writeChunk(buffer);
+        }
+    }
+
+    /**
+     * Writes the content of the given array, one chunk per page of the array.
+     */
+    <ARRAY> void writeHugeArray(
+        HugeCursorSupport<ARRAY> array,
+        int elementBytes,
+        PageCopier<ARRAY> pageCopier
+    ) throws IOException {
+        if (array.size() == 0) {
+            return;
+        }
+        try (HugeCursor<ARRAY> cursor = array.initCursor(array.newCursor())) {
+            while (cursor.next()) {
+                int length = cursor.limit - cursor.offset;
+                var buffer = ByteBuffer.allocate(length * elementBytes);
+                pageCopier.copy(cursor.array, cursor.offset, length, buffer);
+                writeChunk(buffer);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.force(false);
+        channel.close();
+    }
+
+    private void writeFileHeader() throws IOException {
+        var fileHeader = ByteBuffer.allocate(2 * Integer.BYTES)
+            .putInt(BinarySnapshotFormat.MAGIC)
+            .putInt(BinarySnapshotFormat.VERSION)
+            .flip();
+        writeFully(fileHeader);
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    @FunctionalInterface
+    interface PageCopier<ARRAY> {
+        void copy(ARRAY page, int offset, int length, ByteBuffer target);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.binary;
+
+import org.neo4j.annotations.service.ServiceProvider;
+import org.neo4j.configuration.Config;
+import org.neo4j.gds.compat.Neo4jProxy;
+import org.neo4j.gds.config.ConcurrencyConfig;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.kernel.extension.ExtensionFactory;
+import org.neo4j.kernel.extension.ExtensionType;
+import org.neo4j.kernel.extension.context.ExtensionContext;
+import org.neo4j.kernel.lifecycle.Lifecycle;
+import org.neo4j.kernel.lifecycle.LifecycleAdapter;
+import org.neo4j.logging.internal.LogService;
+
+/**
+ * Enables {@link BinaryGraphStoreCatalogPersistence} if {@code gds.catalog.persistence.location} is set.
+ * <p>
+ * Global extensions are shut down after all databases, so persistence is still enabled
+ * when the catalog drops the graphs of the databases that shut down.
+ */
+@ServiceProvider
+public final class GraphStoreCatalogPersistenceExtension extends ExtensionFactory<GraphStoreCatalogPersistenceExtension.Dependencies> {
+
+    public GraphStoreCatalogPersistenceExtension() {
+        super(ExtensionType.GLOBAL, "gds.catalog.persistence");
+    }
+
+    @Override
+    public Lifecycle newInstance(ExtensionContext context, Dependencies dependencies) {
+        var location = dependencies.config().get(GraphStoreCatalogPersistenceSettings.catalog_persistence_location);
+        if (location == null) {
+            return new LifecycleAdapter();
+        }
+
+        var log = Neo4jProxy.getInternalLog(dependencies.logService(), getClass());
+        return new LifecycleAdapter() {
+            @Override
+            public void init() {
+                GraphStoreCatalog.setPersistence(new BinaryGraphStoreCatalogPersistence(
+                    location,
+                    ConcurrencyConfig.DEFAULT_CONCURRENCY,
+                    log
+                ));
+            }
+
+            @Override
+            public void shutdown() {
+                GraphStoreCatalog.setPersistence(null);
+            }
+        };
+    }
+
+    interface Dependencies {
+        Config config();
+
+        LogService logService();
+    }
+}
@@ -0,0 +1,393 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.binary;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.RelationshipProperty;
+import org.neo4j.gds.api.RelationshipPropertyStore;
+import org.neo4j.gds.api.Topology;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.compression.uncompressed.UncompressedAdjacencyList;
+import org.neo4j.gds.core.compression.varlong.CompressedAdjacencyList;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.loading.CSRGraphStore;
+import org.neo4j.gds.core.loading.SingleTypeRelationships;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.neo4j.gds.core.io.binary.BinarySnapshotFormat.NODES_PER_CHUNK;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Writes a {@link GraphStore} into the {@link BinarySnapshotFormat}.
+ * <p>
+ * Compressed adjacency pages and relationship property pages are written as they are held in memory,
+ * so that {@link BinaryToGraphStoreImporter} can restore them without re-compressing any relationships.
+ * All files of the snapshot are written in parallel.
+ */
+public final class GraphStoreToBinaryExporter {
+
+    private final CSRGraphStore graphStore;
+    private final Path directory;
+    private final int concurrency;
+
+    public GraphStoreToBinaryExporter(GraphStore graphStore, Path directory, int concurrency) {
+        if (!(graphStore instanceof CSRGraphStore)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Binary snapshots are only supported for CSR graph stores, but got `%s`",
+                graphStore.getClass().getSimpleName()
+            ));
+        }
+        this.graphStore = (CSRGraphStore) graphStore;
+        this.directory = directory;
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Checks that the graph store can be written without writing anything.
+     *
+     * @throws IllegalArgumentException if the graph store contains data that binary snapshots do not support
+     */
+    public void validate() {
+        metaData();
+    }
+
+    public void run() {
+        var metaData = metaData();
+
+        try {
+            Files.createDirectories(directory);
+            writeMetaData(metaData);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        var tasks = new ArrayList<Runnable>();
+        tasks.add(writeTask(
+            directory.resolve(BinarySnapshotFormat.NODE_IDS_FILE),
+            writer -> writeNodeIds(graphStore.nodes(), writer)
+        ));
+        tasks.add(writeTask(
+            directory.resolve(BinarySnapshotFormat.NODE_LABELS_FILE),
+            writer -> writeNodeLabels(graphStore.nodes(), metaData.nodeLabels(), writer)
+        ));
+
+        var nodeProperties = metaData.nodeProperties();
+        for (int i = 0; i < nodeProperties.size(); i++) {
+            var propertySchema = nodeProperties.get(i).schema();
+            var values = graphStore.nodeProperty(propertySchema.key()).values();
+            tasks.add(writeTask(
+                BinarySnapshotFormat.nodePropertyFile(directory, i),
+                writer -> writeNodePropertyValues(values, propertySchema.valueType(), values.nodeCount(), writer)
+            ));
+        }
+
+        var relationshipTypes = metaData.relationshipTypes();
+        for (int i = 0; i < relationshipTypes.size(); i++) {
+            var relationshipTypeMetaData = relationshipTypes.get(i);
+            var relationships = graphStore.singleTypeRelationships(relationshipTypeMetaData.schemaEntry().identifier());
+            addRelationshipTasks(tasks, i, relationshipTypeMetaData, relationships);
+        }
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(Pools.DEFAULT)
+            .run();
+    }
+
+    private void addRelationshipTasks(
+        Collection<Runnable> tasks,
+        int typeIndex,
+        SnapshotMetaData.RelationshipTypeMetaData metaData,
+        SingleTypeRelationships relationships
+    ) {
+        var relationshipType = metaData.schemaEntry().identifier();
+        var topology = compressedAdjacencyList(relationshipType, relationships.topology().adjacencyList());
+        tasks.add(writeTask(
+            BinarySnapshotFormat.topologyFile(directory, typeIndex, false),
+            writer -> writeTopology(topology, writer)
+        ));
+
+        var propertyStore = relationships.properties().orElseGet(() -> RelationshipPropertyStore.builder().build());
+        var properties = metaData.properties();
+        for (int j = 0; j < properties.size(); j++) {
+            var values = uncompressedProperties(
+                relationshipType,
+                propertyStore.get(properties.get(j).schema().key()).values().propertiesList()
+            );
+            tasks.add(writeTask(
+                BinarySnapshotFormat.relationshipPropertyFile(directory, typeIndex, j, false),
+                writer -> writeProperties(values, writer)
+            ));
+        }
+
+        if (metaData.hasInverseIndex()) {
+            var inverseTopology = compressedAdjacencyList(
+                relationshipType,
+                relationships.inverseTopology().orElseThrow().adjacencyList()
+            );
+            tasks.add(writeTask(
+                BinarySnapshotFormat.topologyFile(directory, typeIndex, true),
+                writer -> writeTopology(inverseTopology, writer)
+            ));
+
+            var inversePropertyStore = relationships
+                .inverseProperties()
+                .orElseGet(() -> RelationshipPropertyStore.builder().build());
+            for (int j = 0; j < properties.size(); j++) {
+                var values = uncompressedProperties(
+                    relationshipType,
+                    inversePropertyStore.get(properties.get(j).schema().key()).values().propertiesList()
+                );
+                tasks.add(writeTask(
+                    BinarySnapshotFormat.relationshipPropertyFile(directory, typeIndex, j, true),
+                    writer -> writeProperties(values, writer)
+                ));
+            }
+        }
+    }
+
+    private SnapshotMetaData metaData() {
+        if (!graphStore.graphPropertyKeys().isEmpty()) {
+            throw new IllegalArgumentException("Binary snapshots do not support graph properties");
+        }
+
+        var idMap = graphStore.nodes();
+
+        var nodeLabels = idMap.availableNodeLabels().equals(Set.of(NodeLabel.ALL_NODES))
+            ? List.<NodeLabel>of()
+            : List.copyOf(idMap.availableNodeLabels());
+
+        var nodeProperties = new ArrayList<SnapshotMetaData.NodePropertyMetaData>();
+        for (var propertyKey : graphStore.nodePropertyKeys()) {
+            var nodeProperty = graphStore.nodeProperty(propertyKey);
+            validateValueType(nodeProperty.valueType());
+            nodeProperties.add(ImmutableNodePropertyMetaData.of(
+                nodeProperty.propertySchema(),
+                nodeProperty.values().nodeCount()
+            ));
+        }
+
+        var relationshipTypes = new ArrayList<SnapshotMetaData.RelationshipTypeMetaData>();
+        for (var relationshipType : graphStore.relationshipTypes()) {
+            relationshipTypes.add(relationshipTypeMetaData(relationshipType));
+        }
+
+        return ImmutableSnapshotMetaData.of(
+            graphStore.databaseId(),
+            graphStore.capabilities().canWriteToDatabase(),
+            idMap.nodeCount(),
+            idMap.highestOriginalId(),
+            graphStore.schema().nodeSchema(),
+            nodeLabels,
+            nodeProperties,
+            relationshipTypes
+        );
+    }
+
+    private SnapshotMetaData.RelationshipTypeMetaData relationshipTypeMetaData(RelationshipType relationshipType) {
+        var relationships = graphStore.singleTypeRelationships(relationshipType);
+        var topology = relationships.topology();
+        compressedAdjacencyList(relationshipType, topology.adjacencyList());
+
+        var properties = new ArrayList<SnapshotMetaData.RelationshipPropertyMetaData>();
+        for (RelationshipProperty property : relationships
+            .properties()
+            .map(RelationshipPropertyStore::values)
+            .orElse(List.of())) {
+            var values = property.values();
+            uncompressedProperties(relationshipType, values.propertiesList());
+            properties.add(ImmutableRelationshipPropertyMetaData.of(
+                property.propertySchema(),
+                values.elementCount(),
+                values.defaultPropertyValue()
+            ));
+        }
+
+        var inverseTopology = relationships.inverseTopology();
+        if (inverseTopology.isPresent()) {
+            compressedAdjacencyList(relationshipType, inverseTopology.get().adjacencyList());
+            if (!properties.isEmpty() && relationships.inverseProperties().isEmpty()) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Relationship type `%s` has an inverse index without inverse properties",
+                    relationshipType.name
+                ));
+            }
+        }
+
+        return ImmutableRelationshipTypeMetaData.of(
+            relationships.relationshipSchemaEntry(),
+            topology.elementCount(),
+            topology.isMultiGraph(),
+            inverseTopology.isPresent(),
+            inverseTopology.map(Topology::elementCount).orElse(0L),
+            inverseTopology.map(Topology::isMultiGraph).orElse(false),
+            properties
+        );
+    }
+
+    private void writeMetaData(SnapshotMetaData metaData) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new DataOutputStream(bytes)) {
+            SnapshotMetaDataIO.write(metaData, out);
+        }
+        try (var writer = ChunkedFileWriter.open(directory.resolve(BinarySnapshotFormat.META_FILE))) {
+            writer.writeChunk(ByteBuffer.wrap(bytes.toByteArray()));
+        }
+    }
+
+    private static void writeNodeIds(IdMap idMap, ChunkedFileWriter writer) throws IOException {
+        long nodeCount = idMap.nodeCount();
+        for (long start = 0; start < nodeCount; start += NODES_PER_CHUNK) {
+            int batchSize = (int) Math.min(NODES_PER_CHUNK, nodeCount - start);
+            var buffer = ByteBuffer.allocate(batchSize * Long.BYTES);
+            for (int i = 0; i < batchSize; i++) {
+                buffer.putLong(idMap.toOriginalNodeId(start + i));
+            }
+            writer.writeChunk(buffer.flip());
+        }
+    }
+
+    /**
+     * Writes one bit set per label, where bit {@code i} is set if the node with mapped id {@code i} has that label.
+     */
+    private static void writeNodeLabels(
+        IdMap idMap,
+        List<NodeLabel> nodeLabels,
+        ChunkedFileWriter writer
+    ) throws IOException {
+        long nodeCount = idMap.nodeCount();
+        for (var nodeLabel : nodeLabels) {
+            for (long start = 0; start < nodeCount; start += NODES_PER_CHUNK) {
+                int batchSize = (int) Math.min(NODES_PER_CHUNK, nodeCount - start);
+                var words = new long[(int) BinarySnapshotFormat.wordsFor(batchSize)];
+                for (int i = 0; i < batchSize; i++) {
+                    if (idMap.hasLabel(start + i, nodeLabel)) {
+                        words[i >>> 6] |= 1L << i;
+                    }
+                }
+                var buffer = ByteBuffer.allocate(words.length * Long.BYTES);
+                buffer.asLongBuffer().put(words);
+                writer.writeChunk(buffer);
+            }
+        }
+    }
+
+    private static void writeNodePropertyValues(
+        NodePropertyValues values,
+        ValueType valueType,
+        long nodeCount,
+        ChunkedFileWriter writer
+    ) throws IOException {
+        for (long start = 0; start < nodeCount; start += NODES_PER_CHUNK) {
+            int batchSize = (int) Math.min(NODES_PER_CHUNK, nodeCount - start);
+            writer.writeChunk(NodePropertyCodec.encode(values, valueType, start, batchSize));
+        }
+    }
+
+    private static void writeTopology(CompressedAdjacencyList adjacencyList, ChunkedFileWriter writer) throws IOException {
+        writeDegreesAndOffsets(adjacencyList.degrees(), adjacencyList.offsets(), writer);
+        writer.writeBytePages(adjacencyList.pages());
+    }
+
+    private static void writeProperties(UncompressedAdjacencyList properties, ChunkedFileWriter writer) throws IOException {
+        writeDegreesAndOffsets(properties.degrees(), properties.offsets(), writer);
+        writer.writeLongPages(properties.pages());
+    }
+
+    private static void writeDegreesAndOffsets(
+        HugeIntArray degrees,
+        HugeLongArray offsets,
+        ChunkedFileWriter writer
+    ) throws IOException {
+        writer.writeChunk(ByteBuffer.allocate(2 * Long.BYTES).putLong(degrees.size()).putLong(offsets.size()).flip());
+        writer.writeHugeArray(degrees, Integer.BYTES, BinarySnapshotFormat::putInts);
+        writer.writeHugeArray(offsets, Long.BYTES, BinarySnapshotFormat::putLongs);
+    }
+
+    private static CompressedAdjacencyList compressedAdjacencyList(
+        RelationshipType relationshipType,
+        AdjacencyList adjacencyList
+    ) {
+        if (adjacencyList instanceof CompressedAdjacencyList) {
+            return (CompressedAdjacencyList) adjacencyList;
+        }
+        throw unsupportedStorage(relationshipType, adjacencyList);
+    }
+
+    private static UncompressedAdjacencyList uncompressedProperties(
+        RelationshipType relationshipType,
+        AdjacencyProperties properties
+    ) {
+        if (properties instanceof UncompressedAdjacencyList) {
+            return (UncompressedAdjacencyList) properties;
+        }
+        throw unsupportedStorage(relationshipType, properties);
+    }
+
+    private static IllegalArgumentException unsupportedStorage(RelationshipType relationshipType, Object storage) {
+        return new IllegalArgumentException(formatWithLocale(
+            "Binary snapshots require the default adjacency list implementation, but relationship type `%s` is stored as `%s`",
+            relationshipType.name,
+            storage.getClass().getSimpleName()
+        ));
+    }
+
+    private static void validateValueType(ValueType valueType) {
+        if (valueType == ValueType.STRING || valueType == ValueType.UNKNOWN) {
+            throw SnapshotMetaDataIO.unsupportedValueType(valueType);
+        }
+    }
+
+    private static Runnable writeTask(Path file, WriteFunction writeFunction) {
+        return () -> {
+            try (var writer = ChunkedFileWriter.open(file)) {
+                writeFunction.write(writer);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface WriteFunction {
+        void write(ChunkedFileWriter writer) throws IOException;
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.binary;
+
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes node property values into chunks of {@link BinarySnapshotFormat#NODES_PER_CHUNK} nodes.
+ * Scalar values are written as plain arrays, array values are prefixed with their length,
+ * where a length of {@code -1} denotes a missing value.
+ */
+final class NodePropertyCodec {
+
+    private static final int MISSING = -1;
+
+    private NodePropertyCodec() {}
+
+    static ByteBuffer encode(NodePropertyValues values, ValueType valueType, long start, int batchSize) {
+        ByteBuffer buffer;
+        switch (valueType) {
+            case LONG:
+                buffer = ByteBuffer.allocate(batchSize * Long.BYTES);
+                for (int i = 0; i < batchSize; i++) {
+                    buffer.putLong(values.longValue(start + i));
+                }
+                break;
+            case DOUBLE:
+                buffer = ByteBuffer.allocate(batchSize * Double.BYTES);
+                for (int i = 0; i < batchSize; i++) {
+                    buffer.putDouble(values.doubleValue(start + i));
+                }
+                break;
+            case LONG_ARRAY:
+                buffer = ByteBuffer.allocate(arrayBytes(values, valueType, start, batchSize));
+                for (int i = 0; i < batchSize; i++) {
+                    var array = values.longArrayValue(start + i);
+                    if (array == null) {
+                        buffer.putInt(MISSING);
+                    } else {
+                        buffer.putInt(array.length);
+                        buffer.asLongBuffer().put(array);
+                        buffer.position(buffer.position() + array.length * Long.BYTES);
+                    }
+                }
+                break;
+            case DOUBLE_ARRAY:
+                buffer = ByteBuffer.allocate(arrayBytes(values, valueType, start, batchSize));
+                for (int i = 0; i < batchSize; i++) {
+                    var array = values.doubleArrayValue(start + i);
+                    if (array == null) {
+                        buffer.putInt(MISSING);
+                    } else {
+                        buffer.putInt(array.length);
+                        buffer.asDoubleBuffer().put(array);
+                        buffer.position(buffer.position() + array.length * Double.BYTES);
+                    }
+                }
+                break;
+            case FLOAT_ARRAY:
+                buffer = ByteBuffer.allocate(arrayBytes(values, valueType, start, batchSize));
+                for (int i = 0; i < batchSize; i++) {
+                    var array = values.floatArrayValue(start + i);
+                    if (array == null) {
+                        buffer.putInt(MISSING);
+                    } else {
+                        buffer.putInt(array.length);
+                        buffer.asFloatBuffer().put(array);
+                        buffer.position(buffer.position() + array.length * Float.BYTES);
+                    }
+                }
+                break;
+            default:
+                throw SnapshotMetaDataIO.unsupportedValueType(valueType);
+        }
+        return buffer.flip();
+    }
+
+    static NodePropertyValues decode(ChunkedFileReader reader, ValueType valueType, long nodeCount) throws IOException {
+        switch (valueType) {
+            case LONG:
+                var longs = HugeLongArray.newArray(nodeCount);
+                reader.readHugeArray(longs, Long.BYTES, BinarySnapshotFormat::copyLongs);
+                return longs.asNodeProperties();
+            case DOUBLE:
+                var doubles = HugeDoubleArray.newArray(nodeCount);
+                reader.readHugeArray(doubles, Double.BYTES, BinarySnapshotFormat::copyDoubles);
+                return doubles.asNodeProperties();
+            case LONG_ARRAY:
+                return decodeArrays(reader, long[].class, nodeCount, (chunk, length) -> {
+                    var array = new long[length];
+                    chunk.asLongBuffer().get(array);
+                    chunk.position(chunk.position() + array.length * Long.BYTES);
+                    return array;
+                });
+            case DOUBLE_ARRAY:
+                return decodeArrays(reader, double[].class, nodeCount, (chunk, length) -> {
+                    var array = new double[length];
+                    chunk.asDoubleBuffer().get(array);
+                    chunk.position(chunk.position() + array.length * Double.BYTES);
+                    return array;
+                });
+            case FLOAT_ARRAY:
+                return decodeArrays(reader, float[].class, nodeCount, (chunk, length) -> {
+                    var array = new float[length];
+                    chunk.asFloatBuffer().get(array);
+                    chunk.position(chunk.position() + array.length * Float.BYTES);
+                    return array;
+                });
+            default:
+                throw SnapshotMetaDataIO.unsupportedValueType(valueType);
+        }
+    }
+
+    private static <T> NodePropertyValues decodeArrays(
+        ChunkedFileReader reader,
+        Class<T> arrayClass,
+        long nodeCount,
+        ArrayDecoder<T> decoder
+    ) throws IOException {
+        var arrays = HugeObjectArray.newArray(arrayClass, nodeCount);
+        long nodeId = 0;
+        while (nodeId < nodeCount) {
+            var chunk = reader.readChunk();
+            while (chunk.hasRemaining()) {
+                int length = chunk.getInt();
+                if (length != MISSING) {
+                    arrays.set(nodeId, decoder.decode(chunk, length));
+                }
+                nodeId++;
+            }
+        }
+        return arrays.asNodeProperties();
+    }
+
+    private static int arrayBytes(NodePropertyValues values, ValueType valueType, long start, int batchSize) {
+        int bytes = 0;
+        for (int i = 0; i < batchSize; i++) {
+            long nodeId = start + i;
+            bytes += Integer.BYTES;
+            switch (valueType) {
+                case LONG_ARRAY:
+                    var longs = values.longArrayValue(nodeId);
+                    bytes += longs == null ? 0 : longs.length * Long.BYTES;
+                    break;
+                case DOUBLE_ARRAY:
+                    var doubles = values.doubleArrayValue(nodeId);
+                    bytes += doubles == null ? 0 : doubles.length * Double.BYTES;
+                    break;
+                case FLOAT_ARRAY:
+                    var floats = values.floatArrayValue(nodeId);
+                    bytes += floats == null ? 0 : floats.length * Float.BYTES;
+                    break;
+                default:
+                    throw SnapshotMetaDataIO.unsupportedValueType(valueType);
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Decodes a single array of the given length and advances the position of {@code chunk} past it.
+     */
+    @FunctionalInterface
+    private interface ArrayDecoder<T> {
+        T decode(ByteBuffer chunk, int length);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.binary;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.api.DatabaseId;
+import org.neo4j.gds.api.schema.MutableRelationshipSchemaEntry;
+import org.neo4j.gds.api.schema.NodeSchema;
+import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.api.schema.RelationshipPropertySchema;
+
+import java.util.List;
+
+/**
+ * Content of the {@link BinarySnapshotFormat#META_FILE}.
+ * The position of a property or relationship type in the lists
+ * is the index used in the names of the corresponding data files.
+ */
+@ValueClass
+interface SnapshotMetaData {
+
+    DatabaseId databaseId();
+
+    boolean canWriteToDatabase();
+
+    long nodeCount();
+
+    long highestOriginalId();
+
+    NodeSchema nodeSchema();
+
+    /**
+     * Labels stored in {@link BinarySnapshotFormat#NODE_LABELS_FILE}, empty if all nodes are unlabeled.
+     */
+    List<NodeLabel> nodeLabels();
+
+    List<NodePropertyMetaData> nodeProperties();
+
+    List<RelationshipTypeMetaData> relationshipTypes();
+
+    @ValueClass
+    interface NodePropertyMetaData {
+        PropertySchema schema();
+
+        long nodeCount();
+    }
+
+    @ValueClass
+    interface RelationshipTypeMetaData {
+        MutableRelationshipSchemaEntry schemaEntry();
+
+        long elementCount();
+
+        boolean isMultiGraph();
+
+        boolean hasInverseIndex();
+
+        long inverseElementCount();
+
+        boolean inverseIsMultiGraph();
+
+        List<RelationshipPropertyMetaData> properties();
+    }
+
+    @ValueClass
+    interface RelationshipPropertyMetaData {
+        RelationshipPropertySchema schema();
+
+        long elementCount();
+
+        double defaultPropertyValue();
+    }
+}
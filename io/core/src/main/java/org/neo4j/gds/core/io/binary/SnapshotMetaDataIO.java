@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.binary;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.DatabaseId;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.PropertyState;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.api.schema.MutableNodeSchema;
+import org.neo4j.gds.api.schema.MutableRelationshipSchemaEntry;
+import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.api.schema.RelationshipPropertySchema;
+import org.neo4j.gds.core.Aggregation;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+final class SnapshotMetaDataIO {
+
+    private SnapshotMetaDataIO() {}
+
+    static void write(SnapshotMetaData metaData, DataOutput out) throws IOException {
+        out.writeUTF(metaData.databaseId().databaseName());
+        out.writeBoolean(metaData.canWriteToDatabase());
+        out.writeLong(metaData.nodeCount());
+        out.writeLong(metaData.highestOriginalId());
+
+        var nodeSchemaEntries = metaData.nodeSchema().entries();
+        out.writeInt(nodeSchemaEntries.size());
+        for (var entry : nodeSchemaEntries) {
+            out.writeUTF(entry.identifier().name());
+            out.writeInt(entry.properties().size());
+            for (var propertySchema : entry.properties().values()) {
+                writePropertySchema(propertySchema, out);
+            }
+        }
+
+        out.writeInt(metaData.nodeLabels().size());
+        for (var nodeLabel : metaData.nodeLabels()) {
+            out.writeUTF(nodeLabel.name());
+        }
+
+        out.writeInt(metaData.nodeProperties().size());
+        for (var nodeProperty : metaData.nodeProperties()) {
+            writePropertySchema(nodeProperty.schema(), out);
+            out.writeLong(nodeProperty.nodeCount());
+        }
+
+        out.writeInt(metaData.relationshipTypes().size());
+        for (var relationshipType : metaData.relationshipTypes()) {
+            out.writeUTF(relationshipType.schemaEntry().identifier().name());
+            out.writeUTF(relationshipType.schemaEntry().direction().name());
+            out.writeLong(relationshipType.elementCount());
+            out.writeBoolean(relationshipType.isMultiGraph());
+            out.writeBoolean(relationshipType.hasInverseIndex());
+            out.writeLong(relationshipType.inverseElementCount());
+            out.writeBoolean(relationshipType.inverseIsMultiGraph());
+            out.writeInt(relationshipType.properties().size());
+            for (var property : relationshipType.properties()) {
+                writePropertySchema(property.schema(), out);
+                out.writeUTF(property.schema().aggregation().name());
+                out.writeLong(property.elementCount());
+                out.writeDouble(property.defaultPropertyValue());
+            }
+        }
+    }
+
+    static SnapshotMetaData read(DataInput in) throws IOException {
+        var databaseId = DatabaseId.from(in.readUTF());
+        boolean canWriteToDatabase = in.readBoolean();
+        long nodeCount = in.readLong();
+        long highestOriginalId = in.readLong();
+
+        var nodeSchema = MutableNodeSchema.empty();
+        int nodeSchemaEntryCount = in.readInt();
+        for (int i = 0; i < nodeSchemaEntryCount; i++) {
+            var nodeLabel = NodeLabel.of(in.readUTF());
+            nodeSchema.addLabel(nodeLabel);
+            int propertyCount = in.readInt();
+            for (int j = 0; j < propertyCount; j++) {
+                var propertySchema = readPropertySchema(in);
+                nodeSchema.addProperty(nodeLabel, propertySchema.key(), propertySchema);
+            }
+        }
+
+        int nodeLabelCount = in.readInt();
+        var nodeLabels = new ArrayList<NodeLabel>(nodeLabelCount);
+        for (int i = 0; i < nodeLabelCount; i++) {
+            nodeLabels.add(NodeLabel.of(in.readUTF()));
+        }
+
+        int nodePropertyCount = in.readInt();
+        var nodeProperties = new ArrayList<SnapshotMetaData.NodePropertyMetaData>(nodePropertyCount);
+        for (int i = 0; i < nodePropertyCount; i++) {
+            nodeProperties.add(ImmutableNodePropertyMetaData.of(readPropertySchema(in), in.readLong()));
+        }
+
+        int relationshipTypeCount = in.readInt();
+        var relationshipTypes = new ArrayList<SnapshotMetaData.RelationshipTypeMetaData>(relationshipTypeCount);
+        for (int i = 0; i < relationshipTypeCount; i++) {
+            var schemaEntry = new MutableRelationshipSchemaEntry(
+                RelationshipType.of(in.readUTF()),
+                Direction.valueOf(in.readUTF())
+            );
+            long elementCount = in.readLong();
+            boolean isMultiGraph = in.readBoolean();
+            boolean hasInverseIndex = in.readBoolean();
+            long inverseElementCount = in.readLong();
+            boolean inverseIsMultiGraph = in.readBoolean();
+
+            int propertyCount = in.readInt();
+            List<SnapshotMetaData.RelationshipPropertyMetaData> properties = new ArrayList<>(propertyCount);
+            for (int j = 0; j < propertyCount; j++) {
+                var propertySchema = readPropertySchema(in);
+                var relationshipPropertySchema = RelationshipPropertySchema.of(
+                    propertySchema.key(),
+                    propertySchema.valueType(),
+                    propertySchema.defaultValue(),
+                    propertySchema.state(),
+                    Aggregation.valueOf(in.readUTF())
+                );
+                schemaEntry.addProperty(relationshipPropertySchema.key(), relationshipPropertySchema);
+                properties.add(ImmutableRelationshipPropertyMetaData.of(
+                    relationshipPropertySchema,
+                    in.readLong(),
+                    in.readDouble()
+                ));
+            }
+
+            relationshipTypes.add(ImmutableRelationshipTypeMetaData.of(
+                schemaEntry,
+                elementCount,
+                isMultiGraph,
+                hasInverseIndex,
+                inverseElementCount,
+                inverseIsMultiGraph,
+                properties
+            ));
+        }
+
+        return ImmutableSnapshotMetaData.of(
+            databaseId,
+            canWriteToDatabase,
+            nodeCount,
+            highestOriginalId,
+            nodeSchema,
+            nodeLabels,
+            nodeProperties,
+            relationshipTypes
+        );
+    }
+
+    private static void writePropertySchema(PropertySchema propertySchema, DataOutput out) throws IOException {
+        out.writeUTF(propertySchema.key());
+        out.writeUTF(propertySchema.valueType().name());
+        out.writeUTF(propertySchema.state().name());
+        writeDefaultValue(propertySchema.valueType(), propertySchema.defaultValue(), out);
+    }
+
+    private static PropertySchema readPropertySchema(DataInput in) throws IOException {
+        var key = in.readUTF();
+        var valueType = ValueType.valueOf(in.readUTF());
+        var state = PropertyState.valueOf(in.readUTF());
+        var defaultValue = readDefaultValue(valueType, in);
+        return PropertySchema.of(key, valueType, defaultValue, state);
+    }
+
+    private static void writeDefaultValue(ValueType valueType, DefaultValue defaultValue, DataOutput out) throws IOException {
+        out.writeBoolean(defaultValue.isUserDefined());
+        boolean hasValue = defaultValue.getObject() != null;
+        out.writeBoolean(hasValue);
+        if (!hasValue) {
+            return;
+        }
+        switch (valueType) {
+            case LONG:
+                out.writeLong(defaultValue.longValue());
+                break;
+            case DOUBLE:
+                out.writeDouble(defaultValue.doubleValue());
+                break;
+            case LONG_ARRAY:
+                var longs = defaultValue.longArrayValue();
+                out.writeInt(longs.length);
+                for (long value : longs) {
+                    out.writeLong(value);
+                }
+                break;
+            case DOUBLE_ARRAY:
+                var doubles = defaultValue.doubleArrayValue();
+                out.writeInt(doubles.length);
+                for (double value : doubles) {
+                    out.writeDouble(value);
+                }
+                break;
+            case FLOAT_ARRAY:
+                var floats = defaultValue.floatArrayValue();
+                out.writeInt(floats.length);
+                for (float value : floats) {
+                    out.writeFloat(value);
+                }
+                break;
+            default:
+                throw unsupportedValueType(valueType);
+        }
+    }
+
+    private static DefaultValue readDefaultValue(ValueType valueType, DataInput in) throws IOException {
+        boolean isUserDefined = in.readBoolean();
+        boolean hasValue = in.readBoolean();
+        Object value = null;
+        if (hasValue) {
+            switch (valueType) {
+                case LONG:
+                    value = in.readLong();
+                    break;
+                case DOUBLE:
+                    value = in.readDouble();
+                    break;
+                case LONG_ARRAY:
+                    var longs = new long[in.readInt()];
+                    for (int i = 0; i < longs.length; i++) {
+                        longs[i] = in.readLong();
+                    }
+                    value = longs;
+                    break;
+                case DOUBLE_ARRAY:
+                    var doubles = new double[in.readInt()];
+                    for (int i = 0; i < doubles.length; i++) {
+                        doubles[i] = in.readDouble();
+                    }
+                    value = doubles;
+                    break;
+                case FLOAT_ARRAY:
+                    var floats = new float[in.readInt()];
+                    for (int i = 0; i < floats.length; i++) {
+                        floats[i] = in.readFloat();
+                    }
+                    value = floats;
+                    break;
+                default:
+                    throw unsupportedValueType(valueType);
+            }
+        }
+        return DefaultValue.of(value, isUserDefined);
+    }
+
+    static IllegalArgumentException unsupportedValueType(ValueType valueType) {
+        return new IllegalArgumentException(formatWithLocale(
+            "Binary snapshots do not support properties of type `%s`",
+            valueType.cypherName()
+        ));
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.binary;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.gds.NodeProjections;
+import org.neo4j.gds.RelationshipProjections;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.compat.Neo4jProxy;
+import org.neo4j.gds.compat.TestLog;
+import org.neo4j.gds.config.GraphProjectFromCypherConfig;
+import org.neo4j.gds.config.GraphProjectFromStoreConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.loading.GraphStoreCatalogPersistence.PersistedGraph;
+import org.neo4j.gds.core.loading.GraphStoreWithConfig;
+import org.neo4j.gds.core.loading.delta.RelationshipDelta;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.gdl.GdlFactory;
+import org.neo4j.gds.projection.GraphProjectFromCypherAggregationConfig;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+
+@GdlExtension
+class BinaryGraphStoreCatalogPersistenceTest {
+
+    @GdlGraph
+    static String DB_CYPHER =
+        "CREATE" +
+        "  (a:A {prop: 42L})" +
+        ", (b:B {prop: 43L})" +
+        ", (a)-[:R {p: 1.23}]->(b)" +
+        ", (b)-[:R {p: 3.21}]->(a)";
+
+    @Inject
+    GraphStore graphStore;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldRestorePersistedGraph() {
+        var persistence = new BinaryGraphStoreCatalogPersistence(tempDir, 4, Neo4jProxy.testLog());
+        var databaseName = graphStore.databaseId().databaseName();
+        var config = GraphProjectFromStoreConfig.of(
+            "alice",
+            "graph",
+            "*",
+            Map.of("R", Map.of("orientation", "UNDIRECTED")),
+            CypherMapWrapper.create(Map.of("readConcurrency", 2))
+        );
+
+        assertThat(persistence.contains("alice", databaseName, "graph")).isFalse();
+        assertThat(persistence.restore("alice", databaseName, "graph")).isEmpty();
+
+        persistence.persist("alice", GraphStoreWithConfig.of(graphStore, config));
+
+        assertThat(persistence.contains("alice", databaseName, "graph")).isTrue();
+        assertThat(persistence.contains("bob", databaseName, "graph")).isFalse();
+
+        var restored = persistence.restore("alice", databaseName, "graph").orElseThrow();
+        assertGraphEquals(graphStore.getUnion(), restored.graphStore().getUnion());
+
+        assertThat(restored.config()).isInstanceOf(GraphProjectFromStoreConfig.class);
+        var restoredConfig = (GraphProjectFromStoreConfig) restored.config();
+        assertThat(restoredConfig.username()).isEqualTo("alice");
+        assertThat(restoredConfig.graphName()).isEqualTo("graph");
+        assertThat(restoredConfig.readConcurrency()).isEqualTo(2);
+        assertThat(restoredConfig.jobId()).isEqualTo(config.jobId());
+        assertThat(NodeProjections.toObject(restoredConfig.nodeProjections()))
+            .isEqualTo(NodeProjections.toObject(config.nodeProjections()));
+        assertThat(RelationshipProjections.toObject(restoredConfig.relationshipProjections()))
+            .isEqualTo(RelationshipProjections.toObject(config.relationshipProjections()));
+
+        persistence.delete("alice", databaseName, "graph");
+        assertThat(persistence.contains("alice", databaseName, "graph")).isFalse();
+    }
+
+    @Test
+    void shouldReplacePreviousSnapshot() throws IOException {
+        var persistence = new BinaryGraphStoreCatalogPersistence(tempDir, 1, Neo4jProxy.testLog());
+        var databaseName = graphStore.databaseId().databaseName();
+        var config = GraphProjectFromCypherConfig.of(
+            "",
+            "graph",
+            GraphProjectFromCypherConfig.ALL_NODES_QUERY,
+            GraphProjectFromCypherConfig.ALL_RELATIONSHIPS_QUERY,
+            CypherMapWrapper.empty()
+        );
+
+        persistence.persist("", GraphStoreWithConfig.of(graphStore, config));
+        persistence.persist("", GraphStoreWithConfig.of(graphStore, config));
+
+        var restored = persistence.restore("", databaseName, "graph").orElseThrow();
+        assertGraphEquals(graphStore.getUnion(), restored.graphStore().getUnion());
+        assertThat(restored.config()).isInstanceOf(GraphProjectFromCypherConfig.class);
+        assertThat(((GraphProjectFromCypherConfig) restored.config()).nodeQuery())
+            .isEqualTo(GraphProjectFromCypherConfig.ALL_NODES_QUERY);
+
+        var databaseDirectory = tempDir
+            .resolve(BinaryGraphStoreCatalogPersistence.directoryName(""))
+            .resolve(BinaryGraphStoreCatalogPersistence.directoryName(databaseName));
+        try (var files = Files.list(databaseDirectory)) {
+            assertThat(files).containsExactly(
+                databaseDirectory.resolve(BinaryGraphStoreCatalogPersistence.directoryName("graph"))
+            );
+        }
+    }
+
+    @Test
+    void shouldListPersistedGraphs() {
+        var persistence = new BinaryGraphStoreCatalogPersistence(tempDir, 1, Neo4jProxy.testLog());
+        var databaseName = graphStore.databaseId().databaseName();
+
+        persistence.persist("alice", GraphStoreWithConfig.of(graphStore, storeConfig("alice", "graph/1")));
+        persistence.persist("bob", GraphStoreWithConfig.of(graphStore, storeConfig("bob", "graph")));
+
+        assertThat(persistence.persistedGraphs()).containsExactlyInAnyOrder(
+            PersistedGraph.of("alice", databaseName, "graph/1"),
+            PersistedGraph.of("bob", databaseName, "graph")
+        );
+
+        persistence.delete("alice", databaseName, "graph/1");
+        assertThat(persistence.persistedGraphs()).containsExactly(PersistedGraph.of("bob", databaseName, "graph"));
+    }
+
+    @Test
+    void shouldRejectGraphsThatCannotBePersisted() {
+        var persistence = new BinaryGraphStoreCatalogPersistence(tempDir, 1, Neo4jProxy.testLog());
+
+        GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST.enableAndRun(() -> {
+            var mappedGraphStore = GdlFactory.of("(a)-[:R]->(b)").build();
+            assertThatThrownBy(() -> persistence.validate(storeConfig("alice", "graph"), mappedGraphStore))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Graph `graph` cannot be added to the catalog")
+                .hasMessageContaining("cannot be persisted");
+        });
+
+        persistence.validate(storeConfig("alice", "graph"), graphStore);
+    }
+
+    @Test
+    void shouldCompactRelationshipDeltasBeforePersisting() {
+        var persistence = new BinaryGraphStoreCatalogPersistence(tempDir, 1, Neo4jProxy.testLog());
+        var deltaGraphStore = GdlFactory.of("(a), (b), (c), (a)-[:R]->(b)").build();
+        var databaseName = deltaGraphStore.databaseId().databaseName();
+        // graphs are validated when they are added to the catalog, deltas are applied afterwards
+        persistence.validate(storeConfig("alice", "graph"), deltaGraphStore);
+        deltaGraphStore.applyRelationshipDelta(RelationshipType.of("R"), new RelationshipDelta().add(0, 2).add(1, 2));
+
+        persistence.persist("alice", GraphStoreWithConfig.of(deltaGraphStore, storeConfig("alice", "graph")));
+
+        var restored = persistence.restore("alice", databaseName, "graph").orElseThrow();
+        assertThat(restored.graphStore().relationshipCount()).isEqualTo(3);
+        assertGraphEquals(deltaGraphStore.getUnion(), restored.graphStore().getUnion());
+    }
+
+    @Test
+    void shouldSkipGraphsFromCypherAggregation() {
+        var log = Neo4jProxy.testLog();
+        var persistence = new BinaryGraphStoreCatalogPersistence(tempDir, 1, log);
+        var databaseName = graphStore.databaseId().databaseName();
+        var config = GraphProjectFromCypherAggregationConfig.of("alice", "graph", Map.of());
+
+        persistence.validate(config, graphStore);
+        persistence.persist("alice", GraphStoreWithConfig.of(graphStore, config));
+
+        assertThat(persistence.contains("alice", databaseName, "graph")).isFalse();
+        assertThat(log.containsMessage(TestLog.INFO, "Graph `graph` of user `alice` is not persisted")).isTrue();
+    }
+
+    @Test
+    void shouldNotPersistGraphsThatCanNoLongerBePersisted() {
+        var log = Neo4jProxy.testLog();
+        var persistence = new BinaryGraphStoreCatalogPersistence(tempDir, 1, log);
+
+        GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST.enableAndRun(() -> {
+            var mappedGraphStore = GdlFactory.of("(a)-[:R]->(b)").build();
+            var databaseName = mappedGraphStore.databaseId().databaseName();
+
+            persistence.persist("alice", GraphStoreWithConfig.of(mappedGraphStore, storeConfig("alice", "graph")));
+
+            assertThat(persistence.contains("alice", databaseName, "graph")).isFalse();
+            assertThat(log.containsMessage(
+                TestLog.WARN,
+                "Graph `graph` of user `alice` is not persisted, because it has been modified into a graph that cannot be persisted"
+            )).isTrue();
+        });
+    }
+
+    @Test
+    void shouldRollBackInterruptedReplacement() throws IOException {
+        var persistence = new BinaryGraphStoreCatalogPersistence(tempDir, 1, Neo4jProxy.testLog());
+        var databaseName = graphStore.databaseId().databaseName();
+        persistence.persist("alice", GraphStoreWithConfig.of(graphStore, storeConfig("alice", "graph")));
+
+        // a crash after the previous snapshot was moved aside, but before the new one was moved into place
+        var graphDirectory = tempDir
+            .resolve(BinaryGraphStoreCatalogPersistence.directoryName("alice"))
+            .resolve(BinaryGraphStoreCatalogPersistence.directoryName(databaseName))
+            .resolve(BinaryGraphStoreCatalogPersistence.directoryName("graph"));
+        Files.move(graphDirectory, graphDirectory.resolveSibling(".previous" + graphDirectory.getFileName()));
+
+        assertThat(persistence.persistedGraphs()).containsExactly(PersistedGraph.of("alice", databaseName, "graph"));
+        var restored = persistence.restore("alice", databaseName, "graph").orElseThrow();
+        assertGraphEquals(graphStore.getUnion(), restored.graphStore().getUnion());
+    }
+
+    @Test
+    void shouldDeletePersistedGraphsOfDatabase() {
+        var persistence = new BinaryGraphStoreCatalogPersistence(tempDir, 1, Neo4jProxy.testLog());
+        var databaseName = graphStore.databaseId().databaseName();
+        persistence.persist("alice", GraphStoreWithConfig.of(graphStore, storeConfig("alice", "graph")));
+        persistence.persist("bob", GraphStoreWithConfig.of(graphStore, storeConfig("bob", "graph")));
+
+        persistence.deleteDatabase(databaseName);
+
+        assertThat(persistence.persistedGraphs()).isEmpty();
+    }
+
+    private static GraphProjectFromStoreConfig storeConfig(String username, String graphName) {
+        return GraphProjectFromStoreConfig.of(
+            username,
+            graphName,
+            "*",
+            "*",
+            CypherMapWrapper.empty()
+        );
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.binary;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.mem.HugeArrays;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChunkedFileReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldReadChunksFromMappedFile() throws IOException {
+        var file = tempDir.resolve("chunks.bin");
+        try (var writer = ChunkedFileWriter.open(file)) {
+            writer.writeChunk(ByteBuffer.wrap(new byte[]{1, 2, 3}));
+            writer.writeChunk(ByteBuffer.allocate(Long.BYTES).putLong(1337L).flip());
+        }
+
+        try (var reader = ChunkedFileReader.open(file)) {
+            var first = reader.readChunk();
+            // small files are mapped and chunks are handed out as read-only views
+            assertThat(first.isReadOnly()).isTrue();
+            assertThat(first.hasArray()).isFalse();
+            var bytes = new byte[first.remaining()];
+            first.get(bytes);
+            assertThat(bytes).containsExactly(1, 2, 3);
+
+            assertThat(reader.readChunk().getLong()).isEqualTo(1337L);
+        }
+    }
+
+    @Test
+    void shouldReadHugeArrayFromMappedFile() throws IOException {
+        var size = HugeArrays.PAGE_SIZE + 42;
+        var expected = HugeLongArray.newArray(size);
+        expected.setAll(i -> i * 42);
+
+        var file = tempDir.resolve("array.bin");
+        try (var writer = ChunkedFileWriter.open(file)) {
+            writer.writeHugeArray(
+                expected,
+                Long.BYTES,
+                (page, offset, length, target) -> target.asLongBuffer().put(page, offset, length)
+            );
+        }
+
+        var actual = HugeLongArray.newOffHeapArray(size);
+        try (var reader = ChunkedFileReader.open(file)) {
+            reader.readHugeArray(
+                actual,
+                Long.BYTES,
+                (source, page, offset, length) -> source.asLongBuffer().get(page, offset, length)
+            );
+        }
+
+        for (long i = 0; i < size; i++) {
+            assertThat(actual.get(i)).isEqualTo(expected.get(i));
+        }
+        actual.release();
+    }
+}
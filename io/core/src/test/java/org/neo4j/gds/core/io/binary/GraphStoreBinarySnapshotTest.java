@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.binary;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+
+@GdlExtension
+class GraphStoreBinarySnapshotTest {
+
+    @GdlGraph(indexInverse = true)
+    static String DB_CYPHER =
+        "CREATE" +
+        "  (a:A {prop1: 42L, prop2: [1.0, 2.0]})" +
+        ", (b:A:B {prop1: 43L, prop2: [3.0, 4.0]})" +
+        ", (c:B {prop3: 13.37D})" +
+        ", (d:C {prop4: [1L, 2L, 3L]})" +
+        ", (a)-[:R {p: 1.23, q: 4.2}]->(b)" +
+        ", (a)-[:R {p: 3.21, q: 2.4}]->(c)" +
+        ", (b)-[:R1 {r: 1337}]->(c)" +
+        ", (c)-[:R1 {r: 42}]->(a)" +
+        ", (d)-[:R2]->(a)" +
+        ", (d)-[:R2]->(b)";
+
+    @Inject
+    GraphStore graphStore;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldRoundTripGraphStore() {
+        new GraphStoreToBinaryExporter(graphStore, tempDir, 4).run();
+
+        var importedGraphStore = new BinaryToGraphStoreImporter(tempDir, 4).run();
+
+        assertThat(importedGraphStore.databaseId()).isEqualTo(graphStore.databaseId());
+        assertThat(importedGraphStore.schema()).isEqualTo(graphStore.schema());
+        assertThat(importedGraphStore.nodeLabels()).isEqualTo(graphStore.nodeLabels());
+        assertThat(importedGraphStore.inverseIndexedRelationshipTypes())
+            .isEqualTo(graphStore.inverseIndexedRelationshipTypes());
+
+        assertGraphEquals(graphStore.getUnion(), importedGraphStore.getUnion());
+        for (var propertyKey : graphStore.relationshipPropertyKeys()) {
+            assertGraphEquals(graphStore.getGraph(propertyKey), importedGraphStore.getGraph(propertyKey));
+        }
+    }
+
+    @Test
+    void shouldRestoreInverseIndex() {
+        new GraphStoreToBinaryExporter(graphStore, tempDir, 1).run();
+
+        var importedGraphStore = new BinaryToGraphStoreImporter(tempDir, 1).run();
+
+        var relationshipType = RelationshipType.of("R");
+        var expected = graphStore.getGraph(relationshipType, Optional.of("p"));
+        var actual = importedGraphStore.getGraph(relationshipType, Optional.of("p"));
+
+        expected.forEachNode(nodeId -> {
+            var expectedSources = new StringBuilder();
+            var actualSources = new StringBuilder();
+            expected.forEachInverseRelationship(nodeId, Double.NaN, (s, t, w) -> {
+                expectedSources.append(expected.toOriginalNodeId(t)).append(':').append(w).append(' ');
+                return true;
+            });
+            actual.forEachInverseRelationship(nodeId, Double.NaN, (s, t, w) -> {
+                actualSources.append(actual.toOriginalNodeId(t)).append(':').append(w).append(' ');
+                return true;
+            });
+            assertThat(actualSources.toString()).isEqualTo(expectedSources.toString());
+            return true;
+        });
+    }
+
+    @Test
+    void shouldFailOnCorruptedChunk() throws IOException {
+        new GraphStoreToBinaryExporter(graphStore, tempDir, 1).run();
+
+        var topologyFile = BinarySnapshotFormat.topologyFile(tempDir, 0, false);
+        try (var channel = FileChannel.open(topologyFile, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{42}), Files.size(topologyFile) - Long.BYTES - 1);
+        }
+
+        assertThatThrownBy(() -> new BinaryToGraphStoreImporter(tempDir, 1).run())
+            .isInstanceOf(UncheckedIOException.class)
+            .hasMessageContaining("Checksum mismatch");
+    }
+
+    @Test
+    void shouldNotOverwriteExistingSnapshot() {
+        new GraphStoreToBinaryExporter(graphStore, tempDir, 1).run();
+
+        assertThatThrownBy(() -> new GraphStoreToBinaryExporter(graphStore, tempDir, 1).run())
+            .isInstanceOf(UncheckedIOException.class);
+    }
+}
@@ -100,7 +100,13 @@ public class Training {
 
         var losses = new ArrayList<Double>();
 
-        var consumers = executeBatches(concurrency, objective, queueSupplier.get());
+        // one context per consumer, so the tensor buffers are reused across all batches and epochs
+        var contexts = new ArrayList<ComputationContext>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            contexts.add(ComputationContext.reusingBuffers());
+        }
+
+        var consumers = executeBatches(contexts, objective, queueSupplier.get());
         var prevWeightGradients = avgWeightGradients(consumers);
         var initialLoss = avgLoss(consumers);
         progressTracker.logMessage(messageLogLevel, StringFormatting.formatWithLocale("Initial loss %s", initialLoss));
@@ -108,7 +114,7 @@ public class Training {
             // each loop represents one epoch
             terminationFlag.assertRunning();
             updater.update(prevWeightGradients);
-            consumers = executeBatches(concurrency, objective, queueSupplier.get());
+            consumers = executeBatches(contexts, objective, queueSupplier.get());
             prevWeightGradients = avgWeightGradients(consumers);
 
             double loss = avgLoss(consumers);
@@ -133,12 +139,16 @@ public class Training {
         ));
     }
 
-    private List<ObjectiveUpdateConsumer> executeBatches(int concurrency, Objective<?> objective, BatchQueue batches) {
-        var consumers = new ArrayList<ObjectiveUpdateConsumer>(concurrency);
-        for (int i = 0; i < concurrency; i++) {
-            consumers.add(new ObjectiveUpdateConsumer(objective, trainSize));
+    private List<ObjectiveUpdateConsumer> executeBatches(
+        List<ComputationContext> contexts,
+        Objective<?> objective,
+        BatchQueue batches
+    ) {
+        var consumers = new ArrayList<ObjectiveUpdateConsumer>(contexts.size());
+        for (ComputationContext ctx : contexts) {
+            consumers.add(new ObjectiveUpdateConsumer(objective, trainSize, ctx));
         }
-        batches.parallelConsume(concurrency, consumers, terminationFlag);
+        batches.parallelConsume(contexts.size(), consumers, terminationFlag);
         return consumers;
     }
 
@@ -164,15 +174,18 @@ public class Training {
         private final Objective<?> objective;
         private final long trainSize;
         private final List<? extends Tensor<?>> summedWeightGradients;
+        private final ComputationContext ctx;
         private double lossSum;
         private int consumedBatches;
 
         ObjectiveUpdateConsumer(
             Objective<?> objective,
-            long trainSize
+            long trainSize,
+            ComputationContext ctx
         ) {
             this.objective = objective;
             this.trainSize = trainSize;
+            this.ctx = ctx;
             this.summedWeightGradients = objective
                 .weights()
                 .stream()
@@ -185,19 +198,14 @@ public class Training {
         @Override
         public void accept(Batch batch) {
             Variable<Scalar> loss = objective.loss(batch, trainSize);
-            var ctx = new ComputationContext();
             lossSum += ctx.forward(loss).value();
             ctx.backward(loss);
 
-            List<? extends Tensor<?>> localWeightGradient = objective
-                .weights()
-                .stream()
-                .map(ctx::gradient)
-                .collect(Collectors.toList());
-
+            var weights = objective.weights();
             for (int i = 0; i < summedWeightGradients.size(); i++) {
-                summedWeightGradients.get(i).addInPlace(localWeightGradient.get(i));
+                summedWeightGradients.get(i).addInPlace(ctx.gradient(weights.get(i)));
             }
+            ctx.reset();
 
             consumedBatches++;
         }
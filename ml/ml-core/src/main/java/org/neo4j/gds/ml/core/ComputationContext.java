@@ -19,30 +19,149 @@
  */
 package org.neo4j.gds.ml.core;
 
+import com.carrotsearch.hppc.IntObjectHashMap;
+import com.carrotsearch.hppc.LongObjectHashMap;
 import org.apache.commons.lang3.mutable.MutableInt;
 import org.jetbrains.annotations.TestOnly;
 import org.neo4j.gds.ml.core.functions.SingleParentVariable;
+import org.neo4j.gds.ml.core.tensor.Matrix;
 import org.neo4j.gds.ml.core.tensor.Tensor;
+import org.neo4j.gds.ml.core.tensor.Vector;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.stream.Collectors;
 
 /**
  * The computation context is used for forward and backward propagation over a computation graphs consiting of {@link org.neo4j.gds.ml.core.Variable}s.
  * This implementation is not thread-safe!
+ *
+ * A context created with {@link #reusingBuffers()} keeps the tensors handed out by {@link #matrix(int, int)},
+ * {@link #vector(int)} and {@link #allocate(Tensor)} and hands them out again after {@link #reset()}.
+ * This allows to evaluate many computation graphs of the same shape, such as one per training batch,
+ * without allocating new forward and backward buffers for each of them.
  */
 public class ComputationContext {
     private final Map<Variable<?>, Tensor<?>> data;
     private final Map<Variable<?>, Tensor<?>> gradients;
 
+    private final boolean reuseBuffers;
+    private final List<Tensor<?>> allocated;
+    private final LongObjectHashMap<ArrayDeque<Matrix>> freeMatrices;
+    private final IntObjectHashMap<ArrayDeque<Vector>> freeVectors;
+
     public ComputationContext() {
+        this(false);
+    }
+
+    private ComputationContext(boolean reuseBuffers) {
         this.data = new HashMap<>();
         this.gradients = new HashMap<>();
+        this.reuseBuffers = reuseBuffers;
+        this.allocated = new ArrayList<>();
+        this.freeMatrices = new LongObjectHashMap<>();
+        this.freeVectors = new IntObjectHashMap<>();
+    }
+
+    public static ComputationContext reusingBuffers() {
+        return new ComputationContext(true);
+    }
+
+    /**
+     * Returns a zeroed matrix, which is owned by this context until the next call to {@link #reset()}.
+     */
+    public Matrix matrix(int rows, int cols) {
+        if (!reuseBuffers) {
+            return new Matrix(rows, cols);
+        }
+        var free = freeMatrices.get(matrixKey(rows, cols));
+        Matrix matrix;
+        if (free == null || free.isEmpty()) {
+            matrix = new Matrix(rows, cols);
+        } else {
+            matrix = free.pop();
+            Arrays.fill(matrix.data(), 0D);
+        }
+        allocated.add(matrix);
+        return matrix;
+    }
+
+    /**
+     * Returns a zeroed vector, which is owned by this context until the next call to {@link #reset()}.
+     */
+    public Vector vector(int length) {
+        if (!reuseBuffers) {
+            return new Vector(length);
+        }
+        var free = freeVectors.get(length);
+        Vector vector;
+        if (free == null || free.isEmpty()) {
+            vector = new Vector(length);
+        } else {
+            vector = free.pop();
+            Arrays.fill(vector.data(), 0D);
+        }
+        allocated.add(vector);
+        return vector;
+    }
+
+    /**
+     * Returns a zeroed tensor with the same type and dimensions as the given tensor.
+     * Only matrices and vectors are reused, other tensors are always allocated.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Tensor<T>> T allocate(T template) {
+        if (template instanceof Matrix) {
+            var matrix = (Matrix) template;
+            return (T) matrix(matrix.rows(), matrix.cols());
+        }
+        if (template instanceof Vector) {
+            return (T) vector(((Vector) template).length());
+        }
+        return template.createWithSameDimensions();
+    }
+
+    /**
+     * Forgets all data and gradients, so that the context can be used for another computation graph.
+     * If buffers are reused, all tensors allocated through this context since the last reset are released
+     * and must no longer be used by the caller.
+     */
+    public void reset() {
+        data.clear();
+        gradients.clear();
+
+        for (Tensor<?> tensor : allocated) {
+            if (tensor instanceof Matrix) {
+                var matrix = (Matrix) tensor;
+                long key = matrixKey(matrix.rows(), matrix.cols());
+                var free = freeMatrices.get(key);
+                if (free == null) {
+                    free = new ArrayDeque<>();
+                    freeMatrices.put(key, free);
+                }
+                free.push(matrix);
+            } else {
+                var vector = (Vector) tensor;
+                var free = freeVectors.get(vector.length());
+                if (free == null) {
+                    free = new ArrayDeque<>();
+                    freeVectors.put(vector.length(), free);
+                }
+                free.push(vector);
+            }
+        }
+        allocated.clear();
+    }
+
+    private static long matrixKey(int rows, int cols) {
+        return ((long) rows << Integer.SIZE) | cols;
     }
 
     // Only one forward call is expected for the caching strategy
@@ -72,7 +191,7 @@ public class ComputationContext {
         assert function.requireGradient() : "Root variable must have requireGradient==true";
 
         gradients.clear();
-        Queue<BackPropTask> executionQueue = new LinkedBlockingQueue<>();
+        Queue<BackPropTask> executionQueue = new ArrayDeque<>();
         var dummy = new PassThroughVariable<>(function);
         executionQueue.add(new BackPropTask(function, dummy));
         Map<Variable<?>, MutableInt> upstreamCounters = new HashMap<>();
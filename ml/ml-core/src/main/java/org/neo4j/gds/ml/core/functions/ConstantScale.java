@@ -35,12 +35,14 @@ public class ConstantScale<T extends Tensor<T>> extends SingleParentVariable<T,
 
     @Override
     public T apply(ComputationContext ctx) {
-        return ctx.data(parent).scalarMultiply(constant);
+        var parentData = ctx.data(parent);
+        return parentData.scalarMultiply(constant, ctx.allocate(parentData));
     }
 
     @Override
     protected T gradientForParent(ComputationContext ctx) {
-        return ctx.gradient(this).scalarMultiply(constant);
+        var selfGradient = ctx.gradient(this);
+        return selfGradient.scalarMultiply(constant, ctx.allocate(selfGradient));
     }
 
     @Override
@@ -75,7 +75,7 @@ public class CrossEntropyLoss extends AbstractVariable<Scalar> {
     public Tensor<?> gradient(Variable<?> parent, ComputationContext ctx) {
         if (parent == predictions) {
             var predictionsMatrix = ctx.data(predictions);
-            Matrix gradient = predictionsMatrix.createWithSameDimensions();
+            Matrix gradient = ctx.allocate(predictionsMatrix);
             var targetsVector = ctx.data(targets);
 
             var selfGradient = ctx.gradient(this).value();
@@ -26,6 +26,7 @@ import org.neo4j.gds.ml.core.Variable;
 import org.neo4j.gds.ml.core.tensor.Scalar;
 import org.neo4j.gds.ml.core.tensor.Tensor;
 
+import java.util.Arrays;
 import java.util.List;
 
 public class ElementSum extends AbstractVariable<Scalar> {
@@ -46,6 +47,12 @@ public class ElementSum extends AbstractVariable<Scalar> {
     @Override
     public Tensor<?> gradient(Variable<?> parent, ComputationContext ctx) {
         double selfGradient = ctx.gradient(this).value();
-        return ctx.data(parent).map(ignore -> selfGradient);
+        return filledLike(parent, selfGradient, ctx);
+    }
+
+    private static <T extends Tensor<T>> T filledLike(Variable<T> variable, double value, ComputationContext ctx) {
+        T result = ctx.allocate(ctx.data(variable));
+        Arrays.fill(result.data(), value);
+        return result;
     }
 }
@@ -52,6 +52,7 @@ public class L2NormSquared<T extends Tensor<T>> extends SingleParentVariable<T,
     @Override
     public T gradientForParent(ComputationContext ctx) {
         double selfGradient = ctx.gradient(this).value();
-        return ctx.data(parent).scalarMultiply(2 * selfGradient);
+        var parentData = ctx.data(parent);
+        return parentData.scalarMultiply(2 * selfGradient, ctx.allocate(parentData));
     }
 }
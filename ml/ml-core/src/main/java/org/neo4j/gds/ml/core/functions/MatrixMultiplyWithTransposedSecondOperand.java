@@ -53,16 +53,17 @@ public class MatrixMultiplyWithTransposedSecondOperand extends AbstractVariable<
 
     @Override
     public Matrix apply(ComputationContext ctx) {
-        return ctx.data(A).multiplyTransB(ctx.data(B));
+        var result = ctx.matrix(A.dimension(ROWS_INDEX), B.dimension(ROWS_INDEX));
+        return ctx.data(A).multiplyTransB(ctx.data(B), result);
     }
 
     @Override
     public Matrix gradient(Variable<?> parent, ComputationContext ctx) {
         var gradient = ctx.gradient(this);
         if (parent == A) {
-            return gradient.multiply(ctx.data(B));
+            return gradient.multiply(ctx.data(B), ctx.matrix(gradient.rows(), B.dimension(COLUMNS_INDEX)));
         } else {
-            return gradient.multiplyTransA(ctx.data(A));
+            return gradient.multiplyTransA(ctx.data(A), ctx.matrix(gradient.cols(), A.dimension(COLUMNS_INDEX)));
         }
     }
 
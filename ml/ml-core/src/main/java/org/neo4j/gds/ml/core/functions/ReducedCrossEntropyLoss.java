@@ -104,7 +104,7 @@ public class ReducedCrossEntropyLoss extends AbstractVariable<Scalar> {
         if (parent == weights) {
             var weightsMatrix = ctx.data(weights);
             var featureMatrix = ctx.data(features);
-            var gradient = weightsMatrix.createWithSameDimensions();
+            var gradient = ctx.allocate(weightsMatrix);
             int featureCount = weightsMatrix.cols();
             int reducedClassCount = weightsMatrix.rows();
 
@@ -129,7 +129,7 @@ public class ReducedCrossEntropyLoss extends AbstractVariable<Scalar> {
             return gradient;
         } else if (parent == bias) {
             var biasVector = ctx.data(parent);
-            var gradient = biasVector.createWithSameDimensions();
+            var gradient = ctx.allocate(biasVector);
             int reducedClassCount = biasVector.totalSize();
 
             for (int row = 0; row < numberOfExamples; row++) {
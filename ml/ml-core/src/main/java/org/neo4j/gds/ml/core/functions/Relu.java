@@ -38,12 +38,14 @@ public class Relu<T extends Tensor<T>> extends SingleParentVariable<T, T> {
 
     @Override
     public T apply(ComputationContext ctx) {
-        return ctx.data(parent).map(value -> (value > 0) ? value : (alpha * value));
+        var parentData = ctx.data(parent);
+        return parentData.map(value -> (value > 0) ? value : (alpha * value), ctx.allocate(parentData));
     }
 
     @Override
     public T gradientForParent(ComputationContext ctx) {
-        T gradient = ctx.data(parent).map(value -> value > 0 ? 1 : alpha);
+        var parentData = ctx.data(parent);
+        T gradient = parentData.map(value -> value > 0 ? 1 : alpha, ctx.allocate(parentData));
         gradient.elementwiseProductMutate(ctx.gradient(this));
         return gradient;
     }
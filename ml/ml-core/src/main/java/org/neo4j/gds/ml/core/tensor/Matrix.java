@@ -20,10 +20,10 @@
 package org.neo4j.gds.ml.core.tensor;
 
 import org.ejml.data.DMatrixRMaj;
-import org.ejml.dense.row.mult.MatrixMatrixMult_DDRM;
 import org.neo4j.gds.collections.ArrayUtil;
 import org.neo4j.gds.mem.MemoryUsage;
 import org.neo4j.gds.ml.core.Dimensions;
+import org.neo4j.gds.ml.core.tensor.operations.DoubleMatrixOperations;
 
 import java.util.Arrays;
 import java.util.function.DoubleUnaryOperator;
@@ -124,29 +124,49 @@ public class Matrix extends Tensor<Matrix> {
     }
 
     public Matrix multiply(Matrix other) {
-        DMatrixRMaj result = new DMatrixRMaj(this.rows, other.cols());
-        MatrixMatrixMult_DDRM.mult_reorder(this.toEjml(), other.toEjml(), result);
-        return Matrix.of(result);
+        return multiply(other, new Matrix(this.rows, other.cols()));
+    }
+
+    /**
+     * Writes {@code this * other} into the given result matrix and returns it.
+     */
+    public Matrix multiply(Matrix other, Matrix result) {
+        DoubleMatrixOperations.mult(this, other, result);
+        return result;
     }
 
     public Matrix multiplyTransB(Matrix other) {
-        DMatrixRMaj result = new DMatrixRMaj(this.rows, other.rows);
-        MatrixMatrixMult_DDRM.multTransB(this.toEjml(), other.toEjml(), result);
-        return Matrix.of(result);
+        return multiplyTransB(other, new Matrix(this.rows, other.rows));
+    }
+
+    /**
+     * Writes {@code this * other^T} into the given result matrix and returns it.
+     */
+    public Matrix multiplyTransB(Matrix other, Matrix result) {
+        DoubleMatrixOperations.multTransB(this, other, result);
+        return result;
     }
 
     public Matrix multiplyTransA(Matrix other) {
-        DMatrixRMaj prod = new DMatrixRMaj(this.cols(), other.cols());
-        MatrixMatrixMult_DDRM.multTransA_reorder(this.toEjml(), other.toEjml(), prod);
-        return Matrix.of(prod);
+        return multiplyTransA(other, new Matrix(this.cols(), other.cols()));
+    }
+
+    /**
+     * Writes {@code this^T * other} into the given result matrix and returns it.
+     */
+    public Matrix multiplyTransA(Matrix other, Matrix result) {
+        DoubleMatrixOperations.multTransA(this, other, result);
+        return result;
     }
 
     /**
      * C[a, b] = A[a, b] + v[b]
      */
     public Matrix sumBroadcastColumnWise(Vector vector) {
-        var result = this.createWithSameDimensions();
+        return sumBroadcastColumnWise(vector, createWithSameDimensions());
+    }
 
+    public Matrix sumBroadcastColumnWise(Vector vector, Matrix result) {
         for(int row = 0; row < rows; row++) {
             for (int col = 0; col < columns; col++) {
                 int matrixIndex = row * columns + col;
@@ -158,15 +178,22 @@ public class Matrix extends Tensor<Matrix> {
     }
 
     public Vector sumPerColumn() {
-        double[] result = new double[columns];
+        return sumPerColumn(new Vector(columns));
+    }
+
+    /**
+     * Adds the sum of each column to the given vector and returns it.
+     */
+    public Vector sumPerColumn(Vector result) {
+        double[] resultData = result.data;
 
         for (int col = 0; col < columns; col++) {
             for (int row = 0; row < rows; row++) {
-                result[col] += data[row * columns + col];
+                resultData[col] += data[row * columns + col];
             }
         }
 
-        return new Vector(result);
+        return result;
     }
 
     public void setRow(int rowIdx, Matrix input, int inputRowIdx) {
@@ -72,7 +72,13 @@ public abstract class Tensor<SELF extends Tensor<SELF>> {
     }
 
     public SELF map(DoubleUnaryOperator f) {
-        var result = createWithSameDimensions();
+        return map(f, createWithSameDimensions());
+    }
+
+    /**
+     * Writes the mapped values into the given tensor of the same dimensions and returns it.
+     */
+    public SELF map(DoubleUnaryOperator f, SELF result) {
         Arrays.setAll(result.data, i -> f.applyAsDouble(data[i]));
         return result;
     }
@@ -105,6 +111,17 @@ public abstract class Tensor<SELF extends Tensor<SELF>> {
         return scaled;
     }
 
+    /**
+     * Writes the scaled values into the given tensor of the same dimensions and returns it.
+     */
+    public SELF scalarMultiply(double scalar, SELF result) {
+        int totalSize = totalSize();
+        for (int pos = 0; pos < totalSize; pos++) {
+            result.data[pos] = data[pos] * scalar;
+        }
+        return result;
+    }
+
     public int totalSize() {
         return Dimensions.totalSize(dimensions);
     }
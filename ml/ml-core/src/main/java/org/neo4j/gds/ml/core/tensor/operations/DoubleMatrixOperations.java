@@ -22,10 +22,55 @@ package org.neo4j.gds.ml.core.tensor.operations;
 import org.ejml.MatrixDimensionException;
 import org.neo4j.gds.ml.core.tensor.Matrix;
 
+import java.util.Arrays;
 import java.util.function.IntPredicate;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Dense matrix products on row-major {@link Matrix} data.
+ *
+ * The unmasked products are cache-blocked: the operand that is read repeatedly is processed in tiles of
+ * about {@link #TILE_SIZE_IN_DOUBLES} values, so that a tile stays in the L2 cache while all rows of the
+ * other operand pass over it. Within a tile, several output rows are computed at once, so that each loaded
+ * value of the tile is used more than once. Every output value is still accumulated in the same order as in
+ * the naive loops, so the results are identical to the ones of the EJML kernels used before.
+ */
 public final class DoubleMatrixOperations {
 
+    // 128 KiB of doubles, which leaves room for the rows of the other operand and the result in L2
+    static final int TILE_SIZE_IN_DOUBLES = 16 * 1024;
+
+    /**
+     * c = a * b
+     */
+    public static void mult(Matrix a, Matrix b, Matrix c) {
+        validate(a, b, c);
+        checkDimensions(a.cols() == b.rows(), c.rows() == a.rows() && c.cols() == b.cols(), a, b, c, "a * b");
+
+        multRows(a.data(), b.data(), c.data(), a.cols(), c.cols(), 0, c.rows());
+    }
+
+    /**
+     * c = a * b^T
+     */
+    public static void multTransB(Matrix a, Matrix b, Matrix c) {
+        validate(a, b, c);
+        checkDimensions(a.cols() == b.cols(), c.rows() == a.rows() && c.cols() == b.rows(), a, b, c, "a * b^T");
+
+        multTransBRows(a.data(), b.data(), c.data(), a.cols(), c.cols(), 0, c.rows());
+    }
+
+    /**
+     * c = a^T * b
+     */
+    public static void multTransA(Matrix a, Matrix b, Matrix c) {
+        validate(a, b, c);
+        checkDimensions(a.rows() == b.rows(), c.rows() == a.cols() && c.cols() == b.cols(), a, b, c, "a^T * b");
+
+        multTransARows(a.data(), b.data(), c.data(), a.rows(), c.rows(), c.cols(), 0, c.rows());
+    }
+
     /**
      * Modified version of Ejml implementation.
      *
@@ -75,5 +120,166 @@ public final class DoubleMatrixOperations {
         }
     }
 
+    // c[i, j] = sum_k a[i, k] * b[k, j]
+    // Tiles of k are kept in cache, each row of b within the tile is applied to two rows of c at once.
+    private static void multRows(double[] a, double[] b, double[] c, int innerSize, int cols, int startRow, int endRow) {
+        Arrays.fill(c, startRow * cols, endRow * cols, 0D);
+        int tileRows = Math.max(1, TILE_SIZE_IN_DOUBLES / Math.max(1, cols));
+
+        for (int tileStart = 0; tileStart < innerSize; tileStart += tileRows) {
+            int tileEnd = Math.min(innerSize, tileStart + tileRows);
+            int row = startRow;
+            for (; row + 1 < endRow; row += 2) {
+                int aOffset0 = row * innerSize;
+                int aOffset1 = aOffset0 + innerSize;
+                int cOffset0 = row * cols;
+                int cOffset1 = cOffset0 + cols;
+                for (int k = tileStart; k < tileEnd; k++) {
+                    double a0 = a[aOffset0 + k];
+                    double a1 = a[aOffset1 + k];
+                    int bOffset = k * cols;
+                    for (int col = 0; col < cols; col++) {
+                        double bValue = b[bOffset + col];
+                        c[cOffset0 + col] += a0 * bValue;
+                        c[cOffset1 + col] += a1 * bValue;
+                    }
+                }
+            }
+            if (row < endRow) {
+                int aOffset = row * innerSize;
+                int cOffset = row * cols;
+                for (int k = tileStart; k < tileEnd; k++) {
+                    double aValue = a[aOffset + k];
+                    int bOffset = k * cols;
+                    for (int col = 0; col < cols; col++) {
+                        c[cOffset + col] += aValue * b[bOffset + col];
+                    }
+                }
+            }
+        }
+    }
+
+    // c[i, j] = sum_k a[i, k] * b[j, k]
+    // Tiles of rows of b are kept in cache, each of them is multiplied with four rows of a at once.
+    private static void multTransBRows(double[] a, double[] b, double[] c, int innerSize, int cols, int startRow, int endRow) {
+        int tileRows = Math.max(1, TILE_SIZE_IN_DOUBLES / Math.max(1, innerSize));
+
+        for (int tileStart = 0; tileStart < cols; tileStart += tileRows) {
+            int tileEnd = Math.min(cols, tileStart + tileRows);
+            int row = startRow;
+            for (; row + 3 < endRow; row += 4) {
+                int aOffset0 = row * innerSize;
+                int aOffset1 = aOffset0 + innerSize;
+                int aOffset2 = aOffset1 + innerSize;
+                int aOffset3 = aOffset2 + innerSize;
+                for (int col = tileStart; col < tileEnd; col++) {
+                    int bOffset = col * innerSize;
+                    double sum0 = 0;
+                    double sum1 = 0;
+                    double sum2 = 0;
+                    double sum3 = 0;
+                    for (int k = 0; k < innerSize; k++) {
+                        double bValue = b[bOffset + k];
+                        sum0 += a[aOffset0 + k] * bValue;
+                        sum1 += a[aOffset1 + k] * bValue;
+                        sum2 += a[aOffset2 + k] * bValue;
+                        sum3 += a[aOffset3 + k] * bValue;
+                    }
+                    c[row * cols + col] = sum0;
+                    c[(row + 1) * cols + col] = sum1;
+                    c[(row + 2) * cols + col] = sum2;
+                    c[(row + 3) * cols + col] = sum3;
+                }
+            }
+            for (; row < endRow; row++) {
+                int aOffset = row * innerSize;
+                for (int col = tileStart; col < tileEnd; col++) {
+                    int bOffset = col * innerSize;
+                    double sum = 0;
+                    for (int k = 0; k < innerSize; k++) {
+                        sum += a[aOffset + k] * b[bOffset + k];
+                    }
+                    c[row * cols + col] = sum;
+                }
+            }
+        }
+    }
+
+    // c[i, j] = sum_k a[k, i] * b[k, j]
+    // Same as multRows, but a is read column-wise.
+    private static void multTransARows(
+        double[] a,
+        double[] b,
+        double[] c,
+        int innerSize,
+        int rows,
+        int cols,
+        int startRow,
+        int endRow
+    ) {
+        Arrays.fill(c, startRow * cols, endRow * cols, 0D);
+        int tileRows = Math.max(1, TILE_SIZE_IN_DOUBLES / Math.max(1, cols));
+
+        for (int tileStart = 0; tileStart < innerSize; tileStart += tileRows) {
+            int tileEnd = Math.min(innerSize, tileStart + tileRows);
+            int row = startRow;
+            for (; row + 1 < endRow; row += 2) {
+                int cOffset0 = row * cols;
+                int cOffset1 = cOffset0 + cols;
+                for (int k = tileStart; k < tileEnd; k++) {
+                    double a0 = a[k * rows + row];
+                    double a1 = a[k * rows + row + 1];
+                    int bOffset = k * cols;
+                    for (int col = 0; col < cols; col++) {
+                        double bValue = b[bOffset + col];
+                        c[cOffset0 + col] += a0 * bValue;
+                        c[cOffset1 + col] += a1 * bValue;
+                    }
+                }
+            }
+            if (row < endRow) {
+                int cOffset = row * cols;
+                for (int k = tileStart; k < tileEnd; k++) {
+                    double aValue = a[k * rows + row];
+                    int bOffset = k * cols;
+                    for (int col = 0; col < cols; col++) {
+                        c[cOffset + col] += aValue * b[bOffset + col];
+                    }
+                }
+            }
+        }
+    }
+
+    private static void validate(Matrix a, Matrix b, Matrix c) {
+        if (a == c || b == c) {
+            throw new IllegalArgumentException("Neither 'a' or 'b' can be the same matrix as 'c'");
+        }
+    }
+
+    private static void checkDimensions(
+        boolean compatibleOperands,
+        boolean compatibleResult,
+        Matrix a,
+        Matrix b,
+        Matrix c,
+        String operation
+    ) {
+        if (!compatibleOperands) {
+            throw new MatrixDimensionException(formatWithLocale(
+                "The 'a' and 'b' matrices do not have compatible dimensions for `%s`. Got %s and %s.",
+                operation,
+                a.shortDescription(),
+                b.shortDescription()
+            ));
+        }
+        if (!compatibleResult) {
+            throw new MatrixDimensionException(formatWithLocale(
+                "The matrix 'c' does not have compatible dimensions for `%s`. Got %s.",
+                operation,
+                c.shortDescription()
+            ));
+        }
+    }
+
     private DoubleMatrixOperations() {}
 }
@@ -41,6 +41,31 @@ public final class FloatVectorOperations {
         }
     }
 
+    /**
+     * Inner product of the {@code length} values starting at the given offsets.
+     * Four independent partial sums allow the JIT to overlap the multiplications.
+     */
+    public static float innerProduct(float[] lhs, int lhsOffset, float[] rhs, int rhsOffset, int length) {
+        float sum0 = 0;
+        float sum1 = 0;
+        float sum2 = 0;
+        float sum3 = 0;
+
+        int unrolledLength = length & ~3;
+        int i = 0;
+        for (; i < unrolledLength; i += 4) {
+            sum0 += lhs[lhsOffset + i] * rhs[rhsOffset + i];
+            sum1 += lhs[lhsOffset + i + 1] * rhs[rhsOffset + i + 1];
+            sum2 += lhs[lhsOffset + i + 2] * rhs[rhsOffset + i + 2];
+            sum3 += lhs[lhsOffset + i + 3] * rhs[rhsOffset + i + 3];
+        }
+        for (; i < length; i++) {
+            sum0 += lhs[lhsOffset + i] * rhs[rhsOffset + i];
+        }
+
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+
     public static void scale(float[] lhs, float scalar) {
         scale(lhs, scalar, lhs);
     }
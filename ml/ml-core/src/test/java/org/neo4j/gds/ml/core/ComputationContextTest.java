@@ -23,8 +23,13 @@ import org.junit.jupiter.api.Test;
 import org.neo4j.gds.ml.core.functions.Constant;
 import org.neo4j.gds.ml.core.functions.ConstantScale;
 import org.neo4j.gds.ml.core.functions.ElementSum;
+import org.neo4j.gds.ml.core.functions.MatrixMultiplyWithTransposedSecondOperand;
+import org.neo4j.gds.ml.core.functions.MatrixVectorSum;
+import org.neo4j.gds.ml.core.functions.Relu;
 import org.neo4j.gds.ml.core.functions.Weights;
+import org.neo4j.gds.ml.core.tensor.Matrix;
 import org.neo4j.gds.ml.core.tensor.Scalar;
+import org.neo4j.gds.ml.core.tensor.Vector;
 
 import java.util.List;
 
@@ -81,4 +86,58 @@ public class ComputationContextTest {
                 "\t data: Scalar: [12.0]" + System.lineSeparator() +
                 "\t gradient: Scalar: [1.0]" + System.lineSeparator());
     }
+
+    @Test
+    void reusesBuffersAfterReset() {
+        var ctx = ComputationContext.reusingBuffers();
+
+        var matrix = ctx.matrix(2, 3);
+        var vector = ctx.vector(3);
+        matrix.setDataAt(0, 42);
+        vector.setDataAt(1, 1337);
+
+        ctx.reset();
+
+        var reusedMatrix = ctx.matrix(2, 3);
+        var reusedVector = ctx.vector(3);
+        assertThat(reusedMatrix).isSameAs(matrix);
+        assertThat(reusedVector).isSameAs(vector);
+        assertThat(reusedMatrix.data()).containsOnly(0D);
+        assertThat(reusedVector.data()).containsOnly(0D);
+        assertThat(ctx.matrix(3, 2)).isNotSameAs(matrix);
+    }
+
+    @Test
+    void doesNotReuseBuffersByDefault() {
+        var ctx = new ComputationContext();
+
+        var matrix = ctx.matrix(2, 3);
+        ctx.reset();
+
+        assertThat(ctx.matrix(2, 3)).isNotSameAs(matrix);
+    }
+
+    @Test
+    void sameGradientsWhenReusingBuffers() {
+        var weights = new Weights<>(new Matrix(new double[]{1, -2, 3, -4, 5, -6}, 2, 3));
+        var bias = new Weights<>(new Vector(0.5, -0.5));
+
+        var reusingCtx = ComputationContext.reusingBuffers();
+        for (int batch = 0; batch < 3; batch++) {
+            var features = Constant.matrix(new double[]{batch, 1, 2, 3, 4, batch, 6, 7, 8}, 3, 3);
+            var loss = new ElementSum(List.of(new Relu<>(new MatrixVectorSum(
+                MatrixMultiplyWithTransposedSecondOperand.of(features, weights),
+                bias
+            ))));
+
+            var ctx = new ComputationContext();
+            assertThat(reusingCtx.forward(loss)).isEqualTo(ctx.forward(loss));
+            reusingCtx.backward(loss);
+            ctx.backward(loss);
+            assertThat(reusingCtx.gradient(weights)).isEqualTo(ctx.gradient(weights));
+            assertThat(reusingCtx.gradient(bias)).isEqualTo(ctx.gradient(bias));
+
+            reusingCtx.reset();
+        }
+    }
 }
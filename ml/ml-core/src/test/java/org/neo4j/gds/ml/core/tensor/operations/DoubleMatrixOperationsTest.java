@@ -19,14 +19,23 @@
  */
 package org.neo4j.gds.ml.core.tensor.operations;
 
+import org.ejml.MatrixDimensionException;
+import org.ejml.data.DMatrixRMaj;
 import org.ejml.dense.row.mult.MatrixMatrixMult_DDRM;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
 import org.neo4j.gds.ml.core.tensor.Matrix;
 
 import java.util.Arrays;
+import java.util.SplittableRandom;
 import java.util.function.IntPredicate;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 class DoubleMatrixOperationsTest {
 
@@ -54,4 +63,85 @@ class DoubleMatrixOperationsTest {
         }
     }
 
+    static Stream<Arguments> shapes() {
+        return Stream.of(
+            // rows, inner, cols
+            arguments(1, 1, 1),
+            arguments(7, 5, 3),
+            arguments(33, 17, 65),
+            arguments(101, 64, 3),
+            arguments(100, 300, 129),
+            arguments(3, 20_000, 2),
+            arguments(513, 257, 257),
+            arguments(5, 257, 257)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("shapes")
+    void mult(int rows, int inner, int cols) {
+        var random = new SplittableRandom(rows * 31L + inner);
+        var a = randomMatrix(random, rows, inner);
+        var b = randomMatrix(random, inner, cols);
+        var c = Matrix.create(42, rows, cols);
+
+        DoubleMatrixOperations.mult(a, b, c);
+
+        var expected = new DMatrixRMaj(rows, cols);
+        MatrixMatrixMult_DDRM.mult_reorder(a.toEjml(), b.toEjml(), expected);
+        assertThat(c.data()).containsExactly(expected.data);
+    }
+
+    @ParameterizedTest
+    @MethodSource("shapes")
+    void multTransB(int rows, int inner, int cols) {
+        var random = new SplittableRandom(rows * 31L + inner);
+        var a = randomMatrix(random, rows, inner);
+        var b = randomMatrix(random, cols, inner);
+        var c = Matrix.create(42, rows, cols);
+
+        DoubleMatrixOperations.multTransB(a, b, c);
+
+        var expected = new DMatrixRMaj(rows, cols);
+        MatrixMatrixMult_DDRM.multTransB(a.toEjml(), b.toEjml(), expected);
+        assertThat(c.data()).containsExactly(expected.data);
+    }
+
+    @ParameterizedTest
+    @MethodSource("shapes")
+    void multTransA(int rows, int inner, int cols) {
+        var random = new SplittableRandom(rows * 31L + inner);
+        var a = randomMatrix(random, inner, rows);
+        var b = randomMatrix(random, inner, cols);
+        var c = Matrix.create(42, rows, cols);
+
+        DoubleMatrixOperations.multTransA(a, b, c);
+
+        var expected = new DMatrixRMaj(rows, cols);
+        MatrixMatrixMult_DDRM.multTransA_reorder(a.toEjml(), b.toEjml(), expected);
+        assertThat(c.data()).containsExactly(expected.data);
+    }
+
+    @Test
+    void failOnIncompatibleDimensions() {
+        var a = new Matrix(2, 3);
+        var b = new Matrix(2, 3);
+
+        assertThatThrownBy(() -> DoubleMatrixOperations.mult(a, b, new Matrix(2, 3)))
+            .isInstanceOf(MatrixDimensionException.class)
+            .hasMessageContaining("Matrix(2, 3) and Matrix(2, 3)");
+
+        assertThatThrownBy(() -> DoubleMatrixOperations.multTransB(a, b, new Matrix(3, 3)))
+            .isInstanceOf(MatrixDimensionException.class)
+            .hasMessageContaining("The matrix 'c' does not have compatible dimensions");
+
+        assertThatThrownBy(() -> DoubleMatrixOperations.multTransA(a, a, a))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Matrix randomMatrix(SplittableRandom random, int rows, int cols) {
+        var data = new double[rows * cols];
+        Arrays.setAll(data, i -> random.nextDouble(-1, 1));
+        return new Matrix(data, rows, cols);
+    }
 }
@@ -98,4 +98,14 @@ class FloatVectorOperationsTest {
         assertThat(FloatVectorOperations.anyMatch(a, v -> v > 5f)).isFalse();
         assertThat(FloatVectorOperations.anyMatch(a, v -> v > 0f)).isTrue();
     }
+
+    @Test
+    void innerProductWithOffsets() {
+        float[] a = {9f, 1f, 2f, 3f, 4f, 5f, 6f};
+        float[] b = {2f, 2f, 2f, 2f, 2f, 0.5f, 9f, 9f};
+
+        assertThat(FloatVectorOperations.innerProduct(a, 1, b, 0, 6)).isEqualTo(2f + 4f + 6f + 8f + 10f + 3f);
+        assertThat(FloatVectorOperations.innerProduct(a, 0, b, 6, 2)).isEqualTo(81f + 9f);
+        assertThat(FloatVectorOperations.innerProduct(a, 0, b, 0, 0)).isEqualTo(0f);
+    }
 }
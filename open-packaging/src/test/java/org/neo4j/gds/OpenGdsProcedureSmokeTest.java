@@ -100,6 +100,10 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         "gds.alpha.knn.filtered.stream",
         "gds.alpha.knn.filtered.write",
 
+        "gds.alpha.hnsw.build",
+        "gds.alpha.hnsw.build.estimate",
+        "gds.alpha.hnsw.query",
+
         "gds.alpha.maxkcut.mutate",
         "gds.alpha.maxkcut.mutate.estimate",
         "gds.alpha.maxkcut.stream",
@@ -560,7 +564,7 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         );
 
         // If you find yourself updating this count, please also update the count in SmokeTest.kt
-        int expectedCount = 405;
+        int expectedCount = 408;
         assertEquals(
             expectedCount,
             returnedRows,
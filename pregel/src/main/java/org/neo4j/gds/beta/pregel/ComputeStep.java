@@ -74,6 +74,7 @@ public interface ComputeStep<
                 computeFunction().compute(computeContext, messages);
             }
         });
+        computeContext.flushMessages();
         progressTracker().logProgress(nodeBatch.nodeCount());
     }
 
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.beta.pregel.context.ComputeContext;
+import org.neo4j.gds.beta.pregel.context.InitContext;
+
+import java.util.Optional;
+
+/**
+ * A computation in delta-accumulative form, as used by Maiter.
+ * <p>
+ * Every node keeps a value and accumulates incoming deltas into it.
+ * Only if that changes the value by more than the {@link #tolerance(PregelConfig) tolerance},
+ * the node sends a derived delta to its neighbors; otherwise it votes to halt.
+ * Deltas that are sent to the same node are merged by the {@link #reducer() reducer},
+ * which must therefore agree with {@link #accumulate(double, double)}.
+ * <p>
+ * Since every delta is consumed exactly once and accumulation does not depend on the order
+ * of deltas, these computations are well suited to {@link PregelConfig#reduceAsynchronously() reduce asynchronously},
+ * where deltas sent in a superstep are already consumed by nodes computed later in the same superstep.
+ * <p>
+ * Example (PageRank): the initial value is {@code 0}, the initial delta is {@code 1 - dampingFactor},
+ * values are accumulated by summing up and a node sends {@code dampingFactor * delta / degree}.
+ */
+public interface DeltaAccumulativeComputation<C extends PregelConfig> extends PregelComputation<C> {
+
+    String VALUE = "value";
+    String DELTA = "delta";
+
+    /**
+     * The value of the node before any delta has been accumulated.
+     */
+    double initialValue(InitContext<C> context);
+
+    /**
+     * The delta that is accumulated by the node in the initial superstep.
+     */
+    double initialDelta(InitContext<C> context);
+
+    /**
+     * The delta that is sent to all neighbors after the node accumulated the given delta.
+     */
+    double propagate(ComputeContext<C> context, double delta);
+
+    /**
+     * Merges a delta into the current value of a node.
+     * The default sums up deltas and matches the default {@link #reducer()}.
+     */
+    default double accumulate(double value, double delta) {
+        return value + delta;
+    }
+
+    /**
+     * Changes of a node value that are not larger than the tolerance are not propagated.
+     */
+    default double tolerance(C config) {
+        return 0D;
+    }
+
+    @Override
+    default Optional<Reducer> reducer() {
+        return Optional.of(new Reducer.Sum());
+    }
+
+    @Override
+    default PregelSchema schema(C config) {
+        return new PregelSchema.Builder()
+            .add(VALUE, ValueType.DOUBLE)
+            .add(DELTA, ValueType.DOUBLE, PregelSchema.Visibility.PRIVATE)
+            .build();
+    }
+
+    @Override
+    default void init(InitContext<C> context) {
+        context.setNodeValue(VALUE, initialValue(context));
+        context.setNodeValue(DELTA, initialDelta(context));
+    }
+
+    @Override
+    default void compute(ComputeContext<C> context, Messages messages) {
+        double delta;
+        if (context.isInitialSuperstep()) {
+            delta = context.doubleNodeValue(DELTA);
+        } else {
+            var iterator = messages.doubleIterator();
+            if (!iterator.hasNext()) {
+                context.voteToHalt();
+                return;
+            }
+            delta = iterator.nextDouble();
+        }
+
+        double value = context.doubleNodeValue(VALUE);
+        double nextValue = accumulate(value, delta);
+        context.setNodeValue(VALUE, nextValue);
+
+        // negated comparison, so that a change from or to an infinite value is propagated
+        if (nextValue != value && !(Math.abs(nextValue - value) <= tolerance(context.config()))) {
+            context.sendToNeighbors(propagate(context, delta));
+        }
+        context.voteToHalt();
+    }
+}
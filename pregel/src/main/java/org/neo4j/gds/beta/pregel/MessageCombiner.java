@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import com.carrotsearch.hppc.BitMixer;
+
+import java.util.Arrays;
+
+/**
+ * Pre-reduces messages sent from a single compute task in a small direct-mapped cache.
+ * Messages to frequent targets, i.e. nodes with many incoming relationships, are merged
+ * locally and reach the {@link ReducingMessenger} once per eviction or flush, instead of
+ * once per message. Every message is delivered before the end of the superstep via {@link #flush()}.
+ */
+public final class MessageCombiner {
+
+    private static final int CAPACITY = 1 << 10;
+    private static final int MASK = CAPACITY - 1;
+    private static final long EMPTY = -1L;
+
+    private final ReducingMessenger messenger;
+    private final Reducer reducer;
+    private final long[] targets;
+    private final double[] values;
+
+    MessageCombiner(ReducingMessenger messenger, Reducer reducer) {
+        this.messenger = messenger;
+        this.reducer = reducer;
+        this.targets = new long[CAPACITY];
+        this.values = new double[CAPACITY];
+        Arrays.fill(targets, EMPTY);
+    }
+
+    public void send(long targetNodeId, double message) {
+        int slot = (int) (BitMixer.mixPhi(targetNodeId) & MASK);
+        long current = targets[slot];
+        if (current == targetNodeId) {
+            values[slot] = reducer.reduce(values[slot], message);
+            return;
+        }
+        if (current != EMPTY) {
+            messenger.sendCombined(current, values[slot]);
+        }
+        targets[slot] = targetNodeId;
+        values[slot] = reducer.reduce(reducer.identity(), message);
+    }
+
+    public void flush() {
+        for (int slot = 0; slot < CAPACITY; slot++) {
+            if (targets[slot] != EMPTY) {
+                messenger.sendCombined(targets[slot], values[slot]);
+                targets[slot] = EMPTY;
+            }
+        }
+    }
+}
@@ -42,6 +42,16 @@ public interface PregelConfig extends
         return false;
     }
 
+    /**
+     * Computations with a {@link Reducer} ignore {@link #isAsynchronous()}.
+     * If this flag is set, they instead reduce messages into a single array that is also read from,
+     * so that a message is visible to its target as soon as it has been sent.
+     */
+    @Value.Default
+    default boolean reduceAsynchronously() {
+        return false;
+    }
+
     @Value.Default
     @Configuration.ConvertWith(method = "org.neo4j.gds.beta.pregel.Partitioning#parse")
     @Configuration.ToMapValue("org.neo4j.gds.beta.pregel.Partitioning#toString")
@@ -49,6 +59,20 @@ public interface PregelConfig extends
         return Partitioning.RANGE;
     }
 
+    /**
+     * Nodes with more relationships than this threshold are treated as hubs.
+     * With {@link Partitioning#AUTO}, messages a hub sends to all its neighbors are split into
+     * sub-tasks of at most this many targets. When a {@link Reducer} is used, messages are
+     * additionally pre-combined within each compute task before they are delivered,
+     * which avoids contention on nodes that receive many messages.
+     * A value of {@code 0} disables both.
+     */
+    @Value.Default
+    @Configuration.IntegerRange(min = 0)
+    default int hubDegreeThreshold() {
+        return 0;
+    }
+
     @Value.Derived
     @Configuration.Ignore
     default boolean useForkJoin() {
@@ -31,6 +31,17 @@ public interface Reducer {
      */
     double reduce(double current, double message);
 
+    /**
+     * Merges two partially reduced values. This is used when messages
+     * to the same target are pre-combined before they are delivered,
+     * see {@link PregelConfig#hubDegreeThreshold()}.
+     * Reducers that do not fold the message value itself into the
+     * current value need to override this method.
+     */
+    default double combine(double left, double right) {
+        return reduce(left, right);
+    }
+
     class Sum implements Reducer {
 
         @Override
@@ -82,5 +93,10 @@ public interface Reducer {
         public double reduce(double current, double message) {
             return current + 1;
         }
+
+        @Override
+        public double combine(double left, double right) {
+            return left + right;
+        }
     }
 }
@@ -32,12 +32,18 @@ import org.neo4j.gds.core.utils.paged.ParallelDoublePageCreator;
  * to send and receive messages. The messenger can only be applied in
  * combination with a {@link Reducer}
  * which atomically reduces all incoming messages into a single one.
+ * <p>
+ * If {@link PregelConfig#reduceAsynchronously()} is set,
+ * a single array is used for sending and receiving. A message is then
+ * visible to its target as soon as it is sent, so nodes that are computed
+ * later in the same superstep already consume it.
  */
 public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMessageIterator> {
 
     private final Graph graph;
     private final PregelConfig config;
     private final Reducer reducer;
+    private final boolean isAsynchronous;
 
     private HugeAtomicDoubleArray sendArray;
     private HugeAtomicDoubleArray receiveArray;
@@ -49,24 +55,42 @@ public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMess
         this.config = config;
         this.reducer = reducer;
 
-        this.receiveArray = HugeAtomicDoubleArray.of(graph.nodeCount(), ParallelDoublePageCreator.passThrough(config.concurrency()));
+        this.isAsynchronous = config.reduceAsynchronously();
+
         this.sendArray = HugeAtomicDoubleArray.of(graph.nodeCount(), ParallelDoublePageCreator.passThrough(config.concurrency()));
+        this.receiveArray = isAsynchronous
+            ? sendArray
+            : HugeAtomicDoubleArray.of(graph.nodeCount(), ParallelDoublePageCreator.passThrough(config.concurrency()));
     }
 
-    static MemoryEstimation memoryEstimation() {
-        return MemoryEstimations.builder(ReducingMessenger.class)
-            .perNode("send array", HugeAtomicDoubleArray::memoryEstimation)
-            .perNode("receive array", HugeAtomicDoubleArray::memoryEstimation)
-            .build();
+    static MemoryEstimation memoryEstimation(boolean isAsync) {
+        var builder = MemoryEstimations.builder(ReducingMessenger.class)
+            .perNode("send array", HugeAtomicDoubleArray::memoryEstimation);
+        if (!isAsync) {
+            builder.perNode("receive array", HugeAtomicDoubleArray::memoryEstimation);
+        }
+        return builder.build();
     }
 
     @Override
     public void initIteration(int iteration) {
+        if (isAsynchronous) {
+            // Messages stay in place across supersteps, they are only reset once.
+            if (iteration == 0) {
+                resetSendArray();
+            }
+            return;
+        }
+
         // Swap arrays
         var tmp = receiveArray;
         this.receiveArray = sendArray;
         this.sendArray = tmp;
 
+        resetSendArray();
+    }
+
+    private void resetSendArray() {
         int concurrency = config.concurrency();
         ParallelUtil.parallelForEachNode(
             graph.nodeCount(),
@@ -84,6 +108,24 @@ public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMess
         );
     }
 
+    /**
+     * Delivers a value which has already been reduced from several messages.
+     */
+    void sendCombined(long targetNodeId, double combinedMessage) {
+        sendArray.update(
+            targetNodeId,
+            current -> reducer.combine(current, combinedMessage)
+        );
+    }
+
+    /**
+     * Creates a combiner that pre-reduces messages before they are delivered to this messenger.
+     * A combiner must only be used by a single thread.
+     */
+    public MessageCombiner newCombiner() {
+        return new MessageCombiner(this, reducer);
+    }
+
     @Override
     public ReducingMessenger.SingleMessageIterator messageIterator() {
         return new SingleMessageIterator();
@@ -95,6 +137,12 @@ public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMess
         long nodeId,
         boolean isInitialIteration
     ) {
+        if (isAsynchronous && isInitialIteration) {
+            // Messages sent during the initial superstep are kept for the next one,
+            // as they would be with separate send and receive arrays.
+            messageIterator.init(reducer.identity(), false);
+            return;
+        }
         var message = receiveArray.getAndReplace(nodeId, reducer.identity());
         messageIterator.init(message, message != reducer.identity());
     }
@@ -102,7 +150,9 @@ public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMess
     @Override
     public void release() {
         sendArray.release();
-        receiveArray.release();
+        if (!isAsynchronous) {
+            receiveArray.release();
+        }
     }
 
     static class SingleMessageIterator implements Messages.MessageIterator {
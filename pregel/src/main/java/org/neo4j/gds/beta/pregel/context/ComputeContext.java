@@ -21,15 +21,22 @@ package org.neo4j.gds.beta.pregel.context;
 
 import org.apache.commons.lang3.mutable.MutableBoolean;
 import org.apache.commons.lang3.mutable.MutableInt;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.beta.pregel.BasePregelComputation;
+import org.neo4j.gds.beta.pregel.MessageCombiner;
 import org.neo4j.gds.beta.pregel.Messenger;
 import org.neo4j.gds.beta.pregel.NodeValue;
 import org.neo4j.gds.beta.pregel.PregelConfig;
+import org.neo4j.gds.beta.pregel.ReducingMessenger;
 import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * A context that is used during the computation. It allows an implementation
@@ -38,11 +45,18 @@ import java.util.Optional;
  */
 public class ComputeContext<CONFIG extends PregelConfig> extends NodeCentricContext<CONFIG> {
 
+    private static final int TARGET_BUFFER_SIZE = 64;
+
     private final HugeAtomicBitSet voteBits;
 
     private final Messenger<?> messenger;
     private final MutableInt iteration;
     private final MutableBoolean hasSendMessage;
+    private final long[] targetBuffer;
+    private final int hubDegreeThreshold;
+    private final boolean splitHubFanOut;
+    private final boolean combineMessages;
+    private @Nullable MessageCombiner messageCombiner;
 
     protected BasePregelComputation<CONFIG> computation;
 
@@ -64,6 +78,10 @@ public class ComputeContext<CONFIG extends PregelConfig> extends NodeCentricCont
         this.voteBits = voteBits;
         this.iteration = iteration;
         this.hasSendMessage = hasSendMessage.orElse(new MutableBoolean(false));
+        this.targetBuffer = new long[TARGET_BUFFER_SIZE];
+        this.hubDegreeThreshold = config.hubDegreeThreshold();
+        this.splitHubFanOut = hubDegreeThreshold > 0 && config.useForkJoin();
+        this.combineMessages = hubDegreeThreshold > 0 && messenger instanceof ReducingMessenger;
     }
 
     private final SendMessagesFunction sendMessagesFunction;
@@ -153,18 +171,63 @@ public class ComputeContext<CONFIG extends PregelConfig> extends NodeCentricCont
      * @throws ArrayIndexOutOfBoundsException if the node is in the not in id space
      */
     public void sendTo(long targetNodeId, double message) {
-        messenger.sendTo(targetNodeId, message);
+        if (combineMessages) {
+            if (messageCombiner == null) {
+                messageCombiner = ((ReducingMessenger) messenger).newCombiner();
+            }
+            messageCombiner.send(targetNodeId, message);
+        } else {
+            messenger.sendTo(targetNodeId, message);
+        }
         this.hasSendMessage.setValue(true);
     }
 
+    /**
+     * Delivers messages which have been pre-combined by this context.
+     * Called by the framework at the end of each compute batch.
+     */
+    public void flushMessages() {
+        if (messageCombiner != null) {
+            messageCombiner.flush();
+        }
+    }
+
+    private boolean isHub(long nodeId) {
+        return splitHubFanOut && ForkJoinTask.inForkJoinPool() && graph.degree(nodeId) > hubDegreeThreshold;
+    }
+
     private void sendToNeighbors(long sourceNodeId, double message) {
-        graph.forEachRelationship(sourceNodeId, (ignored, targetNodeId) -> {
-            sendTo(targetNodeId, message);
+        if (isHub(sourceNodeId)) {
+            var fanOut = new FanOut(messenger, hubDegreeThreshold);
+            graph.forEachRelationshipBlock(sourceNodeId, targetBuffer, (ignored, targetNodeIds, length) -> {
+                for (int i = 0; i < length; i++) {
+                    fanOut.add(targetNodeIds[i], message);
+                }
+                return true;
+            });
+            fanOut.join();
+            this.hasSendMessage.setValue(true);
+            return;
+        }
+        graph.forEachRelationshipBlock(sourceNodeId, targetBuffer, (ignored, targetNodeIds, length) -> {
+            for (int i = 0; i < length; i++) {
+                sendTo(targetNodeIds[i], message);
+            }
             return true;
         });
     }
 
     private void sendToNeighborsWeighted(long sourceNodeId, double message) {
+        if (isHub(sourceNodeId)) {
+            var fanOut = new FanOut(messenger, hubDegreeThreshold);
+            graph.forEachRelationship(sourceNodeId, 1.0, (ignored, targetNodeId, weight) -> {
+                fanOut.add(targetNodeId, computation.applyRelationshipWeight(message, weight));
+                return true;
+            });
+            fanOut.join();
+            this.hasSendMessage.setValue(true);
+            return;
+        }
         graph.forEachRelationship(sourceNodeId, 1.0, (ignored, targetNodeId, weight) -> {
             sendTo(targetNodeId, computation.applyRelationshipWeight(message, weight));
             return true;
@@ -180,6 +243,71 @@ public class ComputeContext<CONFIG extends PregelConfig> extends NodeCentricCont
         void sendToNeighbors(long sourceNodeId, double message);
     }
 
+    /**
+     * Splits the messages of a hub node into chunks which are delivered by forked sub-tasks,
+     * so that idle workers of the fork-join pool can take over parts of the fan-out.
+     */
+    private static final class FanOut {
+
+        private final Messenger<?> messenger;
+        private final int chunkSize;
+        private final List<FanOutTask> forkedTasks;
+
+        private long[] targets;
+        private double[] messages;
+        private int length;
+
+        FanOut(Messenger<?> messenger, int chunkSize) {
+            this.messenger = messenger;
+            this.chunkSize = chunkSize;
+            this.forkedTasks = new ArrayList<>();
+            this.targets = new long[chunkSize];
+            this.messages = new double[chunkSize];
+        }
+
+        void add(long targetNodeId, double message) {
+            targets[length] = targetNodeId;
+            messages[length] = message;
+            if (++length == chunkSize) {
+                var task = new FanOutTask(messenger, targets, messages, length);
+                task.fork();
+                forkedTasks.add(task);
+                this.targets = new long[chunkSize];
+                this.messages = new double[chunkSize];
+                this.length = 0;
+            }
+        }
+
+        void join() {
+            new FanOutTask(messenger, targets, messages, length).compute();
+            for (int i = forkedTasks.size() - 1; i >= 0; i--) {
+                forkedTasks.get(i).join();
+            }
+        }
+    }
+
+    private static final class FanOutTask extends RecursiveAction {
+
+        private final Messenger<?> messenger;
+        private final long[] targets;
+        private final double[] messages;
+        private final int length;
+
+        FanOutTask(Messenger<?> messenger, long[] targets, double[] messages, int length) {
+            this.messenger = messenger;
+            this.targets = targets;
+            this.messages = messages;
+            this.length = length;
+        }
+
+        @Override
+        protected void compute() {
+            for (int i = 0; i < length; i++) {
+                messenger.sendTo(targets[i], messages[i]);
+            }
+        }
+    }
+
     public static final class BidirectionalComputeContext<CONFIG extends PregelConfig> extends ComputeContext<CONFIG> implements BidirectionalNodeCentricContext {
 
         private final SendMessagesIncomingFunction sendMessagesIncomingFunction;
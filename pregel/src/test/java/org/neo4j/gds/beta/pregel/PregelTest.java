@@ -41,6 +41,7 @@ import org.neo4j.gds.beta.pregel.context.ComputeContext;
 import org.neo4j.gds.beta.pregel.context.ComputeContext.BidirectionalComputeContext;
 import org.neo4j.gds.beta.pregel.context.InitContext;
 import org.neo4j.gds.beta.pregel.context.MasterComputeContext;
+import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.TestLog;
 import org.neo4j.gds.core.ImmutableGraphDimensions;
@@ -66,6 +67,7 @@ import java.util.stream.StreamSupport;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -274,6 +276,154 @@ class PregelTest {
         }
     }
 
+    @ParameterizedTest
+    @EnumSource(Partitioning.class)
+    void hubSplittingShouldNotChangeResults(Partitioning partitioning) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(10)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var configBuilder = ImmutablePregelConfig.builder()
+            .maxIterations(10)
+            .partitioning(partitioning)
+            .concurrency(4);
+
+        var regularConfig = configBuilder.build();
+        var hubConfig = configBuilder.hubDegreeThreshold(8).build();
+
+        var expected = run(graph, regularConfig, new TestPregelComputation());
+        var hubSplit = run(graph, hubConfig, new TestPregelComputation());
+        var hubSplitReduce = run(graph, hubConfig, new TestReduciblePregelComputation());
+        var hubSplitCount = run(graph, hubConfig, new TestCountingPregelComputation());
+
+        for (int nodeId = 0; nodeId < expected.size(); nodeId++) {
+            assertThat(hubSplit.get(nodeId)).as("node %d", nodeId).isEqualTo(expected.get(nodeId));
+            assertThat(hubSplitReduce.get(nodeId)).as("node %d", nodeId).isEqualTo(expected.get(nodeId));
+            assertThat(hubSplitCount.get(nodeId)).as("node %d", nodeId).isEqualTo(expected.get(nodeId));
+        }
+    }
+
+    @Test
+    void asynchronousDeltaPageRankShouldMatchSynchronous() {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(10)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var configBuilder = ImmutablePregelConfig.builder().maxIterations(500).concurrency(4);
+
+        var sync = Pregel.create(
+            graph,
+            configBuilder.reduceAsynchronously(false).build(),
+            new TestDeltaPageRank(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ).run();
+        var async = Pregel.create(
+            graph,
+            configBuilder.reduceAsynchronously(true).build(),
+            new TestDeltaPageRank(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ).run();
+
+        assertThat(sync.didConverge()).isTrue();
+        assertThat(async.didConverge()).isTrue();
+
+        var expected = sync.nodeValues().doubleProperties(DeltaAccumulativeComputation.VALUE);
+        var actual = async.nodeValues().doubleProperties(DeltaAccumulativeComputation.VALUE);
+        for (int nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertThat(actual.get(nodeId)).as("node %d", nodeId).isCloseTo(expected.get(nodeId), within(1e-3));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(Partitioning.class)
+    void asynchronousDeltaMinLabelShouldNeedNoMoreSupersteps(Partitioning partitioning) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(3)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var configBuilder = ImmutablePregelConfig.builder()
+            .maxIterations(1000)
+            .partitioning(partitioning)
+            .concurrency(4);
+
+        var sync = Pregel.create(
+            graph,
+            configBuilder.reduceAsynchronously(false).build(),
+            new TestDeltaMinLabel(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ).run();
+        var async = Pregel.create(
+            graph,
+            configBuilder.reduceAsynchronously(true).build(),
+            new TestDeltaMinLabel(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ).run();
+
+        assertThat(async.didConverge()).isTrue();
+        assertThat(async.ranIterations()).isLessThanOrEqualTo(sync.ranIterations());
+        assertThat(async.nodeValues().doubleProperties(DeltaAccumulativeComputation.VALUE).toArray())
+            .containsExactly(sync.nodeValues().doubleProperties(DeltaAccumulativeComputation.VALUE).toArray());
+    }
+
+    @Test
+    void asynchronousReducingMessengerUsesSingleArray() {
+        var dimensions = ImmutableGraphDimensions.builder().nodeCount(10_000).build();
+        var schema = new PregelSchema.Builder().add("key", ValueType.LONG).build();
+
+        var sync = Pregel.memoryEstimation(schema, false, true).estimate(dimensions, 1).memoryUsage().max;
+        var async = Pregel.memoryEstimation(schema, false, true, true).estimate(dimensions, 1).memoryUsage().max;
+
+        assertThat(sync - async).isEqualTo(HugeAtomicDoubleArray.memoryEstimation(10_000));
+    }
+
+    @Test
+    void asynchronousFlagShouldNotChangeReducingComputations() {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(3)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var configBuilder = ImmutablePregelConfig.builder().maxIterations(1000).concurrency(4);
+
+        var sync = Pregel.create(
+            graph,
+            configBuilder.isAsynchronous(false).build(),
+            new TestDeltaMinLabel(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ).run();
+        var async = Pregel.create(
+            graph,
+            configBuilder.isAsynchronous(true).build(),
+            new TestDeltaMinLabel(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ).run();
+
+        assertThat(async.ranIterations()).isEqualTo(sync.ranIterations());
+        assertThat(async.nodeValues().doubleProperties(DeltaAccumulativeComputation.VALUE).toArray())
+            .containsExactly(sync.nodeValues().doubleProperties(DeltaAccumulativeComputation.VALUE).toArray());
+    }
+
     @NotNull
     private HugeDoubleArray run(Graph graph, PregelConfig config, PregelComputation<PregelConfig> computation) {
         var pregelJob = Pregel.create(
@@ -673,6 +823,67 @@ class PregelTest {
         }
     }
 
+    public static class TestCountingPregelComputation extends TestPregelComputation {
+
+        @Override
+        public Optional<Reducer> reducer() {
+            return Optional.of(new Reducer.Count());
+        }
+    }
+
+    static class TestDeltaPageRank implements DeltaAccumulativeComputation<PregelConfig> {
+
+        private static final double DAMPING_FACTOR = 0.85;
+
+        @Override
+        public double initialValue(InitContext<PregelConfig> context) {
+            return 0;
+        }
+
+        @Override
+        public double initialDelta(InitContext<PregelConfig> context) {
+            return 1 - DAMPING_FACTOR;
+        }
+
+        @Override
+        public double propagate(ComputeContext<PregelConfig> context, double delta) {
+            return DAMPING_FACTOR * delta / context.degree();
+        }
+
+        @Override
+        public double tolerance(PregelConfig config) {
+            return 1e-9;
+        }
+    }
+
+    static class TestDeltaMinLabel implements DeltaAccumulativeComputation<PregelConfig> {
+
+        @Override
+        public double initialValue(InitContext<PregelConfig> context) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        @Override
+        public double initialDelta(InitContext<PregelConfig> context) {
+            return context.nodeId();
+        }
+
+        @Override
+        public double propagate(ComputeContext<PregelConfig> context, double delta) {
+            return delta;
+        }
+
+        @Override
+        public double accumulate(double value, double delta) {
+            return Math.min(value, delta);
+        }
+
+        @Override
+        public Optional<Reducer> reducer() {
+            return Optional.of(new Reducer.Min());
+        }
+    }
+
     public static class TestWeightComputation extends TestPregelComputation {
 
         @Override
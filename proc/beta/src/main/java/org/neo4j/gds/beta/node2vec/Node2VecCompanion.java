@@ -22,6 +22,7 @@ package org.neo4j.gds.beta.node2vec;
 import org.neo4j.gds.api.properties.nodes.FloatArrayNodePropertyValues;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.core.utils.paged.QuantizedFloatArrayStore;
 import org.neo4j.gds.embeddings.node2vec.Node2Vec;
 import org.neo4j.gds.embeddings.node2vec.Node2VecBaseConfig;
 import org.neo4j.gds.embeddings.node2vec.Node2VecModel;
@@ -41,17 +42,22 @@ final class Node2VecCompanion {
             .map(Node2VecModel.Result::embeddings)
             .orElseGet(() -> HugeObjectArray.newArray(FloatVector.class, 0));
 
-        return new FloatArrayNodePropertyValues() {
-            @Override
-            public long nodeCount() {
-                return nodeCount;
-            }
+        var config = computationResult.config();
+        return QuantizedFloatArrayStore.withPrecision(
+            new FloatArrayNodePropertyValues() {
+                @Override
+                public long nodeCount() {
+                    return nodeCount;
+                }
 
-            @Override
-            public float[] floatArrayValue(long nodeId) {
-                return embeddings.get(nodeId).data();
-            }
-        };
+                @Override
+                public float[] floatArrayValue(long nodeId) {
+                    return embeddings.get(nodeId).data();
+                }
+            },
+            config.embeddingPrecision(),
+            config.concurrency()
+        );
     }
 
     private Node2VecCompanion() {}
@@ -32,6 +32,8 @@ import org.neo4j.gds.embeddings.node2vec.Node2VecStreamConfig;
 import org.neo4j.gds.extension.Neo4jGraph;
 import org.neo4j.graphdb.GraphDatabaseService;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
@@ -79,6 +81,40 @@ class Node2VecStreamProcTest extends BaseProcTest implements AlgoBaseProcTest<No
         });
     }
 
+    @Test
+    void shouldStreamEmbeddingsWithReducedPrecision() {
+        loadGraph(DEFAULT_GRAPH_NAME);
+        var query = GdsCypher.call(DEFAULT_GRAPH_NAME)
+            .algo("gds.beta.node2vec")
+            .streamMode()
+            .addParameter("embeddingDimension", 16)
+            .addParameter("embeddingPrecision", "int8")
+            .yields();
+
+        var rowCount = runQueryWithRowConsumer(query, row -> {
+            @SuppressWarnings("unchecked")
+            var embedding = (List<Double>) row.get("embedding");
+            assertThat(embedding).hasSize(16);
+            // every component is a multiple of the largest absolute component divided by 127
+            var scale = embedding.stream().mapToDouble(Math::abs).max().orElseThrow() / 127;
+            assertThat(embedding).allSatisfy(value -> assertThat(scale == 0 ? 0 : Math.abs(value / scale - Math.rint(value / scale)))
+                .isLessThan(1e-3));
+        });
+        assertThat(rowCount).isEqualTo(5);
+    }
+
+    @Test
+    void shouldFailOnUnknownEmbeddingPrecision() {
+        loadGraph(DEFAULT_GRAPH_NAME);
+        var query = GdsCypher.call(DEFAULT_GRAPH_NAME)
+            .algo("gds.beta.node2vec")
+            .streamMode()
+            .addParameter("embeddingPrecision", "int4")
+            .yields();
+
+        assertError(query, "Embedding precision must be one of [FLOAT, FLOAT16, INT8], but got `int4`.");
+    }
+
     @Override
     public Class<Node2VecStreamProc> getProcedureClazz() {
         return Node2VecStreamProc.class;
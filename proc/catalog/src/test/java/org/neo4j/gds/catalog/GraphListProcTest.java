@@ -126,6 +126,7 @@ class GraphListProcTest extends BaseProcTest {
                         )
                         .containsEntry("relationshipProperties", emptyMap())
                         .containsEntry("nodeProperties", emptyMap())
+                        .containsEntry("nodeOrdering", "NONE")
                         .hasEntrySatisfying("creationTime", creationTimeAssertConsumer())
                         .hasEntrySatisfying(
                             "validateRelationships",
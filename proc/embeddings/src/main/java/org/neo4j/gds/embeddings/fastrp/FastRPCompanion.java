@@ -22,6 +22,7 @@ package org.neo4j.gds.embeddings.fastrp;
 import org.neo4j.gds.api.properties.nodes.FloatArrayNodePropertyValues;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.core.utils.paged.QuantizedFloatArrayStore;
 import org.neo4j.gds.executor.ComputationResult;
 
 final class FastRPCompanion {
@@ -36,16 +37,21 @@ final class FastRPCompanion {
             .map(FastRP.FastRPResult::embeddings)
             .orElseGet(() -> HugeObjectArray.newArray(float[].class, 0));
 
-        return new FloatArrayNodePropertyValues() {
-            @Override
-            public float[] floatArrayValue(long nodeId) {
-                return embeddings.get(nodeId);
-            }
+        var config = computationResult.config();
+        return QuantizedFloatArrayStore.withPrecision(
+            new FloatArrayNodePropertyValues() {
+                @Override
+                public float[] floatArrayValue(long nodeId) {
+                    return embeddings.get(nodeId);
+                }
 
-            @Override
-            public long nodeCount() {
-                return nodeCount;
-            }
-        };
+                @Override
+                public long nodeCount() {
+                    return nodeCount;
+                }
+            },
+            config.embeddingPrecision(),
+            config.concurrency()
+        );
     }
 }
@@ -21,6 +21,7 @@ package org.neo4j.gds.embeddings.hashgnn;
 
 import org.neo4j.gds.MutatePropertyComputationResultConsumer;
 import org.neo4j.gds.api.properties.nodes.EmptyDoubleArrayNodePropertyValues;
+import org.neo4j.gds.core.utils.paged.QuantizedFloatArrayStore;
 import org.neo4j.gds.core.write.ImmutableNodeProperty;
 import org.neo4j.gds.executor.AlgorithmSpec;
 import org.neo4j.gds.executor.ComputationResult;
@@ -61,6 +62,11 @@ public class HashGNNMutateSpec implements AlgorithmSpec<HashGNN,HashGNNResult,Ha
                 computationResult.config().mutateProperty(),
                 computationResult.result()
                     .map(HashGNNResult::embeddings)
+                    .map(embeddings -> QuantizedFloatArrayStore.withPrecision(
+                        embeddings,
+                        computationResult.config().embeddingPrecision(),
+                        computationResult.config().concurrency()
+                    ))
                     .orElse(EmptyDoubleArrayNodePropertyValues.INSTANCE)
             )),
             this::resultBuilder
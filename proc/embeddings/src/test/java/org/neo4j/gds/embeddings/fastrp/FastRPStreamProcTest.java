@@ -102,6 +102,39 @@ class FastRPStreamProcTest extends FastRPProcTest<FastRPStreamConfig> {
         });
     }
 
+    @Test
+    void shouldStreamEmbeddingsWithReducedPrecision() {
+        int embeddingDimension = 64;
+        String query = GdsCypher.call(FASTRP_GRAPH)
+            .algo("fastRP")
+            .streamMode()
+            .addParameter("embeddingDimension", embeddingDimension)
+            .addParameter("embeddingPrecision", "int8")
+            .yields();
+
+        var rowCount = runQueryWithRowConsumer(query, row -> {
+            var embedding = (List<Double>) row.get("embedding");
+            assertThat(embedding).hasSize(embeddingDimension);
+            // every component is a multiple of the largest absolute component divided by 127
+            var scale = embedding.stream().mapToDouble(Math::abs).max().orElseThrow() / 127;
+            assertThat(embedding).allSatisfy(value -> assertThat(scale == 0 ? 0 : Math.abs(value / scale - Math.rint(value / scale)))
+                .isLessThan(1e-3));
+        });
+        assertThat(rowCount).isPositive();
+    }
+
+    @Test
+    void shouldFailOnUnknownEmbeddingPrecision() {
+        String query = GdsCypher.call(FASTRP_GRAPH)
+            .algo("fastRP")
+            .streamMode()
+            .addParameter("embeddingDimension", 64)
+            .addParameter("embeddingPrecision", "double")
+            .yields();
+
+        assertError(query, "Embedding precision must be one of [FLOAT, FLOAT16, INT8], but got `double`.");
+    }
+
     @Test
     void shouldComputeWithWeight() {
         var createQuery = GdsCypher.call(DEFAULT_GRAPH_NAME)
@@ -26,7 +26,9 @@ import org.neo4j.gds.GdsCypher;
 import org.neo4j.gds.catalog.GraphProjectProc;
 import org.neo4j.gds.extension.Neo4jGraph;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -80,4 +82,38 @@ class HashGNNStreamProcTest extends BaseProcTest {
         });
         assertThat(rowCount).isEqualTo(3);
     }
+
+    @Test
+    void shouldStreamEmbeddingsAtFullPrecision() {
+        String graphCreateQuery = GdsCypher.call("myGraph")
+            .graphProject()
+            .withNodeLabel("N")
+            .withAnyRelationshipType()
+            .withNodeProperty("f1")
+            .withNodeProperty("f2")
+            .yields();
+        runQuery(graphCreateQuery);
+
+        var fullPrecision = streamEmbeddings("float");
+        var reducedPrecision = streamEmbeddings("int8");
+
+        // the precision only applies to mutated properties, streamed embeddings are never quantized
+        assertThat(reducedPrecision).isEqualTo(fullPrecision);
+    }
+
+    private Map<Long, Object> streamEmbeddings(String embeddingPrecision) {
+        String query = GdsCypher.call("myGraph")
+            .algo("gds.beta.hashgnn")
+            .streamMode()
+            .addParameter("featureProperties", List.of("f1", "f2"))
+            .addParameter("embeddingDensity", 2)
+            .addParameter("iterations", 10)
+            .addParameter("randomSeed", 42L)
+            .addParameter("embeddingPrecision", embeddingPrecision)
+            .yields();
+
+        var embeddings = new HashMap<Long, Object>();
+        runQueryWithRowConsumer(query, row -> embeddings.put(row.getNumber("nodeId").longValue(), row.get("embedding")));
+        return embeddings;
+    }
 }
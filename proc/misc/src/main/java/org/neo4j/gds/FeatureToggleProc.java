@@ -139,6 +139,21 @@ public final class FeatureToggleProc {
         return Stream.of(new FeatureState(GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.isEnabled()));
     }
 
+    @Internal
+    @Procedure("gds.features.useMappedAdjacencyList")
+    @Description("Toggle whether the adjacency list should be stored in memory-mapped files during graph creation.")
+    public void useMappedAdjacencyList(@Name(value = "useMappedAdjacencyList") boolean useMappedAdjacencyList) {
+        GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST.toggle(useMappedAdjacencyList);
+    }
+
+    @Internal
+    @Procedure("gds.features.useMappedAdjacencyList.reset")
+    @Description("Set the default behaviour of whether to store adjacency lists in memory-mapped files during graph creation. That value is returned.")
+    public Stream<FeatureState> resetUseMappedAdjacencyList() {
+        GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST.reset();
+        return Stream.of(new FeatureState(GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST.isEnabled()));
+    }
+
     @Internal
     @Procedure("gds.features.useReorderedAdjacencyList")
     @Description("Toggle whether the adjacency list should be reordered during graph creation.")
@@ -154,6 +169,72 @@ public final class FeatureToggleProc {
         return Stream.of(new FeatureState(GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.isEnabled()));
     }
 
+    @Internal
+    @Procedure("gds.features.useBlockedIntersection")
+    @Description("Toggle whether sorted neighbour lists should be intersected block-wise.")
+    public void useBlockedIntersection(@Name(value = "useBlockedIntersection") boolean useBlockedIntersection) {
+        GdsFeatureToggles.USE_BLOCKED_INTERSECTION.toggle(useBlockedIntersection);
+    }
+
+    @Internal
+    @Procedure("gds.features.useBlockedIntersection.reset")
+    @Description("Set the default behaviour of whether to intersect sorted neighbour lists block-wise. That value is returned.")
+    public Stream<FeatureState> resetUseBlockedIntersection() {
+        GdsFeatureToggles.USE_BLOCKED_INTERSECTION.reset();
+        return Stream.of(new FeatureState(GdsFeatureToggles.USE_BLOCKED_INTERSECTION.isEnabled()));
+    }
+
+    @Internal
+    @Procedure("gds.features.usePredecessorFreeBetweenness")
+    @Description("Toggle whether Betweenness Centrality should rediscover predecessors instead of storing them.")
+    public void usePredecessorFreeBetweenness(@Name(value = "usePredecessorFreeBetweenness") boolean usePredecessorFreeBetweenness) {
+        GdsFeatureToggles.USE_PREDECESSOR_FREE_BETWEENNESS.toggle(usePredecessorFreeBetweenness);
+    }
+
+    @Internal
+    @Procedure("gds.features.usePredecessorFreeBetweenness.reset")
+    @Description("Set the default behaviour of whether Betweenness Centrality should rediscover predecessors instead of storing them. That value is returned.")
+    public Stream<FeatureState> resetUsePredecessorFreeBetweenness() {
+        GdsFeatureToggles.USE_PREDECESSOR_FREE_BETWEENNESS.reset();
+        return Stream.of(new FeatureState(GdsFeatureToggles.USE_PREDECESSOR_FREE_BETWEENNESS.isEnabled()));
+    }
+
+    @Internal
+    @Procedure("gds.features.useOffHeapArrays")
+    @Description("Toggle whether algorithms should store their largest per-thread arrays outside of the Java heap.")
+    public void useOffHeapArrays(@Name(value = "useOffHeapArrays") boolean useOffHeapArrays) {
+        GdsFeatureToggles.USE_OFF_HEAP_ARRAYS.toggle(useOffHeapArrays);
+    }
+
+    @Internal
+    @Procedure("gds.features.useOffHeapArrays.reset")
+    @Description("Set the default behaviour of whether algorithms should store their largest per-thread arrays outside of the Java heap. That value is returned.")
+    public Stream<FeatureState> resetUseOffHeapArrays() {
+        GdsFeatureToggles.USE_OFF_HEAP_ARRAYS.reset();
+        return Stream.of(new FeatureState(GdsFeatureToggles.USE_OFF_HEAP_ARRAYS.isEnabled()));
+    }
+
+    @Internal
+    @Procedure("gds.features.betweennessSourcesPerBatch")
+    @Description("Set how many source nodes are traversed at once by the predecessor-free Betweenness Centrality.")
+    public void betweennessSourcesPerBatch(@Name(value = "betweennessSourcesPerBatch") long betweennessSourcesPerBatch) {
+        if (betweennessSourcesPerBatch <= 0 || betweennessSourcesPerBatch > 64) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Invalid value for betweennessSourcesPerBatch: %d, must be between 1 and 64",
+                betweennessSourcesPerBatch
+            ));
+        }
+        GdsFeatureToggles.BETWEENNESS_SOURCES_PER_BATCH.set((int) betweennessSourcesPerBatch);
+    }
+
+    @Internal
+    @Procedure("gds.features.betweennessSourcesPerBatch.reset")
+    @Description("Set the number of source nodes traversed at once by Betweenness Centrality to the default. That value is returned.")
+    public Stream<FeatureValue> resetBetweennessSourcesPerBatch() {
+        GdsFeatureToggles.BETWEENNESS_SOURCES_PER_BATCH.set(GdsFeatureToggles.BETWEENNESS_SOURCES_PER_BATCH_DEFAULT_SETTING);
+        return Stream.of(new FeatureValue(GdsFeatureToggles.BETWEENNESS_SOURCES_PER_BATCH_DEFAULT_SETTING));
+    }
+
     @Internal
     @Procedure("gds.features.enableArrowDatabaseImport")
     @Description("Enables support for importing Neo4j databases via the GDS Arrow Flight Server.")
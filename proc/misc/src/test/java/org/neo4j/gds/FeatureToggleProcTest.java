@@ -34,8 +34,12 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.neo4j.gds.utils.GdsFeatureToggles.ENABLE_ARROW_DATABASE_IMPORT;
 import static org.neo4j.gds.utils.GdsFeatureToggles.SKIP_ORPHANS;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_BLOCKED_INTERSECTION;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_OFF_HEAP_ARRAYS;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PARALLEL_PROPERTY_VALUE_INDEX;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PREDECESSOR_FREE_BETWEENNESS;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PARTITIONED_SCAN;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PROPERTY_VALUE_INDEX;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST;
@@ -174,6 +178,31 @@ class FeatureToggleProcTest extends BaseProcTest {
         assertFalse(USE_PACKED_ADJACENCY_LIST.isEnabled());
     }
 
+    @Test
+    void toggleUseMappedAdjacencyList() {
+        var useMappedAdjacencyList = USE_MAPPED_ADJACENCY_LIST.isEnabled();
+        runQuery(
+            "CALL gds.features.useMappedAdjacencyList($value)",
+            Map.of("value", !useMappedAdjacencyList)
+        );
+        assertEquals(!useMappedAdjacencyList, USE_MAPPED_ADJACENCY_LIST.isEnabled());
+        runQuery(
+            "CALL gds.features.useMappedAdjacencyList($value)",
+            Map.of("value", useMappedAdjacencyList)
+        );
+        assertEquals(useMappedAdjacencyList, USE_MAPPED_ADJACENCY_LIST.isEnabled());
+    }
+
+    @Test
+    void resetUseMappedAdjacencyList() {
+        USE_MAPPED_ADJACENCY_LIST.reset();
+        assertCypherResult(
+            "CALL gds.features.useMappedAdjacencyList.reset()",
+            List.of(Map.of("enabled", false))
+        );
+        assertFalse(USE_MAPPED_ADJACENCY_LIST.isEnabled());
+    }
+
     @Test
     void toggleUseReorderedAdjacencyList() {
         var useReorderedAdjacencyList = USE_REORDERED_ADJACENCY_LIST.isEnabled();
@@ -193,6 +222,63 @@ class FeatureToggleProcTest extends BaseProcTest {
         assertFalse(USE_REORDERED_ADJACENCY_LIST.isEnabled());
     }
 
+    @Test
+    void toggleUseBlockedIntersection() {
+        var useBlockedIntersection = USE_BLOCKED_INTERSECTION.isEnabled();
+        runQuery("CALL gds.features.useBlockedIntersection($value)", Map.of("value", !useBlockedIntersection));
+        assertEquals(!useBlockedIntersection, USE_BLOCKED_INTERSECTION.isEnabled());
+        runQuery("CALL gds.features.useBlockedIntersection($value)", Map.of("value", useBlockedIntersection));
+        assertEquals(useBlockedIntersection, USE_BLOCKED_INTERSECTION.isEnabled());
+    }
+
+    @Test
+    void resetUseBlockedIntersection() {
+        USE_BLOCKED_INTERSECTION.reset();
+        assertCypherResult(
+            "CALL gds.features.useBlockedIntersection.reset()",
+            List.of(Map.of("enabled", false))
+        );
+        assertFalse(USE_BLOCKED_INTERSECTION.isEnabled());
+    }
+
+    @Test
+    void toggleUsePredecessorFreeBetweenness() {
+        var usePredecessorFreeBetweenness = USE_PREDECESSOR_FREE_BETWEENNESS.isEnabled();
+        runQuery("CALL gds.features.usePredecessorFreeBetweenness($value)", Map.of("value", !usePredecessorFreeBetweenness));
+        assertEquals(!usePredecessorFreeBetweenness, USE_PREDECESSOR_FREE_BETWEENNESS.isEnabled());
+        runQuery("CALL gds.features.usePredecessorFreeBetweenness($value)", Map.of("value", usePredecessorFreeBetweenness));
+        assertEquals(usePredecessorFreeBetweenness, USE_PREDECESSOR_FREE_BETWEENNESS.isEnabled());
+    }
+
+    @Test
+    void resetUsePredecessorFreeBetweenness() {
+        USE_PREDECESSOR_FREE_BETWEENNESS.reset();
+        assertCypherResult(
+            "CALL gds.features.usePredecessorFreeBetweenness.reset()",
+            List.of(Map.of("enabled", false))
+        );
+        assertFalse(USE_PREDECESSOR_FREE_BETWEENNESS.isEnabled());
+    }
+
+    @Test
+    void toggleUseOffHeapArrays() {
+        var useOffHeapArrays = USE_OFF_HEAP_ARRAYS.isEnabled();
+        runQuery("CALL gds.features.useOffHeapArrays($value)", Map.of("value", !useOffHeapArrays));
+        assertEquals(!useOffHeapArrays, USE_OFF_HEAP_ARRAYS.isEnabled());
+        runQuery("CALL gds.features.useOffHeapArrays($value)", Map.of("value", useOffHeapArrays));
+        assertEquals(useOffHeapArrays, USE_OFF_HEAP_ARRAYS.isEnabled());
+    }
+
+    @Test
+    void resetUseOffHeapArrays() {
+        USE_OFF_HEAP_ARRAYS.reset();
+        assertCypherResult(
+            "CALL gds.features.useOffHeapArrays.reset()",
+            List.of(Map.of("enabled", false))
+        );
+        assertFalse(USE_OFF_HEAP_ARRAYS.isEnabled());
+    }
+
     @Test
     void toggleEnableArrowDatabaseImport() {
         var enableArrowDatabaseImport = ENABLE_ARROW_DATABASE_IMPORT.isEnabled();
@@ -257,4 +343,37 @@ class FeatureToggleProcTest extends BaseProcTest {
         );
         assertEquals(defaultValue, GdsFeatureToggles.PAGES_PER_THREAD.get());
     }
+
+    @Test
+    void toggleBetweennessSourcesPerBatch() {
+        var sourcesPerBatch = GdsFeatureToggles.BETWEENNESS_SOURCES_PER_BATCH.get();
+        runQuery("CALL gds.features.betweennessSourcesPerBatch($value)", Map.of("value", sourcesPerBatch + 1));
+        assertEquals(sourcesPerBatch + 1, GdsFeatureToggles.BETWEENNESS_SOURCES_PER_BATCH.get());
+        runQuery("CALL gds.features.betweennessSourcesPerBatch($value)", Map.of("value", sourcesPerBatch));
+        assertEquals(sourcesPerBatch, GdsFeatureToggles.BETWEENNESS_SOURCES_PER_BATCH.get());
+    }
+
+    @Test
+    void toggleBetweennessSourcesPerBatchValidationForTooLargeValue() {
+        var sourcesPerBatch = GdsFeatureToggles.BETWEENNESS_SOURCES_PER_BATCH.get();
+        var exception = assertThrows(
+            QueryExecutionException.class,
+            () -> runQuery("CALL gds.features.betweennessSourcesPerBatch($value)", Map.of("value", 65))
+        );
+        assertThat(exception)
+            .hasRootCauseInstanceOf(IllegalArgumentException.class)
+            .hasRootCauseMessage("Invalid value for betweennessSourcesPerBatch: 65, must be between 1 and 64");
+        assertEquals(sourcesPerBatch, GdsFeatureToggles.BETWEENNESS_SOURCES_PER_BATCH.get());
+    }
+
+    @Test
+    void resetBetweennessSourcesPerBatch() {
+        var defaultValue = GdsFeatureToggles.BETWEENNESS_SOURCES_PER_BATCH_DEFAULT_SETTING;
+        GdsFeatureToggles.BETWEENNESS_SOURCES_PER_BATCH.set(defaultValue + 1);
+        assertCypherResult(
+            "CALL gds.features.betweennessSourcesPerBatch.reset()",
+            List.of(Map.of("value", (long) defaultValue))
+        );
+        assertEquals(defaultValue, GdsFeatureToggles.BETWEENNESS_SOURCES_PER_BATCH.get());
+    }
 }
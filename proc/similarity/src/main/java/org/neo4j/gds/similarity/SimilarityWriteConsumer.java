@@ -21,19 +21,32 @@ package org.neo4j.gds.similarity;
 
 import org.HdrHistogram.DoubleHistogram;
 import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.ParallelWriteConfig;
 import org.neo4j.gds.config.WritePropertyConfig;
 import org.neo4j.gds.config.WriteRelationshipConfig;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.ProgressTimer;
+import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.progress.tasks.TaskProgressTracker;
+import org.neo4j.gds.core.write.ExportedRelationship;
+import org.neo4j.gds.core.write.ImmutableExportedRelationship;
 import org.neo4j.gds.core.write.RelationshipExporter;
 import org.neo4j.gds.core.write.RelationshipExporterBuilder;
+import org.neo4j.gds.core.write.RelationshipStreamExporter;
 import org.neo4j.gds.executor.ComputationResult;
 import org.neo4j.gds.executor.ComputationResultConsumer;
 import org.neo4j.gds.executor.ExecutionContext;
+import org.neo4j.values.storable.Value;
+import org.neo4j.values.storable.Values;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static org.neo4j.gds.LoggingUtil.runWithExceptionLogging;
@@ -96,39 +109,25 @@ public class SimilarityWriteConsumer<
                 );
 
                 if (similarityGraph.relationshipCount() > 0) {
-                    String writeRelationshipType = config.writeRelationshipType();
-                    String writeProperty = config.writeProperty();
-
                     try (ProgressTimer ignored = ProgressTimer.start(resultBuilder::withWriteMillis)) {
-                        var progressTracker = new TaskProgressTracker(
-                            RelationshipExporter.baseTask(name, similarityGraph.relationshipCount()),
-                            executionContext.log(),
-                            RelationshipExporterBuilder.DEFAULT_WRITE_CONCURRENCY,
-                            executionContext.taskRegistryFactory()
-                        );
-                        var relationshipExporterBuilder = Optional
-                            .ofNullable(executionContext.relationshipExporterBuilder())
-                            .orElseThrow();
-                        var exporter = relationshipExporterBuilder
-                            .withIdMappingOperator(rootIdMap::toOriginalNodeId)
-                            .withGraph(similarityGraph)
-                            .withTerminationFlag(algorithm.getTerminationFlag())
-                            .withProgressTracker(progressTracker)
-                            .build();
-
-                        if (SimilarityProc.shouldComputeHistogram(executionContext.returnColumns())) {
-                            DoubleHistogram histogram = new DoubleHistogram(HISTOGRAM_PRECISION_DEFAULT);
-                            exporter.write(
-                                writeRelationshipType,
-                                writeProperty,
-                                (node1, node2, similarity) -> {
-                                    histogram.recordValue(similarity);
-                                    return true;
-                                }
+                        if (config instanceof ParallelWriteConfig && ((ParallelWriteConfig) config).parallelWrite()) {
+                            writeInParallel(
+                                similarityGraph,
+                                rootIdMap,
+                                algorithm.getTerminationFlag(),
+                                config,
+                                resultBuilder,
+                                executionContext
                             );
-                            resultBuilder.withHistogram(histogram);
                         } else {
-                            exporter.write(writeRelationshipType, writeProperty);
+                            write(
+                                similarityGraph,
+                                rootIdMap,
+                                algorithm.getTerminationFlag(),
+                                config,
+                                resultBuilder,
+                                executionContext
+                            );
                         }
                     }
                 }
@@ -137,4 +136,100 @@ public class SimilarityWriteConsumer<
             }
         );
     }
+
+    private void write(
+        Graph similarityGraph,
+        IdMap rootIdMap,
+        TerminationFlag terminationFlag,
+        CONFIG config,
+        SimilarityResultBuilder<PROC_RESULT> resultBuilder,
+        ExecutionContext executionContext
+    ) {
+        var progressTracker = new TaskProgressTracker(
+            RelationshipExporter.baseTask(name, similarityGraph.relationshipCount()),
+            executionContext.log(),
+            RelationshipExporterBuilder.DEFAULT_WRITE_CONCURRENCY,
+            executionContext.taskRegistryFactory()
+        );
+        var relationshipExporterBuilder = Optional
+            .ofNullable(executionContext.relationshipExporterBuilder())
+            .orElseThrow();
+        var exporter = relationshipExporterBuilder
+            .withIdMappingOperator(rootIdMap::toOriginalNodeId)
+            .withGraph(similarityGraph)
+            .withTerminationFlag(terminationFlag)
+            .withProgressTracker(progressTracker)
+            .build();
+
+        if (SimilarityProc.shouldComputeHistogram(executionContext.returnColumns())) {
+            DoubleHistogram histogram = new DoubleHistogram(HISTOGRAM_PRECISION_DEFAULT);
+            exporter.write(
+                config.writeRelationshipType(),
+                config.writeProperty(),
+                (node1, node2, similarity) -> {
+                    histogram.recordValue(similarity);
+                    return true;
+                }
+            );
+            resultBuilder.withHistogram(histogram);
+        } else {
+            exporter.write(config.writeRelationshipType(), config.writeProperty());
+        }
+    }
+
+    /**
+     * Streams the relationships of the similarity graph to {@code writeConcurrency} concurrent writers.
+     * The stream is consumed by a single thread, so the histogram can be recorded while streaming.
+     */
+    private void writeInParallel(
+        Graph similarityGraph,
+        IdMap rootIdMap,
+        TerminationFlag terminationFlag,
+        CONFIG config,
+        SimilarityResultBuilder<PROC_RESULT> resultBuilder,
+        ExecutionContext executionContext
+    ) {
+        var progressTracker = new TaskProgressTracker(
+            RelationshipStreamExporter.baseTask(name),
+            executionContext.log(),
+            config.writeConcurrency(),
+            executionContext.taskRegistryFactory()
+        );
+
+        var histogram = SimilarityProc.shouldComputeHistogram(executionContext.returnColumns())
+            ? new DoubleHistogram(HISTOGRAM_PRECISION_DEFAULT)
+            : null;
+
+        var relationships = LongStream
+            .range(0, similarityGraph.nodeCount())
+            .boxed()
+            .flatMap(sourceNode -> similarityGraph.streamRelationships(sourceNode, Double.NaN))
+            .map(cursor -> {
+                if (histogram != null) {
+                    histogram.recordValue(cursor.property());
+                }
+                return (ExportedRelationship) ImmutableExportedRelationship.of(
+                    cursor.sourceId(),
+                    cursor.targetId(),
+                    new Value[]{Values.doubleValue(cursor.property())}
+                );
+            });
+
+        var relationshipStreamExporterBuilder = Optional
+            .ofNullable(executionContext.relationshipStreamExporterBuilder())
+            .orElseThrow();
+        var exporter = relationshipStreamExporterBuilder
+            .withIdMappingOperator(rootIdMap::toOriginalNodeId)
+            .withRelationships(relationships)
+            .withTerminationFlag(terminationFlag)
+            .withProgressTracker(progressTracker)
+            .parallel(Pools.DEFAULT, config.writeConcurrency())
+            .build();
+
+        exporter.write(config.writeRelationshipType(), List.of(config.writeProperty()), List.of(ValueType.DOUBLE));
+
+        if (histogram != null) {
+            resultBuilder.withHistogram(histogram);
+        }
+    }
 }
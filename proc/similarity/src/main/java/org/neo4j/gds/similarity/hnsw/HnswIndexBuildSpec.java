@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.executor.AlgorithmSpec;
+import org.neo4j.gds.executor.ComputationResultConsumer;
+import org.neo4j.gds.executor.GraphStoreFromCatalogLoader;
+import org.neo4j.gds.executor.NewConfigFunction;
+
+import java.util.stream.Stream;
+
+public class HnswIndexBuildSpec implements AlgorithmSpec<HnswIndexBuilder, HnswIndex, HnswBaseConfig, Stream<HnswIndexProc.BuildResult>, HnswIndexFactory> {
+
+    private final String graphName;
+
+    HnswIndexBuildSpec(String graphName) {
+        this.graphName = graphName;
+    }
+
+    @Override
+    public String name() {
+        return "gds.alpha.hnsw.build";
+    }
+
+    @Override
+    public HnswIndexFactory algorithmFactory() {
+        return new HnswIndexFactory();
+    }
+
+    @Override
+    public NewConfigFunction<HnswBaseConfig> newConfigFunction() {
+        return (__, config) -> HnswBaseConfig.of(config);
+    }
+
+    @Override
+    public ComputationResultConsumer<HnswIndexBuilder, HnswIndex, HnswBaseConfig, Stream<HnswIndexProc.BuildResult>> computationResultConsumer() {
+        return (computationResult, executionContext) -> {
+            var config = computationResult.config();
+            computationResult.result().ifPresent(index -> {
+                // the index belongs to the owner of the graph, which differs from the caller for admins
+                var owner = GraphStoreFromCatalogLoader.graphStoreFromCatalog(
+                    graphName,
+                    config,
+                    executionContext.username(),
+                    executionContext.databaseId(),
+                    executionContext.isGdsAdmin()
+                ).config().username();
+                GraphStoreCatalog.setIndex(
+                    owner,
+                    computationResult.graphStore().databaseId(),
+                    graphName,
+                    config.nodeProperty(),
+                    index
+                );
+            });
+
+            return Stream.of(new HnswIndexProc.BuildResult(
+                graphName,
+                config.nodeProperty(),
+                computationResult.graph().nodeCount(),
+                computationResult.computeMillis()
+            ));
+        };
+    }
+}
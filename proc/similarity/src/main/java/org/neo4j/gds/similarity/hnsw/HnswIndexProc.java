@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.neo4j.gds.BaseProc;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.config.NodeConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.executor.MemoryEstimationExecutor;
+import org.neo4j.gds.executor.ProcPreconditions;
+import org.neo4j.gds.executor.ProcedureExecutor;
+import org.neo4j.gds.results.MemoryEstimateResult;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+import static org.neo4j.procedure.Mode.READ;
+
+public class HnswIndexProc extends BaseProc {
+
+    private static final String BUILD_DESCRIPTION =
+        "Builds an HNSW index over a vector node property and registers it with the graph in the catalog.";
+    private static final String QUERY_DESCRIPTION =
+        "Finds the most similar nodes to a node or vector using a previously built HNSW index.";
+
+    @Procedure(name = "gds.alpha.hnsw.build", mode = READ)
+    @Description(BUILD_DESCRIPTION)
+    public Stream<BuildResult> build(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        return new ProcedureExecutor<>(
+            new HnswIndexBuildSpec(graphName),
+            executionContext()
+        ).compute(graphName, configuration);
+    }
+
+    @Procedure(name = "gds.alpha.hnsw.build.estimate", mode = READ)
+    @Description(ESTIMATE_DESCRIPTION)
+    public Stream<MemoryEstimateResult> buildEstimate(
+        @Name(value = "graphNameOrConfiguration") Object graphNameOrConfiguration,
+        @Name(value = "algoConfiguration") Map<String, Object> algoConfiguration
+    ) {
+        var spec = new HnswIndexBuildSpec(
+            graphNameOrConfiguration instanceof String ? (String) graphNameOrConfiguration : null
+        );
+        return new MemoryEstimationExecutor<>(
+            spec,
+            executionContext(),
+            transactionContext()
+        ).computeEstimate(graphNameOrConfiguration, algoConfiguration);
+    }
+
+    @Procedure(name = "gds.alpha.hnsw.query", mode = READ)
+    @Description(QUERY_DESCRIPTION)
+    public Stream<QueryResult> query(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "nodeProperty") String nodeProperty,
+        @Name(value = "query") Object query,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        ProcPreconditions.check();
+
+        var cypherMap = CypherMapWrapper.create(configuration);
+        var config = HnswQueryConfig.of(cypherMap);
+        validateConfig(cypherMap, config);
+
+        var graphStoreWithConfig = graphStoreFromCatalog(graphName, config);
+        var username = graphStoreWithConfig.config().username();
+        var graphStore = graphStoreWithConfig.graphStore();
+        var index = GraphStoreCatalog.getIndex(
+            username,
+            graphStore.databaseId(),
+            graphName,
+            nodeProperty,
+            HnswIndex.class
+        ).orElseThrow(() -> new IllegalArgumentException(formatWithLocale(
+            "No HNSW index exists for the node property `%s` of graph `%s`. Build it with `gds.alpha.hnsw.build` first.",
+            nodeProperty,
+            graphName
+        )));
+
+        if (!graphStore.hasNodeProperty(nodeProperty) || !index.isBuiltFrom(graphStore.nodeProperty(nodeProperty).values())) {
+            GraphStoreCatalog.removeIndex(username, graphStore.databaseId(), graphName, nodeProperty);
+            throw new IllegalArgumentException(formatWithLocale(
+                "The node property `%s` of graph `%s` has been dropped or overwritten since the HNSW index was built. Rebuild it with `gds.alpha.hnsw.build`.",
+                nodeProperty,
+                graphName
+            ));
+        }
+
+        var idMap = index.idMap();
+        var matches = query instanceof List
+            ? index.query(parseVector((List<?>) query, index.dimension()), config.topK(), config.ef())
+            : index.query(mappedNodeId(idMap, NodeConfig.parseNodeId(query, "query")), config.topK(), config.ef());
+
+        return matches
+            .stream()
+            .map(match -> new QueryResult(idMap.toOriginalNodeId(match.nodeId()), match.similarity()));
+    }
+
+    private static long mappedNodeId(IdMap idMap, long originalNodeId) {
+        var mappedNodeId = idMap.safeToMappedNodeId(originalNodeId);
+        if (mappedNodeId == IdMap.NOT_FOUND) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Node with id `%d` is not part of the indexed graph.",
+                originalNodeId
+            ));
+        }
+        return mappedNodeId;
+    }
+
+    private static float[] parseVector(List<?> values, int dimension) {
+        if (dimension != -1 && values.size() != dimension) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The query vector has %d elements, but the indexed vectors have %d elements.",
+                values.size(),
+                dimension
+            ));
+        }
+        var vector = new float[values.size()];
+        for (int i = 0; i < vector.length; i++) {
+            var value = values.get(i);
+            if (!(value instanceof Number)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Expected the query vector to contain only numbers, but found `%s`.",
+                    value
+                ));
+            }
+            vector[i] = ((Number) value).floatValue();
+        }
+        return vector;
+    }
+
+    @SuppressWarnings("unused")
+    public static class BuildResult {
+        public final String graphName;
+        public final String nodeProperty;
+        public final long nodeCount;
+        public final long buildMillis;
+
+        BuildResult(String graphName, String nodeProperty, long nodeCount, long buildMillis) {
+            this.graphName = graphName;
+            this.nodeProperty = nodeProperty;
+            this.nodeCount = nodeCount;
+            this.buildMillis = buildMillis;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    public static class QueryResult {
+        public final long nodeId;
+        public final double similarity;
+
+        QueryResult(long nodeId, double similarity) {
+            this.nodeId = nodeId;
+            this.similarity = similarity;
+        }
+    }
+}
@@ -21,6 +21,7 @@ package org.neo4j.gds.similarity.knn;
 
 import org.neo4j.gds.BaseProc;
 import org.neo4j.gds.core.write.RelationshipExporterBuilder;
+import org.neo4j.gds.core.write.RelationshipStreamExporterBuilder;
 import org.neo4j.gds.executor.ExecutionContext;
 import org.neo4j.gds.executor.MemoryEstimationExecutor;
 import org.neo4j.gds.executor.ProcedureExecutor;
@@ -42,6 +43,9 @@ public class KnnWriteProc extends BaseProc {
     @Context
     public RelationshipExporterBuilder relationshipExporterBuilder;
 
+    @Context
+    public RelationshipStreamExporterBuilder relationshipStreamExporterBuilder;
+
     @Procedure(name = "gds.knn.write", mode = WRITE)
     @Description(KNN_DESCRIPTION)
     public Stream<WriteResult> write(
@@ -69,7 +73,9 @@ public class KnnWriteProc extends BaseProc {
 
     @Override
     public ExecutionContext executionContext() {
-        return super.executionContext().withRelationshipExporterBuilder(relationshipExporterBuilder);
+        return super.executionContext()
+            .withRelationshipExporterBuilder(relationshipExporterBuilder)
+            .withRelationshipStreamExporterBuilder(relationshipStreamExporterBuilder);
     }
 
 }
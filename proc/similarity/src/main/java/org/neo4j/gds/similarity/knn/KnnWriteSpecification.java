@@ -19,6 +19,9 @@
  */
 package org.neo4j.gds.similarity.knn;
 
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.executor.AlgorithmSpec;
 import org.neo4j.gds.executor.ComputationResult;
 import org.neo4j.gds.executor.ComputationResultConsumer;
@@ -35,6 +38,11 @@ import static org.neo4j.gds.similarity.knn.KnnProc.computeToGraph;
 
 @GdsCallable(name = "gds.knn.write", description = KNN_DESCRIPTION, executionMode = WRITE_RELATIONSHIP)
 public class KnnWriteSpecification implements AlgorithmSpec<Knn, Knn.Result, KnnWriteConfig, Stream<WriteResult>, KnnFactory<KnnWriteConfig>> {
+
+    // KNN hands its neighbor lists to this consumer after the last iteration,
+    // so the similarity graph is built while the algorithm finishes.
+    private @Nullable SimilarityGraphConsumer similarityGraphConsumer;
+
     @Override
     public String name() {
         return "KnnWrite";
@@ -42,7 +50,19 @@ public class KnnWriteSpecification implements AlgorithmSpec<Knn, Knn.Result, Knn
 
     @Override
     public KnnFactory<KnnWriteConfig> algorithmFactory() {
-        return new KnnFactory<>();
+        return new KnnFactory<>() {
+            @Override
+            public Knn build(Graph graph, KnnWriteConfig configuration, ProgressTracker progressTracker) {
+                var knn = super.build(graph, configuration, progressTracker);
+                similarityGraphConsumer = new SimilarityGraphConsumer(
+                    graph,
+                    configuration.concurrency(),
+                    knn.executorService()
+                );
+                knn.setFinalizedNeighborsConsumer(similarityGraphConsumer);
+                return knn;
+            }
+        };
     }
 
     @Override
@@ -59,6 +79,14 @@ public class KnnWriteSpecification implements AlgorithmSpec<Knn, Knn.Result, Knn
                     return new SimilarityGraphResult(computationResult.graph(), 0, false);
                 }
 
+                if (similarityGraphConsumer != null) {
+                    return new SimilarityGraphResult(
+                        similarityGraphConsumer.similarityGraph(),
+                        computationResult.algorithm().nodeCount(),
+                        false
+                    );
+                }
+
                 return computeToGraph(
                     computationResult.graph(),
                     computationResult.algorithm().nodeCount(),
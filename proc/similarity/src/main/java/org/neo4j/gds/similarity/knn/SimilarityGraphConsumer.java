@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.knn;
+
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.core.loading.construction.RelationshipsBuilder;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Builds the similarity graph from the neighbor lists that KNN hands out after its last iteration.
+ * This replaces building the graph from the result stream once the computation has finished.
+ */
+final class SimilarityGraphConsumer implements FinalizedNeighborsConsumer {
+
+    private final IdMap idMap;
+    private final RelationshipsBuilder relationshipsBuilder;
+
+    SimilarityGraphConsumer(IdMap idMap, int concurrency, ExecutorService executorService) {
+        this.idMap = idMap;
+        this.relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
+            .nodes(idMap.rootIdMap())
+            .relationshipType(RelationshipType.of("REL"))
+            .orientation(Orientation.NATURAL)
+            .addPropertyConfig(GraphFactory.PropertyConfig.of("property"))
+            .concurrency(concurrency)
+            .executorService(executorService)
+            .build();
+    }
+
+    @Override
+    public void accept(long nodeId, long[] neighbors, double[] similarities) {
+        var sourceNodeId = idMap.toRootNodeId(nodeId);
+        for (int i = 0; i < neighbors.length; i++) {
+            relationshipsBuilder.addFromInternal(sourceNodeId, idMap.toRootNodeId(neighbors[i]), similarities[i]);
+        }
+    }
+
+    Graph similarityGraph() {
+        return GraphFactory.create(idMap.rootIdMap(), relationshipsBuilder.build());
+    }
+}
@@ -21,6 +21,7 @@ package org.neo4j.gds.similarity.nodesim;
 
 import org.neo4j.gds.BaseProc;
 import org.neo4j.gds.core.write.RelationshipExporterBuilder;
+import org.neo4j.gds.core.write.RelationshipStreamExporterBuilder;
 import org.neo4j.gds.executor.ExecutionContext;
 import org.neo4j.gds.executor.MemoryEstimationExecutor;
 import org.neo4j.gds.executor.ProcedureExecutor;
@@ -43,6 +44,9 @@ public class NodeSimilarityWriteProc extends BaseProc {
     @Context
     public RelationshipExporterBuilder relationshipExporterBuilder;
 
+    @Context
+    public RelationshipStreamExporterBuilder relationshipStreamExporterBuilder;
+
     @Procedure(name = "gds.nodeSimilarity.write", mode = WRITE)
     @Description(NODE_SIMILARITY_DESCRIPTION)
     public Stream<SimilarityWriteResult> write(
@@ -70,6 +74,8 @@ public class NodeSimilarityWriteProc extends BaseProc {
 
     @Override
     public ExecutionContext executionContext() {
-        return super.executionContext().withRelationshipExporterBuilder(relationshipExporterBuilder);
+        return super.executionContext()
+            .withRelationshipExporterBuilder(relationshipExporterBuilder)
+            .withRelationshipStreamExporterBuilder(relationshipStreamExporterBuilder);
     }
 }
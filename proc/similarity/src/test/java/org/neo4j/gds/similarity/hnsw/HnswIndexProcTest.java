@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.catalog.GraphDropNodePropertiesProc;
+import org.neo4j.gds.catalog.GraphDropProc;
+import org.neo4j.gds.catalog.GraphProjectProc;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.extension.Neo4jGraph;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+class HnswIndexProcTest extends BaseProcTest {
+
+    @Neo4jGraph
+    public static final String DB_CYPHER =
+        "CREATE" +
+        "  (a { embedding: [1.0, 0.0] } )" +
+        ", (b { embedding: [0.9, 0.1] } )" +
+        ", (c { embedding: [0.0, 1.0] } )" +
+        ", (d { embedding: [0.1, 0.9] } )";
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(
+            HnswIndexProc.class,
+            GraphProjectProc.class,
+            GraphDropProc.class,
+            GraphDropNodePropertiesProc.class
+        );
+        runQuery("CALL gds.graph.project('g', {__ALL__: {label: '*', properties: 'embedding'}}, '*')");
+    }
+
+    @AfterEach
+    void tearDown() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Test
+    void shouldBuildAndQueryIndex() {
+        assertCypherResult(
+            "CALL gds.alpha.hnsw.build('g', {nodeProperty: 'embedding', concurrency: 1, randomSeed: 42})" +
+            " YIELD graphName, nodeProperty, nodeCount, buildMillis",
+            List.of(Map.of(
+                "graphName", "g",
+                "nodeProperty", "embedding",
+                "nodeCount", 4L,
+                "buildMillis", greaterThanOrEqualTo(0L)
+            ))
+        );
+
+        assertCypherResult(
+            "CALL gds.alpha.hnsw.query('g', 'embedding', 0, {topK: 1}) YIELD nodeId RETURN nodeId",
+            List.of(Map.of("nodeId", 1L))
+        );
+
+        assertCypherResult(
+            "CALL gds.alpha.hnsw.query('g', 'embedding', [0.0, 1.0], {topK: 2}) YIELD nodeId RETURN nodeId",
+            List.of(Map.of("nodeId", 2L), Map.of("nodeId", 3L))
+        );
+    }
+
+    @Test
+    void shouldEstimateBuild() {
+        assertCypherResult(
+            "CALL gds.alpha.hnsw.build.estimate('g', {nodeProperty: 'embedding'})" +
+            " YIELD nodeCount, bytesMin, bytesMax" +
+            " RETURN nodeCount, bytesMin > 0 AS hasMin, bytesMin <= bytesMax AS isRange",
+            List.of(Map.of("nodeCount", 4L, "hasMin", true, "isRange", true))
+        );
+    }
+
+    @Test
+    void shouldFailWithoutIndex() {
+        assertError(
+            "CALL gds.alpha.hnsw.query('g', 'embedding', 0)",
+            "No HNSW index exists for the node property `embedding` of graph `g`."
+        );
+    }
+
+    @Test
+    void shouldDropIndexWithGraph() {
+        runQuery("CALL gds.alpha.hnsw.build('g', {nodeProperty: 'embedding'})");
+        runQuery("CALL gds.graph.drop('g')");
+        runQuery("CALL gds.graph.project('g', {__ALL__: {label: '*', properties: 'embedding'}}, '*')");
+
+        assertError(
+            "CALL gds.alpha.hnsw.query('g', 'embedding', 0)",
+            "No HNSW index exists for the node property `embedding` of graph `g`."
+        );
+    }
+
+    @Test
+    void shouldFailOnQueryVectorOfWrongLength() {
+        runQuery("CALL gds.alpha.hnsw.build('g', {nodeProperty: 'embedding'})");
+
+        assertError(
+            "CALL gds.alpha.hnsw.query('g', 'embedding', [1.0, 0.0, 0.0])",
+            "The query vector has 3 elements, but the indexed vectors have 2 elements."
+        );
+    }
+
+    @Test
+    void shouldInvalidateIndexWhenThePropertyIsDropped() {
+        runQuery("CALL gds.alpha.hnsw.build('g', {nodeProperty: 'embedding'})");
+        runQuery("CALL gds.graph.nodeProperties.drop('g', 'embedding')");
+
+        assertError(
+            "CALL gds.alpha.hnsw.query('g', 'embedding', [1.0, 0.0])",
+            "The node property `embedding` of graph `g` has been dropped or overwritten since the HNSW index was built."
+        );
+        assertError(
+            "CALL gds.alpha.hnsw.query('g', 'embedding', [1.0, 0.0])",
+            "No HNSW index exists for the node property `embedding` of graph `g`."
+        );
+    }
+}
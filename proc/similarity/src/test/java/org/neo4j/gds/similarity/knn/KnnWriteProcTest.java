@@ -122,6 +122,51 @@ class KnnWriteProcTest extends BaseProcTest {
         );
     }
 
+    @Test
+    void shouldWriteResultsInParallel() {
+        runQuery("CALL gds.graph.project('myGraph', {__ALL__: {label: '*', properties: 'knn'}}, 'IGNORE')");
+
+        var query = GdsCypher.call("myGraph")
+            .algo("gds.knn")
+            .writeMode()
+            .addParameter("sudo", true)
+            .addParameter("nodeProperties", List.of("knn"))
+            .addParameter("topK", 1)
+            .addParameter("concurrency", 1)
+            .addParameter("randomSeed", 42)
+            .addParameter("writeRelationshipType", "SIMILAR")
+            .addParameter("writeProperty", "score")
+            .addParameter("writeConcurrency", 2)
+            .addParameter("parallelWrite", true)
+            .yields("relationshipsWritten", "similarityDistribution");
+
+        var rowCount = runQueryWithRowConsumer(query, row -> {
+            assertThat(row.getNumber("relationshipsWritten")).asInstanceOf(LONG).isEqualTo(3);
+            assertThat(row.get("similarityDistribution"))
+                .asInstanceOf(MAP)
+                .hasSize(14);
+        });
+
+        assertThat(rowCount)
+            .as("`write` mode should always return one row")
+            .isEqualTo(1);
+
+        var loadQuery = GdsCypher.call("simGraph")
+            .graphProject()
+            .withAnyLabel()
+            .withNodeProperty("id")
+            .withRelationshipType("SIMILAR")
+            .withRelationshipProperty("score")
+            .yields();
+
+        runQuery(loadQuery);
+
+        assertGraphEquals(
+            fromGdl("(a {id: 1})-[:SIMILAR {w: 0.5}]->(b {id: 2}), (b)-[:SIMILAR {w: 0.5}]->(a), (c {id: 3})-[:SIMILAR {w: 0.25}]->(b)"),
+            GraphStoreCatalog.get(getUsername(), DatabaseId.of(db), "simGraph").graphStore().getUnion()
+        );
+    }
+
     @Test
     void shouldWriteUniqueRelationships() {
         var graphName = "undirectedGraph";
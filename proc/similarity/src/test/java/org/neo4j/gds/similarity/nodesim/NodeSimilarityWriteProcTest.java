@@ -255,6 +255,45 @@ class NodeSimilarityWriteProcTest extends BaseProcTest {
             .isEqualTo(1);
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {0, 10})
+    void shouldWriteInParallel(int topN) {
+        var graphName = "undirectedGraph";
+
+        var graphCreateQuery = GdsCypher.call(graphName)
+            .graphProject()
+            .withAnyLabel()
+            .withRelationshipType("LIKES", Orientation.UNDIRECTED)
+            .yields();
+
+        runQuery(graphCreateQuery);
+
+        var query = GdsCypher.call(graphName)
+            .algo("gds", "nodeSimilarity")
+            .writeMode()
+            .addParameter("sudo", true)
+            .addParameter("topK", 1)
+            .addParameter("topN", topN)
+            .addParameter("writeRelationshipType", "SIMILAR")
+            .addParameter("writeProperty", "score")
+            .addParameter("writeConcurrency", 2)
+            .addParameter("parallelWrite", true)
+            .yields("relationshipsWritten");
+
+        var rowCount = runQueryWithRowConsumer(query, row -> {
+            assertEquals(6, row.getNumber("relationshipsWritten").longValue());
+        });
+
+        Assertions.assertThat(rowCount)
+            .as("`write` mode should always return one row")
+            .isEqualTo(1);
+
+        runQueryWithRowConsumer(
+            "MATCH ()-[r:SIMILAR]->() WHERE r.score > 0 RETURN count(r) AS count",
+            row -> assertEquals(6, row.getNumber("count").longValue())
+        );
+    }
+
     @ParameterizedTest
     @ValueSource(ints = {0, 10})
     void shouldWriteWithFilteredNodes(int topN) {
@@ -175,7 +175,11 @@ public class SysInfoProc {
                 "featurePackedAdjacencyList",
                 GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.isEnabled()
             ))
+            .add(value("featureMappedAdjacencyList", GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST.isEnabled()))
             .add(value("featureReorderedAdjacencyList", GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.isEnabled()))
+            .add(value("featureBlockedIntersection", GdsFeatureToggles.USE_BLOCKED_INTERSECTION.isEnabled()))
+            .add(value("featurePredecessorFreeBetweenness", GdsFeatureToggles.USE_PREDECESSOR_FREE_BETWEENNESS.isEnabled()))
+            .add(value("featureOffHeapArrays", GdsFeatureToggles.USE_OFF_HEAP_ARRAYS.isEnabled()))
             .add(value("featureArrowDatabaseImport", GdsFeatureToggles.ENABLE_ARROW_DATABASE_IMPORT.isEnabled()));
 
     }
@@ -277,7 +277,11 @@ class SysInfoProcTest extends BaseProcTest {
             .containsEntry("featureShardedIdMap", GdsFeatureToggles.USE_SHARDED_ID_MAP.isEnabled())
             .containsEntry("featureUncompressedAdjacencyList", GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled())
             .containsEntry("featurePackedAdjacencyList", GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.isEnabled())
+            .containsEntry("featureMappedAdjacencyList", GdsFeatureToggles.USE_MAPPED_ADJACENCY_LIST.isEnabled())
             .containsEntry("featureReorderedAdjacencyList", GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.isEnabled())
+            .containsEntry("featureBlockedIntersection", GdsFeatureToggles.USE_BLOCKED_INTERSECTION.isEnabled())
+            .containsEntry("featurePredecessorFreeBetweenness", GdsFeatureToggles.USE_PREDECESSOR_FREE_BETWEENNESS.isEnabled())
+            .containsEntry("featureOffHeapArrays", GdsFeatureToggles.USE_OFF_HEAP_ARRAYS.isEnabled())
             .containsEntry("featureArrowDatabaseImport", GdsFeatureToggles.ENABLE_ARROW_DATABASE_IMPORT.isEnabled());
     }
 
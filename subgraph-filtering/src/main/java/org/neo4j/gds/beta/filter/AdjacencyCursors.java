@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter;
+
+import org.neo4j.gds.api.AdjacencyCursor;
+
+import static org.neo4j.gds.api.AdjacencyCursor.NOT_FOUND;
+
+/**
+ * Sequential implementations of the skipping methods of {@link AdjacencyCursor}
+ * for cursors that can only decode one target at a time, such as the cursors
+ * of graph views.
+ */
+final class AdjacencyCursors {
+
+    private AdjacencyCursors() {}
+
+    static long skipUntil(AdjacencyCursor cursor, long target) {
+        while (cursor.hasNextVLong()) {
+            long value = cursor.nextVLong();
+            if (value > target) {
+                return value;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    static long advance(AdjacencyCursor cursor, long target) {
+        while (cursor.hasNextVLong()) {
+            long value = cursor.nextVLong();
+            if (value >= target) {
+                return value;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    static long advanceBy(AdjacencyCursor cursor, int n) {
+        assert n >= 0;
+
+        while (n-- > 0 && cursor.hasNextVLong()) {
+            cursor.nextVLong();
+        }
+        return cursor.hasNextVLong() ? cursor.nextVLong() : NOT_FOUND;
+    }
+}
@@ -35,9 +35,11 @@ import org.neo4j.gds.beta.filter.expression.ExpressionParser;
 import org.neo4j.gds.beta.filter.expression.SemanticErrors;
 import org.neo4j.gds.beta.filter.expression.ValidationContext;
 import org.neo4j.gds.config.GraphProjectFromGraphConfig;
+import org.neo4j.gds.core.loading.CSRGraphStore;
 import org.neo4j.gds.core.loading.GraphStoreBuilder;
 import org.neo4j.gds.core.loading.ImmutableNodes;
 import org.neo4j.gds.core.loading.RelationshipImportResult;
+import org.neo4j.gds.core.loading.SingleTypeRelationships;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
@@ -48,6 +50,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 public final class GraphStoreFilter {
 
     public static Task progressTask(GraphStore graphStore) {
@@ -93,6 +97,47 @@ public final class GraphStoreFilter {
     ) throws ParseException, SemanticErrors {
         var expressions = parseAndValidate(graphStore, config.nodeFilter(), config.relationshipFilter());
 
+        if (config.view()) {
+            return filterAsView(graphStore, expressions, config, executorService, progressTracker);
+        }
+
+        return copy(
+            graphStore,
+            expressions,
+            config.concurrency(),
+            config.parameters(),
+            executorService,
+            progressTracker
+        );
+    }
+
+    /**
+     * Copies all nodes, relationships and properties of the given graph store.
+     * This turns a view created with {@link GraphProjectFromGraphConfig#view()} into
+     * a graph store that no longer references the graph store it has been filtered from.
+     * The progress tracker is expected to track {@link #progressTask(GraphStore)}.
+     */
+    public static GraphStore materialize(
+        GraphStore graphStore,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        var expressions = ImmutableExpressions.of(
+            Expression.Literal.TrueLiteral.INSTANCE,
+            Expression.Literal.TrueLiteral.INSTANCE
+        );
+        return copy(graphStore, expressions, concurrency, Map.of(), executorService, progressTracker);
+    }
+
+    private static GraphStore copy(
+        GraphStore graphStore,
+        Expressions expressions,
+        int concurrency,
+        Map<String, Object> parameters,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
         var inputNodes = graphStore.nodes();
 
         progressTracker.beginSubTask();
@@ -100,8 +145,8 @@ public final class GraphStoreFilter {
             var filteredNodes = NodesFilter.filterNodes(
                 graphStore,
                 expressions.nodeExpression(),
-                config.concurrency(),
-                config.parameters(),
+                concurrency,
+                parameters,
                 executorService,
                 progressTracker
             );
@@ -111,27 +156,77 @@ public final class GraphStoreFilter {
                 expressions.relationshipExpression(),
                 inputNodes,
                 filteredNodes.idMap(),
+                concurrency,
+                parameters,
+                executorService,
+                progressTracker
+            );
+
+            return buildGraphStore(graphStore, filteredNodes, filteredRelationships, concurrency);
+        } finally {
+            progressTracker.endSubTask();
+        }
+    }
+
+    private static GraphStore filterAsView(
+        GraphStore graphStore,
+        Expressions expressions,
+        GraphProjectFromGraphConfig config,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        if (!(graphStore instanceof CSRGraphStore)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Subgraph views are only supported for CSR graph stores, got `%s`.",
+                graphStore.getClass().getSimpleName()
+            ));
+        }
+
+        progressTracker.beginSubTask();
+        try {
+            var filteredNodes = NodesFilter.filterNodesAsView(
+                graphStore,
+                expressions.nodeExpression(),
                 config.concurrency(),
                 config.parameters(),
                 executorService,
                 progressTracker
             );
 
-            var filteredSchema = filterSchema(graphStore.schema(), filteredNodes, filteredRelationships.keySet());
+            var filteredRelationships = RelationshipsFilter.filterRelationshipsAsView(
+                (CSRGraphStore) graphStore,
+                expressions.relationshipExpression(),
+                filteredNodes,
+                config.concurrency(),
+                config.parameters(),
+                executorService,
+                progressTracker
+            );
 
-            return new GraphStoreBuilder()
-                .databaseId(graphStore.databaseId())
-                .capabilities(graphStore.capabilities())
-                .schema(filteredSchema)
-                .nodes(ImmutableNodes.of(filteredSchema.nodeSchema(), filteredNodes.idMap(), filteredNodes.propertyStores()))
-                .relationshipImportResult(RelationshipImportResult.of(filteredRelationships))
-                .concurrency(config.concurrency())
-                .build();
+            return buildGraphStore(graphStore, filteredNodes, filteredRelationships, config.concurrency());
         } finally {
             progressTracker.endSubTask();
         }
     }
 
+    private static GraphStore buildGraphStore(
+        GraphStore inputGraphStore,
+        NodesFilter.FilteredNodes filteredNodes,
+        Map<RelationshipType, SingleTypeRelationships> filteredRelationships,
+        int concurrency
+    ) {
+        var filteredSchema = filterSchema(inputGraphStore.schema(), filteredNodes, filteredRelationships.keySet());
+
+        return new GraphStoreBuilder()
+            .databaseId(inputGraphStore.databaseId())
+            .capabilities(inputGraphStore.capabilities())
+            .schema(filteredSchema)
+            .nodes(ImmutableNodes.of(filteredSchema.nodeSchema(), filteredNodes.idMap(), filteredNodes.propertyStores()))
+            .relationshipImportResult(RelationshipImportResult.of(filteredRelationships))
+            .concurrency(concurrency)
+            .build();
+    }
+
     @ValueClass
     interface Expressions {
         Expression nodeExpression();
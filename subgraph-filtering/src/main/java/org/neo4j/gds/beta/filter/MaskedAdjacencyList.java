@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+/**
+ * An adjacency list over a subset of the nodes and relationships of a parent adjacency list.
+ *
+ * The view does not copy any targets. Every node of the view owns a contiguous range in a
+ * relationship mask, one bit per relationship of the corresponding parent node in parent
+ * iteration order. Cursors iterate the parent adjacency and skip relationships whose bit is
+ * not set. Targets are translated into the id space of the view, which preserves the order of
+ * the parent ids, so targets are still returned in ascending order.
+ */
+final class MaskedAdjacencyList implements AdjacencyList {
+
+    private final AdjacencyList parent;
+    private final HugeLongArray rootNodeIds;
+    private final HugeLongArray viewNodeIds;
+    private final HugeLongArray offsets;
+    private final HugeIntArray degrees;
+    private final HugeAtomicBitSet relationshipMask;
+
+    /**
+     * @param rootNodeIds      maps view node ids to parent node ids
+     * @param viewNodeIds      maps parent node ids to view node ids
+     * @param offsets          the first index in the relationship mask for every view node
+     * @param degrees          the number of set bits in the relationship mask for every view node
+     * @param relationshipMask one bit per parent relationship of the view nodes
+     */
+    MaskedAdjacencyList(
+        AdjacencyList parent,
+        HugeLongArray rootNodeIds,
+        HugeLongArray viewNodeIds,
+        HugeLongArray offsets,
+        HugeIntArray degrees,
+        HugeAtomicBitSet relationshipMask
+    ) {
+        this.parent = parent;
+        this.rootNodeIds = rootNodeIds;
+        this.viewNodeIds = viewNodeIds;
+        this.offsets = offsets;
+        this.degrees = degrees;
+        this.relationshipMask = relationshipMask;
+    }
+
+    AdjacencyList parent() {
+        return parent;
+    }
+
+    long rootNodeId(long node) {
+        return rootNodeIds.get(node);
+    }
+
+    long offset(long node) {
+        return offsets.get(node);
+    }
+
+    boolean contains(long relationshipIndex) {
+        return relationshipMask.get(relationshipIndex);
+    }
+
+    private long toViewNodeId(long parentNodeId) {
+        return viewNodeIds.get(parentNodeId);
+    }
+
+    @Override
+    public int degree(long node) {
+        return degrees.get(node);
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(long node, double fallbackValue) {
+        var cursor = new Cursor(this);
+        initCursor(cursor, node, fallbackValue);
+        return cursor;
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(@Nullable AdjacencyCursor reuse, long node, double fallbackValue) {
+        if (reuse instanceof Cursor && ((Cursor) reuse).adjacencyList == this) {
+            initCursor((Cursor) reuse, node, fallbackValue);
+            return reuse;
+        }
+        return adjacencyCursor(node, fallbackValue);
+    }
+
+    /**
+     * Creates an uninitialized cursor.
+     * The {@code index} passed to {@link AdjacencyCursor#init(long, int)} is the node id.
+     */
+    @Override
+    public AdjacencyCursor rawAdjacencyCursor() {
+        return new Cursor(this);
+    }
+
+    private void initCursor(Cursor cursor, long node, double fallbackValue) {
+        int degree = degrees.get(node);
+        var parentCursor = degree == 0
+            ? AdjacencyCursor.empty()
+            : parent.adjacencyCursor(cursor.parent, rootNodeIds.get(node), fallbackValue);
+        cursor.init(parentCursor, offsets.get(node), degree);
+    }
+
+    static final class Cursor implements AdjacencyCursor {
+
+        private final MaskedAdjacencyList adjacencyList;
+
+        private AdjacencyCursor parent;
+        private long relationshipIndex;
+        private int degree;
+        private int consumed;
+        private long next;
+
+        private Cursor(MaskedAdjacencyList adjacencyList) {
+            this.adjacencyList = adjacencyList;
+            this.parent = AdjacencyCursor.empty();
+        }
+
+        @Override
+        public void init(long node, int degree) {
+            adjacencyList.initCursor(this, node, Double.NaN);
+        }
+
+        private void init(AdjacencyCursor parent, long firstRelationshipIndex, int degree) {
+            this.parent = parent;
+            this.relationshipIndex = firstRelationshipIndex;
+            this.degree = degree;
+            this.consumed = 0;
+            this.next = degree > 0 ? fetchNext() : NOT_FOUND;
+        }
+
+        @Override
+        public int size() {
+            return degree;
+        }
+
+        @Override
+        public boolean hasNextVLong() {
+            return consumed < degree;
+        }
+
+        @Override
+        public long nextVLong() {
+            long current = next;
+            consumed++;
+            next = consumed < degree ? fetchNext() : NOT_FOUND;
+            return current;
+        }
+
+        @Override
+        public long peekVLong() {
+            return next;
+        }
+
+        @Override
+        public int remaining() {
+            return degree - consumed;
+        }
+
+        @Override
+        public long skipUntil(long target) {
+            return AdjacencyCursors.skipUntil(this, target);
+        }
+
+        @Override
+        public long advance(long target) {
+            return AdjacencyCursors.advance(this, target);
+        }
+
+        @Override
+        public long advanceBy(int n) {
+            return AdjacencyCursors.advanceBy(this, n);
+        }
+
+        @Override
+        public @NotNull AdjacencyCursor shallowCopy(@Nullable AdjacencyCursor destination) {
+            var dest = destination instanceof Cursor && ((Cursor) destination).adjacencyList == adjacencyList
+                ? (Cursor) destination
+                : new Cursor(adjacencyList);
+
+            dest.parent = parent.shallowCopy(dest.parent);
+            dest.relationshipIndex = relationshipIndex;
+            dest.degree = degree;
+            dest.consumed = consumed;
+            dest.next = next;
+
+            return dest;
+        }
+
+        /**
+         * Returns the next parent target whose bit is set in the relationship mask.
+         * Must only be called if there is at least one such target left.
+         */
+        private long fetchNext() {
+            while (true) {
+                long target = parent.nextVLong();
+                if (adjacencyList.contains(relationshipIndex++)) {
+                    return adjacencyList.toViewNodeId(target);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter;
+
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.PropertyCursor;
+
+/**
+ * The properties of a {@link MaskedAdjacencyList}.
+ * Cursors iterate the parent properties and skip the values of relationships that are not part of the view.
+ */
+final class MaskedAdjacencyProperties implements AdjacencyProperties {
+
+    private final AdjacencyProperties parent;
+    private final MaskedAdjacencyList adjacencyList;
+
+    MaskedAdjacencyProperties(AdjacencyProperties parent, MaskedAdjacencyList adjacencyList) {
+        this.parent = parent;
+        this.adjacencyList = adjacencyList;
+    }
+
+    @Override
+    public PropertyCursor propertyCursor(long node, double fallbackValue) {
+        var cursor = new Cursor(this);
+        initCursor(cursor, node, fallbackValue);
+        return cursor;
+    }
+
+    @Override
+    public PropertyCursor propertyCursor(PropertyCursor reuse, long node, double fallbackValue) {
+        if (reuse instanceof Cursor && ((Cursor) reuse).properties == this) {
+            initCursor((Cursor) reuse, node, fallbackValue);
+            return reuse;
+        }
+        return propertyCursor(node, fallbackValue);
+    }
+
+    /**
+     * Creates an uninitialized cursor.
+     * The {@code index} passed to {@link PropertyCursor#init(long, int)} is the node id.
+     */
+    @Override
+    public PropertyCursor rawPropertyCursor() {
+        return new Cursor(this);
+    }
+
+    private void initCursor(Cursor cursor, long node, double fallbackValue) {
+        int degree = adjacencyList.degree(node);
+        var parentCursor = degree == 0
+            ? PropertyCursor.empty()
+            : parent.propertyCursor(cursor.parent, adjacencyList.rootNodeId(node), fallbackValue);
+        cursor.init(parentCursor, adjacencyList.offset(node), degree);
+    }
+
+    static final class Cursor implements PropertyCursor {
+
+        private final MaskedAdjacencyProperties properties;
+
+        private PropertyCursor parent;
+        private long relationshipIndex;
+        private int degree;
+        private int consumed;
+
+        private Cursor(MaskedAdjacencyProperties properties) {
+            this.properties = properties;
+            this.parent = PropertyCursor.empty();
+        }
+
+        @Override
+        public void init(long node, int degree) {
+            properties.initCursor(this, node, Double.NaN);
+        }
+
+        private void init(PropertyCursor parent, long firstRelationshipIndex, int degree) {
+            this.parent = parent;
+            this.relationshipIndex = firstRelationshipIndex;
+            this.degree = degree;
+            this.consumed = 0;
+        }
+
+        @Override
+        public boolean hasNextLong() {
+            return consumed < degree;
+        }
+
+        @Override
+        public long nextLong() {
+            consumed++;
+            while (true) {
+                long value = parent.nextLong();
+                if (properties.adjacencyList.contains(relationshipIndex++)) {
+                    return value;
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            parent.close();
+        }
+    }
+}
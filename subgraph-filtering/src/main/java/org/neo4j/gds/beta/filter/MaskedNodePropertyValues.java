@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter;
+
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.values.storable.Value;
+
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+
+/**
+ * Node property values of a graph store view that read from the property values of the parent graph store.
+ */
+final class MaskedNodePropertyValues implements NodePropertyValues {
+
+    private final NodePropertyValues parent;
+    private final HugeLongArray rootNodeIds;
+
+    MaskedNodePropertyValues(NodePropertyValues parent, HugeLongArray rootNodeIds) {
+        this.parent = parent;
+        this.rootNodeIds = rootNodeIds;
+    }
+
+    @Override
+    public double doubleValue(long nodeId) {
+        return parent.doubleValue(rootNodeIds.get(nodeId));
+    }
+
+    @Override
+    public long longValue(long nodeId) {
+        return parent.longValue(rootNodeIds.get(nodeId));
+    }
+
+    @Override
+    public double[] doubleArrayValue(long nodeId) {
+        return parent.doubleArrayValue(rootNodeIds.get(nodeId));
+    }
+
+    @Override
+    public float[] floatArrayValue(long nodeId) {
+        return parent.floatArrayValue(rootNodeIds.get(nodeId));
+    }
+
+    @Override
+    public long[] longArrayValue(long nodeId) {
+        return parent.longArrayValue(rootNodeIds.get(nodeId));
+    }
+
+    @Override
+    public Object getObject(long nodeId) {
+        return parent.getObject(rootNodeIds.get(nodeId));
+    }
+
+    @Override
+    public Value value(long nodeId) {
+        return parent.value(rootNodeIds.get(nodeId));
+    }
+
+    @Override
+    public boolean hasValue(long nodeId) {
+        return parent.hasValue(rootNodeIds.get(nodeId));
+    }
+
+    @Override
+    public ValueType valueType() {
+        return parent.valueType();
+    }
+
+    @Override
+    public Optional<Integer> dimension() {
+        return parent.dimension();
+    }
+
+    @Override
+    public long nodeCount() {
+        return rootNodeIds.size();
+    }
+
+    @Override
+    public OptionalLong getMaxLongPropertyValue() {
+        if (valueType() == ValueType.LONG) {
+            long max = Long.MIN_VALUE;
+            for (long nodeId = 0; nodeId < nodeCount(); nodeId++) {
+                max = Math.max(max, longValue(nodeId));
+            }
+            return max == Long.MIN_VALUE ? OptionalLong.empty() : OptionalLong.of(max);
+        }
+        if (valueType() == ValueType.DOUBLE) {
+            var max = getMaxDoublePropertyValue();
+            return max.isPresent() ? OptionalLong.of((long) max.getAsDouble()) : OptionalLong.empty();
+        }
+        return OptionalLong.empty();
+    }
+
+    @Override
+    public OptionalDouble getMaxDoublePropertyValue() {
+        if (valueType() == ValueType.DOUBLE) {
+            double max = Double.NEGATIVE_INFINITY;
+            for (long nodeId = 0; nodeId < nodeCount(); nodeId++) {
+                max = Math.max(max, doubleValue(nodeId));
+            }
+            return max == Double.NEGATIVE_INFINITY ? OptionalDouble.empty() : OptionalDouble.of(max);
+        }
+        if (valueType() == ValueType.LONG) {
+            var max = getMaxLongPropertyValue();
+            return max.isPresent() ? OptionalDouble.of(max.getAsLong()) : OptionalDouble.empty();
+        }
+        return OptionalDouble.empty();
+    }
+}
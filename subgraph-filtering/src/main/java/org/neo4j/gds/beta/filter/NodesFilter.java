@@ -24,13 +24,16 @@ import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.api.DefaultValue;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.properties.nodes.ImmutableNodeProperty;
 import org.neo4j.gds.api.properties.nodes.NodeProperty;
 import org.neo4j.gds.api.properties.nodes.NodePropertyStore;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
-import org.neo4j.gds.beta.filter.expression.EvaluationContext;
 import org.neo4j.gds.beta.filter.expression.Expression;
+import org.neo4j.gds.beta.filter.expression.ExpressionCompiler;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.loading.ArrayIdMapBuilderOps;
+import org.neo4j.gds.core.loading.LabelInformationBuilders;
 import org.neo4j.gds.core.loading.construction.GraphFactory;
 import org.neo4j.gds.core.loading.construction.NodeLabelTokens;
 import org.neo4j.gds.core.loading.construction.NodesBuilder;
@@ -40,6 +43,8 @@ import org.neo4j.gds.core.loading.nodeproperties.FloatArrayNodePropertiesBuilder
 import org.neo4j.gds.core.loading.nodeproperties.InnerNodePropertiesBuilder;
 import org.neo4j.gds.core.loading.nodeproperties.LongArrayNodePropertiesBuilder;
 import org.neo4j.gds.core.loading.nodeproperties.LongNodePropertiesBuilder;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
@@ -59,6 +64,26 @@ public final class NodesFilter {
         NodePropertyStore propertyStores();
     }
 
+    @ValueClass
+    @SuppressWarnings("immutables:subtype")
+    public interface FilteredNodesView extends FilteredNodes {
+        /**
+         * Maps the node ids of the view to the node ids of the input graph store.
+         */
+        HugeLongArray rootNodeIds();
+
+        /**
+         * Maps the node ids of the input graph store to the node ids of the view,
+         * or {@link org.neo4j.gds.api.IdMap#NOT_FOUND} if the node is not part of the view.
+         */
+        HugeLongArray viewNodeIds();
+
+        /**
+         * One bit per node of the input graph store, set iff the node is part of the view.
+         */
+        HugeAtomicBitSet nodeMask();
+    }
+
     public static FilteredNodes filterNodes(
         GraphStore inputGraphStore,
         Expression expression,
@@ -79,10 +104,11 @@ public final class NodesFilter {
             .rangePartition(concurrency, inputGraphStore.nodeCount(), Function.identity(), Optional.empty())
             .iterator();
 
+        var nodePredicate = ExpressionCompiler.compileForNodes(expression, inputGraphStore, parameterMap);
+
         var tasks = NodeFilterTask.of(
             inputGraphStore,
-            expression,
-            parameterMap,
+            nodePredicate,
             partitions,
             nodesBuilder,
             progressTracker
@@ -114,6 +140,107 @@ public final class NodesFilter {
             .build();
     }
 
+    /**
+     * Filters the nodes of the input graph store without copying their properties.
+     * The returned id map assigns view ids in ascending order of the input node ids,
+     * so adjacency lists that are translated into the view remain sorted.
+     * Node properties are views over the properties of the input graph store.
+     */
+    public static FilteredNodesView filterNodesAsView(
+        GraphStore inputGraphStore,
+        Expression expression,
+        int concurrency,
+        Map<String, Object> parameterMap,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        var inputNodes = inputGraphStore.nodes();
+        var inputNodeCount = inputGraphStore.nodeCount();
+        var nodePredicate = ExpressionCompiler.compileForNodes(expression, inputGraphStore, parameterMap);
+        var nodeMask = HugeAtomicBitSet.create(inputNodeCount);
+
+        progressTracker.beginSubTask();
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            inputNodeCount,
+            partition -> (Runnable) () -> {
+                partition.consume(node -> {
+                    if (nodePredicate.test(node)) {
+                        nodeMask.set(node);
+                    }
+                });
+                progressTracker.logProgress(partition.nodeCount());
+            },
+            Optional.empty()
+        );
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(executorService)
+            .run();
+
+        var nodeCount = nodeMask.cardinality();
+        var rootNodeIds = HugeLongArray.newArray(nodeCount);
+        var viewNodeIds = HugeLongArray.newArray(inputNodeCount);
+        long viewNode = 0;
+        for (long node = 0; node < inputNodeCount; node++) {
+            if (nodeMask.get(node)) {
+                viewNodeIds.set(node, viewNode);
+                rootNodeIds.set(viewNode++, node);
+            } else {
+                viewNodeIds.set(node, IdMap.NOT_FOUND);
+            }
+        }
+
+        var originalNodeIds = HugeLongArray.newArray(nodeCount);
+        var labelInformationBuilder = inputGraphStore.schema().nodeSchema().containsOnlyAllNodesLabel()
+            ? LabelInformationBuilders.allNodes()
+            : LabelInformationBuilders.multiLabelWithCapacity(inputNodes.highestOriginalId() + 1);
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, node -> {
+            long originalId = inputNodes.toOriginalNodeId(rootNodeIds.get(node));
+            originalNodeIds.set(node, originalId);
+            inputNodes.forEachNodeLabel(rootNodeIds.get(node), nodeLabel -> {
+                labelInformationBuilder.addNodeIdToLabel(nodeLabel, originalId);
+                return true;
+            });
+        });
+
+        var idMap = ArrayIdMapBuilderOps.build(
+            originalNodeIds,
+            nodeCount,
+            labelInformationBuilder,
+            inputNodes.highestOriginalId(),
+            concurrency
+        );
+        progressTracker.endSubTask();
+
+        var propertyKeys = inputGraphStore.nodePropertyKeys();
+        progressTracker.beginSubTask();
+        progressTracker.beginSubTask(nodeCount * propertyKeys.size());
+        var propertyStore = NodePropertyStore.builder();
+        propertyKeys.forEach(propertyKey -> {
+            var nodeProperty = inputGraphStore.nodeProperty(propertyKey);
+            propertyStore.putProperty(
+                propertyKey,
+                ImmutableNodeProperty.of(
+                    new MaskedNodePropertyValues(nodeProperty.values(), rootNodeIds),
+                    nodeProperty.propertySchema()
+                )
+            );
+            progressTracker.logProgress(nodeCount);
+        });
+        progressTracker.endSubTask();
+        progressTracker.endSubTask();
+
+        return ImmutableFilteredNodesView.builder()
+            .idMap(idMap)
+            .propertyStores(propertyStore.build())
+            .rootNodeIds(rootNodeIds)
+            .viewNodeIds(viewNodeIds)
+            .nodeMask(nodeMask)
+            .build();
+    }
+
     public static NodePropertyStore filterNodeProperties(
         GraphStore inputGraphStore,
         IdMap filteredIdMap,
@@ -246,16 +373,14 @@ public final class NodesFilter {
 
     private static final class NodeFilterTask implements Runnable {
         private final Partition partition;
-        private final Expression expression;
-        private final EvaluationContext.NodeEvaluationContext nodeContext;
+        private final ExpressionCompiler.NodePredicate nodePredicate;
         private final ProgressTracker progressTracker;
         private final GraphStore inputGraphStore;
         private final NodesBuilder nodesBuilder;
 
         static Iterator<NodeFilterTask> of(
             GraphStore inputGraphStore,
-            Expression expression,
-            Map<String, Object> parameterMap,
+            ExpressionCompiler.NodePredicate nodePredicate,
             Iterator<Partition> partitions,
             NodesBuilder nodesBuilder,
             ProgressTracker progressTracker
@@ -269,8 +394,7 @@ public final class NodesFilter {
 
                     return new NodeFilterTask(
                         partitions.next(),
-                        expression,
-                        parameterMap,
+                        nodePredicate,
                         inputGraphStore,
                         nodesBuilder,
                         progressTracker
@@ -281,17 +405,15 @@ public final class NodesFilter {
 
         private NodeFilterTask(
             Partition partition,
-            Expression expression,
-            Map<String, Object> parameterMap,
+            ExpressionCompiler.NodePredicate nodePredicate,
             GraphStore inputGraphStore,
             NodesBuilder nodesBuilder,
             ProgressTracker progressTracker
         ) {
             this.partition = partition;
-            this.expression = expression;
+            this.nodePredicate = nodePredicate;
             this.inputGraphStore = inputGraphStore;
             this.nodesBuilder = nodesBuilder;
-            this.nodeContext = new EvaluationContext.NodeEvaluationContext(inputGraphStore, parameterMap);
             this.progressTracker = progressTracker;
         }
 
@@ -299,8 +421,7 @@ public final class NodesFilter {
         public void run() {
             var idMap = inputGraphStore.nodes();
             partition.consume(node -> {
-                nodeContext.init(node);
-                if (expression.evaluate(nodeContext) == Expression.TRUE) {
+                if (nodePredicate.test(node)) {
                     var originalId = idMap.toOriginalNodeId(node);
                     var labels = NodeLabelTokens.of(idMap.nodeLabels(node));
                     nodesBuilder.addNode(originalId, labels);
@@ -20,25 +20,39 @@
 package org.neo4j.gds.beta.filter;
 
 import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.api.AdjacencyProperties;
 import org.neo4j.gds.api.CompositeRelationshipIterator;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.api.IdMap;
-import org.neo4j.gds.beta.filter.expression.EvaluationContext;
+import org.neo4j.gds.api.ImmutableProperties;
+import org.neo4j.gds.api.ImmutableRelationshipProperty;
+import org.neo4j.gds.api.ImmutableTopology;
+import org.neo4j.gds.api.PropertyCursor;
+import org.neo4j.gds.api.RelationshipPropertyStore;
+import org.neo4j.gds.api.Topology;
 import org.neo4j.gds.beta.filter.expression.Expression;
+import org.neo4j.gds.beta.filter.expression.ExpressionCompiler;
 import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.loading.CSRGraphStore;
 import org.neo4j.gds.core.loading.SingleTypeRelationships;
 import org.neo4j.gds.core.loading.construction.GraphFactory;
 import org.neo4j.gds.core.loading.construction.RelationshipsBuilder;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -128,17 +142,21 @@ public final class RelationshipsFilter {
             .boxed()
             .collect(Collectors.toMap(propertyKeys::get, Function.identity()));
 
+        var relationshipPredicate = ExpressionCompiler.compileForRelationships(
+            relationshipExpr,
+            relType,
+            propertyIndices,
+            parameterMap
+        );
+
         var relationshipFilterTasks = PartitionUtils.rangePartition(concurrency, outputNodes.nodeCount(), partition ->
             new RelationshipFilterTask(
                 partition,
-                relationshipExpr,
+                relationshipPredicate,
                 compositeIterator.concurrentCopy(),
                 inputNodes,
                 outputNodes,
                 relationshipsBuilder,
-                relType,
-                parameterMap,
-                propertyIndices,
                 progressTracker
             ),
             Optional.empty()
@@ -153,39 +171,237 @@ public final class RelationshipsFilter {
        return relationshipsBuilder.build();
     }
 
+    /**
+     * Filters the relationships of the input graph store without copying them.
+     * For every relationship type, the adjacency lists and properties are views over the
+     * ones of the input graph store, backed by one bit per input relationship of the retained nodes.
+     */
+    public static Map<RelationshipType, SingleTypeRelationships> filterRelationshipsAsView(
+        CSRGraphStore graphStore,
+        Expression expression,
+        NodesFilter.FilteredNodesView filteredNodes,
+        int concurrency,
+        Map<String, Object> parameterMap,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        Map<RelationshipType, SingleTypeRelationships> relationshipViews = new HashMap<>();
+
+        progressTracker.beginSubTask();
+
+        for (RelationshipType relType : graphStore.relationshipTypes()) {
+            progressTracker.beginSubTask(graphStore.relationshipCount(relType));
+
+            var relationships = graphStore.singleTypeRelationships(relType);
+            var propertyStore = relationships.properties().orElseGet(() -> RelationshipPropertyStore.builder().build());
+            var propertyKeys = new ArrayList<>(propertyStore.keySet());
+            var propertyIndices = IntStream
+                .range(0, propertyKeys.size())
+                .boxed()
+                .collect(Collectors.toMap(propertyKeys::get, Function.identity()));
+
+            var relationshipPredicate = ExpressionCompiler.compileForRelationships(
+                expression,
+                relType,
+                propertyIndices,
+                parameterMap
+            );
+
+            var topology = maskedTopology(
+                relationships.topology(),
+                propertyStore,
+                propertyKeys,
+                filteredNodes,
+                relationshipPredicate,
+                concurrency,
+                executorService,
+                progressTracker
+            );
+
+            // Drop relationship types that have been completely filtered out.
+            if (topology.topology().elementCount() == 0) {
+                progressTracker.endSubTask();
+                continue;
+            }
+
+            var builder = SingleTypeRelationships.builder()
+                .relationshipSchemaEntry(relationships.relationshipSchemaEntry())
+                .topology(topology.topology())
+                .properties(relationships.properties().map(__ -> topology.properties()));
+
+            relationships.inverseTopology().ifPresent(inverseTopology -> {
+                var inversePropertyStore = relationships
+                    .inverseProperties()
+                    .orElseGet(() -> RelationshipPropertyStore.builder().build());
+                var inverse = maskedTopology(
+                    inverseTopology,
+                    inversePropertyStore,
+                    propertyKeys,
+                    filteredNodes,
+                    relationshipPredicate,
+                    concurrency,
+                    executorService,
+                    ProgressTracker.NULL_TRACKER
+                );
+                builder.inverseTopology(inverse.topology());
+                builder.inverseProperties(relationships.inverseProperties().map(__ -> inverse.properties()));
+            });
+
+            relationshipViews.put(relType, builder.build());
+            progressTracker.endSubTask();
+        }
+
+        progressTracker.endSubTask();
+
+        return relationshipViews;
+    }
+
+    @ValueClass
+    interface MaskedTopology {
+        Topology topology();
+
+        RelationshipPropertyStore properties();
+    }
+
+    private static MaskedTopology maskedTopology(
+        Topology inputTopology,
+        RelationshipPropertyStore inputProperties,
+        List<String> propertyKeys,
+        NodesFilter.FilteredNodesView filteredNodes,
+        ExpressionCompiler.RelationshipPredicate relationshipPredicate,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        var adjacencyList = inputTopology.adjacencyList();
+        var rootNodeIds = filteredNodes.rootNodeIds();
+        var nodeMask = filteredNodes.nodeMask();
+        var nodeCount = rootNodeIds.size();
+
+        var offsets = HugeLongArray.newArray(nodeCount);
+        long relationshipCount = 0;
+        for (long node = 0; node < nodeCount; node++) {
+            offsets.set(node, relationshipCount);
+            relationshipCount += adjacencyList.degree(rootNodeIds.get(node));
+        }
+
+        var relationshipMask = HugeAtomicBitSet.create(relationshipCount);
+        var degrees = HugeIntArray.newArray(nodeCount);
+        var elementCount = new LongAdder();
+        var propertyLists = propertyKeys
+            .stream()
+            .map(propertyKey -> inputProperties.get(propertyKey).values().propertiesList())
+            .toArray(AdjacencyProperties[]::new);
+
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            partition -> (Runnable) () -> {
+                var cursor = adjacencyList.rawAdjacencyCursor();
+                var propertyCursors = new PropertyCursor[propertyLists.length];
+                for (int i = 0; i < propertyLists.length; i++) {
+                    propertyCursors[i] = propertyLists[i].rawPropertyCursor();
+                }
+                var properties = new double[propertyLists.length];
+                long partitionRelationships = 0;
+
+                long endNode = partition.startNode() + partition.nodeCount();
+                for (long node = partition.startNode(); node < endNode; node++) {
+                    long rootNode = rootNodeIds.get(node);
+                    int inputDegree = adjacencyList.degree(rootNode);
+                    if (inputDegree == 0) {
+                        continue;
+                    }
+                    cursor = adjacencyList.adjacencyCursor(cursor, rootNode);
+                    for (int i = 0; i < propertyLists.length; i++) {
+                        propertyCursors[i] = propertyLists[i].propertyCursor(propertyCursors[i], rootNode);
+                    }
+
+                    long relationshipIndex = offsets.get(node);
+                    int degree = 0;
+                    while (cursor.hasNextVLong()) {
+                        long target = cursor.nextVLong();
+                        for (int i = 0; i < propertyCursors.length; i++) {
+                            properties[i] = Double.longBitsToDouble(propertyCursors[i].nextLong());
+                        }
+                        if (nodeMask.get(target) && relationshipPredicate.test(properties)) {
+                            relationshipMask.set(relationshipIndex);
+                            degree++;
+                        }
+                        relationshipIndex++;
+                    }
+                    degrees.set(node, degree);
+                    partitionRelationships += degree;
+                    progressTracker.logProgress(inputDegree);
+                }
+                elementCount.add(partitionRelationships);
+            },
+            Optional.empty()
+        );
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(executorService)
+            .run();
+
+        var maskedAdjacencyList = new MaskedAdjacencyList(
+            adjacencyList,
+            rootNodeIds,
+            filteredNodes.viewNodeIds(),
+            offsets,
+            degrees,
+            relationshipMask
+        );
+
+        var topology = ImmutableTopology.builder()
+            .adjacencyList(maskedAdjacencyList)
+            .elementCount(elementCount.sum())
+            .isMultiGraph(inputTopology.isMultiGraph())
+            .build();
+
+        var propertyStore = RelationshipPropertyStore.builder();
+        inputProperties.relationshipProperties().forEach((propertyKey, property) -> {
+            var values = ImmutableProperties.builder()
+                .propertiesList(new MaskedAdjacencyProperties(property.values().propertiesList(), maskedAdjacencyList))
+                .elementCount(elementCount.sum())
+                .defaultPropertyValue(property.values().defaultPropertyValue())
+                .build();
+            propertyStore.putRelationshipProperty(
+                propertyKey,
+                ImmutableRelationshipProperty.of(values, property.propertySchema())
+            );
+        });
+
+        return ImmutableMaskedTopology.of(topology, propertyStore.build());
+    }
+
     private RelationshipsFilter() {}
 
     private static final class RelationshipFilterTask implements Runnable {
         private final Partition partition;
-        private final Expression expression;
-        private final EvaluationContext.RelationshipEvaluationContext evaluationContext;
+        private final ExpressionCompiler.RelationshipPredicate relationshipPredicate;
         private final ProgressTracker progressTracker;
         private final CompositeRelationshipIterator relationshipIterator;
         private final IdMap inputNodes;
         private final IdMap outputNodes;
         private final RelationshipsBuilder relationshipsBuilder;
-        private final RelationshipType relType;
 
         private RelationshipFilterTask(
             Partition partition,
-            Expression expression,
+            ExpressionCompiler.RelationshipPredicate relationshipPredicate,
             CompositeRelationshipIterator relationshipIterator,
             IdMap inputNodes,
             IdMap outputNodes,
             RelationshipsBuilder relationshipsBuilder,
-            RelationshipType relType,
-            Map<String, Object> parameterMap,
-            Map<String, Integer> propertyIndices,
             ProgressTracker progressTracker
         ) {
             this.partition = partition;
-            this.expression = expression;
+            this.relationshipPredicate = relationshipPredicate;
             this.relationshipIterator = relationshipIterator;
             this.inputNodes = inputNodes;
             this.outputNodes = outputNodes;
             this.relationshipsBuilder = relationshipsBuilder;
-            this.relType = relType;
-            this.evaluationContext = new EvaluationContext.RelationshipEvaluationContext(propertyIndices, parameterMap);
             this.progressTracker = progressTracker;
         }
 
@@ -200,9 +416,7 @@ public final class RelationshipsFilter {
                     var mappedTarget = outputNodes.toMappedNodeId(neoTarget);
 
                     if (mappedTarget != NOT_FOUND) {
-                        evaluationContext.init(relType, properties);
-
-                        if (expression.evaluate(evaluationContext) == Expression.TRUE) {
+                        if (relationshipPredicate.test(properties)) {
                             // TODO branching should happen somewhere else
                             if (properties.length == 0) {
                                 relationshipsBuilder.add(neoSource, neoTarget);
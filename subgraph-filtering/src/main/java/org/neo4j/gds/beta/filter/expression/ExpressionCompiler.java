@@ -0,0 +1,422 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter.expression;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.neo4j.gds.beta.filter.expression.Expression.EPSILON;
+import static org.neo4j.gds.beta.filter.expression.Expression.FALSE;
+import static org.neo4j.gds.beta.filter.expression.Expression.TRUE;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Compiles a validated {@link Expression} tree into a tree of specialized closures.
+ * <p>
+ * In contrast to {@link Expression#evaluate(EvaluationContext)}, all decisions that
+ * only depend on the expression and the input graph are taken once at compile time:
+ * property columns are bound to their {@link org.neo4j.gds.api.properties.nodes.NodePropertyValues}
+ * or relationship property index, parameters are resolved, comparisons are specialized
+ * to {@code long} or {@code double} operands and boolean operators short-circuit on
+ * constant operands. The compiled predicates are stateless and can be shared between threads.
+ */
+public final class ExpressionCompiler {
+
+    @FunctionalInterface
+    public interface NodePredicate {
+        boolean test(long nodeId);
+    }
+
+    @FunctionalInterface
+    public interface RelationshipPredicate {
+        boolean test(double[] properties);
+    }
+
+    public static NodePredicate compileForNodes(
+        Expression expression,
+        GraphStore graphStore,
+        Map<String, Object> parameterMap
+    ) {
+        var condition = new ExpressionCompiler(new NodeBinding(graphStore), parameterMap).condition(expression);
+        if (condition == ALWAYS) {
+            return nodeId -> true;
+        }
+        if (condition == NEVER) {
+            return nodeId -> false;
+        }
+        return nodeId -> condition.test(nodeId, null);
+    }
+
+    public static RelationshipPredicate compileForRelationships(
+        Expression expression,
+        RelationshipType relationshipType,
+        Map<String, Integer> propertyIndices,
+        Map<String, Object> parameterMap
+    ) {
+        var binding = new RelationshipBinding(relationshipType, propertyIndices);
+        var condition = new ExpressionCompiler(binding, parameterMap).condition(expression);
+        if (condition == ALWAYS) {
+            return properties -> true;
+        }
+        if (condition == NEVER) {
+            return properties -> false;
+        }
+        return properties -> condition.test(-1, properties);
+    }
+
+    /**
+     * The compiled form of a boolean expression. Node predicates are called with the
+     * node id, relationship predicates with the property values of the current relationship.
+     */
+    @FunctionalInterface
+    interface Condition {
+        boolean test(long nodeId, double[] properties);
+    }
+
+    @FunctionalInterface
+    interface DoubleOperand {
+        double apply(long nodeId, double[] properties);
+    }
+
+    @FunctionalInterface
+    interface LongOperand {
+        long apply(long nodeId, double[] properties);
+    }
+
+    static final Condition ALWAYS = (nodeId, properties) -> true;
+    static final Condition NEVER = (nodeId, properties) -> false;
+
+    private final Binding binding;
+    private final Map<String, Object> parameterMap;
+
+    private ExpressionCompiler(Binding binding, Map<String, Object> parameterMap) {
+        this.binding = binding;
+        this.parameterMap = parameterMap;
+    }
+
+    Condition condition(Expression expression) {
+        if (expression instanceof Expression.Literal.TrueLiteral) {
+            return ALWAYS;
+        }
+        if (expression instanceof Expression.Literal.FalseLiteral) {
+            return NEVER;
+        }
+        if (expression instanceof Expression.UnaryExpression.Not) {
+            var in = condition(((Expression.UnaryExpression.Not) expression).in());
+            if (in == ALWAYS) {
+                return NEVER;
+            }
+            if (in == NEVER) {
+                return ALWAYS;
+            }
+            return (nodeId, properties) -> !in.test(nodeId, properties);
+        }
+        if (expression instanceof Expression.BinaryExpression.And) {
+            var and = (Expression.BinaryExpression.And) expression;
+            var lhs = condition(and.lhs());
+            var rhs = condition(and.rhs());
+            if (lhs == NEVER || rhs == NEVER) {
+                return NEVER;
+            }
+            if (lhs == ALWAYS) {
+                return rhs;
+            }
+            if (rhs == ALWAYS) {
+                return lhs;
+            }
+            return (nodeId, properties) -> lhs.test(nodeId, properties) && rhs.test(nodeId, properties);
+        }
+        if (expression instanceof Expression.BinaryExpression.Or) {
+            var or = (Expression.BinaryExpression.Or) expression;
+            var lhs = condition(or.lhs());
+            var rhs = condition(or.rhs());
+            if (lhs == ALWAYS || rhs == ALWAYS) {
+                return ALWAYS;
+            }
+            if (lhs == NEVER) {
+                return rhs;
+            }
+            if (rhs == NEVER) {
+                return lhs;
+            }
+            return (nodeId, properties) -> lhs.test(nodeId, properties) || rhs.test(nodeId, properties);
+        }
+        if (expression instanceof Expression.BinaryExpression.Xor) {
+            var xor = (Expression.BinaryExpression.Xor) expression;
+            var lhs = condition(xor.lhs());
+            var rhs = condition(xor.rhs());
+            return (nodeId, properties) -> lhs.test(nodeId, properties) ^ rhs.test(nodeId, properties);
+        }
+        if (expression instanceof Expression.UnaryExpression.HasNodeLabels) {
+            return binding.hasNodeLabels(((Expression.UnaryExpression.HasNodeLabels) expression).nodeLabels());
+        }
+        if (expression instanceof Expression.UnaryExpression.HasRelationshipTypes) {
+            return binding.hasRelationshipTypes(((Expression.UnaryExpression.HasRelationshipTypes) expression).relationshipTypes());
+        }
+        if (expression instanceof Expression.BinaryExpression.BinaryArithmeticExpression) {
+            return comparison((Expression.BinaryExpression.BinaryArithmeticExpression) expression);
+        }
+
+        // Any other expression is true iff it evaluates to `Expression.TRUE`.
+        var operand = rawOperand(expression);
+        return (nodeId, properties) -> operand.apply(nodeId, properties) == TRUE;
+    }
+
+    private Condition comparison(Expression.BinaryExpression.BinaryArithmeticExpression expression) {
+        // Validation made sure that the types are equal, unless one side is a parameter.
+        if (expression.lhs().valueType() == ValueType.LONG || expression.rhs().valueType() == ValueType.LONG) {
+            var lhs = longOperand(expression.lhs());
+            var rhs = longOperand(expression.rhs());
+
+            if (expression instanceof Expression.BinaryExpression.Equal) {
+                return (nodeId, properties) -> lhs.apply(nodeId, properties) == rhs.apply(nodeId, properties);
+            }
+            if (expression instanceof Expression.BinaryExpression.NotEqual) {
+                return (nodeId, properties) -> lhs.apply(nodeId, properties) != rhs.apply(nodeId, properties);
+            }
+            if (expression instanceof Expression.BinaryExpression.GreaterThan) {
+                return (nodeId, properties) -> lhs.apply(nodeId, properties) > rhs.apply(nodeId, properties);
+            }
+            if (expression instanceof Expression.BinaryExpression.GreaterThanOrEquals) {
+                return (nodeId, properties) -> lhs.apply(nodeId, properties) >= rhs.apply(nodeId, properties);
+            }
+            if (expression instanceof Expression.BinaryExpression.LessThan) {
+                return (nodeId, properties) -> lhs.apply(nodeId, properties) < rhs.apply(nodeId, properties);
+            }
+            if (expression instanceof Expression.BinaryExpression.LessThanOrEquals) {
+                return (nodeId, properties) -> lhs.apply(nodeId, properties) <= rhs.apply(nodeId, properties);
+            }
+        } else {
+            var lhs = doubleOperand(expression.lhs());
+            var rhs = doubleOperand(expression.rhs());
+
+            // The epsilon semantics mirror the `evaluateDouble` implementations in `Expression`.
+            if (expression instanceof Expression.BinaryExpression.Equal) {
+                return (nodeId, properties) -> Math.abs(lhs.apply(nodeId, properties) - rhs.apply(nodeId, properties)) < EPSILON;
+            }
+            if (expression instanceof Expression.BinaryExpression.NotEqual) {
+                return (nodeId, properties) -> Math.abs(lhs.apply(nodeId, properties) - rhs.apply(nodeId, properties)) > EPSILON;
+            }
+            if (expression instanceof Expression.BinaryExpression.GreaterThan) {
+                return (nodeId, properties) -> (lhs.apply(nodeId, properties) - rhs.apply(nodeId, properties)) > EPSILON;
+            }
+            if (expression instanceof Expression.BinaryExpression.GreaterThanOrEquals) {
+                return (nodeId, properties) -> {
+                    var l = lhs.apply(nodeId, properties);
+                    var r = rhs.apply(nodeId, properties);
+                    return l > r || Math.abs(l - r) < EPSILON;
+                };
+            }
+            if (expression instanceof Expression.BinaryExpression.LessThan) {
+                return (nodeId, properties) -> (rhs.apply(nodeId, properties) - lhs.apply(nodeId, properties)) > EPSILON;
+            }
+            if (expression instanceof Expression.BinaryExpression.LessThanOrEquals) {
+                return (nodeId, properties) -> {
+                    var l = lhs.apply(nodeId, properties);
+                    var r = rhs.apply(nodeId, properties);
+                    return l < r || (r - l) > -EPSILON;
+                };
+            }
+        }
+
+        throw new UnsupportedOperationException(formatWithLocale(
+            "Cannot compile expression `%s`.",
+            expression.prettyString()
+        ));
+    }
+
+    private LongOperand longOperand(Expression expression) {
+        if (expression instanceof Expression.Literal.LongLiteral) {
+            var value = ((Expression.Literal.LongLiteral) expression).value();
+            return (nodeId, properties) -> value;
+        }
+        if (expression instanceof Expression.UnaryExpression.NewParameter) {
+            var parameter = resolveParameter((Expression.UnaryExpression.NewParameter) expression);
+            var value = parameter instanceof Long ? parameter.longValue() : (long) parameter.doubleValue();
+            return (nodeId, properties) -> value;
+        }
+        if (expression instanceof Expression.UnaryExpression.Property && expression.valueType() == ValueType.LONG) {
+            return binding.longProperty(((Expression.UnaryExpression.Property) expression).propertyKey());
+        }
+
+        var operand = rawOperand(expression);
+        return (nodeId, properties) -> Double.doubleToRawLongBits(operand.apply(nodeId, properties));
+    }
+
+    private DoubleOperand doubleOperand(Expression expression) {
+        if (expression instanceof Expression.UnaryExpression.Property && expression.valueType() == ValueType.DOUBLE) {
+            return binding.doubleProperty(((Expression.UnaryExpression.Property) expression).propertyKey());
+        }
+        return rawOperand(expression);
+    }
+
+    /**
+     * Compiles an expression into an operand that returns the same value as
+     * {@link Expression#evaluate(EvaluationContext)}, i.e. long values are
+     * encoded as the raw bits of the returned double.
+     */
+    private DoubleOperand rawOperand(Expression expression) {
+        if (expression instanceof Expression.Literal.LongLiteral) {
+            var value = Double.longBitsToDouble(((Expression.Literal.LongLiteral) expression).value());
+            return (nodeId, properties) -> value;
+        }
+        if (expression instanceof Expression.Literal.DoubleLiteral) {
+            var value = ((Expression.Literal.DoubleLiteral) expression).value();
+            return (nodeId, properties) -> value;
+        }
+        if (expression instanceof Expression.UnaryExpression.NewParameter) {
+            var parameter = resolveParameter((Expression.UnaryExpression.NewParameter) expression);
+            var value = parameter instanceof Long ? parameter.longValue() : parameter.doubleValue();
+            return (nodeId, properties) -> value;
+        }
+        if (expression instanceof Expression.LeafExpression.Variable) {
+            return (nodeId, properties) -> Expression.VARIABLE;
+        }
+        if (expression instanceof Expression.UnaryExpression.Property) {
+            var propertyKey = ((Expression.UnaryExpression.Property) expression).propertyKey();
+            if (expression.valueType() == ValueType.LONG) {
+                var operand = binding.longProperty(propertyKey);
+                return (nodeId, properties) -> Double.longBitsToDouble(operand.apply(nodeId, properties));
+            }
+            return binding.doubleProperty(propertyKey);
+        }
+
+        var condition = condition(expression);
+        return (nodeId, properties) -> condition.test(nodeId, properties) ? TRUE : FALSE;
+    }
+
+    private Number resolveParameter(Expression.UnaryExpression.NewParameter parameter) {
+        var name = parameter.in().name();
+        var value = parameterMap.get(name);
+        if (!(value instanceof Number)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Expected parameter `%s` to be a number, got `%s`.",
+                name,
+                value
+            ));
+        }
+        return (Number) value;
+    }
+
+    private interface Binding {
+        DoubleOperand doubleProperty(String propertyKey);
+
+        LongOperand longProperty(String propertyKey);
+
+        Condition hasNodeLabels(List<NodeLabel> nodeLabels);
+
+        Condition hasRelationshipTypes(List<RelationshipType> relationshipTypes);
+    }
+
+    private static final class NodeBinding implements Binding {
+        private final GraphStore graphStore;
+
+        NodeBinding(GraphStore graphStore) {
+            this.graphStore = graphStore;
+        }
+
+        @Override
+        public DoubleOperand doubleProperty(String propertyKey) {
+            if (!graphStore.hasNodeProperty(propertyKey)) {
+                return (nodeId, properties) -> DefaultValue.DOUBLE_DEFAULT_FALLBACK;
+            }
+            var values = graphStore.nodeProperty(propertyKey).values();
+            return (nodeId, properties) -> values.doubleValue(nodeId);
+        }
+
+        @Override
+        public LongOperand longProperty(String propertyKey) {
+            if (!graphStore.hasNodeProperty(propertyKey)) {
+                var fallback = Double.doubleToRawLongBits(DefaultValue.DOUBLE_DEFAULT_FALLBACK);
+                return (nodeId, properties) -> fallback;
+            }
+            var values = graphStore.nodeProperty(propertyKey).values();
+            return (nodeId, properties) -> values.longValue(nodeId);
+        }
+
+        @Override
+        public Condition hasNodeLabels(List<NodeLabel> nodeLabels) {
+            IdMap idMap = graphStore.nodes();
+            if (nodeLabels.size() == 1) {
+                var nodeLabel = nodeLabels.get(0);
+                return (nodeId, properties) -> idMap.hasLabel(nodeId, nodeLabel);
+            }
+            var labels = nodeLabels.toArray(NodeLabel[]::new);
+            return (nodeId, properties) -> {
+                for (NodeLabel label : labels) {
+                    if (!idMap.hasLabel(nodeId, label)) {
+                        return false;
+                    }
+                }
+                return true;
+            };
+        }
+
+        @Override
+        public Condition hasRelationshipTypes(List<RelationshipType> relationshipTypes) {
+            return NEVER;
+        }
+    }
+
+    private static final class RelationshipBinding implements Binding {
+        private final RelationshipType relationshipType;
+        private final Map<String, Integer> propertyIndices;
+
+        RelationshipBinding(RelationshipType relationshipType, Map<String, Integer> propertyIndices) {
+            this.relationshipType = relationshipType;
+            this.propertyIndices = propertyIndices;
+        }
+
+        @Override
+        public DoubleOperand doubleProperty(String propertyKey) {
+            var index = propertyIndices.get(propertyKey);
+            if (index == null) {
+                // The property exists for a different relationship type.
+                return (nodeId, properties) -> DefaultValue.DOUBLE_DEFAULT_FALLBACK;
+            }
+            int propertyIndex = index;
+            return (nodeId, properties) -> properties[propertyIndex];
+        }
+
+        @Override
+        public LongOperand longProperty(String propertyKey) {
+            var operand = doubleProperty(propertyKey);
+            return (nodeId, properties) -> Double.doubleToRawLongBits(operand.apply(nodeId, properties));
+        }
+
+        @Override
+        public Condition hasNodeLabels(List<NodeLabel> nodeLabels) {
+            return NEVER;
+        }
+
+        @Override
+        public Condition hasRelationshipTypes(List<RelationshipType> relationshipTypes) {
+            // The relationship type is fixed per compilation, so the check folds into a constant.
+            return relationshipTypes.contains(relationshipType) ? ALWAYS : NEVER;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.config.GraphProjectFromGraphConfig;
+import org.neo4j.gds.config.GraphProjectFromStoreConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GdlExtension
+class GraphStoreFilterViewTest {
+
+    @GdlGraph(idOffset = 42)
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:A {p: 1L})" +
+        ", (b:A {p: 2L})" +
+        ", (c:B {p: 3L})" +
+        ", (d:B {p: 4L})" +
+        ", (e:A {p: 5L})" +
+        ", (a)-[:T {w: 1.0}]->(b)" +
+        ", (a)-[:T {w: 2.0}]->(c)" +
+        ", (a)-[:T {w: 3.0}]->(e)" +
+        ", (b)-[:T {w: 4.0}]->(d)" +
+        ", (c)-[:T {w: 5.0}]->(e)" +
+        ", (e)-[:T {w: 6.0}]->(a)" +
+        ", (d)-[:T {w: 7.0}]->(b)";
+
+    @Inject
+    GraphStore graphStore;
+
+    @ParameterizedTest
+    @CsvSource(delimiter = ';', value = {
+        "*; *",
+        "n:A; *",
+        "n.p > 1; r.w >= 2.0",
+        "n:B OR n.p = 1; r.w < 5.0",
+        "n.p > 10; *"
+    })
+    void viewMatchesCopy(String nodeFilter, String relationshipFilter) throws Exception {
+        var copy = filter(nodeFilter, relationshipFilter, false);
+        var view = filter(nodeFilter, relationshipFilter, true);
+
+        assertThat(view.nodeCount()).isEqualTo(copy.nodeCount());
+        assertThat(view.relationshipCount()).isEqualTo(copy.relationshipCount());
+        assertThat(view.nodeLabels()).isEqualTo(copy.nodeLabels());
+        assertThat(view.relationshipTypes()).isEqualTo(copy.relationshipTypes());
+        assertThat(relationships(view)).isEqualTo(relationships(copy));
+        assertThat(nodeProperties(view)).isEqualTo(nodeProperties(copy));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = ';', value = {
+        "*; *",
+        "n.p > 1; r.w >= 2.0"
+    })
+    void materializeView(String nodeFilter, String relationshipFilter) throws Exception {
+        var view = filter(nodeFilter, relationshipFilter, true);
+        var materialized = GraphStoreFilter.materialize(
+            view,
+            1,
+            Pools.DEFAULT_SINGLE_THREAD_POOL,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        assertThat(materialized.nodeCount()).isEqualTo(view.nodeCount());
+        assertThat(materialized.relationshipCount()).isEqualTo(view.relationshipCount());
+        assertThat(relationships(materialized)).isEqualTo(relationships(view));
+        assertThat(nodeProperties(materialized)).isEqualTo(nodeProperties(view));
+    }
+
+    private GraphStore filter(String nodeFilter, String relationshipFilter, boolean view) throws Exception {
+        var config = GraphProjectFromGraphConfig.of(
+            "",
+            "subgraph",
+            "graph",
+            nodeFilter,
+            relationshipFilter,
+            GraphProjectFromStoreConfig.emptyWithName("", "graph"),
+            CypherMapWrapper.create(Map.of("view", view, "concurrency", 1))
+        );
+        return GraphStoreFilter.filter(graphStore, config, Pools.DEFAULT_SINGLE_THREAD_POOL, ProgressTracker.NULL_TRACKER);
+    }
+
+    private static Map<Long, Map<Long, Double>> relationships(GraphStore store) {
+        var relationships = new HashMap<Long, Map<Long, Double>>();
+        if (!store.hasRelationshipType(RelationshipType.of("T"))) {
+            return relationships;
+        }
+        Graph graph = store.getGraph(RelationshipType.of("T"), Optional.of("w"));
+        graph.forEachNode(node -> {
+            var targets = new HashMap<Long, Double>();
+            graph.forEachRelationship(node, Double.NaN, (source, target, weight) -> {
+                targets.put(graph.toOriginalNodeId(target), weight);
+                return true;
+            });
+            relationships.put(graph.toOriginalNodeId(node), targets);
+            return true;
+        });
+        return relationships;
+    }
+
+    private static Map<Long, Long> nodeProperties(GraphStore store) {
+        var properties = new HashMap<Long, Long>();
+        var values = store.nodeProperty("p").values();
+        var nodes = store.nodes();
+        nodes.forEachNode(node -> {
+            properties.put(nodes.toOriginalNodeId(node), values.longValue(node));
+            return true;
+        });
+        return properties;
+    }
+}
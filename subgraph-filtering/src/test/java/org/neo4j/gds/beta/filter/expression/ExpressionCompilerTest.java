@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter.expression;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.opencypher.v9_0.parser.javacc.ParseException;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@GdlExtension
+class ExpressionCompilerTest {
+
+    @GdlGraph
+    private static final String GDL =
+        "  (a:A:B { p1: 42.0, p2: 42 })" +
+        ", (b:B { p1: 1337.0, p2: 1337 })" +
+        ", (c:C { p1: -1.5, p2: -2 })" +
+        ", (a)-[:REL { baz: 84.0 }]->(b)";
+
+    @Inject
+    private GraphStore graphStore;
+
+    @Inject
+    private IdFunction idFunction;
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "true",
+        "false",
+        "n:A",
+        "n:B",
+        "n:A:B",
+        "NOT n:A",
+        "n:A OR n:C",
+        "n:B XOR n:A",
+        "n.p1 > 42.0",
+        "n.p1 >= 42.0",
+        "n.p1 < 42.0",
+        "n.p1 <= 42.0",
+        "n.p1 = 1337.0",
+        "n.p1 <> 1337.0",
+        "n.p2 > 42",
+        "n.p2 >= 42",
+        "n.p2 < 42",
+        "n.p2 <= -2",
+        "n.p2 = 1337",
+        "n.p2 <> 1337",
+        "n.p2 > $long",
+        "n.p1 > $double",
+        "n.p1 > $long",
+        "n:B AND n.p2 > $long AND true",
+        "(n.p1 > 0.0) = true",
+        "false OR n.p1 < 0.0"
+    })
+    void nodePredicateMatchesEvaluation(String cypher) throws ParseException {
+        var validationContext = ValidationContext.forNodes(graphStore);
+        var expression = ExpressionParser.parse(cypher, validationContext.availableProperties());
+        expression.validate(validationContext).validate();
+
+        Map<String, Object> parameters = Map.of("long", 42L, "double", 0.5D);
+        var predicate = ExpressionCompiler.compileForNodes(expression, graphStore, parameters);
+        var context = new EvaluationContext.NodeEvaluationContext(graphStore, parameters);
+
+        for (var variable : new String[]{"a", "b", "c"}) {
+            var nodeId = graphStore.nodes().toMappedNodeId(idFunction.of(variable));
+            context.init(nodeId);
+            assertThat(predicate.test(nodeId))
+                .as("`%s` for node %s", cypher, variable)
+                .isEqualTo(expression.evaluate(context) == Expression.TRUE);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "r:REL",
+        "r:FOO",
+        "r:REL OR r:FOO",
+        "r.baz > 42.0",
+        "r.baz = 84.0",
+        "r.baz < 42.0",
+        "r:REL AND r.baz > $double"
+    })
+    void relationshipPredicateMatchesEvaluation(String cypher) throws ParseException {
+        var expression = ExpressionParser.parse(cypher, ValidationContext.forRelationships(graphStore).availableProperties());
+
+        Map<String, Object> parameters = Map.of("double", 0.5D);
+        var relType = RelationshipType.of("REL");
+        var propertyIndices = Map.of("baz", 0);
+        var predicate = ExpressionCompiler.compileForRelationships(expression, relType, propertyIndices, parameters);
+        var context = new EvaluationContext.RelationshipEvaluationContext(propertyIndices, parameters);
+
+        var properties = new double[]{84.0};
+        context.init(relType, properties);
+        assertThat(predicate.test(properties))
+            .as("`%s`", cypher)
+            .isEqualTo(expression.evaluate(context) == Expression.TRUE);
+    }
+
+    @Test
+    void shouldCompareParameterOnTheLeftAsLong() throws ParseException {
+        var validationContext = ValidationContext.forNodes(graphStore);
+        var expression = ExpressionParser.parse("$long < n.p2", validationContext.availableProperties());
+        expression.validate(validationContext).validate();
+
+        var predicate = ExpressionCompiler.compileForNodes(expression, graphStore, Map.of("long", 42L));
+
+        assertThat(predicate.test(graphStore.nodes().toMappedNodeId(idFunction.of("a")))).isFalse();
+        assertThat(predicate.test(graphStore.nodes().toMappedNodeId(idFunction.of("b")))).isTrue();
+        assertThat(predicate.test(graphStore.nodes().toMappedNodeId(idFunction.of("c")))).isFalse();
+    }
+
+    @Test
+    void shouldFoldConstantConditions() throws ParseException {
+        var validationContext = ValidationContext.forNodes(graphStore);
+        var expression = ExpressionParser.parse("n.p1 > 0.0 OR true", validationContext.availableProperties());
+        var predicate = ExpressionCompiler.compileForNodes(expression, graphStore, Map.of());
+        assertThat(predicate.test(0)).isTrue();
+
+        var relExpression = ExpressionParser.parse("r:FOO AND r.baz > 0.0", Map.of());
+        var relPredicate = ExpressionCompiler.compileForRelationships(
+            relExpression,
+            RelationshipType.of("REL"),
+            Map.of(),
+            Map.of()
+        );
+        // `r:FOO` folds to false, so the missing property is never read.
+        assertThat(relPredicate.test(null)).isFalse();
+    }
+
+    @Test
+    void shouldFailOnMissingParameter() throws ParseException {
+        var validationContext = ValidationContext.forNodes(graphStore);
+        var expression = ExpressionParser.parse("n.p2 > $missing", validationContext.availableProperties());
+
+        assertThatThrownBy(() -> ExpressionCompiler.compileForNodes(expression, graphStore, Map.of()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Expected parameter `missing` to be a number");
+    }
+}